@@ -0,0 +1,154 @@
+package com.credguard.application;
+
+import com.credguard.config.VerificationConfiguration;
+import com.credguard.domain.Credential;
+import com.credguard.domain.VerificationResult;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+/**
+ * Verifies a stream of credentials with bounded concurrency. Callers submit items
+ * one at a time as they are read; {@link Batch#submit} blocks while the configured
+ * number of verifications is in flight, so neither pending input nor pending
+ * results accumulate in memory.
+ */
+@Service
+public class BatchVerificationService {
+
+    private static final Logger logger = LoggerFactory.getLogger(BatchVerificationService.class);
+
+    private final VerificationService verificationService;
+    private final AsyncTaskExecutor executor;
+    private final int maxConcurrency;
+
+    public BatchVerificationService(VerificationService verificationService,
+                                    VerificationConfiguration configuration,
+                                    @Qualifier("batchVerificationExecutor") AsyncTaskExecutor executor) {
+        this.verificationService = verificationService;
+        this.executor = executor;
+        this.maxConcurrency = configuration.getBatch().getMaxConcurrency();
+    }
+
+    /**
+     * Starts a batch. The sink is called once per item, from worker threads, in
+     * completion order rather than submission order.
+     */
+    public Batch start(VerificationPolicy policy, Consumer<ItemResult> sink) {
+        return new Batch(policy, sink);
+    }
+
+    /**
+     * Outcome of one batch item: either a verification result or an error message.
+     */
+    public record ItemResult(
+            long index,
+            VerificationResult result,
+            String error
+    ) {
+
+        public static ItemResult verified(long index, VerificationResult result) {
+            return new ItemResult(index, result, null);
+        }
+
+        public static ItemResult failed(long index, String error) {
+            return new ItemResult(index, null, error);
+        }
+    }
+
+    /**
+     * A running batch. Not thread-safe for submission; items are expected to be
+     * submitted by the single thread reading the input.
+     */
+    public final class Batch {
+
+        private final VerificationPolicy policy;
+        private final Consumer<ItemResult> sink;
+        private final Semaphore permits = new Semaphore(maxConcurrency);
+        private final AtomicLong completed = new AtomicLong();
+        private final AtomicReference<RuntimeException> sinkFailure = new AtomicReference<>();
+
+        private Batch(VerificationPolicy policy, Consumer<ItemResult> sink) {
+            this.policy = policy;
+            this.sink = sink;
+        }
+
+        /**
+         * Schedules verification of one item, waiting for a free slot first.
+         *
+         * @throws IllegalStateException if the sink has failed, e.g. because the client went away
+         */
+        public void submit(long index, Credential credential) throws InterruptedException {
+            checkSink();
+            permits.acquire();
+            try {
+                executor.execute(() -> {
+                    try {
+                        emit(verify(index, credential));
+                    } finally {
+                        permits.release();
+                    }
+                });
+            } catch (RuntimeException e) {
+                permits.release();
+                throw e;
+            }
+        }
+
+        /**
+         * Reports an item that could not be turned into a credential. The report is
+         * written in order with verification results.
+         */
+        public void reject(long index, String error) {
+            checkSink();
+            emit(ItemResult.failed(index, error));
+        }
+
+        /**
+         * Waits until every submitted item has been reported.
+         *
+         * @return the number of items reported
+         */
+        public long awaitCompletion() throws InterruptedException {
+            permits.acquire(maxConcurrency);
+            permits.release(maxConcurrency);
+            checkSink();
+            return completed.get();
+        }
+
+        private ItemResult verify(long index, Credential credential) {
+            try {
+                return ItemResult.verified(index, verificationService.verify(credential, policy));
+            } catch (RuntimeException e) {
+                logger.error("Batch item {} ({}) failed", index, credential.id(), e);
+                return ItemResult.failed(index, "Verification failed: " + e.getMessage());
+            }
+        }
+
+        private void emit(ItemResult result) {
+            if (sinkFailure.get() != null) {
+                return;
+            }
+            try {
+                sink.accept(result);
+                completed.incrementAndGet();
+            } catch (RuntimeException e) {
+                sinkFailure.compareAndSet(null, e);
+            }
+        }
+
+        private void checkSink() {
+            RuntimeException failure = sinkFailure.get();
+            if (failure != null) {
+                throw new IllegalStateException("Batch output failed: " + failure.getMessage(), failure);
+            }
+        }
+    }
+}
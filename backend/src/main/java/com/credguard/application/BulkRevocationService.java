@@ -0,0 +1,106 @@
+package com.credguard.application;
+
+import com.credguard.config.AriesConfiguration;
+import com.credguard.domain.CredentialIssuanceResult;
+import com.credguard.domain.RevocationOutcome;
+import com.credguard.domain.VerifiableCredential;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Revokes many credentials in one request, with at most
+ * {@code aries.revocation.bulk-concurrency} agent calls in flight. Each
+ * revocation is sent unpublished, and the ledger is updated in batches by the
+ * revocation batcher. Credentials already revoked locally are reported without
+ * contacting the agent, so a bulk revocation can safely be repeated. A local
+ * REVOKED status is only written after the agent confirmed the revocation, never
+ * from a webhook event, so it cannot be forged to skip a revocation.
+ */
+@Service
+public class BulkRevocationService {
+
+    private static final Logger logger = LoggerFactory.getLogger(BulkRevocationService.class);
+
+    private final CredentialIssuanceService issuanceService;
+    private final Executor executor;
+    private final AriesConfiguration.Revocation config;
+
+    public BulkRevocationService(CredentialIssuanceService issuanceService,
+                                 @Qualifier("revocationExecutor") Executor executor,
+                                 AriesConfiguration ariesConfiguration) {
+        this.issuanceService = issuanceService;
+        this.executor = executor;
+        this.config = ariesConfiguration.getRevocation();
+    }
+
+    /**
+     * Revokes each distinct credential and reports the outcomes in request order.
+     *
+     * @throws IllegalArgumentException if more than
+     *                                  {@code aries.revocation.bulk-max-ids}
+     *                                  distinct credentials are given
+     */
+    public List<RevocationOutcome> revokeAll(Collection<String> credentialIds) throws InterruptedException {
+        List<String> ids = List.copyOf(new LinkedHashSet<>(credentialIds));
+        if (ids.size() > config.getBulkMaxIds()) {
+            throw new IllegalArgumentException("At most " + config.getBulkMaxIds()
+                + " credentials can be revoked in one request, got " + ids.size());
+        }
+
+        logger.info("Revoking {} credentials", ids.size());
+        RevocationOutcome[] outcomes = new RevocationOutcome[ids.size()];
+        Semaphore permits = new Semaphore(config.getBulkConcurrency());
+        CountDownLatch done = new CountDownLatch(ids.size());
+        for (int i = 0; i < ids.size(); i++) {
+            int index = i;
+            String credentialId = ids.get(i);
+            permits.acquire();
+            try {
+                executor.execute(() -> {
+                    try {
+                        outcomes[index] = revoke(credentialId);
+                    } finally {
+                        permits.release();
+                        done.countDown();
+                    }
+                });
+            } catch (RuntimeException e) {
+                permits.release();
+                outcomes[index] = RevocationOutcome.failed(credentialId, "Could not be scheduled: " + e.getMessage());
+                done.countDown();
+            }
+        }
+        done.await();
+
+        List<RevocationOutcome> results = Arrays.asList(outcomes);
+        logger.info("Bulk revocation finished: {} of {} revoked",
+            results.stream().filter(RevocationOutcome::revoked).count(), ids.size());
+        return results;
+    }
+
+    private RevocationOutcome revoke(String credentialId) {
+        Optional<CredentialIssuanceResult> stored = issuanceService.findIssuedCredential(credentialId);
+        if (stored.isPresent()
+                && stored.get().verifiableCredential().issuanceStatus() == VerifiableCredential.IssuanceStatus.REVOKED) {
+            return RevocationOutcome.revoked(credentialId, "Credential already revoked");
+        }
+        try {
+            return issuanceService.revokeCredential(credentialId)
+                ? RevocationOutcome.revoked(credentialId, "Credential revoked")
+                : RevocationOutcome.failed(credentialId, "Agent did not revoke the credential");
+        } catch (RuntimeException e) {
+            return RevocationOutcome.failed(credentialId, e.getMessage());
+        }
+    }
+}
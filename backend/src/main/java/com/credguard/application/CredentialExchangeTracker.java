@@ -0,0 +1,303 @@
+package com.credguard.application;
+
+import com.credguard.config.AriesConfiguration;
+import com.credguard.domain.CredentialExchangeStateEvent;
+import com.credguard.domain.CredentialIssuanceResult;
+import com.credguard.domain.VerifiableCredential;
+import com.credguard.infra.aries.AriesCloudAgentClient;
+import com.credguard.infra.store.CredentialStore;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+
+/**
+ * Tracks Aries credential exchanges and connections from the events the agent
+ * posts to the webhook receiver, so their state is known without polling the
+ * admin API.
+ *
+ * <p>Each exchange moves forward through the issue-credential 2.0 states. Events
+ * that would move it backwards, such as retried or reordered deliveries, are
+ * ignored. Every transition for a credential in the {@link CredentialStore} is
+ * written through to its issuance status, except {@code credential-revoked}:
+ * a credential is only marked revoked once the agent has confirmed a revocation
+ * CredGuard requested, never on the word of a webhook. When the wallet's request arrives the
+ * credential is sent on the stage executor, at most once per exchange. Finished
+ * exchanges are dropped from memory and answered from the store afterwards.
+ * Each transition is published as a {@link CredentialExchangeStateEvent}.
+ *
+ * <p>Only exchanges CredGuard offered are followed: those handed to
+ * {@link #offered} and those whose ID is in the store. A wallet's request that
+ * arrives before its offer returns is held until the offer does. Exchanges,
+ * held requests and connections are each capped at
+ * {@code aries.webhooks.max-tracked} and forgotten
+ * {@code aries.webhooks.tracked-ttl} after their last event; state reads then
+ * fall back to the store or the agent.
+ */
+@Service
+public class CredentialExchangeTracker {
+
+    private static final Logger logger = LoggerFactory.getLogger(CredentialExchangeTracker.class);
+
+    static final String OFFER_SENT = "offer-sent";
+    static final String REQUEST_RECEIVED = "request-received";
+    static final String CREDENTIAL_ISSUED = "credential-issued";
+    static final String DONE = "done";
+    static final String ABANDONED = "abandoned";
+    static final String CREDENTIAL_REVOKED = "credential-revoked";
+
+    /** Order of the issuer-side states an exchange passes through before it finishes. */
+    private static final Map<String, Integer> PROGRESS = Map.of(
+            "proposal-received", 0,
+            OFFER_SENT, 1,
+            REQUEST_RECEIVED, 2,
+            CREDENTIAL_ISSUED, 3);
+
+    private static final Set<String> TERMINAL = Set.of(DONE, ABANDONED, CREDENTIAL_REVOKED, "deleted");
+
+    private final AriesCloudAgentClient ariesClient;
+    private final CredentialStore credentialStore;
+    private final Executor executor;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int maxTracked;
+    private final Duration trackedTtl;
+    private final Clock clock;
+
+    private final Map<String, Tracked> exchanges = new ConcurrentHashMap<>();
+    private final Map<String, Tracked> earlyRequests = new ConcurrentHashMap<>();
+    private final Map<String, Tracked> connections = new ConcurrentHashMap<>();
+    private final Set<String> credentialsSent = ConcurrentHashMap.newKeySet();
+
+    @Autowired
+    public CredentialExchangeTracker(AriesCloudAgentClient ariesClient,
+                                     CredentialStore credentialStore,
+                                     @Qualifier("issuanceStageExecutor") Executor executor,
+                                     ApplicationEventPublisher eventPublisher,
+                                     AriesConfiguration ariesConfiguration) {
+        this(ariesClient, credentialStore, executor, eventPublisher, ariesConfiguration, Clock.systemUTC());
+    }
+
+    CredentialExchangeTracker(AriesCloudAgentClient ariesClient,
+                              CredentialStore credentialStore,
+                              Executor executor,
+                              ApplicationEventPublisher eventPublisher,
+                              AriesConfiguration ariesConfiguration,
+                              Clock clock) {
+        this.ariesClient = ariesClient;
+        this.credentialStore = credentialStore;
+        this.executor = executor;
+        this.eventPublisher = eventPublisher;
+        this.maxTracked = ariesConfiguration.getWebhooks().getMaxTracked();
+        this.trackedTtl = ariesConfiguration.getWebhooks().getTrackedTtl();
+        this.clock = clock;
+    }
+
+    /**
+     * Starts tracking an exchange whose offer was just sent. If the wallet's request
+     * was already reported before the offer returned, the credential is sent now.
+     */
+    public void offered(CredentialIssuanceResult result) {
+        String exchangeId = result.credentialExchangeId();
+        if (exchangeId == null
+                || result.verifiableCredential().issuanceStatus() != VerifiableCredential.IssuanceStatus.OFFER_SENT) {
+            return;
+        }
+        if (earlyRequests.remove(exchangeId) != null) {
+            onExchangeEvent(exchangeId, REQUEST_RECEIVED, null);
+            return;
+        }
+        Tracked current = exchanges.putIfAbsent(exchangeId, new Tracked(OFFER_SENT, clock.instant()));
+        if (current == null) {
+            trim(exchanges, this::forgetExchange);
+        } else if (REQUEST_RECEIVED.equals(current.state())) {
+            sendCredential(exchangeId);
+        }
+    }
+
+    /**
+     * Applies an {@code issue_credential_v2_0} event.
+     *
+     * @return true if the event moved the exchange to a new state
+     */
+    public boolean onExchangeEvent(String exchangeId, String state, String errorMessage) {
+        if (!exchanges.containsKey(exchangeId) && credentialStore.findByCredentialExchangeId(exchangeId).isEmpty()) {
+            if (REQUEST_RECEIVED.equals(state)) {
+                // Possibly ours with the offer still in flight; offered() picks it up
+                putBounded(earlyRequests, exchangeId, new Tracked(state, clock.instant()), id -> { });
+            } else {
+                logger.debug("Ignoring {} for exchange {} that CredGuard is not tracking", state, exchangeId);
+            }
+            return false;
+        }
+        if (!advance(exchangeId, state)) {
+            logger.debug("Ignoring {} for exchange {} in state {}", state, exchangeId, exchanges.get(exchangeId));
+            return false;
+        }
+        logger.info("Credential exchange {} is now {}", exchangeId, state);
+        eventPublisher.publishEvent(CredentialExchangeStateEvent.now(exchangeId, state, TERMINAL.contains(state)));
+
+        switch (state) {
+            case REQUEST_RECEIVED -> {
+                writeThrough(exchangeId, VerifiableCredential.IssuanceStatus.ACCEPTED, "Wallet requested the credential");
+                sendCredential(exchangeId);
+            }
+            case CREDENTIAL_ISSUED, DONE ->
+                writeThrough(exchangeId, VerifiableCredential.IssuanceStatus.ISSUED, "Credential successfully issued");
+            case ABANDONED -> writeThrough(exchangeId, VerifiableCredential.IssuanceStatus.FAILED,
+                errorMessage != null ? errorMessage : "Credential exchange abandoned");
+            case CREDENTIAL_REVOKED ->
+                logger.info("Agent reports exchange {} revoked; status is left to the revocation request", exchangeId);
+            default -> { }
+        }
+
+        if (TERMINAL.contains(state)) {
+            exchanges.computeIfPresent(exchangeId, (id, current) -> state.equals(current.state()) ? null : current);
+            credentialsSent.remove(exchangeId);
+        } else {
+            trim(exchanges, this::forgetExchange);
+        }
+        return true;
+    }
+
+    /**
+     * Applies a {@code connections} event.
+     */
+    public void onConnectionEvent(String connectionId, String state) {
+        if ("deleted".equals(state)) {
+            connections.remove(connectionId);
+        } else {
+            putBounded(connections, connectionId, new Tracked(state, clock.instant()), id -> { });
+        }
+        logger.debug("Connection {} is now {}", connectionId, state);
+    }
+
+    /**
+     * Returns the last reported state of an exchange that is still in progress.
+     */
+    public Optional<String> exchangeState(String exchangeId) {
+        return live(exchanges, exchangeId);
+    }
+
+    /**
+     * Returns the last reported state of a connection.
+     */
+    public Optional<String> connectionState(String connectionId) {
+        return live(connections, connectionId);
+    }
+
+    private boolean advance(String exchangeId, String state) {
+        boolean[] advanced = new boolean[1];
+        Instant now = clock.instant();
+        exchanges.compute(exchangeId, (id, current) -> {
+            advanced[0] = current == null || isForward(current.state(), state);
+            return advanced[0] ? new Tracked(state, now) : current;
+        });
+        return advanced[0];
+    }
+
+    private Optional<String> live(Map<String, Tracked> tracked, String id) {
+        Tracked entry = tracked.get(id);
+        if (entry == null) {
+            return Optional.empty();
+        }
+        if (isStale(entry, clock.instant())) {
+            tracked.remove(id, entry);
+            return Optional.empty();
+        }
+        return Optional.of(entry.state());
+    }
+
+    private void putBounded(Map<String, Tracked> tracked, String id, Tracked entry, Consumer<String> onEvict) {
+        tracked.put(id, entry);
+        trim(tracked, onEvict);
+    }
+
+    /**
+     * Drops stale entries once the map is full, then the least recently updated
+     * until it is within {@code max-tracked}.
+     */
+    private void trim(Map<String, Tracked> tracked, Consumer<String> onEvict) {
+        if (tracked.size() <= maxTracked) {
+            return;
+        }
+        Instant now = clock.instant();
+        tracked.entrySet().removeIf(e -> {
+            boolean stale = isStale(e.getValue(), now);
+            if (stale) {
+                onEvict.accept(e.getKey());
+            }
+            return stale;
+        });
+        while (tracked.size() > maxTracked) {
+            tracked.entrySet().stream()
+                    .min(Comparator.comparing(e -> e.getValue().updatedAt()))
+                    .ifPresent(oldest -> {
+                        if (tracked.remove(oldest.getKey(), oldest.getValue())) {
+                            onEvict.accept(oldest.getKey());
+                        }
+                    });
+        }
+    }
+
+    private boolean isStale(Tracked entry, Instant now) {
+        return !now.isBefore(entry.updatedAt().plus(trackedTtl));
+    }
+
+    private void forgetExchange(String exchangeId) {
+        credentialsSent.remove(exchangeId);
+        logger.debug("Stopped tracking credential exchange {}", exchangeId);
+    }
+
+    private static boolean isForward(String current, String next) {
+        if (TERMINAL.contains(current)) {
+            return false;
+        }
+        if (TERMINAL.contains(next)) {
+            return true;
+        }
+        Integer from = PROGRESS.get(current);
+        Integer to = PROGRESS.get(next);
+        return from == null || to == null || to > from;
+    }
+
+    private void sendCredential(String exchangeId) {
+        Optional<CredentialIssuanceResult> stored = credentialStore.findByCredentialExchangeId(exchangeId);
+        if (stored.isEmpty()) {
+            // The offer has not returned yet; offered() sends once it does
+            return;
+        }
+        if (!credentialsSent.add(exchangeId)) {
+            return;
+        }
+        VerifiableCredential credential = stored.get().verifiableCredential();
+        executor.execute(() -> {
+            try {
+                ariesClient.sendCredential(exchangeId, credential);
+            } catch (RuntimeException e) {
+                logger.error("Failed to send credential {} on exchange {}", credential.id(), exchangeId, e);
+                onExchangeEvent(exchangeId, ABANDONED, e.getMessage());
+            }
+        });
+    }
+
+    private void writeThrough(String exchangeId, VerifiableCredential.IssuanceStatus status, String message) {
+        credentialStore.findByCredentialExchangeId(exchangeId).ifPresent(result ->
+            credentialStore.updateStatus(result.verifiableCredential().id(), status, message));
+    }
+
+    private record Tracked(String state, Instant updatedAt) {
+    }
+}
@@ -1,17 +1,37 @@
 package com.credguard.application;
 
 import com.credguard.application.ai.PhysicalDocumentParsingService;
+import com.credguard.config.IssuanceConfiguration;
 import com.credguard.domain.CredentialIssuanceResult;
+import com.credguard.domain.CredentialRevokedEvent;
+import com.credguard.domain.IssuanceJob;
 import com.credguard.domain.Issuer;
 import com.credguard.domain.PhysicalDocument;
 import com.credguard.domain.VerifiableCredential;
 import com.credguard.exception.CredentialIssuanceException;
 import com.credguard.infra.aries.AriesCloudAgentClient;
+import com.credguard.infra.aries.WalletConnectionCache;
+import com.credguard.infra.store.CredentialStore;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
 
 /**
  * Service for issuing verifiable credentials from physical documents.
@@ -24,20 +44,46 @@ public class CredentialIssuanceService {
     
     private final PhysicalDocumentParsingService documentParsingService;
     private final AriesCloudAgentClient ariesClient;
+    private final ApplicationEventPublisher eventPublisher;
+    private final StatusListPublisher statusListPublisher;
+    private final CredentialStore credentialStore;
+    private final WalletConnectionCache connections;
+    private final CredentialExchangeTracker exchanges;
+    private final IssuanceConfiguration.Stages stages;
+    private final Executor stageExecutor;
     
     // Default issuer for CredGuard
-    private static final Issuer DEFAULT_ISSUER = new Issuer(
+    static final Issuer DEFAULT_ISSUER = new Issuer(
         "did:web:credguard.com:issuer",
         "CredGuard Identity Services",
         true
     );
 
+    /**
+     * @param statusListPublisher assigns status list entries to issued credentials;
+     *                            null issues credentials without {@code credentialStatus}
+     */
+    @Autowired
     public CredentialIssuanceService(
             PhysicalDocumentParsingService documentParsingService,
-            AriesCloudAgentClient ariesClient
+            AriesCloudAgentClient ariesClient,
+            ApplicationEventPublisher eventPublisher,
+            StatusListPublisher statusListPublisher,
+            CredentialStore credentialStore,
+            WalletConnectionCache connections,
+            CredentialExchangeTracker exchanges,
+            IssuanceConfiguration issuanceConfiguration,
+            @Qualifier("issuanceStageExecutor") Executor stageExecutor
     ) {
         this.documentParsingService = documentParsingService;
         this.ariesClient = ariesClient;
+        this.eventPublisher = eventPublisher;
+        this.statusListPublisher = statusListPublisher;
+        this.credentialStore = credentialStore;
+        this.connections = connections;
+        this.exchanges = exchanges;
+        this.stages = issuanceConfiguration.getStages();
+        this.stageExecutor = stageExecutor;
     }
 
     /**
@@ -49,6 +95,26 @@ public class CredentialIssuanceService {
             String fileName,
             PhysicalDocument.DocumentType documentType,
             String walletDid
+    ) {
+        return issueCredentialFromDocument(documentBytes, fileName, documentType, walletDid, stage -> { });
+    }
+
+    /**
+     * Processes a physical document and issues a verifiable credential, reporting
+     * each workflow stage to the given listener as it starts.
+     *
+     * <p>Document parsing and wallet connection do not depend on each other, so
+     * they run concurrently and join before the credential is built. Connections
+     * are reused across issuances to the same wallet. Each step has
+     * its own time limit from {@code issuance.stages}; when one fails or times
+     * out, the other is interrupted.
+     */
+    public CredentialIssuanceResult issueCredentialFromDocument(
+            byte[] documentBytes,
+            String fileName,
+            PhysicalDocument.DocumentType documentType,
+            String walletDid,
+            Consumer<IssuanceJob.Stage> progress
     ) {
         logger.info("Starting credential issuance process for document: {}, type: {}, wallet: {}", 
             fileName, documentType, walletDid);
@@ -56,27 +122,55 @@ public class CredentialIssuanceService {
         long startTime = System.currentTimeMillis();
         
         try {
-            // Step 1: Parse the physical document to extract attributes
-            PhysicalDocument document = documentParsingService.parseDocument(
-                documentBytes, fileName, documentType
-            );
-            
-            logger.info("Document parsing completed for: {}", document.id());
-            
-            // Step 2: Create connection with wallet
-            String connectionId = ariesClient.createConnectionInvitation(walletDid);
-            
-            logger.info("Connection created with wallet: {} -> {}", walletDid, connectionId);
+            // Steps 1 and 2 are independent: parse the document while connecting to the wallet
+            progress.accept(IssuanceJob.Stage.PARSING);
+            CompletableFuture<PhysicalDocument> parsing = startStage("Document parsing",
+                stages.getParseTimeout(),
+                () -> documentParsingService.parseDocument(documentBytes, fileName, documentType));
+            progress.accept(IssuanceJob.Stage.CONNECTING);
+            CompletableFuture<String> connecting = startStage("Wallet connection",
+                stages.getConnectionTimeout(),
+                () -> connections.connectionFor(walletDid));
+            cancelOnFailure(parsing, connecting);
+            cancelOnFailure(connecting, parsing);
+            await(parsing, connecting);
+
+            PhysicalDocument document = parsing.join();
+            String connectionId = connecting.join();
+            logger.info("Document {} parsed and connection created with wallet: {} -> {}",
+                document.id(), walletDid, connectionId);
             
             // Step 3: Create verifiable credential from document
             VerifiableCredential credential = VerifiableCredential.fromPhysicalDocument(
                 document, DEFAULT_ISSUER, walletDid, connectionId
             );
+            if (statusListPublisher != null) {
+                credential = credential.withCredentialStatus(statusListPublisher.assign(credential.id()));
+            }
             
             logger.info("Verifiable credential created: {}", credential.id());
             
             // Step 4: Issue credential via Aries
-            CredentialIssuanceResult result = ariesClient.issueCredential(credential);
+            progress.accept(IssuanceJob.Stage.OFFERING);
+            VerifiableCredential offered = credential;
+            CompletableFuture<CredentialIssuanceResult> offering = startStage("Credential offer",
+                stages.getOfferTimeout(),
+                () -> ariesClient.issueCredential(offered));
+            CredentialIssuanceResult result;
+            try {
+                await(offering);
+                result = offering.join();
+            } catch (Exception e) {
+                connections.evict(walletDid);
+                throw e;
+            }
+            if (!Boolean.TRUE.equals(result.success())) {
+                connections.evict(walletDid);
+            }
+            if (result.verifiableCredential() != null) {
+                credentialStore.save(result);
+                exchanges.offered(result);
+            }
             
             long totalTime = System.currentTimeMillis() - startTime;
             logger.info("Credential issuance process completed for document {} in {}ms. Success: {}", 
@@ -85,6 +179,9 @@ public class CredentialIssuanceService {
             return result;
             
         } catch (Exception e) {
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
             long totalTime = System.currentTimeMillis() - startTime;
             logger.error("Credential issuance process failed for document: {} in {}ms", fileName, totalTime, e);
             
@@ -96,32 +193,101 @@ public class CredentialIssuanceService {
     }
 
     /**
-     * Issues a verifiable credential asynchronously.
-     * Returns immediately with a future that resolves when the credential is issued.
+     * Runs one step of the issuance on the stage executor. The returned future fails
+     * with a {@link TimeoutException} once the step's time limit passes; completing
+     * it exceptionally for any reason interrupts the step if it is still running.
      */
-    public CompletableFuture<CredentialIssuanceResult> issueCredentialFromDocumentAsync(
-            byte[] documentBytes,
-            String fileName,
-            PhysicalDocument.DocumentType documentType,
-            String walletDid
-    ) {
-        logger.info("Starting async credential issuance for document: {}", fileName);
-        
-        return CompletableFuture.supplyAsync(() -> 
-            issueCredentialFromDocument(documentBytes, fileName, documentType, walletDid)
-        );
+    private <T> CompletableFuture<T> startStage(String name, Duration timeout, Callable<T> work) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        FutureTask<T> task = new FutureTask<>(work) {
+            @Override
+            protected void done() {
+                if (isCancelled()) {
+                    return;
+                }
+                try {
+                    result.complete(get());
+                } catch (ExecutionException e) {
+                    result.completeExceptionally(e.getCause());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    result.completeExceptionally(e);
+                }
+            }
+        };
+        // orTimeout drops its timer once the deadline completes, so a finished stage
+        // leaves nothing scheduled; the deadline's bare TimeoutException gets the stage name
+        CompletableFuture<Void> deadline = new CompletableFuture<Void>()
+            .orTimeout(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        deadline.whenComplete((value, expired) -> {
+            if (expired instanceof TimeoutException) {
+                result.completeExceptionally(
+                    new TimeoutException(name + " timed out after " + timeout.toMillis() + "ms"));
+            }
+        });
+        result.whenComplete((value, failure) -> {
+            deadline.complete(null);
+            if (failure != null) {
+                task.cancel(true);
+            }
+        });
+        stageExecutor.execute(task);
+        return result;
+    }
+
+    private static void cancelOnFailure(CompletableFuture<?> stage, CompletableFuture<?> sibling) {
+        stage.whenComplete((value, failure) -> {
+            if (failure != null) {
+                sibling.completeExceptionally(new CancellationException("Cancelled after a sibling stage failed"));
+            }
+        });
+    }
+
+    /**
+     * Waits for all stages and rethrows the failure that caused the others to be
+     * cancelled, if any.
+     */
+    private static void await(CompletableFuture<?>... stages) throws Exception {
+        try {
+            CompletableFuture.allOf(stages).get();
+        } catch (InterruptedException e) {
+            for (CompletableFuture<?> stage : stages) {
+                stage.cancel(true);
+            }
+            throw e;
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            for (CompletableFuture<?> stage : stages) {
+                Throwable failure = stage.handle((value, error) -> error).join();
+                if (failure != null && !(failure instanceof CancellationException)) {
+                    cause = failure;
+                    break;
+                }
+            }
+            if (cause instanceof Exception exception) {
+                throw exception;
+            }
+            throw new CredentialIssuanceException(cause.getMessage(), cause);
+        }
     }
 
     /**
-     * Revokes a previously issued verifiable credential.
+     * Revokes a previously issued verifiable credential. The revocation is sent to
+     * the agent unpublished; the ledger is updated with the next batch of
+     * revocations once the {@link CredentialRevokedEvent} is handled.
      */
     public boolean revokeCredential(String credentialId) {
         logger.info("Revoking credential: {}", credentialId);
         
         try {
-            boolean success = ariesClient.revokeCredential(credentialId);
+            boolean success = ariesClient.revokeCredential(credentialId, false);
             
             logger.info("Credential {} revocation {}", credentialId, success ? "successful" : "failed");
+            if (success) {
+                credentialStore.updateStatus(credentialId, VerifiableCredential.IssuanceStatus.REVOKED,
+                    "Credential revoked");
+                eventPublisher.publishEvent(CredentialRevokedEvent.now(credentialId));
+            }
             return success;
             
         } catch (Exception e) {
@@ -134,11 +300,22 @@ public class CredentialIssuanceService {
     }
 
     /**
-     * Checks the status of a credential exchange.
+     * Checks the status of a credential exchange. Exchanges still in progress are
+     * answered from the state last reported by the agent's webhooks, and finished
+     * ones for credentials in the local store from the store, without calling Aries.
      */
     public String getCredentialStatus(String credentialExchangeId) {
         logger.debug("Checking status for credential exchange: {}", credentialExchangeId);
         
+        Optional<String> tracked = exchanges.exchangeState(credentialExchangeId);
+        if (tracked.isPresent()) {
+            return tracked.get();
+        }
+        Optional<CredentialIssuanceResult> stored = credentialStore.findByCredentialExchangeId(credentialExchangeId);
+        if (stored.isPresent()) {
+            return stored.get().verifiableCredential().issuanceStatus().name().toLowerCase(Locale.ROOT);
+        }
+        
         try {
             return ariesClient.getCredentialExchangeStatus(credentialExchangeId);
         } catch (Exception e) {
@@ -148,11 +325,45 @@ public class CredentialIssuanceService {
     }
 
     /**
-     * Gets the connection status with a wallet.
+     * Returns true while the agent's webhooks are reporting progress on the
+     * exchange, so further state changes can still be expected.
+     */
+    public boolean isExchangeInProgress(String credentialExchangeId) {
+        return exchanges.exchangeState(credentialExchangeId).isPresent();
+    }
+
+    /**
+     * Finds a locally stored issuance result by credential ID.
+     */
+    public Optional<CredentialIssuanceResult> findIssuedCredential(String credentialId) {
+        return credentialStore.findById(credentialId);
+    }
+
+    /**
+     * Finds a locally stored issuance result by Aries credential exchange ID.
+     */
+    public Optional<CredentialIssuanceResult> findIssuedCredentialByExchange(String credentialExchangeId) {
+        return credentialStore.findByCredentialExchangeId(credentialExchangeId);
+    }
+
+    /**
+     * Lists the credentials issued to a wallet, from the local store.
+     */
+    public List<CredentialIssuanceResult> findCredentialsForWallet(String walletDid) {
+        return credentialStore.findByWalletDid(walletDid);
+    }
+
+    /**
+     * Gets the connection status with a wallet, from the agent's webhooks when it
+     * has reported the connection.
      */
     public String getConnectionStatus(String connectionId) {
         logger.debug("Checking connection status: {}", connectionId);
         
+        Optional<String> tracked = exchanges.connectionState(connectionId);
+        if (tracked.isPresent()) {
+            return tracked.get();
+        }
         try {
             return ariesClient.getConnectionStatus(connectionId);
         } catch (Exception e) {
@@ -207,4 +418,4 @@ public class CredentialIssuanceService {
             );
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,410 @@
+package com.credguard.application;
+
+import com.credguard.config.IssuanceConfiguration;
+import com.credguard.domain.CredentialIssuanceResult;
+import com.credguard.domain.IssuanceJob;
+import com.credguard.domain.IssuanceJobUpdatedEvent;
+import com.credguard.domain.PhysicalDocument;
+import com.credguard.exception.CredentialIssuanceException;
+import com.credguard.exception.IssuanceQueueFullException;
+import com.credguard.infra.outbox.IssuanceOutbox;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs credential issuance in the background and tracks each job's progress.
+ *
+ * <p>At most {@code issuance.jobs.max-concurrency} jobs run at once and at most
+ * {@code issuance.jobs.queue-capacity} more wait for a slot. Submissions beyond
+ * that are rejected immediately with {@link IssuanceQueueFullException} rather
+ * than queued without bound. Finished jobs remain queryable for
+ * {@code issuance.jobs.retention}.
+ *
+ * <p>A job is acknowledged only after it has been written to the
+ * {@link IssuanceOutbox}. Jobs still in the outbox at startup are run again
+ * under their original IDs. A job's completion is recorded as soon as it
+ * reaches the offer stage, so an offer is never sent twice: a job that stops
+ * after that point is not replayed. Shutdown stops accepting jobs and waits up
+ * to {@code issuance.jobs.shutdown-timeout} for active ones, then interrupts
+ * those that have not reached their offer. Only jobs stopped before their offer
+ * stay in the outbox for the next start.
+ *
+ * <p>Every stage change is published as an {@link IssuanceJobUpdatedEvent}.
+ */
+@Service
+public class IssuanceJobService {
+
+    private static final Logger logger = LoggerFactory.getLogger(IssuanceJobService.class);
+    private static final Duration CANCEL_GRACE = Duration.ofSeconds(5);
+
+    private final CredentialIssuanceService issuanceService;
+    private final IssuanceOutbox outbox;
+    private final Executor executor;
+    private final ApplicationEventPublisher eventPublisher;
+    private final IssuanceConfiguration.Jobs config;
+    private final Clock clock;
+    private final Semaphore admission;
+    private final Semaphore running;
+    private final Map<String, JobState> jobs = new ConcurrentHashMap<>();
+    private final Queue<JobState> finished = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger active = new AtomicInteger();
+    private volatile boolean accepting = true;
+
+    private final Counter accepted;
+    private final Counter rejected;
+    private final Counter succeeded;
+    private final Counter failed;
+
+    @Autowired
+    public IssuanceJobService(CredentialIssuanceService issuanceService,
+                              IssuanceOutbox outbox,
+                              @Qualifier("issuanceExecutor") Executor executor,
+                              ApplicationEventPublisher eventPublisher,
+                              IssuanceConfiguration issuanceConfiguration,
+                              MeterRegistry meterRegistry) {
+        this(issuanceService, outbox, executor, eventPublisher, issuanceConfiguration, meterRegistry,
+                Clock.systemUTC());
+    }
+
+    IssuanceJobService(CredentialIssuanceService issuanceService,
+                       IssuanceOutbox outbox,
+                       Executor executor,
+                       ApplicationEventPublisher eventPublisher,
+                       IssuanceConfiguration issuanceConfiguration,
+                       MeterRegistry meterRegistry,
+                       Clock clock) {
+        this.issuanceService = issuanceService;
+        this.outbox = outbox;
+        this.executor = executor;
+        this.eventPublisher = eventPublisher;
+        this.config = issuanceConfiguration.getJobs();
+        this.clock = clock;
+        this.admission = new Semaphore(config.getMaxConcurrency() + config.getQueueCapacity());
+        this.running = new Semaphore(config.getMaxConcurrency());
+
+        this.accepted = jobCounter(meterRegistry, "accepted");
+        this.rejected = jobCounter(meterRegistry, "rejected");
+        this.succeeded = jobCounter(meterRegistry, "issued");
+        this.failed = jobCounter(meterRegistry, "failed");
+        meterRegistry.gauge("credguard.issuance.jobs.active", admission,
+                permits -> config.getMaxConcurrency() + config.getQueueCapacity() - permits.availablePermits());
+        meterRegistry.gauge("credguard.issuance.jobs.running", running,
+                permits -> config.getMaxConcurrency() - permits.availablePermits());
+    }
+
+    /**
+     * Runs the jobs that were accepted but not finished before the last shutdown.
+     * They are not counted against the queue capacity.
+     */
+    @PostConstruct
+    public void recoverPendingJobs() {
+        for (IssuanceOutbox.PendingIssuance pending : outbox.recover()) {
+            JobState job = new JobState(pending.jobId(), pending.fileName(), pending.walletDid(),
+                    pending.submittedAt(), false);
+            jobs.put(job.id, job);
+            active.incrementAndGet();
+            executor.execute(() -> run(job, pending.document(), pending.documentType()));
+            logger.info("Resuming issuance job {} for file: {}", job.id, job.fileName);
+        }
+    }
+
+    /**
+     * Stops accepting jobs and waits for active ones to finish.
+     */
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        accepting = false;
+        awaitIdle(config.getShutdownTimeout());
+        if (active.get() == 0) {
+            return;
+        }
+        logger.warn("Interrupting {} issuance jobs still running at shutdown", active.get());
+        for (JobState job : jobs.values()) {
+            job.cancel();
+        }
+        awaitIdle(CANCEL_GRACE);
+        if (active.get() > 0) {
+            logger.warn("Shutting down with {} issuance jobs unfinished; those that had not reached "
+                    + "the offer will resume from the outbox", active.get());
+        }
+    }
+
+    private void awaitIdle(Duration timeout) throws InterruptedException {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        while (active.get() > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(50);
+        }
+    }
+
+    /**
+     * Accepts an issuance job and returns its initial snapshot.
+     *
+     * @throws IssuanceQueueFullException if the configured number of jobs are
+     *                                    already running or waiting
+     */
+    public IssuanceJob submit(byte[] documentBytes,
+                              String fileName,
+                              PhysicalDocument.DocumentType documentType,
+                              String walletDid) {
+        expireFinishedJobs();
+        if (!accepting) {
+            rejected.increment();
+            throw new IssuanceQueueFullException("Credential issuance is shutting down, retry later");
+        }
+        if (!admission.tryAcquire()) {
+            rejected.increment();
+            logger.warn("Rejecting issuance job for {}: {} jobs already active", fileName,
+                    config.getMaxConcurrency() + config.getQueueCapacity());
+            throw new IssuanceQueueFullException("Credential issuance queue is full, retry later");
+        }
+
+        JobState job = new JobState(UUID.randomUUID().toString(), fileName, walletDid, clock.instant(), true);
+        try {
+            outbox.append(new IssuanceOutbox.PendingIssuance(
+                    job.id, job.submittedAt, fileName, documentType, walletDid, documentBytes));
+        } catch (IOException e) {
+            admission.release();
+            logger.error("Failed to record issuance job for file: {}", fileName, e);
+            throw new CredentialIssuanceException("Failed to record issuance job: " + e.getMessage(), e);
+        }
+
+        // Snapshot before handing the job over, so the caller always sees it queued
+        IssuanceJob queued = job.snapshot();
+        jobs.put(job.id, job);
+        active.incrementAndGet();
+        try {
+            executor.execute(() -> run(job, documentBytes, documentType));
+        } catch (RuntimeException e) {
+            // Still in the outbox, so it runs after the next restart
+            active.decrementAndGet();
+            jobs.remove(job.id);
+            admission.release();
+            rejected.increment();
+            throw new IssuanceQueueFullException("Credential issuance could not be scheduled: " + e.getMessage());
+        }
+        accepted.increment();
+        logger.info("Issuance job {} accepted for file: {}", job.id, fileName);
+        return queued;
+    }
+
+    /**
+     * Returns the current snapshot of a job, if it is still known.
+     */
+    public Optional<IssuanceJob> find(String jobId) {
+        JobState job = jobs.get(jobId);
+        return job != null ? Optional.of(job.snapshot()) : Optional.empty();
+    }
+
+    private void run(JobState job, byte[] documentBytes, PhysicalDocument.DocumentType documentType) {
+        if (!job.start()) {
+            // Cancelled by shutdown before it started; it stays in the outbox
+            release(job);
+            return;
+        }
+        CredentialIssuanceResult result = null;
+        String error;
+        try {
+            running.acquire();
+            try {
+                result = issuanceService.issueCredentialFromDocument(
+                        documentBytes, job.fileName, documentType, job.walletDid, job::advance);
+                error = Boolean.TRUE.equals(result.success())
+                        ? null
+                        : Objects.requireNonNullElse(result.errorMessage(), "Credential issuance failed");
+            } finally {
+                running.release();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            error = "Issuance job was interrupted";
+        } catch (RuntimeException e) {
+            logger.warn("Issuance job {} failed: {}", job.id, e.getMessage());
+            error = Objects.requireNonNullElse(e.getMessage(), e.getClass().getSimpleName());
+        }
+
+        job.finish();
+
+        if (error != null && job.cancelledBeforeOffer()) {
+            logger.info("Issuance job {} interrupted by shutdown before its offer, it will run again: {}",
+                    job.id, error);
+        } else {
+            recordCompletion(job);
+        }
+
+        // Free the slot before publishing the outcome, so a caller that sees the
+        // job finish can immediately submit another.
+        release(job);
+        if (error == null) {
+            job.complete(result);
+            succeeded.increment();
+        } else {
+            job.fail(error);
+            failed.increment();
+        }
+        finished.add(job);
+    }
+
+    private void release(JobState job) {
+        if (job.admitted) {
+            admission.release();
+        }
+        active.decrementAndGet();
+    }
+
+    private void recordCompletion(JobState job) {
+        if (job.recorded) {
+            return;
+        }
+        job.recorded = true;
+        try {
+            outbox.complete(job.id);
+        } catch (IOException e) {
+            logger.warn("Failed to record completion of issuance job {}, it may run again: {}",
+                    job.id, e.getMessage());
+        }
+    }
+
+    private void expireFinishedJobs() {
+        Instant cutoff = clock.instant().minus(config.getRetention());
+        JobState oldest;
+        while ((oldest = finished.peek()) != null && oldest.updatedAt.isBefore(cutoff)) {
+            if (finished.remove(oldest)) {
+                jobs.remove(oldest.id);
+            }
+        }
+    }
+
+    private static Counter jobCounter(MeterRegistry registry, String result) {
+        return Counter.builder("credguard.issuance.jobs")
+                .description("Asynchronous credential issuance jobs by outcome")
+                .tag("result", result)
+                .register(registry);
+    }
+
+    /**
+     * Mutable progress of one job. Progress fields are only written by the worker
+     * running the job; readers take an immutable snapshot. Cancellation, the
+     * worker thread and whether the offer has begun are guarded by the job's lock.
+     */
+    private final class JobState {
+        private final String id;
+        private final String fileName;
+        private final String walletDid;
+        private final Instant submittedAt;
+        private final boolean admitted;
+        private volatile IssuanceJob.Stage stage = IssuanceJob.Stage.QUEUED;
+        private volatile Instant updatedAt;
+        private volatile String credentialId;
+        private volatile String credentialExchangeId;
+        private volatile String errorMessage;
+        private volatile boolean recorded;
+        private Thread worker;
+        private boolean cancelled;
+        private boolean offering;
+
+        private JobState(String id, String fileName, String walletDid, Instant submittedAt, boolean admitted) {
+            this.id = id;
+            this.fileName = fileName;
+            this.walletDid = walletDid;
+            this.submittedAt = submittedAt;
+            this.admitted = admitted;
+            this.updatedAt = submittedAt;
+        }
+
+        /**
+         * Binds the job to the calling thread, returning false if shutdown
+         * cancelled it first.
+         */
+        synchronized boolean start() {
+            if (cancelled) {
+                return false;
+            }
+            worker = Thread.currentThread();
+            return true;
+        }
+
+        /**
+         * Unbinds the job from its thread, clearing any interrupt so the outcome
+         * can still be recorded.
+         */
+        void finish() {
+            synchronized (this) {
+                worker = null;
+            }
+            Thread.interrupted();
+        }
+
+        /**
+         * Stops the job unless its offer has begun; a job already offering is left
+         * to finish, since its completion is recorded and it will not run again.
+         */
+        synchronized void cancel() {
+            cancelled = true;
+            if (worker != null && !offering) {
+                worker.interrupt();
+            }
+        }
+
+        synchronized boolean cancelledBeforeOffer() {
+            return cancelled && !offering;
+        }
+
+        void advance(IssuanceJob.Stage next) {
+            if (next == IssuanceJob.Stage.OFFERING) {
+                synchronized (this) {
+                    if (cancelled) {
+                        throw new CancellationException("Issuance job " + id + " was cancelled by shutdown");
+                    }
+                    offering = true;
+                }
+                // From here on the job must not run again, whatever happens to the offer
+                recordCompletion(this);
+            }
+            logger.debug("Issuance job {} entering stage {}", id, next);
+            updatedAt = clock.instant();
+            stage = next;
+            eventPublisher.publishEvent(new IssuanceJobUpdatedEvent(snapshot()));
+        }
+
+        void complete(CredentialIssuanceResult result) {
+            credentialId = result.verifiableCredential() != null ? result.verifiableCredential().id() : null;
+            credentialExchangeId = result.credentialExchangeId();
+            advance(IssuanceJob.Stage.ISSUED);
+        }
+
+        void fail(String message) {
+            errorMessage = message;
+            advance(IssuanceJob.Stage.FAILED);
+        }
+
+        IssuanceJob snapshot() {
+            IssuanceJob.Stage current = stage;
+            return new IssuanceJob(id, current, submittedAt, updatedAt, fileName, walletDid,
+                    credentialId, credentialExchangeId, errorMessage);
+        }
+    }
+}
@@ -0,0 +1,418 @@
+package com.credguard.application;
+
+import com.credguard.config.RevocationConfiguration;
+import com.credguard.domain.CredentialRevokedEvent;
+import com.credguard.domain.VerifiableCredential;
+import com.credguard.infra.revocation.StatusList;
+import com.credguard.infra.store.CredentialStore;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.BitSet;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Publishes Bitstring Status Lists for the credentials CredGuard issues.
+ *
+ * <p>Every issued credential is assigned a randomly chosen free index in a list
+ * of {@code revocation.publication.list-size} bits, and revoking it flips that
+ * one bit. Lists are filled one at a time, so each credential hides among every
+ * other credential in its list and the index reveals nothing about issuance
+ * order. Each list keeps its bitstring in memory; the compressed status list
+ * credential is rebuilt at most once per change, on the first request after it,
+ * and served with a strong ETag derived from its content.
+ *
+ * <p>Which index a credential holds is read back from the {@code credentialStatus}
+ * stored with it in the {@link CredentialStore}. On startup the assigned indexes
+ * and revoked bits are rebuilt from the store, so a persistent store alone keeps
+ * indexes from being handed out twice and revocations from being lost. Assigned
+ * indexes and revocations are also appended to an optional state file and
+ * replayed, which covers indexes handed out for credentials that were never
+ * stored.
+ */
+@Service
+public class StatusListPublisher {
+
+    private static final Logger logger = LoggerFactory.getLogger(StatusListPublisher.class);
+    private static final String STATUS_PURPOSE = "revocation";
+    private static final int RANDOM_PROBES = 16;
+
+    private final RevocationConfiguration.Publication config;
+    private final String issuerId;
+    private final CredentialStore credentialStore;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Map<Integer, PublishedList> lists = new ConcurrentHashMap<>();
+    private final Random random = new SecureRandom();
+    private int openList;
+    private FileChannel journal;
+
+    public StatusListPublisher(RevocationConfiguration revocationConfiguration, CredentialStore credentialStore) {
+        this.config = revocationConfiguration.getPublication();
+        this.credentialStore = credentialStore;
+        this.issuerId = CredentialIssuanceService.DEFAULT_ISSUER.id();
+        if (config.getListSize() <= 0 || config.getListSize() % 8 != 0) {
+            throw new IllegalArgumentException("revocation.publication.list-size must be a positive multiple of 8");
+        }
+    }
+
+    @PostConstruct
+    public synchronized void initialize() {
+        restoreFromStore();
+        Path file = stateFile();
+        if (file == null) {
+            logger.info("No status list state file configured, {} credentials restored from the credential store",
+                    assignedCount());
+            return;
+        }
+
+        try {
+            if (Files.exists(file)) {
+                replay(Files.readAllLines(file, StandardCharsets.UTF_8));
+            } else if (file.toAbsolutePath().getParent() != null) {
+                Files.createDirectories(file.toAbsolutePath().getParent());
+            }
+            journal = FileChannel.open(file, StandardOpenOption.CREATE,
+                    StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot open status list state " + file, e);
+        }
+        logger.info("Loaded status list state from {}: {} credentials across {} lists",
+                file, assignedCount(), lists.size());
+    }
+
+    @PreDestroy
+    public synchronized void shutdown() {
+        if (journal != null) {
+            try {
+                journal.close();
+            } catch (IOException e) {
+                logger.warn("Failed to close status list state: {}", e.getMessage());
+            }
+            journal = null;
+        }
+    }
+
+    /**
+     * Assigns the credential a status list index, reusing the one stored with it
+     * if it has already been issued.
+     *
+     * @return the {@code credentialStatus} entry to embed in the credential
+     */
+    public synchronized Map<String, Object> assign(String credentialId) {
+        Long existing = storedIndex(credentialId);
+        long index = existing != null ? existing : allocate();
+
+        String listUrl = listUrl(listId(index));
+        int offset = offset(index);
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("id", listUrl + "#" + offset);
+        status.put("type", "BitstringStatusListEntry");
+        status.put("statusPurpose", STATUS_PURPOSE);
+        status.put("statusListIndex", String.valueOf(offset));
+        status.put("statusListCredential", listUrl);
+        return status;
+    }
+
+    /**
+     * Flips the credential's status bit. Credentials without an assigned index
+     * (for example issued before status lists were enabled) are ignored.
+     *
+     * @return true if the bit changed
+     */
+    public synchronized boolean revoke(String credentialId) {
+        Long index = storedIndex(credentialId);
+        if (index == null) {
+            logger.debug("Credential {} has no status list index", credentialId);
+            return false;
+        }
+        PublishedList list = list(listId(index));
+        if (list.isSet(offset(index))) {
+            return false;
+        }
+        append("R " + index);
+        list.set(offset(index));
+        logger.info("Credential {} marked revoked in status list {} at {}", credentialId, list.id, offset(index));
+        return true;
+    }
+
+    @EventListener
+    public void onCredentialRevoked(CredentialRevokedEvent event) {
+        revoke(event.credentialId());
+    }
+
+    /**
+     * Returns the current status list credential for the list, or null if no
+     * credential has been assigned to it.
+     */
+    public Published get(int listId) {
+        PublishedList list = lists.get(listId);
+        return list != null ? list.published() : null;
+    }
+
+    public long cacheMaxAgeSeconds() {
+        return config.getCacheMaxAge().toSeconds();
+    }
+
+    /**
+     * Claims a random free index in the lowest list that still has one.
+     */
+    private long allocate() {
+        while (true) {
+            PublishedList list = list(openList);
+            int offset = list.randomFreeOffset(random);
+            if (offset >= 0) {
+                long index = (long) list.id * config.getListSize() + offset;
+                append("A " + index);
+                list.claim(offset);
+                return index;
+            }
+            openList++;
+        }
+    }
+
+    /**
+     * Returns the index recorded in the stored credential's status entry, or null
+     * if the credential is not stored or has no entry in one of these lists.
+     */
+    private Long storedIndex(String credentialId) {
+        Map<String, Object> status = credentialStore.findById(credentialId)
+                .map(result -> result.verifiableCredential().credentialStatus())
+                .orElse(null);
+        return index(credentialId, status);
+    }
+
+    /**
+     * Claims the index of every stored credential and sets the bit of every
+     * revoked one.
+     */
+    private void restoreFromStore() {
+        credentialStore.forEach(result -> {
+            VerifiableCredential credential = result.verifiableCredential();
+            Long index = index(credential.id(), credential.credentialStatus());
+            if (index == null) {
+                return;
+            }
+            PublishedList list = list(listId(index));
+            list.claim(offset(index));
+            if (credential.issuanceStatus() == VerifiableCredential.IssuanceStatus.REVOKED) {
+                list.set(offset(index));
+            }
+        });
+    }
+
+    private Long index(String credentialId, Map<String, Object> status) {
+        if (status == null || !(status.get("statusListCredential") instanceof String listUrl)) {
+            return null;
+        }
+        String prefix = listUrlPrefix();
+        if (!listUrl.startsWith(prefix)) {
+            return null;
+        }
+        try {
+            int listId = Integer.parseInt(listUrl.substring(prefix.length()));
+            int offset = Integer.parseInt(String.valueOf(status.get("statusListIndex")));
+            if (listId < 0 || offset < 0 || offset >= config.getListSize()) {
+                return null;
+            }
+            return (long) listId * config.getListSize() + offset;
+        } catch (NumberFormatException e) {
+            logger.warn("Credential {} has a malformed status entry: {}", credentialId, status);
+            return null;
+        }
+    }
+
+    private long assignedCount() {
+        return lists.values().stream().mapToLong(list -> list.assignedCount).sum();
+    }
+
+    private PublishedList list(int listId) {
+        return lists.computeIfAbsent(listId, id -> new PublishedList(id, new byte[config.getListSize() / 8]));
+    }
+
+    private int listId(long index) {
+        return Math.toIntExact(index / config.getListSize());
+    }
+
+    private int offset(long index) {
+        return (int) (index % config.getListSize());
+    }
+
+    private String listUrl(int listId) {
+        return listUrlPrefix() + listId;
+    }
+
+    private String listUrlPrefix() {
+        String base = config.getBaseUrl();
+        return base.endsWith("/") ? base : base + "/";
+    }
+
+    private void replay(List<String> lines) {
+        for (String line : lines) {
+            String[] parts = line.strip().split(" ", 3);
+            try {
+                if (parts.length >= 2 && parts[0].equals("A")) {
+                    // Older state files also name the credential; the store now holds that
+                    long index = Long.parseLong(parts[1]);
+                    list(listId(index)).claim(offset(index));
+                } else if (parts.length == 2 && parts[0].equals("R")) {
+                    long index = Long.parseLong(parts[1]);
+                    list(listId(index)).set(offset(index));
+                } else if (!line.isBlank()) {
+                    logger.warn("Skipping malformed status list state line: {}", line);
+                }
+            } catch (NumberFormatException e) {
+                logger.warn("Skipping malformed status list state line: {}", line);
+            }
+        }
+    }
+
+    private void append(String record) {
+        if (journal == null) {
+            return;
+        }
+        try {
+            ByteBuffer line = ByteBuffer.wrap((record + "\n").getBytes(StandardCharsets.UTF_8));
+            while (line.hasRemaining()) {
+                journal.write(line);
+            }
+            journal.force(false);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to persist status list state", e);
+        }
+    }
+
+    private Path stateFile() {
+        String file = config.getStateFile();
+        return file == null || file.isBlank() ? null : Path.of(file);
+    }
+
+    /**
+     * A serialised status list credential and its strong ETag.
+     */
+    public record Published(
+            byte[] body,
+            String etag
+    ) {
+    }
+
+    /**
+     * One status list. Bit updates and encoding synchronise on the list; readers of
+     * an unchanged list get the cached encoding without locking.
+     */
+    private final class PublishedList {
+        private final int id;
+        private final byte[] bits;
+        private final BitSet assigned = new BitSet();
+        private int assignedCount;
+        private volatile Published published;
+
+        private PublishedList(int id, byte[] bits) {
+            this.id = id;
+            this.bits = bits;
+        }
+
+        /**
+         * Returns a free offset chosen at random, or -1 if every offset is assigned.
+         * Random probes find one quickly until the list is nearly full; after that
+         * the next free offset from a random start is taken.
+         */
+        synchronized int randomFreeOffset(Random random) {
+            int size = config.getListSize();
+            if (assignedCount >= size) {
+                return -1;
+            }
+            for (int probe = 0; probe < RANDOM_PROBES; probe++) {
+                int offset = random.nextInt(size);
+                if (!assigned.get(offset)) {
+                    return offset;
+                }
+            }
+            int offset = assigned.nextClearBit(random.nextInt(size));
+            return offset < size ? offset : assigned.nextClearBit(0);
+        }
+
+        /**
+         * Marks the offset as assigned, returning false if it already was.
+         */
+        synchronized boolean claim(int offset) {
+            if (assigned.get(offset)) {
+                return false;
+            }
+            assigned.set(offset);
+            assignedCount++;
+            return true;
+        }
+
+        synchronized boolean isSet(int offset) {
+            return (bits[offset >>> 3] & (0x80 >>> (offset & 7))) != 0;
+        }
+
+        synchronized void set(int offset) {
+            bits[offset >>> 3] |= (byte) (0x80 >>> (offset & 7));
+            published = null;
+        }
+
+        Published published() {
+            Published current = published;
+            if (current != null) {
+                return current;
+            }
+            synchronized (this) {
+                if (published == null) {
+                    published = encode();
+                }
+                return published;
+            }
+        }
+
+        private Published encode() {
+            String url = listUrl(id);
+            Map<String, Object> subject = new LinkedHashMap<>();
+            subject.put("id", url + "#list");
+            subject.put("type", "BitstringStatusList");
+            subject.put("statusPurpose", STATUS_PURPOSE);
+            subject.put("encodedList", StatusList.encode(bits));
+
+            Map<String, Object> credential = new LinkedHashMap<>();
+            credential.put("@context", List.of("https://www.w3.org/ns/credentials/v2"));
+            credential.put("id", url);
+            credential.put("type", List.of("VerifiableCredential", "BitstringStatusListCredential"));
+            credential.put("issuer", issuerId);
+            credential.put("credentialSubject", subject);
+
+            try {
+                byte[] body = objectMapper.writeValueAsBytes(credential);
+                byte[] digest = MessageDigest.getInstance("SHA-256").digest(body);
+                String etag = "\"" + HexFormat.of().formatHex(digest, 0, 16) + "\"";
+                logger.debug("Encoded status list {} ({} bytes)", id, body.length);
+                return new Published(body, etag);
+            } catch (JsonProcessingException e) {
+                throw new IllegalStateException("Cannot serialise status list " + id, e);
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException("SHA-256 not available", e);
+            }
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.credguard.application;
+
+/**
+ * How much work a verification does once a check has failed.
+ */
+public enum VerificationPolicy {
+    /** Run every validator and report every failure. */
+    FULL_REPORT,
+    /** Run validators cheapest-first and stop at the first failure. */
+    FAIL_FAST
+}
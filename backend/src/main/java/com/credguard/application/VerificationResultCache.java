@@ -0,0 +1,352 @@
+package com.credguard.application;
+
+import com.credguard.config.VerificationConfiguration;
+import com.credguard.domain.Credential;
+import com.credguard.domain.CredentialRevokedEvent;
+import com.credguard.domain.VerificationResult;
+import com.credguard.infra.crypto.JwksCache;
+import com.credguard.infra.crypto.LocalIssuerKeyStore;
+import com.credguard.infra.json.CanonicalJsonDigest;
+import com.credguard.infra.revocation.StatusListCache;
+import com.credguard.infra.trust.TrustedIssuerRegistry;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Predicate;
+
+/**
+ * Content-addressed cache of successful verification results. Credentials are keyed
+ * by the SHA-256 of their RFC 8785 canonical JSON form, so re-submitting the same
+ * credential hits the cache regardless of member order or whitespace. The canonical
+ * form is streamed straight into the digest, with timestamps written as
+ * {@code [epochSecond,nano]}, so computing a key allocates nothing for credentials
+ * made of plain JSON values.
+ *
+ * <p>An entry never outlives the credential's {@code expiresAt}, the configured TTL,
+ * the cached lifetime of the issuer JWK set it was verified against or that of
+ * any status list named in its {@code credentialStatus}, so a status list
+ * revocation shows once the list is refetched. Entries are
+ * dropped when that key set rotates, when the local trust store or the trusted
+ * issuer registry reloads and when the credential is revoked. Failed verifications
+ * are never cached.
+ *
+ * <p>Every invalidation advances a version. A verification reads the
+ * {@link #version()} before it runs its validators and hands it to {@link #put},
+ * which refuses the result if an invalidation happened in between: the result may
+ * have been computed before a revocation or key rotation it does not reflect.
+ */
+@Component
+public class VerificationResultCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(VerificationResultCache.class);
+    private static final String JWKS_URL_CLAIM = "issuerPublicKeyUrl";
+    private static final String STATUS_CLAIM = "credentialStatus";
+    private static final int DIGEST_POOL_SIZE = 2 * Runtime.getRuntime().availableProcessors();
+
+    private final VerificationConfiguration.ResultCache config;
+    private final JwksCache jwksCache;
+    private final StatusListCache statusLists;
+    private final Clock clock;
+    private final ObjectMapper objectMapper = JsonMapper.builder()
+            .addModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+    private final AtomicReferenceArray<CanonicalJsonDigest> digests = new AtomicReferenceArray<>(DIGEST_POOL_SIZE);
+    private final Map<Key, CachedResult> entries = new ConcurrentHashMap<>();
+    private final AtomicLong version = new AtomicLong();
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter evictions;
+    private final Counter invalidations;
+
+    @Autowired
+    public VerificationResultCache(VerificationConfiguration verificationConfiguration,
+                                   JwksCache jwksCache,
+                                   StatusListCache statusLists,
+                                   LocalIssuerKeyStore localKeyStore,
+                                   TrustedIssuerRegistry trustRegistry,
+                                   MeterRegistry meterRegistry) {
+        this(verificationConfiguration, jwksCache, statusLists, localKeyStore, trustRegistry, meterRegistry,
+                Clock.systemUTC());
+    }
+
+    VerificationResultCache(VerificationConfiguration verificationConfiguration,
+                            JwksCache jwksCache,
+                            StatusListCache statusLists,
+                            LocalIssuerKeyStore localKeyStore,
+                            TrustedIssuerRegistry trustRegistry,
+                            MeterRegistry meterRegistry,
+                            Clock clock) {
+        this.config = verificationConfiguration.getResultCache();
+        this.jwksCache = jwksCache;
+        this.statusLists = statusLists;
+        this.clock = clock;
+
+        jwksCache.addKeySetListener(this::invalidateKeySet);
+        localKeyStore.addReloadListener(this::invalidateAll);
+        trustRegistry.addReloadListener(this::invalidateAll);
+
+        this.hits = cacheCounter(meterRegistry, "hit");
+        this.misses = cacheCounter(meterRegistry, "miss");
+        this.evictions = cacheCounter(meterRegistry, "eviction");
+        this.invalidations = cacheCounter(meterRegistry, "invalidation");
+        meterRegistry.gauge("credguard.verification.cache.size", entries, Map::size);
+    }
+
+    /**
+     * Computes the cache key for a credential.
+     *
+     * @return the SHA-256 of the canonical credential, or null when caching is
+     *         disabled or the credential cannot be canonicalized
+     */
+    public Key keyFor(Credential credential) {
+        if (!config.isEnabled()) {
+            return null;
+        }
+        CanonicalJsonDigest digest = borrowDigest();
+        try {
+            digest.reset();
+            writeCanonical(credential, digest);
+            digest.finish();
+            return new Key(digest.word(0), digest.word(1), digest.word(2), digest.word(3));
+        } catch (IllegalArgumentException e) {
+            logger.debug("Credential {} cannot be canonicalized, not caching: {}", credential.id(), e.getMessage());
+            return null;
+        } finally {
+            releaseDigest(digest);
+        }
+    }
+
+    /**
+     * Returns the cached result for the key, or null if there is no live entry.
+     */
+    public VerificationResult get(Key key) {
+        CachedResult entry = entries.get(key);
+        if (entry == null) {
+            misses.increment();
+            return null;
+        }
+        if (!clock.instant().isBefore(entry.expiresAt())) {
+            entries.remove(key, entry);
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return entry.result();
+    }
+
+    /**
+     * Returns the current invalidation version, to be read before a result that
+     * may be cached is computed.
+     */
+    public long version() {
+        return version.get();
+    }
+
+    /**
+     * Caches a successful result until the earliest of the configured TTL, the
+     * credential's expiry and the expiry of the issuer key set and status lists it
+     * depends on. A credential naming a status list that is not cached is not cached.
+     *
+     * @param readVersion the {@link #version()} read before the result was computed;
+     *                    the result is not cached if anything was invalidated since
+     */
+    public void put(Key key, Credential credential, VerificationResult result, long readVersion) {
+        if (!result.valid() || version.get() != readVersion) {
+            return;
+        }
+
+        Instant now = clock.instant();
+        Instant expiresAt = now.plus(config.getTtl());
+        if (credential.expiresAt() != null && credential.expiresAt().isBefore(expiresAt)) {
+            expiresAt = credential.expiresAt();
+        }
+        String jwksUrl = credential.claims().get(JWKS_URL_CLAIM) instanceof String url ? url : null;
+        if (jwksUrl != null) {
+            Instant keysExpireAt = jwksCache.expiresAt(jwksUrl);
+            if (keysExpireAt != null && keysExpireAt.isBefore(expiresAt)) {
+                expiresAt = keysExpireAt;
+            }
+        }
+        Object status = credential.claims().get(STATUS_CLAIM);
+        if (status != null) {
+            for (Object entry : status instanceof List<?> list ? list : List.of(status)) {
+                Object listUrl = entry instanceof Map<?, ?> map ? map.get("statusListCredential") : null;
+                Instant listExpiresAt = listUrl instanceof String url ? statusLists.expiresAt(url) : null;
+                if (listExpiresAt == null) {
+                    return;
+                }
+                if (listExpiresAt.isBefore(expiresAt)) {
+                    expiresAt = listExpiresAt;
+                }
+            }
+        }
+        if (!now.isBefore(expiresAt)) {
+            return;
+        }
+
+        evictIfNecessary(now);
+        CachedResult entry = new CachedResult(result, expiresAt, credential.id(), jwksUrl);
+        entries.put(key, entry);
+        // An invalidation that advanced the version before this check may have swept
+        // the entries before the put above; one that advances it later sweeps this entry
+        if (version.get() != readVersion) {
+            entries.remove(key, entry);
+        }
+    }
+
+    /**
+     * Drops results that were verified against keys published at the given URL.
+     */
+    public void invalidateKeySet(String jwksUrl) {
+        removeMatching(entry -> jwksUrl.equals(entry.jwksUrl()), "key set " + jwksUrl);
+    }
+
+    /**
+     * Drops every cached result.
+     */
+    public void invalidateAll() {
+        version.incrementAndGet();
+        int removed = entries.size();
+        entries.clear();
+        if (removed > 0) {
+            invalidations.increment(removed);
+            logger.info("Dropped {} cached verification results", removed);
+        }
+    }
+
+    @EventListener
+    public void onCredentialRevoked(CredentialRevokedEvent event) {
+        removeMatching(entry -> event.credentialId().equals(entry.credentialId()),
+                "revoked credential " + event.credentialId());
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    private void removeMatching(Predicate<CachedResult> predicate, String reason) {
+        version.incrementAndGet();
+        int before = entries.size();
+        entries.values().removeIf(predicate);
+        int removed = before - entries.size();
+        if (removed > 0) {
+            invalidations.increment(removed);
+            logger.info("Dropped {} cached verification results for {}", removed, reason);
+        }
+    }
+
+    private void evictIfNecessary(Instant now) {
+        if (entries.size() < config.getMaxEntries()) {
+            return;
+        }
+        entries.values().removeIf(entry -> !now.isBefore(entry.expiresAt()));
+        while (entries.size() >= config.getMaxEntries()) {
+            entries.entrySet().stream()
+                    .min(Comparator.comparing(e -> e.getValue().expiresAt()))
+                    .ifPresent(soonest -> {
+                        if (entries.remove(soonest.getKey(), soonest.getValue())) {
+                            evictions.increment();
+                        }
+                    });
+        }
+    }
+
+    /**
+     * Writes the credential's members in RFC 8785 order.
+     */
+    private static void writeCanonical(Credential credential, CanonicalJsonDigest digest) {
+        digest.beginObject();
+        digest.member("claims");
+        digest.value(credential.claims());
+        digest.member("expiresAt");
+        writeInstant(credential.expiresAt(), digest);
+        digest.member("id");
+        digest.value(credential.id());
+        digest.member("issuedAt");
+        writeInstant(credential.issuedAt(), digest);
+        digest.member("issuer");
+        if (credential.issuer() == null) {
+            digest.value(null);
+        } else {
+            digest.beginObject();
+            digest.member("displayName");
+            digest.value(credential.issuer().displayName());
+            digest.member("id");
+            digest.value(credential.issuer().id());
+            digest.member("trusted");
+            digest.value(credential.issuer().trusted());
+            digest.endObject();
+        }
+        digest.member("subject");
+        digest.value(credential.subject());
+        digest.member("type");
+        digest.value(credential.type());
+        digest.endObject();
+    }
+
+    private static void writeInstant(Instant instant, CanonicalJsonDigest digest) {
+        if (instant == null) {
+            digest.value(null);
+            return;
+        }
+        digest.beginArray();
+        digest.element();
+        digest.number(instant.getEpochSecond());
+        digest.element();
+        digest.number(instant.getNano());
+        digest.endArray();
+    }
+
+    private CanonicalJsonDigest borrowDigest() {
+        for (int i = 0; i < DIGEST_POOL_SIZE; i++) {
+            CanonicalJsonDigest digest = digests.getAndSet(i, null);
+            if (digest != null) {
+                return digest;
+            }
+        }
+        return new CanonicalJsonDigest(objectMapper);
+    }
+
+    private void releaseDigest(CanonicalJsonDigest digest) {
+        for (int i = 0; i < DIGEST_POOL_SIZE; i++) {
+            if (digests.compareAndSet(i, null, digest)) {
+                return;
+            }
+        }
+    }
+
+    private static Counter cacheCounter(MeterRegistry registry, String result) {
+        return Counter.builder("credguard.verification.cache")
+                .description("Verification result cache lookups and maintenance operations")
+                .tag("result", result)
+                .register(registry);
+    }
+
+    /**
+     * The SHA-256 of a canonical credential as four big-endian words.
+     */
+    public record Key(long first, long second, long third, long fourth) {
+    }
+
+    private record CachedResult(VerificationResult result, Instant expiresAt, String credentialId, String jwksUrl) {
+    }
+}
@@ -2,92 +2,196 @@ package com.credguard.application;
 
 import com.credguard.application.validation.CredentialValidator;
 import com.credguard.application.validation.ValidationResult;
+import com.credguard.config.VerificationConfiguration;
+import com.credguard.config.VerificationConfiguration.ExecutionMode;
 import com.credguard.domain.Credential;
 import com.credguard.domain.VerificationResult;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.AsyncTaskExecutor;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 /**
  * Service for verifying digital credentials using configurable validation
  * strategies.
+ *
+ * <p>In {@link ExecutionMode#PARALLEL} mode the validators are forked onto the
+ * verification executor and joined under a single per-verification deadline, so
+ * latency is that of the slowest validator rather than the sum. Validators still
+ * running when the deadline passes are cancelled and reported as failures; no
+ * validator task outlives the {@link #verify} call that started it.
+ *
+ * <p>{@link VerificationPolicy#FAIL_FAST} instead runs validators one at a time in
+ * ascending {@link com.credguard.application.validation.ValidatorCost} order and
+ * stops at the first failure, so an expired or untrusted credential never pays for
+ * a signature check.
+ *
+ * <p>Successful results are memoised in {@link VerificationResultCache}, so a
+ * re-submitted credential skips validation entirely until the cache entry expires
+ * or is invalidated.
  */
 @Service
 public class VerificationService {
 
     private static final Logger logger = LoggerFactory.getLogger(VerificationService.class);
     private final List<CredentialValidator> validators;
+    private final List<CredentialValidator> validatorsByCost;
+    private final ExecutionMode executionMode;
+    private final Duration deadline;
+    private final AsyncTaskExecutor executor;
+    private final VerificationResultCache resultCache;
 
     public VerificationService(List<CredentialValidator> validators) {
+        this(validators, new VerificationConfiguration(), null, null);
+    }
+
+    @Autowired
+    public VerificationService(List<CredentialValidator> validators,
+                               VerificationConfiguration configuration,
+                               @Qualifier("verificationExecutor") AsyncTaskExecutor executor,
+                               VerificationResultCache resultCache) {
         this.validators = validators;
-        logger.info("VerificationService initialized with {} validators", validators.size());
+        this.resultCache = resultCache;
+        this.validatorsByCost = validators.stream()
+                .sorted(Comparator.comparing(CredentialValidator::getCost))
+                .toList();
+        this.executor = executor;
+        this.executionMode = executor != null ? configuration.getExecutionMode() : ExecutionMode.SEQUENTIAL;
+        this.deadline = configuration.getDeadline();
+        logger.info("VerificationService initialized with {} validators ({} mode, deadline {}ms)",
+                validators.size(), executionMode, deadline.toMillis());
     }
 
     public VerificationResult verify(Credential credential) {
-        logger.info("Starting verification for credential: {}", credential.id());
+        return verify(credential, VerificationPolicy.FULL_REPORT);
+    }
 
-        List<String> errors = new ArrayList<>();
-        List<String> warnings = new ArrayList<>();
+    public VerificationResult verify(Credential credential, VerificationPolicy policy) {
+        VerificationResultCache.Key cacheKey = resultCache != null ? resultCache.keyFor(credential) : null;
+        long cacheVersion = 0;
+        if (cacheKey != null) {
+            // Read before validating, so a revocation that lands mid-verification stops the put
+            cacheVersion = resultCache.version();
+            VerificationResult cached = resultCache.get(cacheKey);
+            if (cached != null) {
+                logger.debug("Verification result for credential {} served from cache", credential.id());
+                return cached;
+            }
+        }
 
-        boolean issuerTrusted = true;
-        boolean notExpired = true;
-        boolean signatureValid = true;
+        VerificationResult result = evaluate(credential, policy);
+        if (cacheKey != null) {
+            resultCache.put(cacheKey, credential, result, cacheVersion);
+        }
+        return result;
+    }
 
-        for (CredentialValidator validator : validators) {
-            ValidationResult result = validator.validate(credential);
+    /**
+     * Runs the validators and merges their results. The all-valid path allocates
+     * nothing but the returned {@link VerificationResult}: validators return shared
+     * success instances, the error list is created on the first failure and the
+     * explanation is derived only when the result is rendered.
+     */
+    private VerificationResult evaluate(Credential credential, VerificationPolicy policy) {
+        logger.debug("Starting verification for credential: {} ({})", credential.id(), policy);
 
-            if (!result.valid()) {
-                errors.add(result.errorMessage());
-                logger.debug("Validator {} failed for credential {}",
-                        validator.getValidatorName(), credential.id());
+        List<String> errors = null;
+        List<String> warnings = List.of();
 
-                // Java 21: Switch expression with arrow syntax (already using it, but ensure
-                // consistency)
-                switch (result.validationType()) {
-                    case ISSUER_TRUST -> issuerTrusted = false;
-                    case EXPIRY -> notExpired = false;
-                    case SIGNATURE -> signatureValid = false;
+        if (policy == VerificationPolicy.FULL_REPORT
+                && executionMode == ExecutionMode.PARALLEL && validators.size() > 1) {
+            List<ValidationResult> results = runConcurrently(credential);
+            for (int i = 0; i < results.size(); i++) {
+                errors = collectError(errors, results.get(i), credential);
+            }
+        } else {
+            boolean failFast = policy == VerificationPolicy.FAIL_FAST;
+            List<CredentialValidator> ordered = failFast ? validatorsByCost : validators;
+            // Indexed loop: no iterator allocation on the hot path
+            for (int i = 0; i < ordered.size(); i++) {
+                errors = collectError(errors, ordered.get(i).validate(credential), credential);
+                if (failFast && errors != null) {
+                    int skipped = ordered.size() - i - 1;
+                    if (skipped > 0) {
+                        warnings = List.of("Fail-fast verification skipped " + skipped + " remaining check(s)");
+                    }
+                    break;
                 }
             }
         }
 
-        boolean valid = errors.isEmpty();
-        String explanation = buildExplanation(credential, valid, errors);
+        if (errors == null) {
+            logger.debug("Verification completed for credential {}: valid", credential.id());
+            return VerificationResult.success(credential, true, true, true, warnings, null);
+        }
 
-        logger.info("Verification completed for credential {}: valid={}, errors={}",
-                credential.id(), valid, errors.size());
+        logger.debug("Verification completed for credential {}: {} error(s)", credential.id(), errors.size());
+        return VerificationResult.failure(credential, errors, warnings, null);
+    }
 
-        if (valid) {
-            return VerificationResult.success(
-                    credential,
-                    issuerTrusted,
-                    signatureValid,
-                    notExpired,
-                    warnings,
-                    explanation);
-        } else {
-            return VerificationResult.failure(
-                    credential,
-                    errors,
-                    warnings,
-                    explanation);
+    private static List<String> collectError(List<String> errors, ValidationResult result, Credential credential) {
+        if (result.valid()) {
+            return errors;
         }
+        logger.debug("{} check failed for credential {}", result.validationType(), credential.id());
+        List<String> collected = errors != null ? errors : new ArrayList<>(2);
+        collected.add(result.errorMessage());
+        return collected;
     }
 
-    private String buildExplanation(Credential credential, boolean valid, List<String> errors) {
-        if (valid) {
-            return String.format(
-                    "Credential '%s' issued by '%s' is valid. All checks passed.",
-                    credential.id(),
-                    credential.issuer().displayName());
-        } else {
-            return String.format(
-                    "Credential '%s' verification failed. Issues: %s",
-                    credential.id(),
-                    String.join("; ", errors));
+    /**
+     * Forks every validator, then joins them in order against one shared deadline.
+     * Results keep the validator order so error lists are deterministic.
+     */
+    private List<ValidationResult> runConcurrently(Credential credential) {
+        List<Future<ValidationResult>> tasks = new ArrayList<>(validators.size());
+        List<ValidationResult> results = new ArrayList<>(validators.size());
+        long deadlineNanos = System.nanoTime() + deadline.toNanos();
+
+        try {
+            for (CredentialValidator validator : validators) {
+                tasks.add(executor.submit(() -> validator.validate(credential)));
+            }
+
+            for (int i = 0; i < tasks.size(); i++) {
+                CredentialValidator validator = validators.get(i);
+                long remaining = Math.max(0, deadlineNanos - System.nanoTime());
+                try {
+                    results.add(tasks.get(i).get(remaining, TimeUnit.NANOSECONDS));
+                } catch (TimeoutException e) {
+                    logger.warn("Validator {} exceeded the {}ms deadline for credential {}",
+                            validator.getValidatorName(), deadline.toMillis(), credential.id());
+                    results.add(ValidationResult.failure(
+                            validator.getValidatorName() + " did not complete within " + deadline.toMillis() + "ms",
+                            validator.getValidationType()));
+                } catch (ExecutionException e) {
+                    logger.error("Validator {} failed for credential {}",
+                            validator.getValidatorName(), credential.id(), e.getCause());
+                    results.add(ValidationResult.failure(
+                            validator.getValidatorName() + " failed: " + e.getCause().getMessage(),
+                            validator.getValidationType()));
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Verification interrupted for credential " + credential.id(), e);
+        } finally {
+            // Stragglers past the deadline (or after an interrupt) must not keep running
+            for (Future<ValidationResult> task : tasks) {
+                task.cancel(true);
+            }
         }
+        return results;
     }
 }
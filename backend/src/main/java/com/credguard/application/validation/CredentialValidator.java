@@ -19,4 +19,17 @@ public interface CredentialValidator {
      * Returns the name of this validator for logging and error reporting.
      */
     String getValidatorName();
+
+    /**
+     * Returns the check this validator performs, used to attribute failures that
+     * happen outside {@link #validate} such as a missed deadline.
+     */
+    ValidationResult.ValidationType getValidationType();
+
+    /**
+     * Returns the relative cost of this validator; fail-fast verification runs cheaper validators first.
+     */
+    default ValidatorCost getCost() {
+        return ValidatorCost.MODERATE;
+    }
 }
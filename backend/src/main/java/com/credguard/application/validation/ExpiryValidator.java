@@ -24,9 +24,9 @@ public class ExpiryValidator implements CredentialValidator {
             return ValidationResult.success(ValidationResult.ValidationType.EXPIRY);
         }
         
-        if (credential.expiresAt().isBefore(Instant.now())) {
+        if (isBeforeNow(credential.expiresAt())) {
             String errorMsg = "Credential has expired";
-            logger.warn("Expiry validation failed for credential {}: expired at {}", 
+            logger.debug("Expiry validation failed for credential {}: expired at {}", 
                 credential.id(), credential.expiresAt());
             return ValidationResult.failure(errorMsg, ValidationResult.ValidationType.EXPIRY);
         }
@@ -34,8 +34,30 @@ public class ExpiryValidator implements CredentialValidator {
         return ValidationResult.success(ValidationResult.ValidationType.EXPIRY);
     }
     
+    /**
+     * Equivalent to {@code instant.isBefore(Instant.now())} without allocating an Instant per call.
+     */
+    private static boolean isBeforeNow(Instant instant) {
+        long nowMillis = System.currentTimeMillis();
+        long nowSeconds = Math.floorDiv(nowMillis, 1000L);
+        if (instant.getEpochSecond() != nowSeconds) {
+            return instant.getEpochSecond() < nowSeconds;
+        }
+        return instant.getNano() < Math.floorMod(nowMillis, 1000L) * 1_000_000L;
+    }
+
     @Override
     public String getValidatorName() {
         return "ExpiryValidator";
     }
+
+    @Override
+    public ValidationResult.ValidationType getValidationType() {
+        return ValidationResult.ValidationType.EXPIRY;
+    }
+
+    @Override
+    public ValidatorCost getCost() {
+        return ValidatorCost.CHEAP;
+    }
 }
@@ -1,26 +1,32 @@
 package com.credguard.application.validation;
 
 import com.credguard.domain.Credential;
+import com.credguard.infra.trust.TrustedIssuerRegistry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
 
 /**
- * Validates issuer trust status.
+ * Validates issuer trust status against the server-side trusted issuer registry.
+ * The {@code trusted} flag supplied with the credential is ignored.
  */
 @Component
 public class IssuerTrustValidator implements CredentialValidator {
     
     private static final Logger logger = LoggerFactory.getLogger(IssuerTrustValidator.class);
+    private final TrustedIssuerRegistry trustRegistry;
+
+    public IssuerTrustValidator(TrustedIssuerRegistry trustRegistry) {
+        this.trustRegistry = trustRegistry;
+    }
     
     @Override
     public ValidationResult validate(Credential credential) {
         logger.debug("Validating issuer trust for credential: {}", credential.id());
         
-        if (!credential.issuer().trusted()) {
-            String errorMsg = String.format("Issuer is not trusted: %s", 
-                credential.issuer().displayName());
-            logger.warn("Issuer trust validation failed for credential {}: {}", 
+        if (!trustRegistry.isTrusted(credential.issuer().id())) {
+            String errorMsg = "Issuer is not trusted: " + credential.issuer().displayName();
+            logger.debug("Issuer trust validation failed for credential {}: {}", 
                 credential.id(), errorMsg);
             return ValidationResult.failure(errorMsg, ValidationResult.ValidationType.ISSUER_TRUST);
         }
@@ -32,4 +38,14 @@ public class IssuerTrustValidator implements CredentialValidator {
     public String getValidatorName() {
         return "IssuerTrustValidator";
     }
+
+    @Override
+    public ValidationResult.ValidationType getValidationType() {
+        return ValidationResult.ValidationType.ISSUER_TRUST;
+    }
+
+    @Override
+    public ValidatorCost getCost() {
+        return ValidatorCost.CHEAP;
+    }
 }
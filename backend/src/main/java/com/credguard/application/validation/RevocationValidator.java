@@ -0,0 +1,49 @@
+package com.credguard.application.validation;
+
+import com.credguard.domain.Credential;
+import com.credguard.infra.revocation.RevokedCredentialIndex;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * Validates that a credential has not been revoked, using the local revocation index.
+ */
+@Component
+public class RevocationValidator implements CredentialValidator {
+
+    private static final Logger logger = LoggerFactory.getLogger(RevocationValidator.class);
+    private final RevokedCredentialIndex revokedCredentials;
+
+    public RevocationValidator(RevokedCredentialIndex revokedCredentials) {
+        this.revokedCredentials = revokedCredentials;
+    }
+
+    @Override
+    public ValidationResult validate(Credential credential) {
+        logger.debug("Validating revocation status for credential: {}", credential.id());
+
+        if (revokedCredentials.isRevoked(credential.id())) {
+            logger.debug("Revocation validation failed for credential {}", credential.id());
+            return ValidationResult.failure("Credential has been revoked",
+                ValidationResult.ValidationType.REVOCATION);
+        }
+
+        return ValidationResult.success(ValidationResult.ValidationType.REVOCATION);
+    }
+
+    @Override
+    public String getValidatorName() {
+        return "RevocationValidator";
+    }
+
+    @Override
+    public ValidationResult.ValidationType getValidationType() {
+        return ValidationResult.ValidationType.REVOCATION;
+    }
+
+    @Override
+    public ValidatorCost getCost() {
+        return ValidatorCost.CHEAP;
+    }
+}
@@ -30,7 +30,7 @@ public class SignatureValidator implements CredentialValidator {
 
         if (!isValid) {
             String errorMsg = "Credential signature is invalid";
-            logger.warn("Signature validation failed for credential {}", credential.id());
+            logger.debug("Signature validation failed for credential {}", credential.id());
             return ValidationResult.failure(errorMsg, ValidationResult.ValidationType.SIGNATURE);
         }
 
@@ -42,6 +42,16 @@ public class SignatureValidator implements CredentialValidator {
         return "SignatureValidator";
     }
 
+    @Override
+    public ValidationResult.ValidationType getValidationType() {
+        return ValidationResult.ValidationType.SIGNATURE;
+    }
+
+    @Override
+    public ValidatorCost getCost() {
+        return ValidatorCost.EXPENSIVE;
+    }
+
     private String extractPublicKeyUrl(Credential credential) {
         Object jwkUrl = credential.claims().get("issuerPublicKeyUrl");
         // Java 21: Pattern matching for instanceof - eliminates redundant cast
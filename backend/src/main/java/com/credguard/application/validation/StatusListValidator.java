@@ -0,0 +1,118 @@
+package com.credguard.application.validation;
+
+import com.credguard.domain.Credential;
+import com.credguard.infra.revocation.StatusList;
+import com.credguard.infra.revocation.StatusListCache;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Validates the {@code credentialStatus} claim against the issuer's published
+ * StatusList2021 or Bitstring Status List. Credentials without a status entry pass.
+ * If the list cannot be fetched the check fails rather than assuming the
+ * credential is still in good standing. An entry whose {@code statusPurpose}
+ * differs from the list's is rejected, so a suspension list cannot stand in for
+ * a revocation list.
+ */
+@Component
+public class StatusListValidator implements CredentialValidator {
+
+    private static final Logger logger = LoggerFactory.getLogger(StatusListValidator.class);
+    private static final String STATUS_CLAIM = "credentialStatus";
+    private static final Set<String> SUPPORTED_TYPES = Set.of("StatusList2021Entry", "BitstringStatusListEntry");
+
+    private final StatusListCache statusLists;
+
+    public StatusListValidator(StatusListCache statusLists) {
+        this.statusLists = statusLists;
+    }
+
+    @Override
+    public ValidationResult validate(Credential credential) {
+        Object status = credential.claims().get(STATUS_CLAIM);
+        if (status == null) {
+            return ValidationResult.success(ValidationResult.ValidationType.REVOCATION);
+        }
+        logger.debug("Validating status list entries for credential: {}", credential.id());
+
+        List<?> entries = status instanceof List<?> list ? list : List.of(status);
+        for (Object entry : entries) {
+            if (!(entry instanceof Map<?, ?> map)) {
+                return failure("Invalid credential status: entry is not an object");
+            }
+            ValidationResult result = check(credential, map);
+            if (!result.valid()) {
+                return result;
+            }
+        }
+        return ValidationResult.success(ValidationResult.ValidationType.REVOCATION);
+    }
+
+    private ValidationResult check(Credential credential, Map<?, ?> entry) {
+        if (!(entry.get("type") instanceof String type) || !SUPPORTED_TYPES.contains(type)) {
+            logger.debug("Ignoring unsupported credential status type {} on credential {}",
+                entry.get("type"), credential.id());
+            return ValidationResult.success(ValidationResult.ValidationType.REVOCATION);
+        }
+        if (!(entry.get("statusListCredential") instanceof String url) || url.isBlank()) {
+            return failure("Invalid credential status: statusListCredential is missing");
+        }
+
+        long index;
+        try {
+            index = Long.parseLong(String.valueOf(entry.get("statusListIndex")));
+        } catch (NumberFormatException e) {
+            return failure("Invalid credential status: statusListIndex '" + entry.get("statusListIndex")
+                + "' is not a number");
+        }
+
+        String purpose = entry.get("statusPurpose") instanceof String p ? p : "revocation";
+        try {
+            StatusList list = statusLists.get(url);
+            if (!purpose.equals(list.purpose())) {
+                return failure("Invalid credential status: entry purpose '" + purpose
+                    + "' does not match the status list purpose '" + list.purpose() + "'");
+            }
+            if (index < 0 || index >= list.size()) {
+                return failure("Invalid credential status: index " + index + " is outside the status list");
+            }
+            if (list.isSet(index)) {
+                logger.debug("Credential {} has {} bit set at {}[{}]", credential.id(), purpose, url, index);
+                return failure(switch (purpose) {
+                    case "revocation" -> "Credential has been revoked by its issuer";
+                    case "suspension" -> "Credential is suspended by its issuer";
+                    default -> "Credential status '" + purpose + "' is set by its issuer";
+                });
+            }
+            return ValidationResult.success(ValidationResult.ValidationType.REVOCATION);
+        } catch (IOException e) {
+            logger.warn("Status list check failed for credential {}: {}", credential.id(), e.getMessage());
+            return failure("Credential status could not be checked: " + e.getMessage());
+        }
+    }
+
+    private static ValidationResult failure(String message) {
+        return ValidationResult.failure(message, ValidationResult.ValidationType.REVOCATION);
+    }
+
+    @Override
+    public String getValidatorName() {
+        return "StatusListValidator";
+    }
+
+    @Override
+    public ValidationResult.ValidationType getValidationType() {
+        return ValidationResult.ValidationType.REVOCATION;
+    }
+
+    @Override
+    public ValidatorCost getCost() {
+        return ValidatorCost.EXPENSIVE;
+    }
+}
@@ -1,5 +1,7 @@
 package com.credguard.application.validation;
 
+import java.util.Arrays;
+
 /**
  * Represents the result of a validation check.
  */
@@ -8,9 +10,14 @@ public record ValidationResult(
     String errorMessage,
     ValidationType validationType
 ) {
+
+    // Success results carry no per-call state, so one shared instance per type suffices
+    private static final ValidationResult[] SUCCESSES = Arrays.stream(ValidationType.values())
+        .map(type -> new ValidationResult(true, null, type))
+        .toArray(ValidationResult[]::new);
     
     public static ValidationResult success(ValidationType type) {
-        return new ValidationResult(true, null, type);
+        return SUCCESSES[type.ordinal()];
     }
     
     public static ValidationResult failure(String errorMessage, ValidationType type) {
@@ -20,6 +27,7 @@ public record ValidationResult(
     public enum ValidationType {
         ISSUER_TRUST,
         EXPIRY,
-        SIGNATURE
+        SIGNATURE,
+        REVOCATION
     }
 }
@@ -0,0 +1,13 @@
+package com.credguard.application.validation;
+
+/**
+ * Relative cost of running a validator, used to schedule cheap checks first.
+ */
+public enum ValidatorCost {
+    /** In-memory checks on the credential itself. */
+    CHEAP,
+    /** Lookups against local indexes or caches. */
+    MODERATE,
+    /** Cryptography or checks that may block on network I/O. */
+    EXPENSIVE
+}
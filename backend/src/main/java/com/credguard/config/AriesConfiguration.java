@@ -3,6 +3,10 @@ package com.credguard.config;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
 
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+
 /**
  * Configuration properties for Aries Cloud Agent integration.
  */
@@ -18,6 +22,11 @@ public class AriesConfiguration {
     private String credentialDefinitionId;
     private String schemaId;
     private Connection connection = new Connection();
+    private ConnectionCache connectionCache = new ConnectionCache();
+    private InvitationPool invitationPool = new InvitationPool();
+    private Webhooks webhooks = new Webhooks();
+    private Revocation revocation = new Revocation();
+    private Routing routing = new Routing();
     
     // Getters and setters
     
@@ -37,6 +46,17 @@ public class AriesConfiguration {
         this.agentUrl = agentUrl;
     }
     
+    /**
+     * Returns the agents listed in {@code aries.agent-url}, which takes one URL or
+     * a comma-separated list.
+     */
+    public List<String> getAgentUrls() {
+        return Arrays.stream(agentUrl.split(","))
+                .map(String::trim)
+                .filter(url -> !url.isEmpty())
+                .toList();
+    }
+    
     public String getApiKey() {
         return apiKey;
     }
@@ -85,12 +105,57 @@ public class AriesConfiguration {
         this.connection = connection;
     }
     
+    public ConnectionCache getConnectionCache() {
+        return connectionCache;
+    }
+    
+    public void setConnectionCache(ConnectionCache connectionCache) {
+        this.connectionCache = connectionCache;
+    }
+    
+    public InvitationPool getInvitationPool() {
+        return invitationPool;
+    }
+    
+    public void setInvitationPool(InvitationPool invitationPool) {
+        this.invitationPool = invitationPool;
+    }
+    
+    public Webhooks getWebhooks() {
+        return webhooks;
+    }
+    
+    public void setWebhooks(Webhooks webhooks) {
+        this.webhooks = webhooks;
+    }
+    
+    public Revocation getRevocation() {
+        return revocation;
+    }
+    
+    public void setRevocation(Revocation revocation) {
+        this.revocation = revocation;
+    }
+    
+    public Routing getRouting() {
+        return routing;
+    }
+    
+    public void setRouting(Routing routing) {
+        this.routing = routing;
+    }
+    
     /**
      * Connection configuration for Aries agent.
      */
     public static class Connection {
         private int timeout = 30000; // 30 seconds
+        private int connectTimeout = 5000; // 5 seconds
         private int retries = 3;
+        private int retryBackoff = 200; // first retry waits up to 200ms
+        private int maxConnections = 200;
+        private int maxConnectionsPerRoute = 50;
+        private int idleTimeout = 30000; // 30 seconds
         private boolean autoAccept = true;
         
         public int getTimeout() {
@@ -101,6 +166,14 @@ public class AriesConfiguration {
             this.timeout = timeout;
         }
         
+        public int getConnectTimeout() {
+            return connectTimeout;
+        }
+        
+        public void setConnectTimeout(int connectTimeout) {
+            this.connectTimeout = connectTimeout;
+        }
+        
         public int getRetries() {
             return retries;
         }
@@ -109,6 +182,38 @@ public class AriesConfiguration {
             this.retries = retries;
         }
         
+        public int getRetryBackoff() {
+            return retryBackoff;
+        }
+        
+        public void setRetryBackoff(int retryBackoff) {
+            this.retryBackoff = retryBackoff;
+        }
+        
+        public int getMaxConnections() {
+            return maxConnections;
+        }
+        
+        public void setMaxConnections(int maxConnections) {
+            this.maxConnections = maxConnections;
+        }
+        
+        public int getMaxConnectionsPerRoute() {
+            return maxConnectionsPerRoute;
+        }
+        
+        public void setMaxConnectionsPerRoute(int maxConnectionsPerRoute) {
+            this.maxConnectionsPerRoute = maxConnectionsPerRoute;
+        }
+        
+        public int getIdleTimeout() {
+            return idleTimeout;
+        }
+        
+        public void setIdleTimeout(int idleTimeout) {
+            this.idleTimeout = idleTimeout;
+        }
+        
         public boolean isAutoAccept() {
             return autoAccept;
         }
@@ -117,4 +222,255 @@ public class AriesConfiguration {
             this.autoAccept = autoAccept;
         }
     }
-}
\ No newline at end of file
+    
+    /**
+     * Reuse of connections for repeat issuances to the same wallet.
+     */
+    public static class ConnectionCache {
+        private boolean enabled = true;
+        private Duration ttl = Duration.ofHours(24);
+        private Duration revalidateAfter = Duration.ofMinutes(5);
+        private int maxEntries = 10_000;
+        
+        public boolean isEnabled() {
+            return enabled;
+        }
+        
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+        
+        public Duration getTtl() {
+            return ttl;
+        }
+        
+        public void setTtl(Duration ttl) {
+            this.ttl = ttl;
+        }
+        
+        public Duration getRevalidateAfter() {
+            return revalidateAfter;
+        }
+        
+        public void setRevalidateAfter(Duration revalidateAfter) {
+            this.revalidateAfter = revalidateAfter;
+        }
+        
+        public int getMaxEntries() {
+            return maxEntries;
+        }
+        
+        public void setMaxEntries(int maxEntries) {
+            this.maxEntries = maxEntries;
+        }
+    }
+    
+    /**
+     * Connection invitations created ahead of demand for first-time wallets.
+     */
+    public static class InvitationPool {
+        private boolean enabled = true;
+        private int minSize = 2;
+        private int maxSize = 50;
+        private Duration refillInterval = Duration.ofSeconds(5);
+        private Duration leadTime = Duration.ofSeconds(30);
+        private Duration maxAge = Duration.ofMinutes(30);
+        private double smoothing = 0.3;
+        
+        public boolean isEnabled() {
+            return enabled;
+        }
+        
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+        
+        public int getMinSize() {
+            return minSize;
+        }
+        
+        public void setMinSize(int minSize) {
+            this.minSize = minSize;
+        }
+        
+        public int getMaxSize() {
+            return maxSize;
+        }
+        
+        public void setMaxSize(int maxSize) {
+            this.maxSize = maxSize;
+        }
+        
+        public Duration getRefillInterval() {
+            return refillInterval;
+        }
+        
+        public void setRefillInterval(Duration refillInterval) {
+            this.refillInterval = refillInterval;
+        }
+        
+        public Duration getLeadTime() {
+            return leadTime;
+        }
+        
+        public void setLeadTime(Duration leadTime) {
+            this.leadTime = leadTime;
+        }
+        
+        public Duration getMaxAge() {
+            return maxAge;
+        }
+        
+        public void setMaxAge(Duration maxAge) {
+            this.maxAge = maxAge;
+        }
+        
+        public double getSmoothing() {
+            return smoothing;
+        }
+        
+        public void setSmoothing(double smoothing) {
+            this.smoothing = smoothing;
+        }
+    }
+    
+    /**
+     * Event delivery from the agent. When enabled, offers are sent without
+     * {@code auto_issue} and the credential is sent once the agent reports the
+     * wallet's request through the webhook receiver. At most {@code max-tracked}
+     * exchanges and as many connections are followed in memory, each for up to
+     * {@code tracked-ttl} since its last event.
+     */
+    public static class Webhooks {
+        private boolean enabled = false;
+        private String apiKey;
+        private int maxTracked = 10_000;
+        private Duration trackedTtl = Duration.ofHours(1);
+        
+        public boolean isEnabled() {
+            return enabled;
+        }
+        
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+        
+        public String getApiKey() {
+            return apiKey;
+        }
+        
+        public void setApiKey(String apiKey) {
+            this.apiKey = apiKey;
+        }
+        
+        public int getMaxTracked() {
+            return maxTracked;
+        }
+        
+        public void setMaxTracked(int maxTracked) {
+            this.maxTracked = maxTracked;
+        }
+        
+        public Duration getTrackedTtl() {
+            return trackedTtl;
+        }
+        
+        public void setTrackedTtl(Duration trackedTtl) {
+            this.trackedTtl = trackedTtl;
+        }
+    }
+    
+    /**
+     * Revocations are sent to the agent unpublished and published together, every
+     * {@code publish-interval} or once {@code publish-batch-size} are pending.
+     */
+    public static class Revocation {
+        private Duration publishInterval = Duration.ofSeconds(30);
+        private int publishBatchSize = 500;
+        private int bulkMaxIds = 10_000;
+        private int bulkConcurrency = 16;
+        
+        public Duration getPublishInterval() {
+            return publishInterval;
+        }
+        
+        public void setPublishInterval(Duration publishInterval) {
+            this.publishInterval = publishInterval;
+        }
+        
+        public int getPublishBatchSize() {
+            return publishBatchSize;
+        }
+        
+        public void setPublishBatchSize(int publishBatchSize) {
+            this.publishBatchSize = publishBatchSize;
+        }
+        
+        public int getBulkMaxIds() {
+            return bulkMaxIds;
+        }
+        
+        public void setBulkMaxIds(int bulkMaxIds) {
+            this.bulkMaxIds = bulkMaxIds;
+        }
+        
+        public int getBulkConcurrency() {
+            return bulkConcurrency;
+        }
+        
+        public void setBulkConcurrency(int bulkConcurrency) {
+            this.bulkConcurrency = bulkConcurrency;
+        }
+    }
+    
+    /**
+     * Routing of calls across several agents listed in {@code aries.agent-url}.
+     */
+    public static class Routing {
+        private Duration healthInterval = Duration.ofSeconds(5);
+        private Duration healthTimeout = Duration.ofSeconds(2);
+        private int virtualNodes = 128;
+        private boolean sharedWallet = false;
+        private int maxTrackedIds = 100_000;
+        
+        public Duration getHealthInterval() {
+            return healthInterval;
+        }
+        
+        public void setHealthInterval(Duration healthInterval) {
+            this.healthInterval = healthInterval;
+        }
+        
+        public Duration getHealthTimeout() {
+            return healthTimeout;
+        }
+        
+        public void setHealthTimeout(Duration healthTimeout) {
+            this.healthTimeout = healthTimeout;
+        }
+        
+        public int getVirtualNodes() {
+            return virtualNodes;
+        }
+        
+        public void setVirtualNodes(int virtualNodes) {
+            this.virtualNodes = virtualNodes;
+        }
+        
+        public boolean isSharedWallet() {
+            return sharedWallet;
+        }
+        
+        public void setSharedWallet(boolean sharedWallet) {
+            this.sharedWallet = sharedWallet;
+        }
+        
+        public int getMaxTrackedIds() {
+            return maxTrackedIds;
+        }
+        
+        public void setMaxTrackedIds(int maxTrackedIds) {
+            this.maxTrackedIds = maxTrackedIds;
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.credguard.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration properties for the embedded store of issued credentials.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "credential-store")
+public class CredentialStoreConfiguration {
+
+    private String file;
+    private int cacheSizeMb = 16;
+
+    public String getFile() {
+        return file;
+    }
+
+    public void setFile(String file) {
+        this.file = file;
+    }
+
+    public int getCacheSizeMb() {
+        return cacheSizeMb;
+    }
+
+    public void setCacheSizeMb(int cacheSizeMb) {
+        this.cacheSizeMb = cacheSizeMb;
+    }
+}
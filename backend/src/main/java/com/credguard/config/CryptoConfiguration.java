@@ -0,0 +1,127 @@
+package com.credguard.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for signature verification and issuer key resolution.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "crypto")
+public class CryptoConfiguration {
+
+    private Jwks jwks = new Jwks();
+    private TrustStore trustStore = new TrustStore();
+
+    public Jwks getJwks() {
+        return jwks;
+    }
+
+    public void setJwks(Jwks jwks) {
+        this.jwks = jwks;
+    }
+
+    public TrustStore getTrustStore() {
+        return trustStore;
+    }
+
+    public void setTrustStore(TrustStore trustStore) {
+        this.trustStore = trustStore;
+    }
+
+    /**
+     * Remote JWKS fetching and caching configuration.
+     */
+    public static class Jwks {
+        private Duration ttl = Duration.ofMinutes(15);
+        private Duration refreshAhead = Duration.ofMinutes(2);
+        private Duration negativeTtl = Duration.ofSeconds(30);
+        private int maxEntries = 500;
+        private int maxVerifiers = 2_000;
+        private Duration connectTimeout = Duration.ofSeconds(2);
+        private Duration readTimeout = Duration.ofSeconds(5);
+
+        public Duration getTtl() {
+            return ttl;
+        }
+
+        public void setTtl(Duration ttl) {
+            this.ttl = ttl;
+        }
+
+        public Duration getRefreshAhead() {
+            return refreshAhead;
+        }
+
+        public void setRefreshAhead(Duration refreshAhead) {
+            this.refreshAhead = refreshAhead;
+        }
+
+        public Duration getNegativeTtl() {
+            return negativeTtl;
+        }
+
+        public void setNegativeTtl(Duration negativeTtl) {
+            this.negativeTtl = negativeTtl;
+        }
+
+        public int getMaxEntries() {
+            return maxEntries;
+        }
+
+        public void setMaxEntries(int maxEntries) {
+            this.maxEntries = maxEntries;
+        }
+
+        public int getMaxVerifiers() {
+            return maxVerifiers;
+        }
+
+        public void setMaxVerifiers(int maxVerifiers) {
+            this.maxVerifiers = maxVerifiers;
+        }
+
+        public Duration getConnectTimeout() {
+            return connectTimeout;
+        }
+
+        public void setConnectTimeout(Duration connectTimeout) {
+            this.connectTimeout = connectTimeout;
+        }
+
+        public Duration getReadTimeout() {
+            return readTimeout;
+        }
+
+        public void setReadTimeout(Duration readTimeout) {
+            this.readTimeout = readTimeout;
+        }
+    }
+
+    /**
+     * Local directory of issuer keys (JWKS JSON and PEM files) consulted before
+     * any remote JWKS endpoint.
+     */
+    public static class TrustStore {
+        private String directory;
+        private boolean watch = true;
+
+        public String getDirectory() {
+            return directory;
+        }
+
+        public void setDirectory(String directory) {
+            this.directory = directory;
+        }
+
+        public boolean isWatch() {
+            return watch;
+        }
+
+        public void setWatch(boolean watch) {
+            this.watch = watch;
+        }
+    }
+}
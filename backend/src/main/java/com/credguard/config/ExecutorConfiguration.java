@@ -0,0 +1,99 @@
+package com.credguard.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * Executors for application-level concurrency. Virtual threads are used when
+ * {@code spring.threads.virtual.enabled} is set and the JVM supports them (Java 21+);
+ * otherwise a bounded platform thread pool is used.
+ */
+@Configuration
+public class ExecutorConfiguration {
+
+    private static final Logger logger = LoggerFactory.getLogger(ExecutorConfiguration.class);
+
+    /**
+     * Executor for running credential validators concurrently.
+     */
+    @Bean
+    public AsyncTaskExecutor verificationExecutor(Environment environment) {
+        return createExecutor(environment, "verify-", 32);
+    }
+
+    /**
+     * Executor for batch verification items. Kept separate from the validator
+     * executor so batch items waiting on their validators cannot starve them.
+     */
+    @Bean
+    public AsyncTaskExecutor batchVerificationExecutor(Environment environment,
+                                                       VerificationConfiguration verificationConfiguration) {
+        return createExecutor(environment, "verify-batch-", verificationConfiguration.getBatch().getMaxConcurrency());
+    }
+
+    /**
+     * Executor for asynchronous credential issuance jobs. Admission and the number
+     * of jobs running at once are limited by the job service.
+     */
+    @Bean
+    public AsyncTaskExecutor issuanceExecutor(Environment environment,
+                                              IssuanceConfiguration issuanceConfiguration) {
+        return createExecutor(environment, "issuance-", issuanceConfiguration.getJobs().getMaxConcurrency());
+    }
+
+    /**
+     * Executor for the steps of a single issuance that run side by side, such as
+     * document parsing and wallet connection. Separate from the job executor so
+     * jobs waiting on their steps cannot starve them.
+     */
+    @Bean
+    public AsyncTaskExecutor issuanceStageExecutor(Environment environment,
+                                                   IssuanceConfiguration issuanceConfiguration) {
+        return createExecutor(environment, "issuance-stage-", 2 * issuanceConfiguration.getJobs().getMaxConcurrency());
+    }
+
+    /**
+     * Executor that writes server-sent events to subscribers. Each subscriber's
+     * events are written in order by one task at a time, so a slow client only
+     * holds up its own stream.
+     */
+    @Bean
+    public AsyncTaskExecutor issuanceEventExecutor(Environment environment) {
+        return createExecutor(environment, "issuance-events-", 16);
+    }
+
+    /**
+     * Executor for the agent calls of a bulk revocation. The revocation service
+     * limits how many run at once.
+     */
+    @Bean
+    public AsyncTaskExecutor revocationExecutor(Environment environment, AriesConfiguration ariesConfiguration) {
+        return createExecutor(environment, "revocation-", ariesConfiguration.getRevocation().getBulkConcurrency());
+    }
+
+    static AsyncTaskExecutor createExecutor(Environment environment, String threadNamePrefix, int platformPoolSize) {
+        if (Threading.VIRTUAL.isActive(environment)) {
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(threadNamePrefix);
+            executor.setVirtualThreads(true);
+            logger.info("Executor {} uses virtual threads", threadNamePrefix);
+            return executor;
+        }
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix(threadNamePrefix);
+        executor.setCorePoolSize(platformPoolSize);
+        executor.setMaxPoolSize(platformPoolSize);
+        executor.setAllowCoreThreadTimeOut(true);
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        executor.initialize();
+        logger.info("Executor {} uses a pool of {} platform threads", threadNamePrefix, platformPoolSize);
+        return executor;
+    }
+}
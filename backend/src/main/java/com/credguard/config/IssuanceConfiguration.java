@@ -0,0 +1,189 @@
+package com.credguard.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for credential issuance.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "issuance")
+public class IssuanceConfiguration {
+
+    private Jobs jobs = new Jobs();
+    private Outbox outbox = new Outbox();
+    private Stages stages = new Stages();
+    private Events events = new Events();
+
+    public Jobs getJobs() {
+        return jobs;
+    }
+
+    public void setJobs(Jobs jobs) {
+        this.jobs = jobs;
+    }
+
+    public Outbox getOutbox() {
+        return outbox;
+    }
+
+    public void setOutbox(Outbox outbox) {
+        this.outbox = outbox;
+    }
+
+    public Stages getStages() {
+        return stages;
+    }
+
+    public void setStages(Stages stages) {
+        this.stages = stages;
+    }
+
+    public Events getEvents() {
+        return events;
+    }
+
+    public void setEvents(Events events) {
+        this.events = events;
+    }
+
+    /**
+     * Limits for asynchronous issuance jobs.
+     */
+    public static class Jobs {
+        /** Jobs running at the same time. */
+        private int maxConcurrency = 8;
+        /** Jobs accepted but waiting for a slot; further submissions are rejected. */
+        private int queueCapacity = 256;
+        /** How long finished jobs can still be queried. */
+        private Duration retention = Duration.ofHours(1);
+        /** How long shutdown waits for active jobs before leaving them to the outbox. */
+        private Duration shutdownTimeout = Duration.ofSeconds(30);
+
+        public int getMaxConcurrency() {
+            return maxConcurrency;
+        }
+
+        public void setMaxConcurrency(int maxConcurrency) {
+            this.maxConcurrency = maxConcurrency;
+        }
+
+        public int getQueueCapacity() {
+            return queueCapacity;
+        }
+
+        public void setQueueCapacity(int queueCapacity) {
+            this.queueCapacity = queueCapacity;
+        }
+
+        public Duration getRetention() {
+            return retention;
+        }
+
+        public void setRetention(Duration retention) {
+            this.retention = retention;
+        }
+
+        public Duration getShutdownTimeout() {
+            return shutdownTimeout;
+        }
+
+        public void setShutdownTimeout(Duration shutdownTimeout) {
+            this.shutdownTimeout = shutdownTimeout;
+        }
+    }
+
+    /**
+     * Journal of accepted jobs that are replayed after a restart.
+     */
+    public static class Outbox {
+        /** Journal file; empty keeps accepted jobs in memory only. */
+        private String file;
+        /** How often completed jobs are dropped from the journal. */
+        private Duration compactInterval = Duration.ofMinutes(10);
+
+        public String getFile() {
+            return file;
+        }
+
+        public void setFile(String file) {
+            this.file = file;
+        }
+
+        public Duration getCompactInterval() {
+            return compactInterval;
+        }
+
+        public void setCompactInterval(Duration compactInterval) {
+            this.compactInterval = compactInterval;
+        }
+    }
+
+    /**
+     * Time limits for the individual steps of one issuance.
+     */
+    public static class Stages {
+        private Duration parseTimeout = Duration.ofSeconds(90);
+        private Duration connectionTimeout = Duration.ofSeconds(30);
+        private Duration offerTimeout = Duration.ofSeconds(30);
+
+        public Duration getParseTimeout() {
+            return parseTimeout;
+        }
+
+        public void setParseTimeout(Duration parseTimeout) {
+            this.parseTimeout = parseTimeout;
+        }
+
+        public Duration getConnectionTimeout() {
+            return connectionTimeout;
+        }
+
+        public void setConnectionTimeout(Duration connectionTimeout) {
+            this.connectionTimeout = connectionTimeout;
+        }
+
+        public Duration getOfferTimeout() {
+            return offerTimeout;
+        }
+
+        public void setOfferTimeout(Duration offerTimeout) {
+            this.offerTimeout = offerTimeout;
+        }
+    }
+
+    /**
+     * Server-sent event streams of job and exchange progress.
+     */
+    public static class Events {
+        private Duration heartbeatInterval = Duration.ofSeconds(15);
+        private Duration timeout = Duration.ofMinutes(30);
+        private int maxSubscribers = 50_000;
+
+        public Duration getHeartbeatInterval() {
+            return heartbeatInterval;
+        }
+
+        public void setHeartbeatInterval(Duration heartbeatInterval) {
+            this.heartbeatInterval = heartbeatInterval;
+        }
+
+        public Duration getTimeout() {
+            return timeout;
+        }
+
+        public void setTimeout(Duration timeout) {
+            this.timeout = timeout;
+        }
+
+        public int getMaxSubscribers() {
+            return maxSubscribers;
+        }
+
+        public void setMaxSubscribers(int maxSubscribers) {
+            this.maxSubscribers = maxSubscribers;
+        }
+    }
+}
@@ -0,0 +1,193 @@
+package com.credguard.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Configuration properties for revocation: the local revoked-credential index,
+ * remote status lists published by issuers and the status lists CredGuard
+ * publishes for the credentials it issues.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "revocation")
+public class RevocationConfiguration {
+
+    private String snapshotFile;
+    private int expectedRevocations = 1_000_000;
+    private double falsePositiveRate = 0.01;
+    private StatusList statusList = new StatusList();
+    private Publication publication = new Publication();
+
+    public String getSnapshotFile() {
+        return snapshotFile;
+    }
+
+    public void setSnapshotFile(String snapshotFile) {
+        this.snapshotFile = snapshotFile;
+    }
+
+    public int getExpectedRevocations() {
+        return expectedRevocations;
+    }
+
+    public void setExpectedRevocations(int expectedRevocations) {
+        this.expectedRevocations = expectedRevocations;
+    }
+
+    public double getFalsePositiveRate() {
+        return falsePositiveRate;
+    }
+
+    public void setFalsePositiveRate(double falsePositiveRate) {
+        this.falsePositiveRate = falsePositiveRate;
+    }
+
+    public StatusList getStatusList() {
+        return statusList;
+    }
+
+    public void setStatusList(StatusList statusList) {
+        this.statusList = statusList;
+    }
+
+    public Publication getPublication() {
+        return publication;
+    }
+
+    public void setPublication(Publication publication) {
+        this.publication = publication;
+    }
+
+    /**
+     * Remote status list (StatusList2021 / Bitstring Status List) fetching and caching.
+     */
+    public static class StatusList {
+        private Duration ttl = Duration.ofMinutes(5);
+        private Duration negativeTtl = Duration.ofSeconds(30);
+        private int maxEntries = 100;
+        private int maxListBytes = 16 * 1024 * 1024;
+        private int maxResponseBytes = 4 * 1024 * 1024;
+        private Duration connectTimeout = Duration.ofSeconds(2);
+        private Duration readTimeout = Duration.ofSeconds(5);
+        private List<String> allowedHosts = new ArrayList<>();
+        private boolean allowPrivateAddresses = false;
+
+        public Duration getTtl() {
+            return ttl;
+        }
+
+        public void setTtl(Duration ttl) {
+            this.ttl = ttl;
+        }
+
+        public Duration getNegativeTtl() {
+            return negativeTtl;
+        }
+
+        public void setNegativeTtl(Duration negativeTtl) {
+            this.negativeTtl = negativeTtl;
+        }
+
+        public int getMaxEntries() {
+            return maxEntries;
+        }
+
+        public void setMaxEntries(int maxEntries) {
+            this.maxEntries = maxEntries;
+        }
+
+        public int getMaxListBytes() {
+            return maxListBytes;
+        }
+
+        public void setMaxListBytes(int maxListBytes) {
+            this.maxListBytes = maxListBytes;
+        }
+
+        public int getMaxResponseBytes() {
+            return maxResponseBytes;
+        }
+
+        public void setMaxResponseBytes(int maxResponseBytes) {
+            this.maxResponseBytes = maxResponseBytes;
+        }
+
+        public Duration getConnectTimeout() {
+            return connectTimeout;
+        }
+
+        public void setConnectTimeout(Duration connectTimeout) {
+            this.connectTimeout = connectTimeout;
+        }
+
+        public Duration getReadTimeout() {
+            return readTimeout;
+        }
+
+        public void setReadTimeout(Duration readTimeout) {
+            this.readTimeout = readTimeout;
+        }
+
+        public List<String> getAllowedHosts() {
+            return allowedHosts;
+        }
+
+        public void setAllowedHosts(List<String> allowedHosts) {
+            this.allowedHosts = allowedHosts;
+        }
+
+        public boolean isAllowPrivateAddresses() {
+            return allowPrivateAddresses;
+        }
+
+        public void setAllowPrivateAddresses(boolean allowPrivateAddresses) {
+            this.allowPrivateAddresses = allowPrivateAddresses;
+        }
+    }
+
+    /**
+     * Status lists published for credentials issued by CredGuard.
+     */
+    public static class Publication {
+        private String baseUrl = "http://localhost:8080/api/status-lists";
+        private int listSize = 131_072;
+        private String stateFile;
+        private Duration cacheMaxAge = Duration.ofMinutes(1);
+
+        public String getBaseUrl() {
+            return baseUrl;
+        }
+
+        public void setBaseUrl(String baseUrl) {
+            this.baseUrl = baseUrl;
+        }
+
+        public int getListSize() {
+            return listSize;
+        }
+
+        public void setListSize(int listSize) {
+            this.listSize = listSize;
+        }
+
+        public String getStateFile() {
+            return stateFile;
+        }
+
+        public void setStateFile(String stateFile) {
+            this.stateFile = stateFile;
+        }
+
+        public Duration getCacheMaxAge() {
+            return cacheMaxAge;
+        }
+
+        public void setCacheMaxAge(Duration cacheMaxAge) {
+            this.cacheMaxAge = cacheMaxAge;
+        }
+    }
+}
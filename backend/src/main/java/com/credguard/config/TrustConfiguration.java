@@ -0,0 +1,43 @@
+package com.credguard.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Configuration properties for the trusted issuer registry.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "trust")
+public class TrustConfiguration {
+
+    private List<String> issuers = new ArrayList<>();
+    private String registryFile;
+    private boolean watch = true;
+
+    public List<String> getIssuers() {
+        return issuers;
+    }
+
+    public void setIssuers(List<String> issuers) {
+        this.issuers = issuers;
+    }
+
+    public String getRegistryFile() {
+        return registryFile;
+    }
+
+    public void setRegistryFile(String registryFile) {
+        this.registryFile = registryFile;
+    }
+
+    public boolean isWatch() {
+        return watch;
+    }
+
+    public void setWatch(boolean watch) {
+        this.watch = watch;
+    }
+}
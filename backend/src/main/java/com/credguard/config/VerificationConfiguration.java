@@ -0,0 +1,109 @@
+package com.credguard.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for the credential verification pipeline.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "verification")
+public class VerificationConfiguration {
+
+    private ExecutionMode executionMode = ExecutionMode.SEQUENTIAL;
+    private Duration deadline = Duration.ofSeconds(5);
+    private ResultCache resultCache = new ResultCache();
+    private Batch batch = new Batch();
+
+    public ExecutionMode getExecutionMode() {
+        return executionMode;
+    }
+
+    public void setExecutionMode(ExecutionMode executionMode) {
+        this.executionMode = executionMode;
+    }
+
+    public Duration getDeadline() {
+        return deadline;
+    }
+
+    public void setDeadline(Duration deadline) {
+        this.deadline = deadline;
+    }
+
+    public ResultCache getResultCache() {
+        return resultCache;
+    }
+
+    public void setResultCache(ResultCache resultCache) {
+        this.resultCache = resultCache;
+    }
+
+    public Batch getBatch() {
+        return batch;
+    }
+
+    public void setBatch(Batch batch) {
+        this.batch = batch;
+    }
+
+    /**
+     * Cache of successful verification results keyed by the canonical credential hash.
+     */
+    public static class ResultCache {
+        private boolean enabled = true;
+        private Duration ttl = Duration.ofMinutes(10);
+        private int maxEntries = 10_000;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public Duration getTtl() {
+            return ttl;
+        }
+
+        public void setTtl(Duration ttl) {
+            this.ttl = ttl;
+        }
+
+        public int getMaxEntries() {
+            return maxEntries;
+        }
+
+        public void setMaxEntries(int maxEntries) {
+            this.maxEntries = maxEntries;
+        }
+    }
+
+    /**
+     * Streaming batch verification limits.
+     */
+    public static class Batch {
+        private int maxConcurrency = 16;
+
+        public int getMaxConcurrency() {
+            return maxConcurrency;
+        }
+
+        public void setMaxConcurrency(int maxConcurrency) {
+            this.maxConcurrency = maxConcurrency;
+        }
+    }
+
+    /**
+     * How validators are scheduled for a single verification.
+     */
+    public enum ExecutionMode {
+        /** Validators run one after another on the calling thread. */
+        SEQUENTIAL,
+        /** Validators run concurrently and are joined under a per-verification deadline. */
+        PARALLEL
+    }
+}
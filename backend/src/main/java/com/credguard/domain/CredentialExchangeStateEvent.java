@@ -0,0 +1,19 @@
+package com.credguard.domain;
+
+import java.time.Instant;
+
+/**
+ * Application event published when the Aries agent reports that a credential
+ * exchange moved to a new state.
+ */
+public record CredentialExchangeStateEvent(
+        String credentialExchangeId,
+        String state,
+        boolean terminal,
+        Instant occurredAt
+) {
+
+    public static CredentialExchangeStateEvent now(String credentialExchangeId, String state, boolean terminal) {
+        return new CredentialExchangeStateEvent(credentialExchangeId, state, terminal, Instant.now());
+    }
+}
@@ -0,0 +1,16 @@
+package com.credguard.domain;
+
+import java.time.Instant;
+
+/**
+ * Application event published after a credential has been revoked.
+ */
+public record CredentialRevokedEvent(
+        String credentialId,
+        Instant revokedAt
+) {
+
+    public static CredentialRevokedEvent now(String credentialId) {
+        return new CredentialRevokedEvent(credentialId, Instant.now());
+    }
+}
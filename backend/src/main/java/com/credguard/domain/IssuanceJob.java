@@ -0,0 +1,35 @@
+package com.credguard.domain;
+
+import java.time.Instant;
+
+/**
+ * Snapshot of an asynchronous credential issuance job.
+ */
+public record IssuanceJob(
+        String id,
+        Stage stage,
+        Instant submittedAt,
+        Instant updatedAt,
+        String fileName,
+        String walletDid,
+        String credentialId,
+        String credentialExchangeId,
+        String errorMessage
+) {
+
+    /**
+     * Progress of a job through the issuance workflow.
+     */
+    public enum Stage {
+        QUEUED,
+        PARSING,
+        CONNECTING,
+        OFFERING,
+        ISSUED,
+        FAILED;
+
+        public boolean isTerminal() {
+            return this == ISSUED || this == FAILED;
+        }
+    }
+}
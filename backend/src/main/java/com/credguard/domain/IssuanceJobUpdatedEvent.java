@@ -0,0 +1,10 @@
+package com.credguard.domain;
+
+/**
+ * Application event published each time an asynchronous issuance job changes
+ * stage.
+ */
+public record IssuanceJobUpdatedEvent(
+        IssuanceJob job
+) {
+}
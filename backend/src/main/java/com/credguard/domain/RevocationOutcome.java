@@ -0,0 +1,19 @@
+package com.credguard.domain;
+
+/**
+ * Outcome of revoking one credential in a bulk revocation.
+ */
+public record RevocationOutcome(
+        String credentialId,
+        boolean revoked,
+        String message
+) {
+
+    public static RevocationOutcome revoked(String credentialId, String message) {
+        return new RevocationOutcome(credentialId, true, message);
+    }
+
+    public static RevocationOutcome failed(String credentialId, String message) {
+        return new RevocationOutcome(credentialId, false, message);
+    }
+}
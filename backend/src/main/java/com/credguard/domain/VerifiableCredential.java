@@ -48,7 +48,10 @@ public record VerifiableCredential(
         String statusMessage,
         
         // Reference to the source document
-        String sourceDocumentId
+        String sourceDocumentId,
+        
+        // Status list entry verifiers use to check revocation, null until assigned
+        Map<String, Object> credentialStatus
 ) {
     
     /**
@@ -122,7 +125,8 @@ public record VerifiableCredential(
             walletDid,
             IssuanceStatus.CREATED,
             "Credential created from document: " + document.fileName(),
-            document.id()
+            document.id(),
+            null
         );
     }
     
@@ -143,7 +147,8 @@ public record VerifiableCredential(
             this.walletDid,
             newStatus,
             message,
-            this.sourceDocumentId
+            this.sourceDocumentId,
+            this.credentialStatus
         );
     }
     
@@ -164,7 +169,30 @@ public record VerifiableCredential(
             this.walletDid,
             this.issuanceStatus,
             this.statusMessage,
-            this.sourceDocumentId
+            this.sourceDocumentId,
+            this.credentialStatus
+        );
+    }
+    
+    /**
+     * Creates a new instance with the given status list entry.
+     */
+    public VerifiableCredential withCredentialStatus(Map<String, Object> newCredentialStatus) {
+        return new VerifiableCredential(
+            this.id,
+            this.context,
+            this.type,
+            this.issuer,
+            this.credentialSubject,
+            this.issuanceDate,
+            this.expirationDate,
+            this.proof,
+            this.connectionId,
+            this.walletDid,
+            this.issuanceStatus,
+            this.statusMessage,
+            this.sourceDocumentId,
+            newCredentialStatus
         );
     }
     
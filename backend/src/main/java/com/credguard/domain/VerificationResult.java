@@ -27,7 +27,7 @@ public record VerificationResult(
                 signatureValid,
                 notExpired,
                 List.of(),
-                warnings != null ? List.copyOf(warnings) : List.of(),
+                immutableOrEmpty(warnings),
                 explanation,
                 credential
         );
@@ -45,9 +45,31 @@ public record VerificationResult(
                 false,
                 false,
                 errors != null ? List.copyOf(errors) : List.of("Unknown error"),
-                warnings != null ? List.copyOf(warnings) : List.of(),
+                immutableOrEmpty(warnings),
                 explanation,
                 credential
         );
     }
+
+    /**
+     * Returns the explanation supplied at construction, or derives one from the
+     * outcome. Deriving it on demand keeps string building off the verification
+     * path; it only happens when a response is actually rendered.
+     */
+    @Override
+    public String explanation() {
+        if (explanation != null) {
+            return explanation;
+        }
+        String credentialId = credential != null ? credential.id() : "unknown";
+        if (valid) {
+            String issuerName = credential != null ? credential.issuer().displayName() : "unknown";
+            return "Credential '" + credentialId + "' issued by '" + issuerName + "' is valid. All checks passed.";
+        }
+        return "Credential '" + credentialId + "' verification failed. Issues: " + String.join("; ", errors);
+    }
+
+    private static List<String> immutableOrEmpty(List<String> values) {
+        return values == null || values.isEmpty() ? List.of() : List.copyOf(values);
+    }
 }
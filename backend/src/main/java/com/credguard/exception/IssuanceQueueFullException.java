@@ -0,0 +1,12 @@
+package com.credguard.exception;
+
+/**
+ * Exception thrown when an asynchronous issuance job cannot be accepted because
+ * the job queue is full.
+ */
+public class IssuanceQueueFullException extends RuntimeException {
+
+    public IssuanceQueueFullException(String message) {
+        super(message);
+    }
+}
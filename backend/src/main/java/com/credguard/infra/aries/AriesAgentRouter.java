@@ -0,0 +1,312 @@
+package com.credguard.infra.aries;
+
+import com.credguard.config.AriesConfiguration;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Chooses which of the agents listed in {@code aries.agent-url} serves each call.
+ *
+ * <p>Connections are created on the agent that owns the wallet on a consistent
+ * hash ring, so a wallet keeps landing on the same agent and adding an agent
+ * moves only a share of wallets. Invitations not yet bound to a wallet go to the
+ * least-loaded agent, measured by calls in flight. A connection, exchange or
+ * credential is remembered against the agent that created it, and later calls
+ * for it go back there. Offers go to the agent holding their connection, unless
+ * {@code aries.routing.shared-wallet} says every agent can serve every
+ * connection, in which case they go to the least-loaded agent. When the agent
+ * holding a connection or exchange has been forgotten, or the connection came
+ * from a pooled invitation created on the least-loaded agent, callers try each
+ * candidate in turn.
+ *
+ * <p>With more than one agent, each is probed at {@code /status/live} every
+ * {@code aries.routing.health-interval}. Unhealthy agents are skipped while a
+ * healthy one is available.
+ */
+@Component
+public class AriesAgentRouter {
+
+    private static final Logger logger = LoggerFactory.getLogger(AriesAgentRouter.class);
+
+    static final String CONNECTION = "connection:";
+    static final String EXCHANGE = "exchange:";
+    static final String CREDENTIAL = "credential:";
+
+    private final AriesConfiguration ariesConfiguration;
+    private final AriesConfiguration.Routing config;
+    private final List<Agent> agents;
+    private final NavigableMap<Long, Agent> ring = new TreeMap<>();
+    private final Map<String, Agent> owners;
+    private final AtomicInteger nextAgent = new AtomicInteger();
+    private final HttpClient probeClient;
+    private ScheduledExecutorService prober;
+
+    public AriesAgentRouter(AriesConfiguration ariesConfiguration, MeterRegistry meterRegistry) {
+        this.ariesConfiguration = ariesConfiguration;
+        this.config = ariesConfiguration.getRouting();
+        this.agents = ariesConfiguration.getAgentUrls().stream().map(Agent::new).toList();
+        if (agents.isEmpty()) {
+            throw new IllegalStateException("aries.agent-url must name at least one agent");
+        }
+        for (Agent agent : agents) {
+            for (int node = 0; node < config.getVirtualNodes(); node++) {
+                ring.put(hash(agent.url() + "#" + node), agent);
+            }
+            Gauge.builder("credguard.aries.agent.in-flight", agent, Agent::inFlight)
+                    .description("Calls in flight to each Aries agent")
+                    .tag("agent", agent.url())
+                    .register(meterRegistry);
+            Gauge.builder("credguard.aries.agent.healthy", agent, a -> a.healthy() ? 1 : 0)
+                    .description("Whether the last health probe of each Aries agent succeeded")
+                    .tag("agent", agent.url())
+                    .register(meterRegistry);
+        }
+
+        int maxTrackedIds = config.getMaxTrackedIds();
+        this.owners = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Agent> eldest) {
+                return size() > maxTrackedIds;
+            }
+        });
+        this.probeClient = HttpClient.newBuilder()
+                .connectTimeout(config.getHealthTimeout())
+                .build();
+    }
+
+    @PostConstruct
+    public void initialize() {
+        if (ariesConfiguration.isMockMode() || agents.size() == 1) {
+            return;
+        }
+        logger.info("Routing Aries calls across {} agents", agents.size());
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("aries-health-");
+        threadFactory.setDaemon(true);
+        prober = Executors.newSingleThreadScheduledExecutor(threadFactory);
+        long interval = config.getHealthInterval().toMillis();
+        prober.scheduleWithFixedDelay(this::probe, 0, interval, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (prober != null) {
+            prober.shutdownNow();
+        }
+    }
+
+    /**
+     * Returns the agent a connection for the wallet is created on: its owner on
+     * the hash ring, or the next healthy agent after it. An invitation with no
+     * wallet yet goes to the least-loaded agent.
+     */
+    public Agent forWallet(String walletDid) {
+        if (walletDid == null) {
+            return leastLoaded();
+        }
+        Agent owner = null;
+        for (Agent agent : ringFrom(hash(walletDid))) {
+            if (owner == null) {
+                owner = agent;
+            }
+            if (agent.healthy()) {
+                return agent;
+            }
+        }
+        return owner;
+    }
+
+    /**
+     * Returns the agents to try, in order, for a credential offer on the
+     * connection: the agent holding it if known, otherwise the wallet's agent on
+     * the hash ring followed by the others, healthy agents first.
+     */
+    public List<Agent> forOffer(String connectionId, String walletDid) {
+        if (config.isSharedWallet()) {
+            return List.of(leastLoaded());
+        }
+        Optional<Agent> owner = owner(CONNECTION, connectionId);
+        if (owner.isPresent()) {
+            return List.of(owner.get());
+        }
+        Agent likely = forWallet(walletDid);
+        List<Agent> order = new ArrayList<>();
+        order.add(likely);
+        for (Agent agent : candidates(CONNECTION, connectionId)) {
+            if (agent != likely) {
+                order.add(agent);
+            }
+        }
+        return order;
+    }
+
+    /**
+     * Returns the healthy agent with the fewest calls in flight, taking turns
+     * between agents that are equally loaded.
+     */
+    public Agent leastLoaded() {
+        int start = Math.floorMod(nextAgent.getAndIncrement(), agents.size());
+        Agent best = null;
+        for (int i = 0; i < agents.size(); i++) {
+            Agent agent = agents.get((start + i) % agents.size());
+            if (best == null
+                    || agent.healthy() && !best.healthy()
+                    || agent.healthy() == best.healthy() && agent.inFlight() < best.inFlight()) {
+                best = agent;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Returns the agent that created the connection, exchange or credential, if
+     * it is still remembered.
+     */
+    public Optional<Agent> owner(String kind, String id) {
+        return id == null ? Optional.empty() : Optional.ofNullable(owners.get(kind + id));
+    }
+
+    /**
+     * Returns the agents to ask about an ID: its owner if known, otherwise all
+     * of them, healthy agents first.
+     */
+    public List<Agent> candidates(String kind, String id) {
+        return owner(kind, id).map(List::of).orElseGet(() -> agents.stream()
+                .sorted((a, b) -> Boolean.compare(b.healthy(), a.healthy()))
+                .toList());
+    }
+
+    public void assign(String kind, String id, Agent agent) {
+        if (id != null && agents.size() > 1) {
+            owners.put(kind + id, agent);
+        }
+    }
+
+    public List<Agent> agents() {
+        return agents;
+    }
+
+    /**
+     * Probes every agent once and records whether it answered.
+     */
+    void probe() {
+        for (Agent agent : agents) {
+            boolean healthy = isLive(agent);
+            if (agent.healthy != healthy) {
+                logger.warn("Aries agent {} is now {}", agent.url(), healthy ? "healthy" : "unhealthy");
+            }
+            agent.healthy = healthy;
+        }
+    }
+
+    private boolean isLive(Agent agent) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(agent.url() + "/status/live"))
+                .timeout(config.getHealthTimeout())
+                .GET();
+        String apiKey = ariesConfiguration.getApiKey();
+        if (apiKey != null && !apiKey.isBlank()) {
+            builder.header("X-API-Key", apiKey);
+        }
+        try {
+            int status = probeClient.send(builder.build(), HttpResponse.BodyHandlers.discarding()).statusCode();
+            return status >= 200 && status < 300;
+        } catch (IOException | IllegalArgumentException e) {
+            logger.debug("Health probe of {} failed: {}", agent.url(), e.getMessage());
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return agent.healthy();
+        }
+    }
+
+    private Iterable<Agent> ringFrom(long position) {
+        // Distinct agents in ring order, starting at the first node at or after the position
+        LinkedHashMap<Agent, Boolean> order = new LinkedHashMap<>();
+        for (Agent agent : ring.tailMap(position, true).values()) {
+            order.putIfAbsent(agent, true);
+        }
+        for (Agent agent : ring.headMap(position, false).values()) {
+            order.putIfAbsent(agent, true);
+        }
+        return order.keySet();
+    }
+
+    static long hash(String key) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(key.getBytes(StandardCharsets.UTF_8));
+            return ByteBuffer.wrap(digest).getLong();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * One agent, with the number of calls in flight to it and its last probed health.
+     */
+    public static final class Agent {
+        private final String url;
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private volatile boolean healthy = true;
+
+        private Agent(String url) {
+            this.url = url;
+        }
+
+        public String url() {
+            return url;
+        }
+
+        public int inFlight() {
+            return inFlight.get();
+        }
+
+        public boolean healthy() {
+            return healthy;
+        }
+
+        /**
+         * Runs a call to this agent, counting it as in flight while it runs.
+         */
+        public <T> T call(Supplier<T> request) {
+            inFlight.incrementAndGet();
+            try {
+                return request.get();
+            } finally {
+                inFlight.decrementAndGet();
+            }
+        }
+
+        @Override
+        public String toString() {
+            return url;
+        }
+    }
+}
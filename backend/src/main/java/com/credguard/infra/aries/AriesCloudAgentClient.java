@@ -12,7 +12,8 @@ public interface AriesCloudAgentClient {
     /**
      * Creates a new connection invitation for a mobile wallet.
      * 
-     * @param walletDid The DID of the wallet to connect to
+     * @param walletDid The DID of the wallet to connect to, or null for an
+     *                  invitation not yet bound to a wallet
      * @return Connection ID for tracking the connection
      */
     String createConnectionInvitation(String walletDid);
@@ -33,6 +34,15 @@ public interface AriesCloudAgentClient {
      */
     String sendCredentialOffer(VerifiableCredential credential);
     
+    /**
+     * Sends the credential for an exchange whose offer the wallet has requested.
+     * 
+     * @param credentialExchangeId The exchange ID returned when the offer was sent
+     * @param credential The credential to send
+     * @return Offer URL reported by the agent, or null if none
+     */
+    String sendCredential(String credentialExchangeId, VerifiableCredential credential);
+    
     /**
      * Checks the status of a credential exchange.
      * 
@@ -49,6 +59,23 @@ public interface AriesCloudAgentClient {
      */
     boolean revokeCredential(String credentialId);
     
+    /**
+     * Revokes a previously issued credential, optionally leaving the registry
+     * update pending until {@link #publishRevocations()}.
+     * 
+     * @param credentialId The ID of the credential to revoke
+     * @param publish Whether to publish the revocation immediately
+     * @return Success status of the revocation
+     */
+    boolean revokeCredential(String credentialId, boolean publish);
+    
+    /**
+     * Publishes all pending revocations in one registry update.
+     * 
+     * @return Success status of the publication
+     */
+    boolean publishRevocations();
+    
     /**
      * Gets the connection status with a wallet.
      * 
@@ -56,4 +83,12 @@ public interface AriesCloudAgentClient {
      * @return Connection status
      */
     String getConnectionStatus(String connectionId);
+    
+    /**
+     * Deletes a connection record from the agent that holds it.
+     * 
+     * @param connectionId The connection ID to delete
+     * @return Whether an agent deleted the connection
+     */
+    boolean deleteConnection(String connectionId);
 }
\ No newline at end of file
@@ -32,11 +32,15 @@ public class AriesCloudAgentClientImpl implements AriesCloudAgentClient {
     private final RestTemplate restTemplate;
     private final ObjectMapper objectMapper;
     private final AriesConfiguration ariesConfiguration;
+    private final AriesAgentRouter router;
 
-    public AriesCloudAgentClientImpl(AriesConfiguration ariesConfiguration) {
-        this.restTemplate = new RestTemplate();
+    public AriesCloudAgentClientImpl(AriesConfiguration ariesConfiguration,
+                                     AriesHttpTransport transport,
+                                     AriesAgentRouter router) {
+        this.restTemplate = transport.restTemplate();
         this.objectMapper = new ObjectMapper();
         this.ariesConfiguration = ariesConfiguration;
+        this.router = router;
     }
 
     @Override
@@ -48,7 +52,8 @@ public class AriesCloudAgentClientImpl implements AriesCloudAgentClient {
         }
         
         try {
-            String endpoint = ariesConfiguration.getAgentUrl() + "/connections/create-invitation";
+            AriesAgentRouter.Agent agent = router.forWallet(walletDid);
+            String endpoint = agent.url() + "/connections/create-invitation";
             
             Map<String, Object> requestBody = new HashMap<>();
             requestBody.put("my_label", "CredGuard Identity Issuer");
@@ -56,17 +61,18 @@ public class AriesCloudAgentClientImpl implements AriesCloudAgentClient {
             
             HttpEntity<Map<String, Object>> request = createAuthorizedRequest(requestBody);
             
-            ResponseEntity<String> response = restTemplate.exchange(
+            ResponseEntity<String> response = agent.call(() -> restTemplate.exchange(
                 endpoint,
                 HttpMethod.POST,
                 request,
                 String.class
-            );
+            ));
             
             JsonNode responseJson = objectMapper.readTree(response.getBody());
             String connectionId = responseJson.get("connection_id").asText();
+            router.assign(AriesAgentRouter.CONNECTION, connectionId, agent);
             
-            logger.info("Created connection invitation with ID: {}", connectionId);
+            logger.info("Created connection invitation with ID: {} on agent {}", connectionId, agent);
             return connectionId;
             
         } catch (Exception e) {
@@ -89,25 +95,21 @@ public class AriesCloudAgentClientImpl implements AriesCloudAgentClient {
             // Step 1: Send credential offer
             String credentialExchangeId = sendCredentialOffer(credential);
             
-            // Step 2: Wait for offer acceptance (in real implementation, this would be async)
-            // For now, we'll simulate immediate acceptance
-            
-            // Step 3: Issue the credential
-            String endpoint = ariesConfiguration.getAgentUrl() + 
-                "/issue-credential-2.0/records/" + credentialExchangeId + "/send-credential";
-            
-            Map<String, Object> requestBody = buildCredentialPayload(credential);
-            HttpEntity<Map<String, Object>> request = createAuthorizedRequest(requestBody);
-            
-            ResponseEntity<String> response = restTemplate.exchange(
-                endpoint,
-                HttpMethod.POST,
-                request,
-                String.class
-            );
+            // With webhooks, the credential is sent once the wallet's request arrives
+            if (ariesConfiguration.getWebhooks().isEnabled()) {
+                logger.info("Sent offer for credential: {}, awaiting request on exchange {}",
+                    credential.id(), credentialExchangeId);
+                return CredentialIssuanceResult.success(
+                    credential.withStatus(VerifiableCredential.IssuanceStatus.OFFER_SENT,
+                        "Credential offered, awaiting wallet request"),
+                    credentialExchangeId,
+                    null,
+                    System.currentTimeMillis() - startTime
+                );
+            }
             
-            JsonNode responseJson = objectMapper.readTree(response.getBody());
-            String offerUrl = responseJson.has("offer_url") ? responseJson.get("offer_url").asText() : null;
+            // Step 2: Without webhooks, assume immediate acceptance and issue the credential
+            String offerUrl = sendCredential(credentialExchangeId, credential);
             
             long processingTime = System.currentTimeMillis() - startTime;
             
@@ -140,35 +142,79 @@ public class AriesCloudAgentClientImpl implements AriesCloudAgentClient {
             return "mock-exchange-" + UUID.randomUUID().toString();
         }
         
-        try {
-            String endpoint = ariesConfiguration.getAgentUrl() + "/issue-credential-2.0/send-offer";
-            
-            Map<String, Object> requestBody = new HashMap<>();
-            requestBody.put("connection_id", credential.connectionId());
-            requestBody.put("auto_issue", true);
-            requestBody.put("auto_remove", false);
-            requestBody.put("credential_definition_id", ariesConfiguration.getCredentialDefinitionId());
-            requestBody.put("credential_proposal", buildCredentialProposal(credential));
-            
-            HttpEntity<Map<String, Object>> request = createAuthorizedRequest(requestBody);
-            
-            ResponseEntity<String> response = restTemplate.exchange(
-                endpoint,
-                HttpMethod.POST,
-                request,
-                String.class
-            );
-            
-            JsonNode responseJson = objectMapper.readTree(response.getBody());
-            String exchangeId = responseJson.get("credential_exchange_id").asText();
-            
-            logger.info("Sent credential offer with exchange ID: {}", exchangeId);
-            return exchangeId;
-            
-        } catch (Exception e) {
-            logger.error("Failed to send credential offer", e);
-            throw new CredentialIssuanceException("Failed to send credential offer: " + e.getMessage(), e);
+        Map<String, Object> requestBody = new HashMap<>();
+        requestBody.put("connection_id", credential.connectionId());
+        requestBody.put("auto_issue", !ariesConfiguration.getWebhooks().isEnabled());
+        requestBody.put("auto_remove", false);
+        requestBody.put("credential_definition_id", ariesConfiguration.getCredentialDefinitionId());
+        requestBody.put("credential_proposal", buildCredentialProposal(credential));
+        
+        HttpEntity<Map<String, Object>> request = createAuthorizedRequest(requestBody);
+        Exception lastFailure = null;
+        
+        // A connection whose agent is not remembered is offered on each agent until one holds it
+        for (AriesAgentRouter.Agent agent : router.forOffer(credential.connectionId(), credential.walletDid())) {
+            try {
+                ResponseEntity<String> response = agent.call(() -> restTemplate.exchange(
+                    agent.url() + "/issue-credential-2.0/send-offer",
+                    HttpMethod.POST,
+                    request,
+                    String.class
+                ));
+                
+                JsonNode responseJson = objectMapper.readTree(response.getBody());
+                String exchangeId = responseJson.get("credential_exchange_id").asText();
+                router.assign(AriesAgentRouter.CONNECTION, credential.connectionId(), agent);
+                router.assign(AriesAgentRouter.EXCHANGE, exchangeId, agent);
+                router.assign(AriesAgentRouter.CREDENTIAL, credential.id(), agent);
+                
+                logger.info("Sent credential offer with exchange ID: {} on agent {}", exchangeId, agent);
+                return exchangeId;
+                
+            } catch (Exception e) {
+                logger.debug("Credential offer on connection {} failed on agent {}: {}",
+                    credential.connectionId(), agent, e.getMessage());
+                lastFailure = e;
+            }
+        }
+        logger.error("Failed to send credential offer", lastFailure);
+        throw new CredentialIssuanceException("Failed to send credential offer: " + lastFailure.getMessage(), lastFailure);
+    }
+
+    @Override
+    public String sendCredential(String credentialExchangeId, VerifiableCredential credential) {
+        logger.info("Sending credential: {} on exchange: {}", credential.id(), credentialExchangeId);
+        
+        if (ariesConfiguration.isMockMode()) {
+            return "https://mock-agent.example.com/offer/" + credentialExchangeId;
+        }
+        
+        Map<String, Object> requestBody = buildCredentialPayload(credential);
+        HttpEntity<Map<String, Object>> request = createAuthorizedRequest(requestBody);
+        Exception lastFailure = null;
+        
+        // An exchange whose agent is not remembered is sent on each agent until one holds it
+        for (AriesAgentRouter.Agent agent : router.candidates(AriesAgentRouter.EXCHANGE, credentialExchangeId)) {
+            try {
+                ResponseEntity<String> response = agent.call(() -> restTemplate.exchange(
+                    agent.url() + "/issue-credential-2.0/records/" + credentialExchangeId + "/send-credential",
+                    HttpMethod.POST,
+                    request,
+                    String.class
+                ));
+                
+                router.assign(AriesAgentRouter.EXCHANGE, credentialExchangeId, agent);
+                JsonNode responseJson = objectMapper.readTree(response.getBody());
+                return responseJson.has("offer_url") ? responseJson.get("offer_url").asText() : null;
+                
+            } catch (Exception e) {
+                logger.debug("Sending credential on exchange {} failed on agent {}: {}",
+                    credentialExchangeId, agent, e.getMessage());
+                lastFailure = e;
+            }
         }
+        logger.error("Failed to send credential on exchange: {}", credentialExchangeId, lastFailure);
+        throw new CredentialIssuanceException("Failed to send credential: " + lastFailure.getMessage(), lastFailure);
     }
 
     @Override
@@ -180,21 +226,8 @@ public class AriesCloudAgentClientImpl implements AriesCloudAgentClient {
         }
         
         try {
-            String endpoint = ariesConfiguration.getAgentUrl() + 
-                "/issue-credential-2.0/records/" + credentialExchangeId;
-            
-            HttpEntity<?> request = createAuthorizedRequest(null);
-            
-            ResponseEntity<String> response = restTemplate.exchange(
-                endpoint,
-                HttpMethod.GET,
-                request,
-                String.class
-            );
-            
-            JsonNode responseJson = objectMapper.readTree(response.getBody());
-            return responseJson.get("state").asText();
-            
+            return firstAnswer(AriesAgentRouter.EXCHANGE, credentialExchangeId,
+                "/issue-credential-2.0/records/" + credentialExchangeId);
         } catch (Exception e) {
             logger.error("Failed to get credential exchange status", e);
             return "error";
@@ -203,37 +236,76 @@ public class AriesCloudAgentClientImpl implements AriesCloudAgentClient {
 
     @Override
     public boolean revokeCredential(String credentialId) {
-        logger.info("Revoking credential: {}", credentialId);
+        return revokeCredential(credentialId, true);
+    }
+
+    @Override
+    public boolean revokeCredential(String credentialId, boolean publish) {
+        logger.info("Revoking credential: {} (publish: {})", credentialId, publish);
         
         if (ariesConfiguration.isMockMode()) {
             logger.info("Mock mode: credential {} marked as revoked", credentialId);
             return true;
         }
         
-        try {
-            String endpoint = ariesConfiguration.getAgentUrl() + "/revocation/revoke";
-            
-            Map<String, Object> requestBody = new HashMap<>();
-            requestBody.put("credential_id", credentialId);
-            requestBody.put("publish", true);
-            
-            HttpEntity<Map<String, Object>> request = createAuthorizedRequest(requestBody);
-            
-            ResponseEntity<String> response = restTemplate.exchange(
-                endpoint,
-                HttpMethod.POST,
-                request,
-                String.class
-            );
-            
-            boolean success = response.getStatusCode().is2xxSuccessful();
-            logger.info("Credential {} revocation {}", credentialId, success ? "successful" : "failed");
-            return success;
-            
-        } catch (Exception e) {
-            logger.error("Failed to revoke credential: {}", credentialId, e);
-            return false;
+        Map<String, Object> requestBody = new HashMap<>();
+        requestBody.put("credential_id", credentialId);
+        requestBody.put("publish", publish);
+        
+        HttpEntity<Map<String, Object>> request = createAuthorizedRequest(requestBody);
+        
+        // An unknown credential is offered to each agent until one holds it
+        for (AriesAgentRouter.Agent agent : router.candidates(AriesAgentRouter.CREDENTIAL, credentialId)) {
+            try {
+                ResponseEntity<String> response = agent.call(() -> restTemplate.exchange(
+                    agent.url() + "/revocation/revoke",
+                    HttpMethod.POST,
+                    request,
+                    String.class
+                ));
+                
+                if (response.getStatusCode().is2xxSuccessful()) {
+                    logger.info("Credential {} revocation successful on agent {}", credentialId, agent);
+                    return true;
+                }
+            } catch (Exception e) {
+                logger.error("Failed to revoke credential: {} on agent {}", credentialId, agent, e);
+            }
+        }
+        logger.info("Credential {} revocation failed", credentialId);
+        return false;
+    }
+
+    @Override
+    public boolean publishRevocations() {
+        logger.info("Publishing pending revocations");
+        
+        if (ariesConfiguration.isMockMode()) {
+            return true;
+        }
+        
+        // An empty request publishes everything pending in every registry
+        HttpEntity<Map<String, Object>> request = createAuthorizedRequest(new HashMap<>());
+        
+        // Each agent publishes its own pending revocations
+        boolean published = true;
+        for (AriesAgentRouter.Agent agent : router.agents()) {
+            try {
+                ResponseEntity<String> response = agent.call(() -> restTemplate.exchange(
+                    agent.url() + "/revocation/publish-revocations",
+                    HttpMethod.POST,
+                    request,
+                    String.class
+                ));
+                
+                published &= response.getStatusCode().is2xxSuccessful();
+                
+            } catch (Exception e) {
+                logger.error("Failed to publish pending revocations on agent {}", agent, e);
+                published = false;
+            }
         }
+        return published;
     }
 
     @Override
@@ -245,26 +317,71 @@ public class AriesCloudAgentClientImpl implements AriesCloudAgentClient {
         }
         
         try {
-            String endpoint = ariesConfiguration.getAgentUrl() + "/connections/" + connectionId;
-            
-            HttpEntity<?> request = createAuthorizedRequest(null);
-            
-            ResponseEntity<String> response = restTemplate.exchange(
-                endpoint,
-                HttpMethod.GET,
-                request,
-                String.class
-            );
-            
-            JsonNode responseJson = objectMapper.readTree(response.getBody());
-            return responseJson.get("state").asText();
-            
+            return firstAnswer(AriesAgentRouter.CONNECTION, connectionId, "/connections/" + connectionId);
         } catch (Exception e) {
             logger.error("Failed to get connection status", e);
             return "error";
         }
     }
     
+    @Override
+    public boolean deleteConnection(String connectionId) {
+        logger.debug("Deleting connection: {}", connectionId);
+        
+        if (ariesConfiguration.isMockMode()) {
+            return true;
+        }
+        
+        HttpEntity<?> request = createAuthorizedRequest(null);
+        
+        // An unknown connection is deleted on each agent until one holds it
+        for (AriesAgentRouter.Agent agent : router.candidates(AriesAgentRouter.CONNECTION, connectionId)) {
+            try {
+                ResponseEntity<String> response = agent.call(() -> restTemplate.exchange(
+                    agent.url() + "/connections/" + connectionId,
+                    HttpMethod.DELETE,
+                    request,
+                    String.class
+                ));
+                
+                if (response.getStatusCode().is2xxSuccessful()) {
+                    return true;
+                }
+            } catch (Exception e) {
+                logger.debug("Failed to delete connection {} on agent {}: {}", connectionId, agent, e.getMessage());
+            }
+        }
+        return false;
+    }
+    
+    /**
+     * Reads the {@code state} of a record from the agent that owns it, or from the
+     * first agent that knows it when the owner has been forgotten.
+     */
+    private String firstAnswer(String kind, String id, String path) throws Exception {
+        HttpEntity<?> request = createAuthorizedRequest(null);
+        Exception lastFailure = null;
+        
+        for (AriesAgentRouter.Agent agent : router.candidates(kind, id)) {
+            try {
+                ResponseEntity<String> response = agent.call(() -> restTemplate.exchange(
+                    agent.url() + path,
+                    HttpMethod.GET,
+                    request,
+                    String.class
+                ));
+                
+                JsonNode responseJson = objectMapper.readTree(response.getBody());
+                router.assign(kind, id, agent);
+                return responseJson.get("state").asText();
+                
+            } catch (Exception e) {
+                lastFailure = e;
+            }
+        }
+        throw lastFailure;
+    }
+    
     private HttpEntity<Map<String, Object>> createAuthorizedRequest(Map<String, Object> body) {
         HttpHeaders headers = new HttpHeaders();
         headers.setContentType(MediaType.APPLICATION_JSON);
@@ -277,15 +394,19 @@ public class AriesCloudAgentClientImpl implements AriesCloudAgentClient {
     }
     
     private Map<String, Object> buildCredentialPayload(VerifiableCredential credential) {
+        Map<String, Object> vc = new HashMap<>();
+        vc.put("@context", credential.context());
+        vc.put("type", credential.type());
+        vc.put("issuer", credential.issuer());
+        vc.put("credentialSubject", credential.credentialSubject());
+        vc.put("issuanceDate", credential.issuanceDate().toString());
+        vc.put("expirationDate", credential.expirationDate() != null ? credential.expirationDate().toString() : null);
+        if (credential.credentialStatus() != null) {
+            vc.put("credentialStatus", credential.credentialStatus());
+        }
+        
         Map<String, Object> payload = new HashMap<>();
-        payload.put("credential", Map.of(
-            "@context", credential.context(),
-            "type", credential.type(),
-            "issuer", credential.issuer(),
-            "credentialSubject", credential.credentialSubject(),
-            "issuanceDate", credential.issuanceDate().toString(),
-            "expirationDate", credential.expirationDate() != null ? credential.expirationDate().toString() : null
-        ));
+        payload.put("credential", vc);
         return payload;
     }
     
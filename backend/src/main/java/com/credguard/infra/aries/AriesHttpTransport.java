@@ -0,0 +1,183 @@
+package com.credguard.infra.aries;
+
+import com.credguard.config.AriesConfiguration;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.DefaultHttpRequestRetryStrategy;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.client5.http.protocol.HttpClientContext;
+import org.apache.hc.core5.http.HttpHeaders;
+import org.apache.hc.core5.http.HttpRequest;
+import org.apache.hc.core5.http.HttpResponse;
+import org.apache.hc.core5.http.protocol.HttpContext;
+import org.apache.hc.core5.io.CloseMode;
+import org.apache.hc.core5.pool.PoolStats;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.ToIntFunction;
+
+/**
+ * Shared HTTP transport for calls to the Aries agent admin API.
+ *
+ * <p>Connections are pooled and kept alive, with at most
+ * {@code aries.connection.max-connections} open in total and
+ * {@code aries.connection.max-connections-per-route} to one agent, so a burst of
+ * issuances reuses sockets instead of opening one per call. Connect, response
+ * and pool lease waits are bounded by {@code aries.connection.connect-timeout}
+ * and {@code aries.connection.timeout}. Idempotent requests are retried up to
+ * {@code aries.connection.retries} times after an I/O error or a 429/503
+ * response, with exponential backoff and jitter so retries from many callers do
+ * not arrive together; a {@code Retry-After} header takes precedence, capped at
+ * {@code aries.connection.timeout}. Requests
+ * that change agent state, such as offers and revocations, are never retried.
+ */
+@Component
+public class AriesHttpTransport {
+
+    private static final Logger logger = LoggerFactory.getLogger(AriesHttpTransport.class);
+
+    private final PoolingHttpClientConnectionManager connectionManager;
+    private final CloseableHttpClient httpClient;
+    private final RestTemplate restTemplate;
+    private final MeterRegistry meterRegistry;
+
+    public AriesHttpTransport(AriesConfiguration ariesConfiguration, MeterRegistry meterRegistry) {
+        AriesConfiguration.Connection config = ariesConfiguration.getConnection();
+        this.meterRegistry = meterRegistry;
+
+        this.connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(config.getMaxConnections())
+                .setMaxConnPerRoute(config.getMaxConnectionsPerRoute())
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.ofMilliseconds(config.getConnectTimeout()))
+                        .setSocketTimeout(Timeout.ofMilliseconds(config.getTimeout()))
+                        .build())
+                .build();
+        this.httpClient = HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.ofMilliseconds(config.getTimeout()))
+                        .setResponseTimeout(Timeout.ofMilliseconds(config.getTimeout()))
+                        .setConnectionKeepAlive(TimeValue.ofMilliseconds(config.getIdleTimeout()))
+                        .build())
+                .setRetryStrategy(new JitteredRetryStrategy(
+                        config.getRetries(), config.getRetryBackoff(), config.getTimeout()))
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.ofMilliseconds(config.getIdleTimeout()))
+                .build();
+
+        this.restTemplate = new RestTemplate(new HttpComponentsClientHttpRequestFactory(httpClient));
+        this.restTemplate.getInterceptors().add((request, body, execution) -> {
+            long start = System.nanoTime();
+            String status = "IO_ERROR";
+            try {
+                ClientHttpResponse response = execution.execute(request, body);
+                status = String.valueOf(response.getStatusCode().value());
+                return response;
+            } finally {
+                requestTimer(request.getMethod().name(), status).record(Duration.ofNanos(System.nanoTime() - start));
+            }
+        });
+
+        poolGauge("leased", PoolStats::getLeased);
+        poolGauge("available", PoolStats::getAvailable);
+        poolGauge("pending", PoolStats::getPending);
+        poolGauge("max", PoolStats::getMax);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        logger.info("Closing Aries HTTP connection pool");
+        httpClient.close(CloseMode.GRACEFUL);
+    }
+
+    /**
+     * Returns the template all agent calls share.
+     */
+    public RestTemplate restTemplate() {
+        return restTemplate;
+    }
+
+    private Timer requestTimer(String method, String status) {
+        return Timer.builder("credguard.aries.http.request")
+                .description("Latency of Aries agent admin API calls, including retries")
+                .tag("method", method)
+                .tag("status", status)
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+    }
+
+    private void poolGauge(String state, ToIntFunction<PoolStats> value) {
+        Gauge.builder("credguard.aries.http.pool", connectionManager,
+                        manager -> value.applyAsInt(manager.getTotalStats()))
+                .description("Connections in the Aries HTTP connection pool")
+                .tag("state", state)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Retries idempotent requests only, waiting between half and all of an
+     * exponentially growing backoff before each attempt. A {@code Retry-After}
+     * from the agent is honoured up to {@code maxIntervalMillis}, so a large or
+     * hostile value cannot park a caller's thread.
+     */
+    static final class JitteredRetryStrategy extends DefaultHttpRequestRetryStrategy {
+
+        private static final int MAX_DOUBLINGS = 10;
+
+        private final long backoffMillis;
+        private final long maxIntervalMillis;
+
+        JitteredRetryStrategy(int maxRetries, long backoffMillis, long maxIntervalMillis) {
+            super(maxRetries, TimeValue.ofMilliseconds(backoffMillis));
+            this.backoffMillis = backoffMillis;
+            this.maxIntervalMillis = maxIntervalMillis;
+        }
+
+        @Override
+        public boolean retryRequest(HttpResponse response, int execCount, HttpContext context) {
+            // The default strategy retries any method on 429/503; a POST may already have been applied
+            HttpRequest request = HttpClientContext.adapt(context).getRequest();
+            return request != null && handleAsIdempotent(request) && super.retryRequest(response, execCount, context);
+        }
+
+        @Override
+        public TimeValue getRetryInterval(HttpResponse response, int execCount, HttpContext context) {
+            if (response.containsHeader(HttpHeaders.RETRY_AFTER)) {
+                TimeValue requested = super.getRetryInterval(response, execCount, context);
+                return requested.toMilliseconds() > maxIntervalMillis
+                        ? TimeValue.ofMilliseconds(maxIntervalMillis)
+                        : requested;
+            }
+            return backoff(execCount);
+        }
+
+        @Override
+        public TimeValue getRetryInterval(HttpRequest request, IOException exception, int execCount, HttpContext context) {
+            return backoff(execCount);
+        }
+
+        TimeValue backoff(int execCount) {
+            long ceiling = backoffMillis << Math.min(Math.max(execCount - 1, 0), MAX_DOUBLINGS);
+            long half = ceiling / 2;
+            return TimeValue.ofMilliseconds(half + ThreadLocalRandom.current().nextLong(ceiling - half + 1));
+        }
+    }
+}
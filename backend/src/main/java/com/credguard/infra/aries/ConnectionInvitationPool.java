@@ -0,0 +1,250 @@
+package com.credguard.infra.aries;
+
+import com.credguard.config.AriesConfiguration;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Deque;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Pool of connection invitations created ahead of time, so a first issuance to a
+ * wallet does not wait on {@code /connections/create-invitation}.
+ *
+ * <p>Every {@code aries.invitation-pool.refill-interval} the pool folds the number
+ * of invitations taken since the last tick into an exponentially weighted moving
+ * average, and targets enough invitations to cover {@code lead-time} of that
+ * demand, between {@code min-size} and {@code max-size}. Missing invitations are
+ * created on a background thread, both on the tick and as soon as a take drops
+ * the pool below its target. When the pool is empty the caller creates an
+ * invitation itself. Invitations older than {@code max-age} are discarded and
+ * their connection records deleted on the agent, off the caller's thread; the
+ * invitations still pooled at shutdown are deleted too.
+ */
+@Component
+public class ConnectionInvitationPool {
+
+    private static final Logger logger = LoggerFactory.getLogger(ConnectionInvitationPool.class);
+
+    private final AriesCloudAgentClient ariesClient;
+    private final AriesConfiguration.InvitationPool config;
+    private final Clock clock;
+
+    private final Deque<PooledInvitation> invitations = new ConcurrentLinkedDeque<>();
+    private final AtomicInteger size = new AtomicInteger();
+    private final AtomicLong takenSinceTick = new AtomicLong();
+    private final AtomicInteger target = new AtomicInteger();
+    private final AtomicBoolean refilling = new AtomicBoolean();
+    private volatile double demandPerSecond;
+    private volatile Instant lastTick;
+    private ScheduledExecutorService scheduler;
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter expired;
+    private final Counter created;
+    private final Counter errors;
+
+    @Autowired
+    public ConnectionInvitationPool(AriesCloudAgentClient ariesClient,
+                                    AriesConfiguration ariesConfiguration,
+                                    MeterRegistry meterRegistry) {
+        this(ariesClient, ariesConfiguration, meterRegistry, Clock.systemUTC());
+    }
+
+    ConnectionInvitationPool(AriesCloudAgentClient ariesClient,
+                             AriesConfiguration ariesConfiguration,
+                             MeterRegistry meterRegistry,
+                             Clock clock) {
+        this.ariesClient = ariesClient;
+        this.config = ariesConfiguration.getInvitationPool();
+        this.clock = clock;
+        this.lastTick = clock.instant();
+        this.target.set(config.getMinSize());
+
+        this.hits = poolCounter(meterRegistry, "hit");
+        this.misses = poolCounter(meterRegistry, "miss");
+        this.expired = poolCounter(meterRegistry, "expired");
+        this.created = poolCounter(meterRegistry, "created");
+        this.errors = poolCounter(meterRegistry, "error");
+        meterRegistry.gauge("credguard.connection-invitation.pool.size", size);
+        meterRegistry.gauge("credguard.connection-invitation.pool.target", target);
+    }
+
+    @PostConstruct
+    public void initialize() {
+        if (!config.isEnabled()) {
+            logger.info("Connection invitation pool disabled");
+            return;
+        }
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("invitation-pool-");
+        threadFactory.setDaemon(true);
+        scheduler = Executors.newSingleThreadScheduledExecutor(threadFactory);
+        long interval = config.getRefillInterval().toMillis();
+        scheduler.scheduleWithFixedDelay(this::tick, 0, interval, TimeUnit.MILLISECONDS);
+        logger.info("Connection invitation pool started with between {} and {} invitations",
+                config.getMinSize(), config.getMaxSize());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+        PooledInvitation invitation;
+        while ((invitation = invitations.pollFirst()) != null) {
+            size.decrementAndGet();
+            delete(invitation.connectionId());
+        }
+    }
+
+    /**
+     * Takes a pooled invitation, or creates one on the calling thread when the pool
+     * is empty.
+     *
+     * @return the connection ID of the invitation
+     */
+    public String take(String walletDid) {
+        takenSinceTick.incrementAndGet();
+        Instant oldest = clock.instant().minus(config.getMaxAge());
+        PooledInvitation invitation;
+        while ((invitation = invitations.pollFirst()) != null) {
+            size.decrementAndGet();
+            if (invitation.createdAt().isAfter(oldest)) {
+                hits.increment();
+                logger.debug("Using pooled invitation {} for wallet {}", invitation.connectionId(), walletDid);
+                requestRefill();
+                return invitation.connectionId();
+            }
+            discard(invitation);
+        }
+
+        misses.increment();
+        requestRefill();
+        return ariesClient.createConnectionInvitation(walletDid);
+    }
+
+    int size() {
+        return size.get();
+    }
+
+    int target() {
+        return target.get();
+    }
+
+    /**
+     * Updates the demand estimate and tops the pool up to the new target.
+     */
+    void tick() {
+        Instant now = clock.instant();
+        double seconds = Math.max(1e-3, (now.toEpochMilli() - lastTick.toEpochMilli()) / 1000.0);
+        lastTick = now;
+        double observed = takenSinceTick.getAndSet(0) / seconds;
+        double alpha = config.getSmoothing();
+        demandPerSecond = alpha * observed + (1 - alpha) * demandPerSecond;
+
+        int wanted = (int) Math.ceil(demandPerSecond * config.getLeadTime().toMillis() / 1000.0);
+        target.set(Math.max(config.getMinSize(), Math.min(config.getMaxSize(), wanted)));
+        refill();
+    }
+
+    /**
+     * Discards expired invitations and creates new ones until the pool reaches its
+     * target. Stops at the first failure; the next tick tries again.
+     */
+    void refill() {
+        if (!refilling.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            Instant oldest = clock.instant().minus(config.getMaxAge());
+            PooledInvitation head;
+            while ((head = invitations.peekFirst()) != null && !head.createdAt().isAfter(oldest)) {
+                if (invitations.remove(head)) {
+                    size.decrementAndGet();
+                    discard(head);
+                }
+            }
+
+            while (size.get() < target.get() && !Thread.currentThread().isInterrupted()) {
+                // Not bound to a wallet yet, so the agent is chosen by load rather than by wallet
+                String connectionId = ariesClient.createConnectionInvitation(null);
+                invitations.addLast(new PooledInvitation(connectionId, clock.instant()));
+                size.incrementAndGet();
+                created.increment();
+            }
+        } catch (RuntimeException e) {
+            errors.increment();
+            logger.warn("Failed to replenish connection invitation pool: {}", e.getMessage());
+        } finally {
+            refilling.set(false);
+        }
+    }
+
+    /**
+     * Counts an expired invitation and deletes its connection on the agent, in the
+     * background when the pool is running.
+     */
+    private void discard(PooledInvitation invitation) {
+        expired.increment();
+        if (scheduler == null) {
+            delete(invitation.connectionId());
+            return;
+        }
+        try {
+            scheduler.execute(() -> delete(invitation.connectionId()));
+        } catch (RejectedExecutionException e) {
+            delete(invitation.connectionId());
+        }
+    }
+
+    private void delete(String connectionId) {
+        try {
+            if (ariesClient.deleteConnection(connectionId)) {
+                logger.debug("Deleted unused pooled invitation {}", connectionId);
+                return;
+            }
+            logger.warn("No agent deleted unused pooled invitation {}", connectionId);
+        } catch (RuntimeException e) {
+            logger.warn("Failed to delete unused pooled invitation {}: {}", connectionId, e.getMessage());
+        }
+        errors.increment();
+    }
+
+    private void requestRefill() {
+        if (scheduler == null || size.get() >= target.get()) {
+            return;
+        }
+        try {
+            scheduler.execute(this::refill);
+        } catch (RejectedExecutionException e) {
+            logger.debug("Invitation pool is shut down, not replenishing");
+        }
+    }
+
+    private static Counter poolCounter(MeterRegistry registry, String result) {
+        return Counter.builder("credguard.connection-invitation.pool")
+                .description("Connection invitation pool takes and replenishment")
+                .tag("result", result)
+                .register(registry);
+    }
+
+    private record PooledInvitation(String connectionId, Instant createdAt) {
+    }
+}
@@ -0,0 +1,146 @@
+package com.credguard.infra.aries;
+
+import com.credguard.config.AriesConfiguration;
+import com.credguard.domain.CredentialRevokedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Publishes revocations to the ledger in batches. Credentials are revoked with
+ * {@code publish: false}, which only records the revocation in the agent, and
+ * this component issues one {@link AriesCloudAgentClient#publishRevocations()}
+ * for everything pending every {@code aries.revocation.publish-interval}, or
+ * sooner once {@code aries.revocation.publish-batch-size} revocations are
+ * waiting.
+ *
+ * <p>A failed publication leaves the revocations pending in the agent; they are
+ * counted again and retried on the next flush. Anything still pending is
+ * published at startup and shutdown.
+ */
+@Component
+public class RevocationBatcher {
+
+    private static final Logger logger = LoggerFactory.getLogger(RevocationBatcher.class);
+
+    private final AriesCloudAgentClient ariesClient;
+    private final AriesConfiguration.Revocation config;
+
+    private final AtomicInteger pending = new AtomicInteger();
+    private final AtomicBoolean flushScheduled = new AtomicBoolean();
+    private ScheduledExecutorService scheduler;
+
+    private final Counter published;
+    private final Counter publications;
+    private final Counter failures;
+
+    public RevocationBatcher(AriesCloudAgentClient ariesClient,
+                             AriesConfiguration ariesConfiguration,
+                             MeterRegistry meterRegistry) {
+        this.ariesClient = ariesClient;
+        this.config = ariesConfiguration.getRevocation();
+
+        this.published = publishCounter(meterRegistry, "revocation");
+        this.publications = publishCounter(meterRegistry, "publication");
+        this.failures = publishCounter(meterRegistry, "failure");
+        meterRegistry.gauge("credguard.revocation.publish.pending", pending);
+    }
+
+    @PostConstruct
+    public void initialize() {
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("revocation-publish-");
+        threadFactory.setDaemon(true);
+        scheduler = Executors.newSingleThreadScheduledExecutor(threadFactory);
+        long interval = config.getPublishInterval().toMillis();
+        scheduler.scheduleWithFixedDelay(this::flushIfPending, interval, interval, TimeUnit.MILLISECONDS);
+        // Publish anything the agent still holds from before a restart
+        scheduler.execute(this::flush);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+        flushIfPending();
+    }
+
+    @EventListener
+    public void onCredentialRevoked(CredentialRevokedEvent event) {
+        if (pending.incrementAndGet() >= config.getPublishBatchSize()) {
+            requestFlush();
+        }
+    }
+
+    int pending() {
+        return pending.get();
+    }
+
+    /**
+     * Publishes all pending revocations now.
+     *
+     * @return true if the agent accepted the publication
+     */
+    synchronized boolean flush() {
+        int batch = pending.getAndSet(0);
+        boolean success;
+        try {
+            success = ariesClient.publishRevocations();
+        } catch (RuntimeException e) {
+            logger.warn("Failed to publish revocations: {}", e.getMessage());
+            success = false;
+        }
+
+        if (success) {
+            publications.increment();
+            published.increment(batch);
+            if (batch > 0) {
+                logger.info("Published {} revocations", batch);
+            }
+        } else {
+            failures.increment();
+            pending.addAndGet(batch);
+        }
+        return success;
+    }
+
+    private void flushIfPending() {
+        if (pending.get() > 0) {
+            flush();
+        }
+    }
+
+    private void requestFlush() {
+        if (scheduler == null || !flushScheduled.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            scheduler.execute(() -> {
+                flushScheduled.set(false);
+                flushIfPending();
+            });
+        } catch (RejectedExecutionException e) {
+            flushScheduled.set(false);
+        }
+    }
+
+    private static Counter publishCounter(MeterRegistry registry, String result) {
+        return Counter.builder("credguard.revocation.publish")
+                .description("Revocations published to the ledger and the publications carrying them")
+                .tag("result", result)
+                .register(registry);
+    }
+}
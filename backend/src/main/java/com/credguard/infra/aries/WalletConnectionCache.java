@@ -0,0 +1,195 @@
+package com.credguard.infra.aries;
+
+import com.credguard.config.AriesConfiguration;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Reuses Aries connections per wallet DID instead of creating a new invitation
+ * for every issuance.
+ *
+ * <p>A cached connection is reused without contacting the agent until
+ * {@code aries.connection-cache.revalidate-after} has passed since it was last
+ * confirmed. After that its state is checked with
+ * {@link AriesCloudAgentClient#getConnectionStatus} on next use, and it is
+ * dropped if the agent no longer reports it as usable. Entries are also dropped
+ * after {@code aries.connection-cache.ttl} regardless of state. Concurrent misses
+ * for the same wallet share one invitation, taken from the
+ * {@link ConnectionInvitationPool}.
+ */
+@Component
+public class WalletConnectionCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(WalletConnectionCache.class);
+
+    /** Connection states, as reported by ACA-Py, in which credentials can still be offered. */
+    private static final Set<String> USABLE_STATES = Set.of("active", "completed", "response", "request", "invitation");
+
+    private final AriesCloudAgentClient ariesClient;
+    private final ConnectionInvitationPool invitationPool;
+    private final AriesConfiguration.ConnectionCache config;
+    private final long createTimeoutMillis;
+    private final Clock clock;
+
+    private final Map<String, CachedConnection> entries = new ConcurrentHashMap<>();
+    private final Map<String, CompletableFuture<String>> inFlight = new ConcurrentHashMap<>();
+
+    private final Counter hits;
+    private final Counter revalidations;
+    private final Counter misses;
+    private final Counter coalesced;
+    private final Counter evictions;
+
+    @Autowired
+    public WalletConnectionCache(AriesCloudAgentClient ariesClient,
+                                 ConnectionInvitationPool invitationPool,
+                                 AriesConfiguration ariesConfiguration,
+                                 MeterRegistry meterRegistry) {
+        this(ariesClient, invitationPool, ariesConfiguration, meterRegistry, Clock.systemUTC());
+    }
+
+    WalletConnectionCache(AriesCloudAgentClient ariesClient,
+                          ConnectionInvitationPool invitationPool,
+                          AriesConfiguration ariesConfiguration,
+                          MeterRegistry meterRegistry,
+                          Clock clock) {
+        this.ariesClient = ariesClient;
+        this.invitationPool = invitationPool;
+        this.config = ariesConfiguration.getConnectionCache();
+        this.createTimeoutMillis = ariesConfiguration.getConnection().getTimeout();
+        this.clock = clock;
+
+        this.hits = cacheCounter(meterRegistry, "hit");
+        this.revalidations = cacheCounter(meterRegistry, "revalidated");
+        this.misses = cacheCounter(meterRegistry, "miss");
+        this.coalesced = cacheCounter(meterRegistry, "coalesced");
+        this.evictions = cacheCounter(meterRegistry, "eviction");
+        meterRegistry.gauge("credguard.wallet-connection.cache.size", entries, Map::size);
+    }
+
+    /**
+     * Returns a usable connection ID for the wallet, creating an invitation only
+     * when no cached connection can be reused.
+     */
+    public String connectionFor(String walletDid) {
+        if (!config.isEnabled()) {
+            return invitationPool.take(walletDid);
+        }
+
+        Instant now = clock.instant();
+        CachedConnection cached = entries.get(walletDid);
+        if (cached != null && now.isBefore(cached.expiresAt())) {
+            if (now.isBefore(cached.validatedAt().plus(config.getRevalidateAfter()))) {
+                hits.increment();
+                return cached.connectionId();
+            }
+            String state = ariesClient.getConnectionStatus(cached.connectionId());
+            if (state != null && USABLE_STATES.contains(state)) {
+                revalidations.increment();
+                entries.replace(walletDid, cached,
+                        new CachedConnection(cached.connectionId(), now, cached.expiresAt()));
+                return cached.connectionId();
+            }
+            logger.info("Cached connection {} for wallet {} is {}, creating a new one",
+                    cached.connectionId(), walletDid, state);
+        }
+        if (cached != null && entries.remove(walletDid, cached)) {
+            evictions.increment();
+        }
+
+        misses.increment();
+        return create(walletDid);
+    }
+
+    /**
+     * Drops the cached connection for the wallet, for example after an offer over
+     * it failed.
+     */
+    public void evict(String walletDid) {
+        if (entries.remove(walletDid) != null) {
+            evictions.increment();
+            logger.debug("Evicted cached connection for wallet {}", walletDid);
+        }
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    private String create(String walletDid) {
+        CompletableFuture<String> pending = new CompletableFuture<>();
+        CompletableFuture<String> existing = inFlight.putIfAbsent(walletDid, pending);
+        if (existing != null) {
+            coalesced.increment();
+            return await(walletDid, existing);
+        }
+
+        try {
+            String connectionId = invitationPool.take(walletDid);
+            Instant now = clock.instant();
+            entries.put(walletDid, new CachedConnection(connectionId, now, now.plus(config.getTtl())));
+            evictIfNecessary();
+            pending.complete(connectionId);
+            return connectionId;
+        } catch (RuntimeException e) {
+            pending.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(walletDid, pending);
+        }
+    }
+
+    private String await(String walletDid, CompletableFuture<String> pending) {
+        try {
+            return pending.get(createTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException("Connection for wallet " + walletDid + " failed: "
+                    + e.getCause().getMessage(), e.getCause());
+        } catch (TimeoutException e) {
+            throw new IllegalStateException("Timed out waiting for in-flight connection to wallet " + walletDid, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted waiting for connection to wallet " + walletDid, e);
+        }
+    }
+
+    private void evictIfNecessary() {
+        while (entries.size() > config.getMaxEntries()) {
+            entries.entrySet().stream()
+                    .min(Comparator.comparing(e -> e.getValue().expiresAt()))
+                    .ifPresent(soonest -> {
+                        if (entries.remove(soonest.getKey(), soonest.getValue())) {
+                            evictions.increment();
+                        }
+                    });
+        }
+    }
+
+    private static Counter cacheCounter(MeterRegistry registry, String result) {
+        return Counter.builder("credguard.wallet-connection.cache")
+                .description("Wallet connection cache lookups and maintenance operations")
+                .tag("result", result)
+                .register(registry);
+    }
+
+    private record CachedConnection(String connectionId, Instant validatedAt, Instant expiresAt) {
+    }
+}
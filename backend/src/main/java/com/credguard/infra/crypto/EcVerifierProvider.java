@@ -0,0 +1,32 @@
+package com.credguard.infra.crypto;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSVerifier;
+import com.nimbusds.jose.crypto.ECDSAVerifier;
+import com.nimbusds.jose.jwk.ECKey;
+import com.nimbusds.jose.jwk.JWK;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+
+/**
+ * Verifies ECDSA (ES256, ES384, ES512, ES256K) signatures.
+ */
+@Component
+public class EcVerifierProvider implements JwsVerifierProvider {
+
+    @Override
+    public Set<JWSAlgorithm> supportedAlgorithms() {
+        return ECDSAVerifier.SUPPORTED_ALGORITHMS;
+    }
+
+    @Override
+    public JWSVerifier createVerifier(JWK jwk) throws JOSEException {
+        if (!(jwk instanceof ECKey ecKey)) {
+            throw new JOSEException("ECDSA signature requires an EC key, got " + jwk.getKeyType());
+        }
+        // ECDSAVerifier checks the curve matches the algorithm at verification time
+        return new ECDSAVerifier(ecKey);
+    }
+}
@@ -0,0 +1,32 @@
+package com.credguard.infra.crypto;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSVerifier;
+import com.nimbusds.jose.crypto.Ed25519Verifier;
+import com.nimbusds.jose.jwk.Curve;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.OctetKeyPair;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+
+/**
+ * Verifies EdDSA signatures over Ed25519 keys.
+ */
+@Component
+public class EdDsaVerifierProvider implements JwsVerifierProvider {
+
+    @Override
+    public Set<JWSAlgorithm> supportedAlgorithms() {
+        return Ed25519Verifier.SUPPORTED_ALGORITHMS;
+    }
+
+    @Override
+    public JWSVerifier createVerifier(JWK jwk) throws JOSEException {
+        if (!(jwk instanceof OctetKeyPair okp) || !Curve.Ed25519.equals(okp.getCurve())) {
+            throw new JOSEException("EdDSA signature requires an Ed25519 key, got " + jwk.getKeyType());
+        }
+        return new Ed25519Verifier(okp.toPublicJWK());
+    }
+}
@@ -0,0 +1,395 @@
+package com.credguard.infra.crypto;
+
+import com.credguard.config.CryptoConfiguration;
+import com.nimbusds.jose.jwk.JWKSet;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Bounded, TTL-based cache of remote JWK sets keyed by JWKS URL.
+ * Entries are refreshed in the background shortly before they expire and
+ * revalidated with conditional requests, so hot issuers never block a
+ * verification on the network. Concurrent fetches of the same URL share one
+ * in-flight request, and failed fetches and unknown key IDs are remembered
+ * for a short time so an unreachable issuer cannot cause a thundering herd.
+ */
+@Component
+public class JwksCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(JwksCache.class);
+
+    private final JwksFetcher fetcher;
+    private final CryptoConfiguration.Jwks config;
+    private final Clock clock;
+    private final Executor refreshExecutor;
+    private final ExecutorService ownedExecutor;
+
+    private final Map<String, CachedJwks> entries = new ConcurrentHashMap<>();
+    private final Map<String, CompletableFuture<CachedJwks>> inFlight = new ConcurrentHashMap<>();
+    private final Map<String, FailedFetch> failedFetches = new ConcurrentHashMap<>();
+    private final Map<String, Instant> unknownKeys = new ConcurrentHashMap<>();
+    private final Set<String> refreshing = ConcurrentHashMap.newKeySet();
+    private final List<Consumer<String>> keySetListeners = new CopyOnWriteArrayList<>();
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter refreshes;
+    private final Counter revalidations;
+    private final Counter evictions;
+    private final Counter fetchErrors;
+    private final Counter coalesced;
+    private final Counter negativeHits;
+    private final Timer fetchTimer;
+
+    @Autowired
+    public JwksCache(JwksFetcher fetcher, CryptoConfiguration cryptoConfiguration, MeterRegistry meterRegistry) {
+        this(fetcher, cryptoConfiguration, meterRegistry, Clock.systemUTC(),
+                Executors.newFixedThreadPool(2, refreshThreadFactory()));
+    }
+
+    JwksCache(
+            JwksFetcher fetcher,
+            CryptoConfiguration cryptoConfiguration,
+            MeterRegistry meterRegistry,
+            Clock clock,
+            Executor refreshExecutor
+    ) {
+        this.fetcher = fetcher;
+        this.config = cryptoConfiguration.getJwks();
+        this.clock = clock;
+        this.refreshExecutor = refreshExecutor;
+        this.ownedExecutor = refreshExecutor instanceof ExecutorService service ? service : null;
+
+        this.hits = cacheCounter(meterRegistry, "hit");
+        this.misses = cacheCounter(meterRegistry, "miss");
+        this.refreshes = cacheCounter(meterRegistry, "refresh");
+        this.revalidations = cacheCounter(meterRegistry, "not_modified");
+        this.evictions = cacheCounter(meterRegistry, "eviction");
+        this.fetchErrors = cacheCounter(meterRegistry, "error");
+        this.coalesced = cacheCounter(meterRegistry, "coalesced");
+        this.negativeHits = cacheCounter(meterRegistry, "negative_hit");
+        this.fetchTimer = Timer.builder("credguard.jwks.fetch")
+                .description("Latency of remote JWKS fetches")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        meterRegistry.gauge("credguard.jwks.cache.size", entries, Map::size);
+    }
+
+    /**
+     * Returns the JWK set published at the given URL, fetching it only when
+     * no fresh copy is cached.
+     */
+    public JWKSet get(String jwkSetUrl) throws IOException {
+        Instant now = clock.instant();
+        CachedJwks entry = entries.get(jwkSetUrl);
+
+        if (entry != null && now.isBefore(entry.expiresAt)) {
+            hits.increment();
+            entry.lastAccess = now;
+            if (!now.isBefore(entry.refreshAt)) {
+                scheduleRefresh(jwkSetUrl);
+            }
+            return entry.jwkSet;
+        }
+
+        FailedFetch failure = failedFetches.get(jwkSetUrl);
+        if (failure != null && now.isBefore(failure.retryAfter())) {
+            negativeHits.increment();
+            throw new IOException("JWKS fetch from " + jwkSetUrl + " failed recently: " + failure.message());
+        }
+
+        misses.increment();
+        return load(jwkSetUrl, entry).jwkSet;
+    }
+
+    /**
+     * Called when a token names a key that the cached set does not contain. The
+     * issuer may have rotated keys, so the set is refetched unless it was fetched
+     * within the negative TTL. Key IDs that are still missing afterwards are
+     * remembered for the negative TTL.
+     *
+     * @return the key set to retry with, or null if the key is known to be missing
+     */
+    public JWKSet refreshForUnknownKey(String jwkSetUrl, String keyId) throws IOException {
+        String unknownKey = jwkSetUrl + "#" + keyId;
+        Instant now = clock.instant();
+        Instant missingUntil = unknownKeys.get(unknownKey);
+        if (missingUntil != null && now.isBefore(missingUntil)) {
+            negativeHits.increment();
+            return null;
+        }
+
+        CachedJwks current = entries.get(jwkSetUrl);
+        JWKSet jwkSet = current != null && now.isBefore(current.fetchedAt.plus(config.getNegativeTtl()))
+                ? current.jwkSet
+                : load(jwkSetUrl, current).jwkSet;
+
+        if (JwsVerifierCache.selectKey(jwkSet, keyId) == null) {
+            putBounded(unknownKeys, unknownKey, now.plus(config.getNegativeTtl()), until -> until);
+            logger.warn("Key {} not published at {}", keyId, jwkSetUrl);
+            return null;
+        }
+        return jwkSet;
+    }
+
+    /**
+     * Returns when the cached key set for the given URL stops being served, or null
+     * if nothing is cached for it.
+     */
+    public Instant expiresAt(String jwkSetUrl) {
+        CachedJwks entry = entries.get(jwkSetUrl);
+        return entry != null ? entry.expiresAt : null;
+    }
+
+    /**
+     * Drops the cached JWK set for the given URL.
+     */
+    public void invalidate(String jwkSetUrl) {
+        if (entries.remove(jwkSetUrl) != null) {
+            notifyKeySetChanged(jwkSetUrl);
+        }
+    }
+
+    /**
+     * Registers a listener that is called with the JWKS URL whenever the cached
+     * key set for that URL is replaced by different keys or dropped from the cache.
+     * A key set that merely revalidates keeps its {@link JWKSet} instance.
+     */
+    public void addKeySetListener(Consumer<String> listener) {
+        keySetListeners.add(listener);
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    int unknownKeyCount() {
+        return unknownKeys.size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (ownedExecutor != null) {
+            ownedExecutor.shutdownNow();
+        }
+    }
+
+    private void scheduleRefresh(String jwkSetUrl) {
+        if (!refreshing.add(jwkSetUrl)) {
+            return;
+        }
+        refreshes.increment();
+        try {
+            refreshExecutor.execute(() -> {
+                try {
+                    load(jwkSetUrl, entries.get(jwkSetUrl));
+                } catch (Exception e) {
+                    // The stale entry stays usable until it expires
+                    logger.warn("Background JWKS refresh failed for {}: {}", jwkSetUrl, e.getMessage());
+                } finally {
+                    refreshing.remove(jwkSetUrl);
+                }
+            });
+        } catch (RuntimeException e) {
+            refreshing.remove(jwkSetUrl);
+            logger.warn("Could not schedule JWKS refresh for {}: {}", jwkSetUrl, e.getMessage());
+        }
+    }
+
+    private CachedJwks load(String jwkSetUrl, CachedJwks previous) throws IOException {
+        CompletableFuture<CachedJwks> pending = new CompletableFuture<>();
+        CompletableFuture<CachedJwks> existing = inFlight.putIfAbsent(jwkSetUrl, pending);
+        if (existing != null) {
+            coalesced.increment();
+            return await(jwkSetUrl, existing);
+        }
+
+        try {
+            CachedJwks entry = fetchAndStore(jwkSetUrl, previous);
+            pending.complete(entry);
+            return entry;
+        } catch (IOException | RuntimeException e) {
+            pending.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(jwkSetUrl, pending);
+        }
+    }
+
+    private CachedJwks await(String jwkSetUrl, CompletableFuture<CachedJwks> pending) throws IOException {
+        long waitMillis = config.getConnectTimeout().plus(config.getReadTimeout()).toMillis();
+        try {
+            return pending.get(waitMillis, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException io) {
+                throw io;
+            }
+            throw new IOException("JWKS fetch from " + jwkSetUrl + " failed: " + e.getCause().getMessage(),
+                    e.getCause());
+        } catch (TimeoutException e) {
+            throw new IOException("Timed out waiting for in-flight JWKS fetch from " + jwkSetUrl, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted waiting for JWKS fetch from " + jwkSetUrl);
+        }
+    }
+
+    private CachedJwks fetchAndStore(String jwkSetUrl, CachedJwks previous) throws IOException {
+        JwksFetcher.FetchResult result;
+        long start = System.nanoTime();
+        try {
+            result = previous != null
+                    ? fetcher.fetch(jwkSetUrl, previous.etag, previous.lastModified)
+                    : fetcher.fetch(jwkSetUrl, null, null);
+        } catch (IOException | RuntimeException e) {
+            fetchErrors.increment();
+            rememberFailure(jwkSetUrl, e);
+            throw e;
+        } finally {
+            fetchTimer.record(Duration.ofNanos(System.nanoTime() - start));
+        }
+        failedFetches.remove(jwkSetUrl);
+
+        Instant now = clock.instant();
+        CachedJwks entry;
+        if (result.notModified() && previous != null) {
+            revalidations.increment();
+            entry = new CachedJwks(previous.jwkSet, previous.etag, previous.lastModified, now, config);
+        } else if (result.jwkSet() == null) {
+            throw new IOException("JWKS endpoint " + jwkSetUrl + " answered 304 to an unconditional request");
+        } else if (previous != null && sameKeys(previous.jwkSet, result.jwkSet())) {
+            // Servers without validators resend identical keys; keep the instance so
+            // verifiers derived from it stay valid
+            entry = new CachedJwks(previous.jwkSet, result.etag(), result.lastModified(), now, config);
+        } else {
+            entry = new CachedJwks(result.jwkSet(), result.etag(), result.lastModified(), now, config);
+            logger.debug("Loaded JWKS from {} with {} keys", jwkSetUrl, result.jwkSet().getKeys().size());
+        }
+
+        CachedJwks replaced = entries.put(jwkSetUrl, entry);
+        if (replaced != null && replaced.jwkSet != entry.jwkSet) {
+            logger.info("Signing keys rotated for JWKS {}", jwkSetUrl);
+            notifyKeySetChanged(jwkSetUrl);
+        }
+        evictIfNecessary();
+        return entry;
+    }
+
+    private void rememberFailure(String jwkSetUrl, Exception e) {
+        Instant now = clock.instant();
+        putBounded(failedFetches, jwkSetUrl, new FailedFetch(now.plus(config.getNegativeTtl()), e.getMessage()),
+                FailedFetch::retryAfter);
+    }
+
+    /**
+     * Adds a negative entry without letting the map grow past max-entries: expired
+     * entries are dropped first, then the ones that expire soonest.
+     */
+    private <V> void putBounded(Map<String, V> map, String key, V value, Function<V, Instant> expiry) {
+        Instant now = clock.instant();
+        if (map.size() >= config.getMaxEntries()) {
+            map.values().removeIf(existing -> !now.isBefore(expiry.apply(existing)));
+        }
+        while (map.size() >= config.getMaxEntries() && !map.containsKey(key)) {
+            map.entrySet().stream()
+                    .min(Comparator.comparing(e -> expiry.apply(e.getValue())))
+                    .ifPresent(soonest -> map.remove(soonest.getKey(), soonest.getValue()));
+        }
+        map.put(key, value);
+    }
+
+    private static boolean sameKeys(JWKSet current, JWKSet fetched) {
+        return current.toJSONObject(true).equals(fetched.toJSONObject(true));
+    }
+
+    private void notifyKeySetChanged(String jwkSetUrl) {
+        for (Consumer<String> listener : keySetListeners) {
+            try {
+                listener.accept(jwkSetUrl);
+            } catch (RuntimeException e) {
+                logger.warn("JWKS listener failed for {}: {}", jwkSetUrl, e.getMessage());
+            }
+        }
+    }
+
+    private void evictIfNecessary() {
+        while (entries.size() > config.getMaxEntries()) {
+            entries.entrySet().stream()
+                    .min(Comparator.comparing(e -> e.getValue().lastAccess))
+                    .ifPresent(eldest -> {
+                        if (entries.remove(eldest.getKey(), eldest.getValue())) {
+                            evictions.increment();
+                            notifyKeySetChanged(eldest.getKey());
+                        }
+                    });
+        }
+    }
+
+    private static Counter cacheCounter(MeterRegistry registry, String result) {
+        return Counter.builder("credguard.jwks.cache")
+                .description("JWKS cache lookups and maintenance operations")
+                .tag("result", result)
+                .register(registry);
+    }
+
+    private static CustomizableThreadFactory refreshThreadFactory() {
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("jwks-refresh-");
+        threadFactory.setDaemon(true);
+        return threadFactory;
+    }
+
+    private record FailedFetch(Instant retryAfter, String message) {
+    }
+
+    /**
+     * A cached JWK set together with its HTTP validators and lifetime.
+     */
+    private static final class CachedJwks {
+        private final JWKSet jwkSet;
+        private final String etag;
+        private final String lastModified;
+        private final Instant fetchedAt;
+        private final Instant refreshAt;
+        private final Instant expiresAt;
+        private volatile Instant lastAccess;
+
+        private CachedJwks(JWKSet jwkSet, String etag, String lastModified, Instant fetchedAt,
+                      CryptoConfiguration.Jwks config) {
+            this.jwkSet = jwkSet;
+            this.etag = etag;
+            this.lastModified = lastModified;
+            this.fetchedAt = fetchedAt;
+            this.expiresAt = fetchedAt.plus(config.getTtl());
+            this.refreshAt = expiresAt.minus(config.getRefreshAhead());
+            this.lastAccess = fetchedAt;
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.credguard.infra.crypto;
+
+import com.credguard.config.CryptoConfiguration;
+import com.nimbusds.jose.jwk.JWKSet;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.text.ParseException;
+import java.time.Duration;
+
+/**
+ * Fetches JWK sets over HTTP, using conditional requests when validators from a
+ * previous response are available.
+ */
+@Component
+public class JwksFetcher {
+
+    private static final Logger logger = LoggerFactory.getLogger(JwksFetcher.class);
+
+    private final HttpClient httpClient;
+    private final Duration readTimeout;
+
+    public JwksFetcher(CryptoConfiguration cryptoConfiguration) {
+        CryptoConfiguration.Jwks jwks = cryptoConfiguration.getJwks();
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(jwks.getConnectTimeout())
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .build();
+        this.readTimeout = jwks.getReadTimeout();
+    }
+
+    /**
+     * Fetches the JWK set at the given URL.
+     *
+     * @param url          the JWKS endpoint
+     * @param etag         ETag of the cached copy, sent as {@code If-None-Match}, may be null
+     * @param lastModified Last-Modified of the cached copy, sent as {@code If-Modified-Since}, may be null
+     * @return the fetch result; {@link FetchResult#notModified()} is true on HTTP 304
+     */
+    public FetchResult fetch(String url, String etag, String lastModified) throws IOException {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(url))
+                .timeout(readTimeout)
+                .header("Accept", "application/jwk-set+json, application/json")
+                .GET();
+
+        if (etag != null) {
+            builder.header("If-None-Match", etag);
+        }
+        if (lastModified != null) {
+            builder.header("If-Modified-Since", lastModified);
+        }
+
+        HttpResponse<String> response;
+        try {
+            response = httpClient.send(builder.build(), HttpResponse.BodyHandlers.ofString());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while fetching JWKS from " + url);
+        }
+
+        int status = response.statusCode();
+        if (status == 304) {
+            logger.debug("JWKS at {} not modified", url);
+            return FetchResult.unchanged();
+        }
+        if (status < 200 || status >= 300) {
+            throw new IOException("Unexpected HTTP status " + status + " fetching JWKS from " + url);
+        }
+
+        try {
+            JWKSet jwkSet = JWKSet.parse(response.body());
+            return new FetchResult(
+                    false,
+                    jwkSet,
+                    response.headers().firstValue("ETag").orElse(null),
+                    response.headers().firstValue("Last-Modified").orElse(null));
+        } catch (ParseException e) {
+            throw new IOException("Invalid JWKS document at " + url + ": " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Outcome of a JWKS fetch.
+     */
+    public record FetchResult(
+            boolean notModified,
+            JWKSet jwkSet,
+            String etag,
+            String lastModified
+    ) {
+
+        public static FetchResult unchanged() {
+            return new FetchResult(true, null, null, null);
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package com.credguard.infra.crypto;
+
+import com.credguard.config.CryptoConfiguration;
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSVerifier;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.JWKSet;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Cache of ready-to-use {@link JWSVerifier} instances keyed by JWKS URL, the key
+ * they verify with and algorithm, so public key material is decoded once per key
+ * rather than once per verification. The key is identified by its position in the
+ * set after resolution, never by the key ID a token asks for, so tokens with
+ * made-up key IDs cannot add entries. Verifiers are tied to the {@link JWKSet}
+ * instance they were built from and are dropped as soon as {@link JwksCache}
+ * rotates or evicts it; at most {@code crypto.jwks.max-verifiers} are kept,
+ * the oldest going first.
+ */
+@Component
+public class JwsVerifierCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(JwsVerifierCache.class);
+
+    private final JwsVerifierRegistry registry;
+    private final int maxVerifiers;
+    private final Map<VerifierKey, CachedVerifier> verifiers = new ConcurrentHashMap<>();
+    private final AtomicLong builds = new AtomicLong();
+    private final Counter hits;
+    private final Counter misses;
+
+    public JwsVerifierCache(JwksCache jwksCache, JwsVerifierRegistry registry, CryptoConfiguration cryptoConfiguration,
+                            MeterRegistry meterRegistry) {
+        this.registry = registry;
+        this.maxVerifiers = cryptoConfiguration.getJwks().getMaxVerifiers();
+        jwksCache.addKeySetListener(this::invalidate);
+        this.hits = verifierCounter(meterRegistry, "hit");
+        this.misses = verifierCounter(meterRegistry, "miss");
+        meterRegistry.gauge("credguard.jws.verifier.cache.size", verifiers, Map::size);
+    }
+
+    /**
+     * Returns a verifier for the key identified by {@code keyId} in the given JWK set.
+     * When the set holds a single key it is used regardless of key ID.
+     *
+     * @return the verifier, or null if the set has no matching key
+     * @throws JOSEException if the algorithm is not supported or does not fit the key
+     */
+    public JWSVerifier get(String jwkSetUrl, JWKSet jwkSet, String keyId, JWSAlgorithm algorithm)
+            throws JOSEException {
+        int keyIndex = selectKeyIndex(jwkSet, keyId);
+        if (keyIndex < 0) {
+            misses.increment();
+            return null;
+        }
+        VerifierKey key = new VerifierKey(jwkSetUrl, keyIndex, algorithm);
+        CachedVerifier cached = verifiers.get(key);
+        if (cached != null && cached.source() == jwkSet) {
+            hits.increment();
+            return cached.verifier();
+        }
+
+        misses.increment();
+        JWK jwk = jwkSet.getKeys().get(keyIndex);
+        JWSVerifier verifier = registry.createVerifier(algorithm, jwk);
+        putBounded(key, new CachedVerifier(verifier, jwkSet, builds.incrementAndGet()));
+        logger.debug("Built verifier for key {} ({}) from {}", jwk.getKeyID(), algorithm, jwkSetUrl);
+        return verifier;
+    }
+
+    /**
+     * Drops every verifier derived from the given JWKS URL.
+     */
+    public void invalidate(String jwkSetUrl) {
+        verifiers.keySet().removeIf(key -> key.jwkSetUrl().equals(jwkSetUrl));
+    }
+
+    int size() {
+        return verifiers.size();
+    }
+
+    static JWK selectKey(JWKSet jwkSet, String keyId) {
+        int keyIndex = selectKeyIndex(jwkSet, keyId);
+        return keyIndex >= 0 ? jwkSet.getKeys().get(keyIndex) : null;
+    }
+
+    /**
+     * Returns the position of the key with the given ID, or of the only key in a
+     * single-key set, or -1 if there is none.
+     */
+    private static int selectKeyIndex(JWKSet jwkSet, String keyId) {
+        List<JWK> keys = jwkSet.getKeys();
+        if (keyId != null) {
+            for (int i = 0; i < keys.size(); i++) {
+                if (keyId.equals(keys.get(i).getKeyID())) {
+                    return i;
+                }
+            }
+        }
+        return keys.size() == 1 ? 0 : -1;
+    }
+
+    /**
+     * Adds a verifier without letting the map grow past max-verifiers, dropping
+     * the oldest one to make room.
+     */
+    private void putBounded(VerifierKey key, CachedVerifier value) {
+        if (verifiers.size() >= maxVerifiers && !verifiers.containsKey(key)) {
+            verifiers.entrySet().stream()
+                    .min(Comparator.comparingLong(e -> e.getValue().built()))
+                    .ifPresent(oldest -> verifiers.remove(oldest.getKey(), oldest.getValue()));
+        }
+        verifiers.put(key, value);
+    }
+
+    private static Counter verifierCounter(MeterRegistry registry, String result) {
+        return Counter.builder("credguard.jws.verifier.cache")
+                .description("JWS verifier cache lookups")
+                .tag("result", result)
+                .register(registry);
+    }
+
+    private record VerifierKey(String jwkSetUrl, int keyIndex, JWSAlgorithm algorithm) {
+    }
+
+    private record CachedVerifier(JWSVerifier verifier, JWKSet source, long built) {
+    }
+}
@@ -0,0 +1,29 @@
+package com.credguard.infra.crypto;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSVerifier;
+import com.nimbusds.jose.jwk.JWK;
+
+import java.util.Set;
+
+/**
+ * Strategy interface for building JWS verifiers for one family of signature algorithms.
+ */
+public interface JwsVerifierProvider {
+
+    /**
+     * Returns the JWS algorithms this provider can verify.
+     */
+    Set<JWSAlgorithm> supportedAlgorithms();
+
+    /**
+     * Builds a verifier from a public key. The returned verifier holds the decoded
+     * key material and is safe to cache and share between threads.
+     *
+     * @param jwk the public key
+     * @return the verifier
+     * @throws JOSEException if the key type does not belong to this algorithm family
+     */
+    JWSVerifier createVerifier(JWK jwk) throws JOSEException;
+}
@@ -0,0 +1,58 @@
+package com.credguard.infra.crypto;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSVerifier;
+import com.nimbusds.jose.jwk.JWK;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Dispatches verifier construction to the {@link JwsVerifierProvider} registered
+ * for the JWS header algorithm. Algorithms without a provider, including
+ * {@code none} and the HMAC family, are rejected.
+ */
+@Component
+public class JwsVerifierRegistry {
+
+    private static final Logger logger = LoggerFactory.getLogger(JwsVerifierRegistry.class);
+    private final Map<JWSAlgorithm, JwsVerifierProvider> providers;
+
+    public JwsVerifierRegistry(List<JwsVerifierProvider> providers) {
+        Map<JWSAlgorithm, JwsVerifierProvider> byAlgorithm = new HashMap<>();
+        for (JwsVerifierProvider provider : providers) {
+            for (JWSAlgorithm algorithm : provider.supportedAlgorithms()) {
+                JwsVerifierProvider previous = byAlgorithm.putIfAbsent(algorithm, provider);
+                if (previous != null) {
+                    logger.warn("Algorithm {} already handled by {}, ignoring {}",
+                            algorithm, previous.getClass().getSimpleName(), provider.getClass().getSimpleName());
+                }
+            }
+        }
+        this.providers = Map.copyOf(byAlgorithm);
+        logger.info("JWS verifier registry initialized with algorithms: {}", this.providers.keySet());
+    }
+
+    /**
+     * Builds a verifier for {@code algorithm} from the given public key.
+     *
+     * @throws JOSEException if the algorithm is not supported, the key declares a
+     *                       different algorithm, or the key type does not fit
+     */
+    public JWSVerifier createVerifier(JWSAlgorithm algorithm, JWK jwk) throws JOSEException {
+        JwsVerifierProvider provider = providers.get(algorithm);
+        if (provider == null) {
+            throw new JOSEException("Unsupported JWS algorithm: " + algorithm);
+        }
+        if (jwk.getAlgorithm() != null && !jwk.getAlgorithm().getName().equals(algorithm.getName())) {
+            throw new JOSEException("Key " + jwk.getKeyID() + " is restricted to " + jwk.getAlgorithm()
+                    + ", token uses " + algorithm);
+        }
+        return provider.createVerifier(jwk);
+    }
+}
@@ -0,0 +1,289 @@
+package com.credguard.infra.crypto;
+
+import com.credguard.config.CryptoConfiguration;
+import com.credguard.infra.fs.DirectoryWatcher;
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.jwk.Curve;
+import com.nimbusds.jose.jwk.ECKey;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.OctetKeyPair;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.util.Base64URL;
+import com.nimbusds.jose.util.JSONObjectUtils;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.PublicKey;
+import java.security.cert.CertificateFactory;
+import java.security.cert.X509Certificate;
+import java.security.interfaces.ECPublicKey;
+import java.security.interfaces.RSAPublicKey;
+import java.security.spec.X509EncodedKeySpec;
+import java.text.ParseException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Stream;
+
+/**
+ * Issuer public keys loaded from a local directory so that verification does not
+ * depend on reaching issuer JWKS endpoints at request time.
+ *
+ * <p>Two file types are recognised:
+ * <ul>
+ *   <li>{@code *.json} - a JWK set. The issuer is taken from a top-level {@code "issuer"}
+ *       member, or from the URL-decoded file name when that member is absent.</li>
+ *   <li>{@code *.pem} - a single RSA, EC or Ed25519 public key or X.509 certificate. The key ID is the file
+ *       name; the issuer is read from an {@code Issuer:} line in the explanatory text
+ *       before the PEM block. Keys without an issuer match any issuer by key ID.</li>
+ * </ul>
+ *
+ * <p>The directory is indexed into an immutable snapshot that is swapped atomically
+ * when files change, so lookups never take a lock.
+ */
+@Component
+public class LocalIssuerKeyStore {
+
+    private static final Logger logger = LoggerFactory.getLogger(LocalIssuerKeyStore.class);
+    private static final String SOURCE_PREFIX = "trust-store:";
+    private static final String ANY_ISSUER = "*";
+
+    private final CryptoConfiguration.TrustStore config;
+    private final List<Runnable> reloadListeners = new CopyOnWriteArrayList<>();
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+    private DirectoryWatcher watcher;
+
+    public LocalIssuerKeyStore(CryptoConfiguration cryptoConfiguration) {
+        this.config = cryptoConfiguration.getTrustStore();
+    }
+
+    @PostConstruct
+    public void initialize() {
+        Path directory = directory();
+        if (directory == null) {
+            logger.info("No local trust store configured, issuer keys are resolved remotely");
+            return;
+        }
+        if (!Files.isDirectory(directory)) {
+            logger.warn("Trust store directory {} does not exist, issuer keys are resolved remotely", directory);
+            return;
+        }
+
+        reload();
+
+        if (config.isWatch()) {
+            try {
+                watcher = DirectoryWatcher.start(directory, Duration.ofMillis(250), this::reload);
+            } catch (IOException e) {
+                logger.warn("Cannot watch trust store directory {}: {}", directory, e.getMessage());
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (watcher != null) {
+            watcher.close();
+        }
+    }
+
+    /**
+     * Finds locally configured keys that can verify a token from {@code issuer}
+     * carrying {@code keyId}.
+     *
+     * @return the issuer's key set, a set of issuer-less keys matching the key ID, or
+     *         null when the trust store knows nothing about the issuer or key
+     */
+    public LocalKeys find(String issuer, String keyId) {
+        Snapshot current = snapshot;
+        if (issuer != null) {
+            LocalKeys keys = current.byIssuer().get(issuer);
+            if (keys != null) {
+                return keys;
+            }
+        }
+        if (keyId != null && current.unscoped().keys().getKeyByKeyId(keyId) != null) {
+            return current.unscoped();
+        }
+        return null;
+    }
+
+    /**
+     * Registers a listener that is called after every successful reload of the trust store.
+     */
+    public void addReloadListener(Runnable listener) {
+        reloadListeners.add(listener);
+    }
+
+    /**
+     * Re-reads the trust store directory and atomically replaces the in-memory index.
+     */
+    public void reload() {
+        Path directory = directory();
+        if (directory == null) {
+            return;
+        }
+
+        Map<String, List<JWK>> keysByIssuer = new HashMap<>();
+        try (Stream<Path> files = Files.list(directory)) {
+            files.filter(Files::isRegularFile)
+                    .sorted()
+                    .forEach(file -> loadFile(file, keysByIssuer));
+        } catch (IOException e) {
+            logger.error("Failed to list trust store directory {}, keeping previous keys", directory, e);
+            return;
+        }
+
+        Map<String, LocalKeys> byIssuer = new HashMap<>();
+        keysByIssuer.forEach((issuer, keys) -> {
+            if (!ANY_ISSUER.equals(issuer)) {
+                byIssuer.put(issuer, new LocalKeys(SOURCE_PREFIX + issuer, new JWKSet(keys)));
+            }
+        });
+        LocalKeys unscoped = new LocalKeys(SOURCE_PREFIX + ANY_ISSUER,
+                new JWKSet(keysByIssuer.getOrDefault(ANY_ISSUER, List.of())));
+
+        snapshot = new Snapshot(Map.copyOf(byIssuer), unscoped);
+        logger.info("Loaded trust store from {}: {} issuers, {} issuer-less keys",
+                directory, byIssuer.size(), unscoped.keys().getKeys().size());
+
+        for (Runnable listener : reloadListeners) {
+            try {
+                listener.run();
+            } catch (RuntimeException e) {
+                logger.warn("Trust store reload listener failed: {}", e.getMessage());
+            }
+        }
+    }
+
+    private Path directory() {
+        String directory = config.getDirectory();
+        return directory == null || directory.isBlank() ? null : Path.of(directory);
+    }
+
+    private void loadFile(Path file, Map<String, List<JWK>> keysByIssuer) {
+        String fileName = file.getFileName().toString();
+        try {
+            if (fileName.endsWith(".json")) {
+                loadJwks(file, stem(fileName), keysByIssuer);
+            } else if (fileName.endsWith(".pem")) {
+                loadPem(file, stem(fileName), keysByIssuer);
+            }
+        } catch (IOException | ParseException | GeneralSecurityException | JOSEException
+                 | IllegalArgumentException e) {
+            logger.error("Skipping invalid trust store file {}: {}", file, e.getMessage());
+        }
+    }
+
+    private void loadJwks(Path file, String stem, Map<String, List<JWK>> keysByIssuer)
+            throws IOException, ParseException {
+        Map<String, Object> json = JSONObjectUtils.parse(Files.readString(file));
+        String issuer = JSONObjectUtils.getString(json, "issuer");
+        if (issuer == null) {
+            issuer = URLDecoder.decode(stem, StandardCharsets.UTF_8);
+        }
+
+        List<JWK> keys = keysByIssuer.computeIfAbsent(issuer, k -> new ArrayList<>());
+        for (JWK jwk : JWKSet.parse(json).getKeys()) {
+            // Never keep private key material around, even if an operator drops it in
+            keys.add(jwk.toPublicJWK());
+        }
+    }
+
+    private void loadPem(Path file, String keyId, Map<String, List<JWK>> keysByIssuer)
+            throws IOException, GeneralSecurityException, JOSEException {
+        String content = Files.readString(file);
+        int begin = content.indexOf("-----BEGIN ");
+        if (begin < 0) {
+            throw new IOException("no PEM block found");
+        }
+
+        String issuer = ANY_ISSUER;
+        for (String line : content.substring(0, begin).split("\\R")) {
+            if (line.strip().startsWith("Issuer:")) {
+                issuer = line.strip().substring("Issuer:".length()).strip();
+            }
+        }
+
+        String block = content.substring(begin);
+        String label = block.substring("-----BEGIN ".length(), block.indexOf("-----", 11));
+        String base64 = block.replaceAll("-----(BEGIN|END) [A-Z ]+-----", "").replaceAll("\\s", "");
+        byte[] der = Base64.getDecoder().decode(base64);
+
+        PublicKey publicKey = switch (label) {
+            case "CERTIFICATE" -> ((X509Certificate) CertificateFactory.getInstance("X.509")
+                    .generateCertificate(new ByteArrayInputStream(der))).getPublicKey();
+            case "PUBLIC KEY" -> decodePublicKey(der);
+            default -> throw new IOException("unsupported PEM type " + label);
+        };
+
+        keysByIssuer.computeIfAbsent(issuer, k -> new ArrayList<>()).add(toJwk(publicKey, keyId));
+    }
+
+    private static PublicKey decodePublicKey(byte[] der) throws GeneralSecurityException {
+        X509EncodedKeySpec spec = new X509EncodedKeySpec(der);
+        GeneralSecurityException last = null;
+        for (String algorithm : new String[]{"RSA", "EC", "Ed25519"}) {
+            try {
+                return KeyFactory.getInstance(algorithm).generatePublic(spec);
+            } catch (GeneralSecurityException e) {
+                last = e;
+            }
+        }
+        throw last;
+    }
+
+    private static JWK toJwk(PublicKey publicKey, String keyId) throws JOSEException {
+        // Java 21: Pattern matching for instanceof
+        if (publicKey instanceof RSAPublicKey rsa) {
+            return new RSAKey.Builder(rsa).keyID(keyId).build();
+        }
+        if (publicKey instanceof ECPublicKey ec) {
+            Curve curve = Curve.forECParameterSpec(ec.getParams());
+            if (curve == null) {
+                throw new JOSEException("Unsupported elliptic curve");
+            }
+            return new ECKey.Builder(curve, ec).keyID(keyId).build();
+        }
+        if ("Ed25519".equals(publicKey.getAlgorithm()) || "EdDSA".equals(publicKey.getAlgorithm())) {
+            // The raw key is the trailing 32 bytes of the SubjectPublicKeyInfo encoding
+            byte[] encoded = publicKey.getEncoded();
+            byte[] raw = Arrays.copyOfRange(encoded, encoded.length - 32, encoded.length);
+            return new OctetKeyPair.Builder(Curve.Ed25519, Base64URL.encode(raw)).keyID(keyId).build();
+        }
+        throw new JOSEException("Unsupported public key algorithm " + publicKey.getAlgorithm());
+    }
+
+    private static String stem(String fileName) {
+        int dot = fileName.lastIndexOf('.');
+        return dot > 0 ? fileName.substring(0, dot) : fileName;
+    }
+
+    /**
+     * Locally configured keys together with a stable source name for verifier caching.
+     */
+    public record LocalKeys(String source, JWKSet keys) {
+    }
+
+    private record Snapshot(Map<String, LocalKeys> byIssuer, LocalKeys unscoped) {
+        private static final Snapshot EMPTY =
+                new Snapshot(Map.of(), new LocalKeys(SOURCE_PREFIX + ANY_ISSUER, new JWKSet()));
+    }
+}
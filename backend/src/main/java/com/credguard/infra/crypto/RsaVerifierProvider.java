@@ -0,0 +1,31 @@
+package com.credguard.infra.crypto;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSVerifier;
+import com.nimbusds.jose.crypto.RSASSAVerifier;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.RSAKey;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+
+/**
+ * Verifies RSASSA-PKCS1-v1_5 (RS*) and RSASSA-PSS (PS*) signatures.
+ */
+@Component
+public class RsaVerifierProvider implements JwsVerifierProvider {
+
+    @Override
+    public Set<JWSAlgorithm> supportedAlgorithms() {
+        return RSASSAVerifier.SUPPORTED_ALGORITHMS;
+    }
+
+    @Override
+    public JWSVerifier createVerifier(JWK jwk) throws JOSEException {
+        if (!(jwk instanceof RSAKey rsaKey)) {
+            throw new JOSEException("RSA signature requires an RSA key, got " + jwk.getKeyType());
+        }
+        return new RSASSAVerifier(rsaKey.toRSAPublicKey());
+    }
+}
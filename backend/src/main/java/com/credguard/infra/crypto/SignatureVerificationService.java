@@ -2,17 +2,13 @@ package com.credguard.infra.crypto;
 
 import com.nimbusds.jose.JWSHeader;
 import com.nimbusds.jose.JWSVerifier;
-import com.nimbusds.jose.crypto.RSASSAVerifier;
-import com.nimbusds.jose.jwk.JWK;
 import com.nimbusds.jose.jwk.JWKSet;
-import com.nimbusds.jose.jwk.RSAKey;
 import com.nimbusds.jwt.JWTClaimsSet;
 import com.nimbusds.jwt.SignedJWT;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 
-import java.net.URI;
 import java.text.ParseException;
 import java.util.Map;
 
@@ -23,6 +19,18 @@ import java.util.Map;
 public class SignatureVerificationService {
 
     private static final Logger logger = LoggerFactory.getLogger(SignatureVerificationService.class);
+    private final LocalIssuerKeyStore localKeyStore;
+    private final JwksCache jwksCache;
+    private final JwsVerifierCache verifierCache;
+
+    public SignatureVerificationService(
+            LocalIssuerKeyStore localKeyStore,
+            JwksCache jwksCache,
+            JwsVerifierCache verifierCache) {
+        this.localKeyStore = localKeyStore;
+        this.jwksCache = jwksCache;
+        this.verifierCache = verifierCache;
+    }
 
     public boolean verifySignature(String jwtString, String issuerPublicKeyUrl) {
         if (jwtString == null || jwtString.isBlank()) {
@@ -39,6 +47,14 @@ public class SignatureVerificationService {
                 return true;
             }
 
+            // Locally pinned issuer keys take precedence over any remote JWKS endpoint
+            String issuer = signedJWT.getJWTClaimsSet().getIssuer();
+            LocalIssuerKeyStore.LocalKeys localKeys = localKeyStore.find(issuer, header.getKeyID());
+            if (localKeys != null) {
+                logger.debug("Verifying JWT signature with trust store keys for issuer: {}", issuer);
+                return verifyWithLocalKeys(signedJWT, localKeys);
+            }
+
             if (issuerPublicKeyUrl != null && !issuerPublicKeyUrl.isBlank()) {
                 logger.debug("Verifying JWT signature with public key from: {}", issuerPublicKeyUrl);
                 return verifyWithPublicKey(signedJWT, issuerPublicKeyUrl);
@@ -56,29 +72,44 @@ public class SignatureVerificationService {
         }
     }
 
+    private boolean verifyWithLocalKeys(SignedJWT signedJWT, LocalIssuerKeyStore.LocalKeys localKeys) {
+        try {
+            JWSHeader header = signedJWT.getHeader();
+            JWSVerifier verifier = verifierCache.get(
+                    localKeys.source(), localKeys.keys(), header.getKeyID(), header.getAlgorithm());
+            if (verifier == null) {
+                logger.error("No matching key found in trust store for {}", localKeys.source());
+                return false;
+            }
+
+            boolean verified = signedJWT.verify(verifier);
+            logger.debug("JWT signature verification result: {}", verified);
+            return verified;
+
+        } catch (Exception e) {
+            logger.error("Failed to verify signature with trust store keys from: {}", localKeys.source(), e);
+            return false;
+        }
+    }
+
     private boolean verifyWithPublicKey(SignedJWT signedJWT, String jwkSetUrl) {
         try {
-            JWKSet jwkSet = JWKSet.load(URI.create(jwkSetUrl).toURL());
+            JWKSet jwkSet = jwksCache.get(jwkSetUrl);
             JWSHeader header = signedJWT.getHeader();
 
-            JWK jwk = jwkSet.getKeyByKeyId(header.getKeyID());
-            if (jwk == null && jwkSet.getKeys().size() == 1) {
-                jwk = jwkSet.getKeys().iterator().next();
+            JWSVerifier verifier = verifierCache.get(
+                    jwkSetUrl, jwkSet, header.getKeyID(), header.getAlgorithm());
+            if (verifier == null) {
+                JWKSet refreshed = jwksCache.refreshForUnknownKey(jwkSetUrl, header.getKeyID());
+                if (refreshed != null) {
+                    verifier = verifierCache.get(jwkSetUrl, refreshed, header.getKeyID(), header.getAlgorithm());
+                }
             }
-
-            if (jwk == null) {
+            if (verifier == null) {
                 logger.error("No matching key found in JWK set");
                 return false;
             }
 
-            // Java 21: Pattern matching for instanceof - combines type check and cast
-            if (!(jwk instanceof RSAKey rsaKey)) {
-                logger.error("Only RSA keys are currently supported");
-                return false;
-            }
-
-            JWSVerifier verifier = new RSASSAVerifier(rsaKey);
-
             boolean verified = signedJWT.verify(verifier);
             logger.debug("JWT signature verification result: {}", verified);
             return verified;
@@ -0,0 +1,95 @@
+package com.credguard.infra.fs;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Watches a single directory and invokes a callback on a daemon thread after
+ * its contents change. Bursts of events (editors writing temp files, copies of
+ * several files) are collapsed into one callback once the directory has been
+ * quiet for the debounce interval.
+ */
+public class DirectoryWatcher implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(DirectoryWatcher.class);
+
+    private final Path directory;
+    private final Runnable onChange;
+    private final Duration debounce;
+    private final WatchService watchService;
+    private final Thread thread;
+
+    private DirectoryWatcher(Path directory, Runnable onChange, Duration debounce) throws IOException {
+        this.directory = directory;
+        this.onChange = onChange;
+        this.debounce = debounce;
+        this.watchService = FileSystems.getDefault().newWatchService();
+        directory.register(watchService,
+                StandardWatchEventKinds.ENTRY_CREATE,
+                StandardWatchEventKinds.ENTRY_MODIFY,
+                StandardWatchEventKinds.ENTRY_DELETE);
+        this.thread = new Thread(this::run, "dir-watch-" + directory.getFileName());
+        this.thread.setDaemon(true);
+    }
+
+    /**
+     * Starts watching the directory.
+     */
+    public static DirectoryWatcher start(Path directory, Duration debounce, Runnable onChange) throws IOException {
+        DirectoryWatcher watcher = new DirectoryWatcher(directory, onChange, debounce);
+        watcher.thread.start();
+        logger.info("Watching {} for changes", directory);
+        return watcher;
+    }
+
+    @Override
+    public void close() {
+        thread.interrupt();
+        try {
+            watchService.close();
+        } catch (IOException e) {
+            logger.debug("Failed to close watch service for {}", directory, e);
+        }
+    }
+
+    private void run() {
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                WatchKey key = watchService.take();
+                drain(key);
+
+                // Keep collecting until the directory has been quiet for the debounce interval
+                WatchKey next;
+                while ((next = watchService.poll(debounce.toMillis(), TimeUnit.MILLISECONDS)) != null) {
+                    drain(next);
+                }
+
+                try {
+                    onChange.run();
+                } catch (RuntimeException e) {
+                    logger.error("Change handler failed for {}", directory, e);
+                }
+            }
+        } catch (InterruptedException | ClosedWatchServiceException e) {
+            Thread.currentThread().interrupt();
+        }
+        logger.debug("Stopped watching {}", directory);
+    }
+
+    private void drain(WatchKey key) {
+        key.pollEvents();
+        if (!key.reset()) {
+            logger.warn("Watch key for {} is no longer valid", directory);
+        }
+    }
+}
@@ -0,0 +1,379 @@
+package com.credguard.infra.json;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.math.BigInteger;
+import java.nio.ByteOrder;
+import java.security.DigestException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * SHA-256 of values written in the JSON Canonicalization Scheme (RFC 8785), the
+ * same form {@link JsonCanonicalizer} produces, streamed straight into the digest
+ * as UTF-8 without building a tree or a string. Maps, lists, strings, numbers,
+ * booleans and Jackson trees are written directly; anything else is converted to a
+ * tree first.
+ *
+ * <p>Not thread-safe: an instance holds the digest state and a small output
+ * buffer, and is meant to be reused by one caller at a time.
+ */
+public final class CanonicalJsonDigest {
+
+    private static final VarHandle LONGS = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.BIG_ENDIAN);
+    private static final byte[] HEX = "0123456789abcdef".getBytes();
+    /** Objects with more members than this are sorted in a copy rather than by repeated scans. */
+    private static final int SCAN_SORT_LIMIT = 16;
+
+    private final ObjectMapper objectMapper;
+    private final MessageDigest digest;
+    private final byte[] buffer = new byte[512];
+    private final byte[] hash = new byte[32];
+    private final char[] digits = new char[20];
+    private int length;
+    private int depth;
+    private long firstMember;
+
+    public CanonicalJsonDigest(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+        try {
+            this.digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * Discards anything written since the last {@link #finish()}.
+     */
+    public void reset() {
+        digest.reset();
+        length = 0;
+        depth = 0;
+        firstMember = 0;
+    }
+
+    /**
+     * Opens an object whose members the caller writes, in sorted order, with
+     * {@link #member(String)}.
+     */
+    public void beginObject() {
+        write('{');
+        depth++;
+        firstMember |= 1L << depth;
+    }
+
+    /**
+     * Writes a member name and its separators; the member's value follows.
+     */
+    public void member(String name) {
+        element();
+        string(name);
+        write(':');
+    }
+
+    public void endObject() {
+        write('}');
+        depth--;
+    }
+
+    /**
+     * Opens an array whose values the caller writes, each after {@link #element()}.
+     */
+    public void beginArray() {
+        write('[');
+        depth++;
+        firstMember |= 1L << depth;
+    }
+
+    /**
+     * Writes the separator before an array value.
+     */
+    public void element() {
+        long bit = 1L << depth;
+        if ((firstMember & bit) == 0) {
+            write(',');
+        }
+        firstMember &= ~bit;
+    }
+
+    public void endArray() {
+        write(']');
+        depth--;
+    }
+
+    /**
+     * Writes a value in canonical form.
+     *
+     * @throws IllegalArgumentException if the value holds NaN or an infinite number
+     */
+    public void value(Object value) {
+        if (value == null) {
+            ascii("null");
+        } else if (value instanceof String text) {
+            string(text);
+        } else if (value instanceof Boolean flag) {
+            ascii(flag ? "true" : "false");
+        } else if (value instanceof Integer || value instanceof Long || value instanceof Short
+                || value instanceof Byte) {
+            number(((Number) value).longValue());
+        } else if (value instanceof BigInteger integer && integer.bitLength() < 64) {
+            number(integer.longValue());
+        } else if (value instanceof Number number) {
+            decimal(number.doubleValue());
+        } else if (value instanceof Map<?, ?> map) {
+            object(map);
+        } else if (value instanceof Collection<?> values) {
+            write('[');
+            boolean first = true;
+            for (Object element : values) {
+                if (!first) {
+                    write(',');
+                }
+                first = false;
+                value(element);
+            }
+            write(']');
+        } else if (value instanceof JsonNode node) {
+            tree(node);
+        } else {
+            tree(objectMapper.valueToTree(value));
+        }
+    }
+
+    public void number(long value) {
+        if (value == Long.MIN_VALUE) {
+            ascii(Long.toString(value));
+            return;
+        }
+        if (value < 0) {
+            write('-');
+            value = -value;
+        }
+        int count = 0;
+        do {
+            digits[count++] = (char) ('0' + value % 10);
+            value /= 10;
+        } while (value != 0);
+        while (count > 0) {
+            write(digits[--count]);
+        }
+    }
+
+    /**
+     * Completes the digest of everything written since the last reset. The
+     * result is read with {@link #word(int)} and the instance is ready for reuse.
+     */
+    public void finish() {
+        flush();
+        try {
+            digest.digest(hash, 0, hash.length);
+        } catch (DigestException e) {
+            throw new IllegalStateException("Cannot complete SHA-256", e);
+        }
+        length = 0;
+        depth = 0;
+        firstMember = 0;
+    }
+
+    /**
+     * Returns one of the four 64-bit words of the last finished digest.
+     */
+    public long word(int index) {
+        return (long) LONGS.get(hash, index * Long.BYTES);
+    }
+
+    private void object(Map<?, ?> map) {
+        write('{');
+        if (map.size() > SCAN_SORT_LIMIT || !stringKeys(map)) {
+            sortedCopy(map);
+        } else {
+            // Emit members in order by repeatedly finding the next key; no copy for small objects
+            String previous = null;
+            for (int i = 0; i < map.size(); i++) {
+                String next = null;
+                Object nextValue = null;
+                for (Map.Entry<?, ?> entry : map.entrySet()) {
+                    String key = (String) entry.getKey();
+                    if ((previous == null || key.compareTo(previous) > 0) && (next == null || key.compareTo(next) < 0)) {
+                        next = key;
+                        nextValue = entry.getValue();
+                    }
+                }
+                if (i > 0) {
+                    write(',');
+                }
+                string(next);
+                write(':');
+                value(nextValue);
+                previous = next;
+            }
+        }
+        write('}');
+    }
+
+    private void sortedCopy(Map<?, ?> map) {
+        String[] keys = new String[map.size()];
+        Object[] values = new Object[map.size()];
+        int i = 0;
+        for (Map.Entry<?, ?> entry : map.entrySet()) {
+            keys[i] = String.valueOf(entry.getKey());
+            values[i] = entry.getValue();
+            i++;
+        }
+        Integer[] order = new Integer[keys.length];
+        for (i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        // String.compareTo orders by UTF-16 code units, exactly as RFC 8785 requires
+        Arrays.sort(order, (a, b) -> keys[a].compareTo(keys[b]));
+        for (i = 0; i < order.length; i++) {
+            if (i > 0) {
+                write(',');
+            }
+            string(keys[order[i]]);
+            write(':');
+            value(values[order[i]]);
+        }
+    }
+
+    private static boolean stringKeys(Map<?, ?> map) {
+        for (Object key : map.keySet()) {
+            if (!(key instanceof String)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void tree(JsonNode node) {
+        switch (node.getNodeType()) {
+            case OBJECT -> {
+                List<Map.Entry<String, JsonNode>> members = new ArrayList<>(node.size());
+                Iterator<Map.Entry<String, JsonNode>> fields = node.fields();
+                while (fields.hasNext()) {
+                    members.add(fields.next());
+                }
+                members.sort(Map.Entry.comparingByKey());
+                write('{');
+                for (int i = 0; i < members.size(); i++) {
+                    if (i > 0) {
+                        write(',');
+                    }
+                    string(members.get(i).getKey());
+                    write(':');
+                    tree(members.get(i).getValue());
+                }
+                write('}');
+            }
+            case ARRAY -> {
+                write('[');
+                for (int i = 0; i < node.size(); i++) {
+                    if (i > 0) {
+                        write(',');
+                    }
+                    tree(node.get(i));
+                }
+                write(']');
+            }
+            case STRING -> string(node.textValue());
+            case NUMBER -> {
+                if (node.isIntegralNumber() && node.canConvertToLong()) {
+                    number(node.longValue());
+                } else {
+                    decimal(node.doubleValue());
+                }
+            }
+            case BOOLEAN -> ascii(node.booleanValue() ? "true" : "false");
+            case NULL, MISSING -> ascii("null");
+            default -> string(node.asText());
+        }
+    }
+
+    private void decimal(double value) {
+        if (Double.isNaN(value) || Double.isInfinite(value)) {
+            throw new IllegalArgumentException("NaN and Infinity are not valid JSON numbers");
+        }
+        ascii(JsonCanonicalizer.formatDouble(value));
+    }
+
+    private void string(String value) {
+        write('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> escape('"');
+                case '\\' -> escape('\\');
+                case '\b' -> escape('b');
+                case '\f' -> escape('f');
+                case '\n' -> escape('n');
+                case '\r' -> escape('r');
+                case '\t' -> escape('t');
+                default -> {
+                    if (c < 0x20) {
+                        escape('u');
+                        write('0');
+                        write('0');
+                        write((char) HEX[c >>> 4]);
+                        write((char) HEX[c & 0xf]);
+                    } else if (c < 0x80) {
+                        write(c);
+                    } else if (c < 0x800) {
+                        write((char) (0xc0 | c >>> 6));
+                        write((char) (0x80 | c & 0x3f));
+                    } else if (Character.isHighSurrogate(c) && i + 1 < value.length()
+                            && Character.isLowSurrogate(value.charAt(i + 1))) {
+                        int codePoint = Character.toCodePoint(c, value.charAt(++i));
+                        write((char) (0xf0 | codePoint >>> 18));
+                        write((char) (0x80 | codePoint >>> 12 & 0x3f));
+                        write((char) (0x80 | codePoint >>> 6 & 0x3f));
+                        write((char) (0x80 | codePoint & 0x3f));
+                    } else if (Character.isSurrogate(c)) {
+                        // Unpaired surrogate: encoded as '?', as String.getBytes(UTF_8) does
+                        write('?');
+                    } else {
+                        write((char) (0xe0 | c >>> 12));
+                        write((char) (0x80 | c >>> 6 & 0x3f));
+                        write((char) (0x80 | c & 0x3f));
+                    }
+                }
+            }
+        }
+        write('"');
+    }
+
+    private void escape(char c) {
+        write('\\');
+        write(c);
+    }
+
+    private void ascii(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            write(text.charAt(i));
+        }
+    }
+
+    /**
+     * Appends one byte, given as a char holding a value below 256.
+     */
+    private void write(char b) {
+        if (length == buffer.length) {
+            flush();
+        }
+        buffer[length++] = (byte) b;
+    }
+
+    private void flush() {
+        digest.update(buffer, 0, length);
+        length = 0;
+    }
+}
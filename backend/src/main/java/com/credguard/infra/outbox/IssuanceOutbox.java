@@ -0,0 +1,399 @@
+package com.credguard.infra.outbox;
+
+import com.credguard.config.IssuanceConfiguration;
+import com.credguard.domain.PhysicalDocument;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Durable record of accepted issuance jobs that have not finished yet.
+ *
+ * <p>Entries are appended as JSON lines to {@code issuance.outbox.file}. A single
+ * writer thread drains every record queued since its last write, writes them and
+ * calls {@code fsync} once for the whole batch; callers block until their record
+ * is on disk. Under load one sync therefore covers many jobs. If a batch cannot
+ * be written or synced, the file is cut back to where the batch began and no
+ * caller in it is acknowledged, so a job reported as failed is never replayed.
+ *
+ * <p>On startup the file is replayed and the jobs that were accepted but never
+ * completed are handed back once through {@link #recover()}. Only a torn final
+ * line is skipped; an unreadable line anywhere else fails startup, since it may
+ * be the completion of a job that would otherwise run twice. The file is rewritten
+ * with only the unfinished jobs on startup and then every
+ * {@code issuance.outbox.compact-interval}. Without a configured file the outbox
+ * keeps nothing and jobs do not survive a restart.
+ */
+@Component
+public class IssuanceOutbox {
+
+    private static final Logger logger = LoggerFactory.getLogger(IssuanceOutbox.class);
+    private static final String ACCEPTED = "ACCEPTED";
+    private static final String DONE = "DONE";
+    private static final int MAX_BATCH = 256;
+
+    private final IssuanceConfiguration.Outbox config;
+    private final Clock clock;
+    private final ObjectMapper objectMapper = JsonMapper.builder()
+            .addModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+            .build();
+
+    /** Unfinished jobs by ID. Written only by the writer thread after startup. */
+    private final Map<String, PendingIssuance> pending = new LinkedHashMap<>();
+    private final BlockingQueue<Write> queue = new LinkedBlockingQueue<>();
+    private List<PendingIssuance> recovered = List.of();
+    private Path file;
+    private FileChannel channel;
+    private volatile Thread writer;
+    private volatile boolean closed;
+    private Instant lastCompaction;
+    private long completedSinceCompaction;
+
+    @Autowired
+    public IssuanceOutbox(IssuanceConfiguration issuanceConfiguration) {
+        this(issuanceConfiguration, Clock.systemUTC());
+    }
+
+    IssuanceOutbox(IssuanceConfiguration issuanceConfiguration, Clock clock) {
+        this.config = issuanceConfiguration.getOutbox();
+        this.clock = clock;
+    }
+
+    @PostConstruct
+    public void initialize() {
+        String configured = config.getFile();
+        if (configured == null || configured.isBlank()) {
+            logger.info("No issuance outbox file configured, accepted jobs are not persisted");
+            return;
+        }
+
+        file = Path.of(configured).toAbsolutePath();
+        try {
+            if (file.getParent() != null) {
+                Files.createDirectories(file.getParent());
+            }
+            if (Files.exists(file)) {
+                replay(Files.readAllLines(file, StandardCharsets.UTF_8));
+            }
+            recovered = List.copyOf(pending.values());
+            compact();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot open issuance outbox " + file, e);
+        }
+
+        writer = new Thread(this::runWriter, "issuance-outbox-writer");
+        writer.setDaemon(true);
+        writer.start();
+        logger.info("Issuance outbox {} opened with {} unfinished jobs", file, recovered.size());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (writer == null) {
+            return;
+        }
+        closed = true;
+        queue.add(Write.STOP);
+        try {
+            writer.join(TimeUnit.SECONDS.toMillis(10));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        writer = null;
+        closeChannel();
+    }
+
+    /**
+     * Returns the jobs that were accepted before the last shutdown or crash but
+     * never completed. The outbox lets go of them, so later calls return nothing.
+     */
+    public synchronized List<PendingIssuance> recover() {
+        List<PendingIssuance> jobs = recovered;
+        recovered = List.of();
+        return jobs;
+    }
+
+    /**
+     * Records an accepted job and returns once it is durable.
+     *
+     * @throws IOException if the record could not be written or synced
+     */
+    public void append(PendingIssuance issuance) throws IOException {
+        submit(new Write(ACCEPTED, issuance.jobId(), issuance));
+    }
+
+    /**
+     * Records that a job finished, successfully or not, so it is not replayed.
+     *
+     * @throws IOException if the record could not be written or synced
+     */
+    public void complete(String jobId) throws IOException {
+        submit(new Write(DONE, jobId, null));
+    }
+
+    private void submit(Write write) throws IOException {
+        if (writer == null) {
+            return;
+        }
+        if (closed) {
+            throw new IOException("Issuance outbox is closed");
+        }
+        queue.add(write);
+        try {
+            write.synced.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for the issuance outbox");
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof IOException io ? io : new IOException(e.getCause());
+        }
+    }
+
+    private void runWriter() {
+        List<Write> batch = new ArrayList<>(MAX_BATCH);
+        boolean running = true;
+        while (running) {
+            try {
+                Write first = queue.poll(config.getCompactInterval().toMillis(), TimeUnit.MILLISECONDS);
+                if (first != null) {
+                    batch.add(first);
+                    queue.drainTo(batch, MAX_BATCH - 1);
+                    running = writeBatch(batch);
+                    batch.clear();
+                }
+                if (completedSinceCompaction > 0
+                        && !clock.instant().isBefore(lastCompaction.plus(config.getCompactInterval()))) {
+                    compact();
+                }
+            } catch (InterruptedException e) {
+                running = false;
+            } catch (IOException e) {
+                logger.error("Failed to compact issuance outbox {}", file, e);
+                lastCompaction = clock.instant();
+            }
+        }
+        Write late;
+        while ((late = queue.poll()) != null) {
+            late.synced.completeExceptionally(new IOException("Issuance outbox is closed"));
+        }
+    }
+
+    /**
+     * Writes and syncs one batch.
+     *
+     * @return false if the batch contained the stop marker
+     */
+    private boolean writeBatch(List<Write> batch) {
+        boolean running = true;
+        List<Write> written = new ArrayList<>(batch.size());
+        long start = -1;
+        try {
+            if (channel == null) {
+                channel = FileChannel.open(file, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+            }
+            start = channel.size();
+            for (Write write : batch) {
+                if (write == Write.STOP) {
+                    running = false;
+                    continue;
+                }
+                writeLine(channel, write);
+                written.add(write);
+            }
+            force(channel);
+        } catch (IOException e) {
+            logger.error("Failed to write issuance outbox {}", file, e);
+            discardFrom(start);
+            for (Write write : batch) {
+                write.synced.completeExceptionally(e);
+            }
+            return running;
+        }
+
+        // Only durable records change what a restart would replay
+        for (Write write : written) {
+            if (write.type.equals(ACCEPTED)) {
+                pending.put(write.jobId, write.issuance);
+            } else if (pending.remove(write.jobId) != null) {
+                completedSinceCompaction++;
+            }
+        }
+        logger.trace("Synced {} issuance outbox records", written.size());
+        written.forEach(write -> write.synced.complete(null));
+        return running;
+    }
+
+    void force(FileChannel target) throws IOException {
+        target.force(false);
+    }
+
+    /**
+     * Removes whatever part of a failed batch reached the file, truncating back to
+     * where it began or, failing that, rewriting the file from the pending jobs.
+     */
+    private void discardFrom(long start) {
+        if (start < 0) {
+            return;
+        }
+        try {
+            channel.truncate(start);
+            force(channel);
+            return;
+        } catch (IOException e) {
+            logger.error("Failed to truncate issuance outbox {} after a failed write", file, e);
+        }
+        try {
+            compact();
+        } catch (IOException e) {
+            logger.error("Failed to rewrite issuance outbox {}; unacknowledged jobs may be replayed", file, e);
+        }
+    }
+
+    private void writeLine(FileChannel target, Write write) throws IOException {
+        Map<String, Object> record = new LinkedHashMap<>();
+        record.put("type", write.type);
+        record.put("jobId", write.jobId);
+        if (write.issuance != null) {
+            record.put("issuance", write.issuance);
+        }
+        byte[] json;
+        try {
+            json = objectMapper.writeValueAsBytes(record);
+        } catch (JsonProcessingException e) {
+            throw new IOException("Cannot serialise outbox record for job " + write.jobId, e);
+        }
+        ByteBuffer line = ByteBuffer.allocate(json.length + 1).put(json).put((byte) '\n').flip();
+        while (line.hasRemaining()) {
+            target.write(line);
+        }
+    }
+
+    private void replay(List<String> lines) throws IOException {
+        int last = lines.size() - 1;
+        while (last >= 0 && lines.get(last).isBlank()) {
+            last--;
+        }
+        for (int i = 0; i <= last; i++) {
+            String line = lines.get(i);
+            if (line.isBlank()) {
+                continue;
+            }
+            try {
+                Record record = objectMapper.readValue(line, Record.class);
+                if (ACCEPTED.equals(record.type()) && record.issuance() != null) {
+                    pending.put(record.jobId(), record.issuance());
+                } else if (DONE.equals(record.type())) {
+                    pending.remove(record.jobId());
+                }
+            } catch (JsonProcessingException e) {
+                if (i < last) {
+                    throw new IOException("Issuance outbox " + file + " is corrupt at line " + (i + 1)
+                            + "; move it aside once the jobs it lists have been checked", e);
+                }
+                // A torn final line from a crash mid-write; the job was never acknowledged
+                logger.warn("Skipping unreadable final issuance outbox line: {}", e.getOriginalMessage());
+            }
+        }
+    }
+
+    /**
+     * Rewrites the file with only the unfinished jobs and switches appends to it.
+     */
+    private void compact() throws IOException {
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        try (FileChannel rewritten = FileChannel.open(temp, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            for (PendingIssuance issuance : pending.values()) {
+                writeLine(rewritten, new Write(ACCEPTED, issuance.jobId(), issuance));
+            }
+            rewritten.force(false);
+        }
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        closeChannel();
+        channel = FileChannel.open(file, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+
+        logger.debug("Compacted issuance outbox {} to {} unfinished jobs ({} completed dropped)",
+                file, pending.size(), completedSinceCompaction);
+        completedSinceCompaction = 0;
+        lastCompaction = clock.instant();
+    }
+
+    private void closeChannel() {
+        if (channel != null) {
+            try {
+                channel.close();
+            } catch (IOException e) {
+                logger.warn("Failed to close issuance outbox: {}", e.getMessage());
+            }
+            channel = null;
+        }
+    }
+
+    /**
+     * An accepted issuance job with everything needed to run it again.
+     */
+    public record PendingIssuance(
+            String jobId,
+            Instant submittedAt,
+            String fileName,
+            PhysicalDocument.DocumentType documentType,
+            String walletDid,
+            byte[] document
+    ) {
+    }
+
+    private record Record(
+            String type,
+            String jobId,
+            PendingIssuance issuance
+    ) {
+    }
+
+    private static final class Write {
+        static final Write STOP = new Write("STOP", null, null);
+
+        final String type;
+        final String jobId;
+        final PendingIssuance issuance;
+        final CompletableFuture<Void> synced = new CompletableFuture<>();
+
+        Write(String type, String jobId, PendingIssuance issuance) {
+            this.type = type;
+            this.jobId = jobId;
+            this.issuance = issuance;
+        }
+    }
+}
@@ -0,0 +1,247 @@
+package com.credguard.infra.revocation;
+
+import com.credguard.config.RevocationConfiguration;
+import com.credguard.domain.CredentialRevokedEvent;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * In-memory index of revoked credential IDs, answering revocation checks without a
+ * network call.
+ *
+ * <p>A Bloom filter sits in front of an exact set: the common case of a credential
+ * that was never revoked is rejected by the filter after a handful of bit probes,
+ * and only filter hits fall through to the set, which rules out false positives.
+ * Both structures are safe for lock-free concurrent reads.
+ *
+ * <p>Revocations are appended to a snapshot file (one ID per line) and forced to
+ * disk before they become visible, and the file is replayed on startup.
+ */
+@Component
+public class RevokedCredentialIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(RevokedCredentialIndex.class);
+
+    private final RevocationConfiguration config;
+    private final Set<String> revoked = ConcurrentHashMap.newKeySet();
+    private volatile BloomFilter filter;
+    private FileChannel snapshot;
+
+    public RevokedCredentialIndex(RevocationConfiguration config) {
+        this.config = config;
+        this.filter = new BloomFilter(config.getExpectedRevocations(), config.getFalsePositiveRate());
+    }
+
+    @PostConstruct
+    public synchronized void initialize() {
+        Path file = snapshotFile();
+        if (file == null) {
+            logger.info("No revocation snapshot file configured, revocations are kept in memory only");
+            return;
+        }
+
+        try {
+            if (Files.exists(file)) {
+                List<String> lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+                for (String line : lines) {
+                    String credentialId = line.strip();
+                    if (!credentialId.isEmpty() && revoked.add(credentialId)) {
+                        filter.put(credentialId);
+                    }
+                }
+                ensureCapacity();
+            } else if (file.toAbsolutePath().getParent() != null) {
+                Files.createDirectories(file.toAbsolutePath().getParent());
+            }
+            snapshot = FileChannel.open(file, StandardOpenOption.CREATE,
+                    StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot open revocation snapshot " + file, e);
+        }
+        logger.info("Loaded {} revoked credential IDs from {}", revoked.size(), file);
+    }
+
+    @PreDestroy
+    public synchronized void shutdown() {
+        if (snapshot != null) {
+            try {
+                snapshot.close();
+            } catch (IOException e) {
+                logger.warn("Failed to close revocation snapshot: {}", e.getMessage());
+            }
+            snapshot = null;
+        }
+    }
+
+    /**
+     * Returns whether the credential has been revoked. Never allocates.
+     */
+    public boolean isRevoked(String credentialId) {
+        if (credentialId == null) {
+            return false;
+        }
+        return filter.mightContain(credentialId) && revoked.contains(credentialId);
+    }
+
+    /**
+     * Records a revocation, persisting it before it becomes visible to readers.
+     *
+     * @return true if the credential was not already known to be revoked
+     */
+    public synchronized boolean markRevoked(String credentialId) {
+        if (revoked.contains(credentialId)) {
+            return false;
+        }
+        append(credentialId);
+        // Filter first: a reader that sees the ID in the set must also pass the filter
+        filter.put(credentialId);
+        revoked.add(credentialId);
+        ensureCapacity();
+        return true;
+    }
+
+    /**
+     * Applies revocations before other listeners react, so a verification that
+     * starts once the result cache has dropped the credential already sees it
+     * revoked. Verifications already running are kept out of the cache by its
+     * invalidation version.
+     */
+    @EventListener
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void onCredentialRevoked(CredentialRevokedEvent event) {
+        if (markRevoked(event.credentialId())) {
+            logger.info("Credential {} added to the revocation index", event.credentialId());
+        }
+    }
+
+    public int size() {
+        return revoked.size();
+    }
+
+    private void append(String credentialId) {
+        if (snapshot == null) {
+            return;
+        }
+        try {
+            ByteBuffer line = ByteBuffer.wrap((credentialId + "\n").getBytes(StandardCharsets.UTF_8));
+            while (line.hasRemaining()) {
+                snapshot.write(line);
+            }
+            snapshot.force(false);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to persist revocation of " + credentialId, e);
+        }
+    }
+
+    /**
+     * Doubles the filter once it holds more IDs than it was sized for, so the
+     * false-positive rate stays near the configured target as the index grows.
+     */
+    private void ensureCapacity() {
+        if (revoked.size() <= filter.capacity()) {
+            return;
+        }
+        BloomFilter grown = new BloomFilter(Math.max(revoked.size(), filter.capacity()) * 2L,
+                config.getFalsePositiveRate());
+        for (String credentialId : revoked) {
+            grown.put(credentialId);
+        }
+        filter = grown;
+        logger.info("Resized revocation filter to {} IDs", grown.capacity());
+    }
+
+    private Path snapshotFile() {
+        String file = config.getSnapshotFile();
+        return file == null || file.isBlank() ? null : Path.of(file);
+    }
+
+    /**
+     * Fixed-size Bloom filter over strings using double hashing of two 64-bit hashes.
+     * Bits are only ever set, so concurrent readers need no locking.
+     */
+    static final class BloomFilter {
+
+        private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+        private static final long FNV_PRIME = 0x100000001b3L;
+
+        private final AtomicLongArray bits;
+        private final long bitCount;
+        private final int hashCount;
+        private final long capacity;
+
+        BloomFilter(long expectedInsertions, double falsePositiveRate) {
+            long n = Math.max(1, expectedInsertions);
+            double p = Math.min(Math.max(falsePositiveRate, 1e-9), 0.5);
+            long m = (long) Math.ceil(-n * Math.log(p) / (Math.log(2) * Math.log(2)));
+            this.bitCount = Math.max(64, (m + 63) / 64 * 64);
+            this.hashCount = Math.max(1, (int) Math.round((double) bitCount / n * Math.log(2)));
+            this.bits = new AtomicLongArray(Math.toIntExact(bitCount / 64));
+            this.capacity = n;
+        }
+
+        void put(String value) {
+            long h1 = hash(value, FNV_OFFSET);
+            long h2 = hash(value, ~FNV_OFFSET) | 1;
+            for (int i = 0; i < hashCount; i++) {
+                long bit = Math.floorMod(h1 + i * h2, bitCount);
+                int word = (int) (bit >>> 6);
+                long mask = 1L << bit;
+                long current;
+                do {
+                    current = bits.get(word);
+                } while ((current & mask) == 0 && !bits.compareAndSet(word, current, current | mask));
+            }
+        }
+
+        boolean mightContain(String value) {
+            long h1 = hash(value, FNV_OFFSET);
+            long h2 = hash(value, ~FNV_OFFSET) | 1;
+            for (int i = 0; i < hashCount; i++) {
+                long bit = Math.floorMod(h1 + i * h2, bitCount);
+                if ((bits.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        long capacity() {
+            return capacity;
+        }
+
+        /**
+         * FNV-1a over the UTF-16 code units followed by a MurmurHash3 finaliser.
+         */
+        private static long hash(String value, long seed) {
+            long h = seed;
+            for (int i = 0; i < value.length(); i++) {
+                h = (h ^ value.charAt(i)) * FNV_PRIME;
+            }
+            h ^= h >>> 33;
+            h *= 0xff51afd7ed558ccdL;
+            h ^= h >>> 33;
+            h *= 0xc4ceb9fe1a85ec53L;
+            h ^= h >>> 33;
+            return h;
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.credguard.infra.revocation;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Base64;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * A decoded status list bitstring as published in a StatusList2021 or Bitstring
+ * Status List credential. Index 0 is the most significant bit of the first byte.
+ * Instances are immutable and shared between verifications.
+ */
+public final class StatusList {
+
+    /** Multibase prefix for unpadded base64url, used by Bitstring Status List. */
+    private static final char MULTIBASE_BASE64URL = 'u';
+
+    private final byte[] bits;
+    private final String purpose;
+
+    private StatusList(byte[] bits, String purpose) {
+        this.bits = bits;
+        this.purpose = purpose;
+    }
+
+    /**
+     * Decodes an {@code encodedList} value: GZIP-compressed bytes encoded as base64url,
+     * optionally with the multibase {@code u} prefix.
+     *
+     * @param maxBytes upper bound on the decompressed size, guarding against compression bombs
+     * @throws IOException if the value is not valid base64url or GZIP, or is too large
+     */
+    public static StatusList decode(String encodedList, String purpose, int maxBytes) throws IOException {
+        String encoded = !encodedList.isEmpty() && encodedList.charAt(0) == MULTIBASE_BASE64URL
+                ? encodedList.substring(1)
+                : encodedList;
+        byte[] compressed;
+        try {
+            compressed = Base64.getUrlDecoder().decode(encoded);
+        } catch (IllegalArgumentException e) {
+            throw new IOException("encodedList is not valid base64url: " + e.getMessage(), e);
+        }
+
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            byte[] bits = in.readNBytes(maxBytes);
+            if (in.read() != -1) {
+                throw new IOException("Status list exceeds " + maxBytes + " bytes");
+            }
+            return new StatusList(bits, purpose);
+        }
+    }
+
+    /**
+     * Encodes a bitstring as a Bitstring Status List {@code encodedList}: GZIP
+     * compressed and multibase base64url ({@code u} prefix, no padding).
+     */
+    public static String encode(byte[] bits) {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(Math.max(64, bits.length / 64));
+        try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+            gzip.write(bits);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return MULTIBASE_BASE64URL + Base64.getUrlEncoder().withoutPadding().encodeToString(compressed.toByteArray());
+    }
+
+    /**
+     * Returns whether the status bit at the given index is set.
+     *
+     * @throws IndexOutOfBoundsException if the index is outside the list
+     */
+    public boolean isSet(long index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException("Status index " + index + " outside list of " + size());
+        }
+        return (bits[(int) (index >>> 3)] & (0x80 >>> (index & 7))) != 0;
+    }
+
+    /**
+     * Number of entries (bits) in the list.
+     */
+    public long size() {
+        return (long) bits.length * 8;
+    }
+
+    /**
+     * The {@code statusPurpose} declared by the list, such as {@code revocation}, or null.
+     */
+    public String purpose() {
+        return purpose;
+    }
+}
@@ -0,0 +1,188 @@
+package com.credguard.infra.revocation;
+
+import com.credguard.config.RevocationConfiguration;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Bounded, TTL-based cache of decoded status lists keyed by status list credential
+ * URL. A list is downloaded and decompressed once per TTL and then shared, so each
+ * credential check is a single bit lookup. Concurrent misses for the same URL share
+ * one in-flight fetch, and failures are remembered for the negative TTL.
+ */
+@Component
+public class StatusListCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(StatusListCache.class);
+
+    private final StatusListFetcher fetcher;
+    private final RevocationConfiguration.StatusList config;
+    private final Clock clock;
+
+    private final Map<String, CachedList> entries = new ConcurrentHashMap<>();
+    private final Map<String, CompletableFuture<StatusList>> inFlight = new ConcurrentHashMap<>();
+    private final Map<String, FailedFetch> failedFetches = new ConcurrentHashMap<>();
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter coalesced;
+    private final Counter fetchErrors;
+    private final Counter evictions;
+
+    @Autowired
+    public StatusListCache(StatusListFetcher fetcher,
+                           RevocationConfiguration revocationConfiguration,
+                           MeterRegistry meterRegistry) {
+        this(fetcher, revocationConfiguration, meterRegistry, Clock.systemUTC());
+    }
+
+    StatusListCache(StatusListFetcher fetcher,
+                    RevocationConfiguration revocationConfiguration,
+                    MeterRegistry meterRegistry,
+                    Clock clock) {
+        this.fetcher = fetcher;
+        this.config = revocationConfiguration.getStatusList();
+        this.clock = clock;
+
+        this.hits = cacheCounter(meterRegistry, "hit");
+        this.misses = cacheCounter(meterRegistry, "miss");
+        this.coalesced = cacheCounter(meterRegistry, "coalesced");
+        this.fetchErrors = cacheCounter(meterRegistry, "error");
+        this.evictions = cacheCounter(meterRegistry, "eviction");
+        meterRegistry.gauge("credguard.status-list.cache.size", entries, Map::size);
+    }
+
+    /**
+     * Returns the status list published at the given URL, fetching it only when no
+     * fresh copy is cached.
+     */
+    public StatusList get(String url) throws IOException {
+        Instant now = clock.instant();
+        CachedList entry = entries.get(url);
+        if (entry != null && now.isBefore(entry.expiresAt())) {
+            hits.increment();
+            return entry.list();
+        }
+
+        FailedFetch failure = failedFetches.get(url);
+        if (failure != null && now.isBefore(failure.retryAfter())) {
+            throw new IOException("Status list fetch from " + url + " failed recently: " + failure.message());
+        }
+
+        misses.increment();
+        return load(url);
+    }
+
+    /**
+     * Returns when the cached copy of the list at the URL goes stale, or null if
+     * none is cached. Results derived from the list must not be kept longer.
+     */
+    public Instant expiresAt(String url) {
+        CachedList entry = entries.get(url);
+        return entry == null ? null : entry.expiresAt();
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    private StatusList load(String url) throws IOException {
+        CompletableFuture<StatusList> pending = new CompletableFuture<>();
+        CompletableFuture<StatusList> existing = inFlight.putIfAbsent(url, pending);
+        if (existing != null) {
+            coalesced.increment();
+            return await(url, existing);
+        }
+
+        try {
+            StatusList list = fetchAndStore(url);
+            pending.complete(list);
+            return list;
+        } catch (IOException | RuntimeException e) {
+            pending.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(url, pending);
+        }
+    }
+
+    private StatusList await(String url, CompletableFuture<StatusList> pending) throws IOException {
+        long waitMillis = config.getConnectTimeout().plus(config.getReadTimeout()).toMillis();
+        try {
+            return pending.get(waitMillis, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException io) {
+                throw io;
+            }
+            throw new IOException("Status list fetch from " + url + " failed: " + e.getCause().getMessage(),
+                    e.getCause());
+        } catch (TimeoutException e) {
+            throw new IOException("Timed out waiting for in-flight status list fetch from " + url, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted waiting for status list fetch from " + url);
+        }
+    }
+
+    private StatusList fetchAndStore(String url) throws IOException {
+        StatusList list;
+        try {
+            list = fetcher.fetch(url);
+        } catch (IOException | RuntimeException e) {
+            fetchErrors.increment();
+            Instant now = clock.instant();
+            if (failedFetches.size() >= config.getMaxEntries()) {
+                failedFetches.values().removeIf(failure -> !now.isBefore(failure.retryAfter()));
+            }
+            failedFetches.put(url, new FailedFetch(now.plus(config.getNegativeTtl()), e.getMessage()));
+            logger.warn("Failed to fetch status list from {}: {}", url, e.getMessage());
+            throw e;
+        }
+        failedFetches.remove(url);
+
+        entries.put(url, new CachedList(list, clock.instant().plus(config.getTtl())));
+        evictIfNecessary();
+        return list;
+    }
+
+    private void evictIfNecessary() {
+        while (entries.size() > config.getMaxEntries()) {
+            entries.entrySet().stream()
+                    .min(Comparator.comparing(e -> e.getValue().expiresAt()))
+                    .ifPresent(soonest -> {
+                        if (entries.remove(soonest.getKey(), soonest.getValue())) {
+                            evictions.increment();
+                        }
+                    });
+        }
+    }
+
+    private static Counter cacheCounter(MeterRegistry registry, String result) {
+        return Counter.builder("credguard.status-list.cache")
+                .description("Status list cache lookups and maintenance operations")
+                .tag("result", result)
+                .register(registry);
+    }
+
+    private record CachedList(StatusList list, Instant expiresAt) {
+    }
+
+    private record FailedFetch(Instant retryAfter, String message) {
+    }
+}
@@ -0,0 +1,187 @@
+package com.credguard.infra.revocation;
+
+import com.credguard.config.RevocationConfiguration;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.net.Inet6Address;
+import java.net.InetAddress;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Fetches status list credentials over HTTP and decodes their bitstring. Both
+ * JSON-LD credentials and JWT-encoded credentials ({@code vc} claim) are accepted.
+ *
+ * <p>The status list credential's own proof is not checked; the list is trusted
+ * on the strength of the issuer-controlled URL it was fetched from.
+ *
+ * <p>That URL is taken from the credential being verified, so it is treated as
+ * untrusted input: only http and https are fetched, redirects are not followed,
+ * the host must be in {@code revocation.status-list.allowed-hosts} when that is
+ * set, and hosts resolving to loopback, link-local, private or multicast
+ * addresses are refused unless {@code allow-private-addresses} is set. Lists
+ * under CredGuard's own {@code revocation.publication.base-url} are exempt from
+ * the host checks, since that URL is configured by the operator. The
+ * response body is read up to {@code max-response-bytes} and no further.
+ */
+@Component
+public class StatusListFetcher {
+
+    private static final Logger logger = LoggerFactory.getLogger(StatusListFetcher.class);
+
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Duration readTimeout;
+    private final int maxListBytes;
+    private final int maxResponseBytes;
+    private final List<String> allowedHosts;
+    private final boolean allowPrivateAddresses;
+    private final String ownListPrefix;
+
+    public StatusListFetcher(RevocationConfiguration revocationConfiguration) {
+        RevocationConfiguration.StatusList config = revocationConfiguration.getStatusList();
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(config.getConnectTimeout())
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .build();
+        this.readTimeout = config.getReadTimeout();
+        this.maxListBytes = config.getMaxListBytes();
+        this.maxResponseBytes = config.getMaxResponseBytes();
+        this.allowedHosts = config.getAllowedHosts().stream()
+                .map(host -> host.strip().toLowerCase(Locale.ROOT))
+                .filter(host -> !host.isEmpty())
+                .toList();
+        this.allowPrivateAddresses = config.isAllowPrivateAddresses();
+        this.ownListPrefix = revocationConfiguration.getPublication().getBaseUrl() + "/";
+    }
+
+    /**
+     * Fetches and decodes the status list credential at the given URL.
+     */
+    public StatusList fetch(String url) throws IOException {
+        HttpRequest request = HttpRequest.newBuilder(checkedUri(url))
+                .timeout(readTimeout)
+                .header("Accept", "application/vc+ld+json, application/vc+jwt, application/json")
+                .GET()
+                .build();
+
+        HttpResponse<InputStream> response;
+        try {
+            response = httpClient.send(request, HttpResponse.BodyHandlers.ofInputStream());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while fetching status list from " + url);
+        }
+
+        byte[] body;
+        try (InputStream in = response.body()) {
+            int status = response.statusCode();
+            if (status < 200 || status >= 300) {
+                throw new IOException("Unexpected HTTP status " + status + " fetching status list from " + url);
+            }
+            long declaredLength = response.headers().firstValueAsLong("Content-Length").orElse(-1);
+            if (declaredLength > maxResponseBytes) {
+                throw new IOException("Status list at " + url + " is larger than " + maxResponseBytes + " bytes");
+            }
+            body = in.readNBytes(maxResponseBytes + 1);
+            if (body.length > maxResponseBytes) {
+                throw new IOException("Status list at " + url + " is larger than " + maxResponseBytes + " bytes");
+            }
+        }
+
+        JsonNode subject = credentialSubject(new String(body, StandardCharsets.UTF_8).strip());
+        String encodedList = subject.path("encodedList").asText(null);
+        if (encodedList == null) {
+            throw new IOException("Status list credential at " + url + " has no encodedList");
+        }
+        StatusList list = StatusList.decode(encodedList, subject.path("statusPurpose").asText(null), maxListBytes);
+        logger.debug("Loaded status list from {} with {} entries", url, list.size());
+        return list;
+    }
+
+    /**
+     * Parses the URL and refuses schemes, hosts and addresses the fetcher must not
+     * reach. The host is resolved here and again by the HTTP client, so a DNS
+     * answer that changes in between is not caught; the allow-list is the stronger
+     * control where the set of issuers is known.
+     */
+    URI checkedUri(String url) throws IOException {
+        URI uri;
+        try {
+            uri = new URI(url).normalize();
+        } catch (URISyntaxException e) {
+            throw new IOException("Status list URL " + url + " is not a valid URI", e);
+        }
+        String scheme = uri.getScheme() == null ? "" : uri.getScheme().toLowerCase(Locale.ROOT);
+        if (!scheme.equals("https") && !scheme.equals("http")) {
+            throw new IOException("Status list URL " + url + " must use http or https");
+        }
+        String host = uri.getHost();
+        if (host == null || uri.getUserInfo() != null) {
+            throw new IOException("Status list URL " + url + " must name a host and no user info");
+        }
+        if (uri.toString().startsWith(ownListPrefix) && !uri.getPath().contains("/../")) {
+            return uri;
+        }
+        if (!allowedHosts.isEmpty() && !allowedHosts.contains(host.toLowerCase(Locale.ROOT))) {
+            throw new IOException("Status list host " + host + " is not in revocation.status-list.allowed-hosts");
+        }
+        if (!allowPrivateAddresses) {
+            for (InetAddress address : InetAddress.getAllByName(host)) {
+                if (isInternal(address)) {
+                    throw new IOException("Status list host " + host + " resolves to non-public address "
+                            + address.getHostAddress());
+                }
+            }
+        }
+        return uri;
+    }
+
+    private static boolean isInternal(InetAddress address) {
+        return address.isAnyLocalAddress()
+                || address.isLoopbackAddress()
+                || address.isLinkLocalAddress()
+                || address.isSiteLocalAddress()
+                || address.isMulticastAddress()
+                // IPv6 unique local addresses, fc00::/7
+                || address instanceof Inet6Address && (address.getAddress()[0] & 0xfe) == 0xfc;
+    }
+
+    private JsonNode credentialSubject(String body) throws IOException {
+        JsonNode credential;
+        if (body.startsWith("{")) {
+            credential = objectMapper.readTree(body);
+        } else {
+            String[] parts = body.split("\\.");
+            if (parts.length != 3) {
+                throw new IOException("Status list response is neither JSON nor a JWT");
+            }
+            byte[] payload;
+            try {
+                payload = Base64.getUrlDecoder().decode(parts[1]);
+            } catch (IllegalArgumentException e) {
+                throw new IOException("Status list JWT payload is not valid base64url", e);
+            }
+            JsonNode claims = objectMapper.readTree(new String(payload, StandardCharsets.UTF_8));
+            credential = claims.has("vc") ? claims.get("vc") : claims;
+        }
+
+        JsonNode subject = credential.path("credentialSubject");
+        return subject.isArray() ? subject.path(0) : subject;
+    }
+}
@@ -0,0 +1,47 @@
+package com.credguard.infra.store;
+
+import com.credguard.domain.CredentialIssuanceResult;
+import com.credguard.domain.VerifiableCredential;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * Local store of issued credentials and the outcome of their issuance, keyed by
+ * credential ID with secondary lookups by wallet, source document, Aries
+ * credential exchange and issuance status.
+ */
+public interface CredentialStore {
+
+    /**
+     * Inserts or replaces the result for its credential's ID.
+     */
+    void save(CredentialIssuanceResult result);
+
+    Optional<CredentialIssuanceResult> findById(String credentialId);
+
+    Optional<CredentialIssuanceResult> findByCredentialExchangeId(String credentialExchangeId);
+
+    List<CredentialIssuanceResult> findByWalletDid(String walletDid);
+
+    List<CredentialIssuanceResult> findBySourceDocumentId(String sourceDocumentId);
+
+    List<CredentialIssuanceResult> findByIssuanceStatus(VerifiableCredential.IssuanceStatus status);
+
+    /**
+     * Updates the issuance status of a stored credential.
+     *
+     * @return the updated result, or empty if the credential is not stored
+     */
+    Optional<CredentialIssuanceResult> updateStatus(String credentialId,
+                                                    VerifiableCredential.IssuanceStatus status,
+                                                    String message);
+
+    long count();
+
+    /**
+     * Passes every stored result to the action, one at a time.
+     */
+    void forEach(Consumer<CredentialIssuanceResult> action);
+}
@@ -0,0 +1,266 @@
+package com.credguard.infra.store;
+
+import com.credguard.config.CredentialStoreConfiguration;
+import com.credguard.domain.CredentialIssuanceResult;
+import com.credguard.domain.VerifiableCredential;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import jakarta.annotation.PreDestroy;
+import org.h2.mvstore.MVMap;
+import org.h2.mvstore.MVStore;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * {@link CredentialStore} backed by an embedded H2 MVStore file.
+ *
+ * <p>Results are stored as JSON in a primary map keyed by credential ID. Each
+ * secondary index is a separate sorted map whose keys are
+ * {@code value + '\0' + credentialId}, so a lookup is a range scan over one key
+ * prefix. Index maps are maintained in the same commit as the primary entry.
+ * Reads are lock-free; writes are serialised. Without a configured file the store
+ * lives in memory only.
+ */
+@Component
+public class MvStoreCredentialStore implements CredentialStore {
+
+    private static final Logger logger = LoggerFactory.getLogger(MvStoreCredentialStore.class);
+    private static final char SEPARATOR = '\0';
+
+    private final MVStore store;
+    private final MVMap<String, String> credentials;
+    private final MVMap<String, String> byExchangeId;
+    private final List<SecondaryIndex> indexes;
+    private final ObjectMapper objectMapper = JsonMapper.builder()
+            .addModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+            .build();
+
+    private final SecondaryIndex byWalletDid;
+    private final SecondaryIndex bySourceDocumentId;
+    private final SecondaryIndex byIssuanceStatus;
+
+    @Autowired
+    public MvStoreCredentialStore(CredentialStoreConfiguration configuration) {
+        this(openStore(configuration));
+    }
+
+    private MvStoreCredentialStore(MVStore store) {
+        this.store = store;
+        this.credentials = store.openMap("credentials");
+        this.byExchangeId = store.openMap("idx.credentialExchangeId");
+        this.byWalletDid = new SecondaryIndex(store.openMap("idx.walletDid"),
+                result -> result.verifiableCredential().walletDid());
+        this.bySourceDocumentId = new SecondaryIndex(store.openMap("idx.sourceDocumentId"),
+                result -> result.verifiableCredential().sourceDocumentId());
+        this.byIssuanceStatus = new SecondaryIndex(store.openMap("idx.issuanceStatus"),
+                result -> result.verifiableCredential().issuanceStatus().name());
+        this.indexes = List.of(byWalletDid, bySourceDocumentId, byIssuanceStatus);
+        logger.info("Credential store opened with {} credentials", credentials.size());
+    }
+
+    /**
+     * Creates a store that is not backed by a file.
+     */
+    public static MvStoreCredentialStore inMemory() {
+        return new MvStoreCredentialStore(new MVStore.Builder().open());
+    }
+
+    @PreDestroy
+    public void close() {
+        if (!store.isClosed()) {
+            store.close();
+        }
+    }
+
+    @Override
+    public synchronized void save(CredentialIssuanceResult result) {
+        VerifiableCredential credential = result.verifiableCredential();
+        if (credential == null || credential.id() == null) {
+            throw new IllegalArgumentException("Only results for a credential with an ID can be stored");
+        }
+        String id = credential.id();
+        CredentialIssuanceResult previous = read(credentials.get(id));
+
+        if (previous != null) {
+            for (SecondaryIndex index : indexes) {
+                index.remove(previous, id);
+            }
+            if (previous.credentialExchangeId() != null) {
+                byExchangeId.remove(previous.credentialExchangeId(), id);
+            }
+        }
+
+        credentials.put(id, write(result));
+        for (SecondaryIndex index : indexes) {
+            index.add(result, id);
+        }
+        if (result.credentialExchangeId() != null) {
+            byExchangeId.put(result.credentialExchangeId(), id);
+        }
+        store.commit();
+    }
+
+    @Override
+    public Optional<CredentialIssuanceResult> findById(String credentialId) {
+        return Optional.ofNullable(read(credentials.get(credentialId)));
+    }
+
+    @Override
+    public Optional<CredentialIssuanceResult> findByCredentialExchangeId(String credentialExchangeId) {
+        String id = byExchangeId.get(credentialExchangeId);
+        return id != null ? findById(id) : Optional.empty();
+    }
+
+    @Override
+    public List<CredentialIssuanceResult> findByWalletDid(String walletDid) {
+        return byWalletDid.find(walletDid);
+    }
+
+    @Override
+    public List<CredentialIssuanceResult> findBySourceDocumentId(String sourceDocumentId) {
+        return bySourceDocumentId.find(sourceDocumentId);
+    }
+
+    @Override
+    public List<CredentialIssuanceResult> findByIssuanceStatus(VerifiableCredential.IssuanceStatus status) {
+        return byIssuanceStatus.find(status.name());
+    }
+
+    @Override
+    public synchronized Optional<CredentialIssuanceResult> updateStatus(String credentialId,
+                                                                     VerifiableCredential.IssuanceStatus status,
+                                                                     String message) {
+        CredentialIssuanceResult current = read(credentials.get(credentialId));
+        if (current == null) {
+            return Optional.empty();
+        }
+        CredentialIssuanceResult updated = new CredentialIssuanceResult(
+                current.verifiableCredential().withStatus(status, message),
+                current.success(),
+                current.errorMessage(),
+                current.processedAt(),
+                current.credentialExchangeId(),
+                current.offerUrl(),
+                current.processingTimeMs());
+        save(updated);
+        return Optional.of(updated);
+    }
+
+    @Override
+    public long count() {
+        return credentials.sizeAsLong();
+    }
+
+    @Override
+    public void forEach(Consumer<CredentialIssuanceResult> action) {
+        for (String json : credentials.values()) {
+            action.accept(read(json));
+        }
+    }
+
+    private String write(CredentialIssuanceResult result) {
+        try {
+            return objectMapper.writeValueAsString(result);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Cannot serialise credential " + result.verifiableCredential().id(), e);
+        }
+    }
+
+    private CredentialIssuanceResult read(String json) {
+        if (json == null) {
+            return null;
+        }
+        try {
+            return objectMapper.readValue(json, CredentialIssuanceResult.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Corrupt credential store entry: " + e.getOriginalMessage(), e);
+        }
+    }
+
+    private static MVStore openStore(CredentialStoreConfiguration configuration) {
+        MVStore.Builder builder = new MVStore.Builder()
+                .cacheSize(configuration.getCacheSizeMb())
+                .compress();
+        String file = configuration.getFile();
+        if (file == null || file.isBlank()) {
+            logger.info("No credential store file configured, issued credentials are kept in memory only");
+            return builder.open();
+        }
+
+        Path path = Path.of(file).toAbsolutePath();
+        try {
+            if (path.getParent() != null) {
+                Files.createDirectories(path.getParent());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot create credential store directory for " + path, e);
+        }
+        return builder.fileName(path.toString()).open();
+    }
+
+    /**
+     * A non-unique index from one credential attribute to credential IDs.
+     */
+    private final class SecondaryIndex {
+        private final MVMap<String, String> entries;
+        private final Function<CredentialIssuanceResult, String> attribute;
+
+        private SecondaryIndex(MVMap<String, String> entries, Function<CredentialIssuanceResult, String> attribute) {
+            this.entries = entries;
+            this.attribute = attribute;
+        }
+
+        void add(CredentialIssuanceResult result, String id) {
+            String value = attribute.apply(result);
+            if (value != null) {
+                entries.put(value + SEPARATOR + id, id);
+            }
+        }
+
+        void remove(CredentialIssuanceResult result, String id) {
+            String value = attribute.apply(result);
+            if (value != null) {
+                entries.remove(value + SEPARATOR + id);
+            }
+        }
+
+        List<CredentialIssuanceResult> find(String value) {
+            List<CredentialIssuanceResult> results = new ArrayList<>();
+            if (value == null) {
+                return results;
+            }
+            String prefix = value + SEPARATOR;
+            Iterator<String> keys = entries.keyIterator(prefix);
+            while (keys.hasNext()) {
+                String key = keys.next();
+                if (!key.startsWith(prefix)) {
+                    break;
+                }
+                CredentialIssuanceResult result = read(credentials.get(entries.get(key)));
+                if (result != null) {
+                    results.add(result);
+                }
+            }
+            return results;
+        }
+    }
+}
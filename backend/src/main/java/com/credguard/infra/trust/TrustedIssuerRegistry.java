@@ -0,0 +1,229 @@
+package com.credguard.infra.trust;
+
+import com.credguard.config.TrustConfiguration;
+import com.credguard.infra.fs.DirectoryWatcher;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Server-side registry of trusted credential issuers.
+ *
+ * <p>Entries are exact issuer identifiers or wildcard patterns such as
+ * {@code did:web:*.gov.example}, where {@code *} matches one or more characters
+ * within a single DID segment (it never matches {@code :}). Entries come from the
+ * {@code trust.issuers} property and, optionally, a registry file with one entry
+ * per line ({@code #} starts a comment).
+ *
+ * <p>Entries are compiled into an immutable snapshot: a hash set for exact
+ * identifiers and a trie keyed on the literal prefix of each pattern, so a lookup
+ * costs one hash probe plus one walk over the identifier. Reloads build a new
+ * snapshot and publish it with a single volatile write; lookups never lock.
+ */
+@Component
+public class TrustedIssuerRegistry {
+
+    private static final Logger logger = LoggerFactory.getLogger(TrustedIssuerRegistry.class);
+    private static final char WILDCARD = '*';
+    private static final char SEGMENT_SEPARATOR = ':';
+
+    private final TrustConfiguration config;
+    private final List<Runnable> reloadListeners = new CopyOnWriteArrayList<>();
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+    private DirectoryWatcher watcher;
+
+    public TrustedIssuerRegistry(TrustConfiguration config) {
+        this.config = config;
+    }
+
+    @PostConstruct
+    public void initialize() {
+        reload();
+
+        Path file = registryFile();
+        if (file != null && config.isWatch() && Files.isDirectory(file.toAbsolutePath().getParent())) {
+            try {
+                watcher = DirectoryWatcher.start(file.toAbsolutePath().getParent(), Duration.ofMillis(250), this::reload);
+            } catch (IOException e) {
+                logger.warn("Cannot watch trust registry {}: {}", file, e.getMessage());
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (watcher != null) {
+            watcher.close();
+        }
+    }
+
+    /**
+     * Returns whether the issuer is trusted, either by exact identifier or by pattern.
+     */
+    public boolean isTrusted(String issuerId) {
+        if (issuerId == null || issuerId.isEmpty()) {
+            return false;
+        }
+        Snapshot current = snapshot;
+        return current.exact().contains(issuerId) || current.patterns().matches(issuerId);
+    }
+
+    /**
+     * Registers a listener that is called after every reload of the registry.
+     */
+    public void addReloadListener(Runnable listener) {
+        reloadListeners.add(listener);
+    }
+
+    /**
+     * Rebuilds the registry from configuration and the registry file and atomically
+     * replaces the current snapshot. If the file cannot be read the previous
+     * snapshot stays in place.
+     */
+    public void reload() {
+        List<String> entries = new ArrayList<>(config.getIssuers());
+        Path file = registryFile();
+        if (file != null) {
+            try {
+                for (String line : Files.readAllLines(file)) {
+                    int comment = line.indexOf('#');
+                    String entry = (comment >= 0 ? line.substring(0, comment) : line).strip();
+                    if (!entry.isEmpty()) {
+                        entries.add(entry);
+                    }
+                }
+            } catch (IOException e) {
+                logger.error("Failed to read trust registry {}, keeping previous entries", file, e);
+                return;
+            }
+        }
+
+        snapshot = Snapshot.of(entries);
+        logger.info("Loaded trust registry: {} exact issuers, {} patterns",
+                snapshot.exact().size(), snapshot.patterns().size());
+
+        for (Runnable listener : reloadListeners) {
+            try {
+                listener.run();
+            } catch (RuntimeException e) {
+                logger.warn("Trust registry reload listener failed: {}", e.getMessage());
+            }
+        }
+    }
+
+    private Path registryFile() {
+        String file = config.getRegistryFile();
+        return file == null || file.isBlank() ? null : Path.of(file);
+    }
+
+    /**
+     * Matches {@code glob} from index {@code g} against {@code text} from index {@code t}.
+     * A wildcard consumes one or more characters but never a segment separator.
+     */
+    static boolean globMatches(String glob, int g, String text, int t) {
+        while (g < glob.length()) {
+            char c = glob.charAt(g);
+            if (c == WILDCARD) {
+                for (int end = t + 1; end <= text.length() && text.charAt(end - 1) != SEGMENT_SEPARATOR; end++) {
+                    if (globMatches(glob, g + 1, text, end)) {
+                        return true;
+                    }
+                }
+                return false;
+            }
+            if (t >= text.length() || text.charAt(t) != c) {
+                return false;
+            }
+            g++;
+            t++;
+        }
+        return t == text.length();
+    }
+
+    private record Snapshot(Set<String> exact, PatternTrie patterns) {
+        private static final Snapshot EMPTY = new Snapshot(Set.of(), PatternTrie.build(List.of()));
+
+        static Snapshot of(List<String> entries) {
+            Set<String> exact = new HashSet<>();
+            List<String> patterns = new ArrayList<>();
+            for (String entry : entries) {
+                if (entry.indexOf(WILDCARD) >= 0) {
+                    patterns.add(entry);
+                } else {
+                    exact.add(entry);
+                }
+            }
+            return new Snapshot(Set.copyOf(exact), PatternTrie.build(patterns));
+        }
+    }
+
+    /**
+     * Trie over the literal prefix of each pattern (everything before the first
+     * wildcard). Each node holds the remainders of the patterns whose prefix ends
+     * there, so a lookup only evaluates patterns whose prefix the identifier has.
+     * Never modified after construction.
+     */
+    private static final class PatternTrie {
+        private final Node root;
+        private final int size;
+
+        private PatternTrie(Node root, int size) {
+            this.root = root;
+            this.size = size;
+        }
+
+        static PatternTrie build(List<String> patterns) {
+            Node root = new Node();
+            for (String pattern : patterns) {
+                int wildcard = pattern.indexOf(WILDCARD);
+                Node node = root;
+                for (int i = 0; i < wildcard; i++) {
+                    node = node.children.computeIfAbsent(pattern.charAt(i), c -> new Node());
+                }
+                node.remainders.add(pattern.substring(wildcard));
+            }
+            return new PatternTrie(root, patterns.size());
+        }
+
+        boolean matches(String issuerId) {
+            Node node = root;
+            for (int i = 0; ; i++) {
+                for (int r = 0; r < node.remainders.size(); r++) {
+                    if (globMatches(node.remainders.get(r), 0, issuerId, i)) {
+                        return true;
+                    }
+                }
+                if (i == issuerId.length()) {
+                    return false;
+                }
+                node = node.children.get(issuerId.charAt(i));
+                if (node == null) {
+                    return false;
+                }
+            }
+        }
+
+        int size() {
+            return size;
+        }
+
+        private static final class Node {
+            private final Map<Character, Node> children = new HashMap<>();
+            private final List<String> remainders = new ArrayList<>(1);
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.credguard.web;
+
+import com.credguard.application.CredentialExchangeTracker;
+import com.credguard.config.AriesConfiguration;
+import com.fasterxml.jackson.databind.JsonNode;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+
+/**
+ * Receives the events ACA-Py posts to its {@code --webhook-url}. Credential
+ * exchange and connection events update the {@link CredentialExchangeTracker};
+ * other topics are acknowledged and ignored.
+ *
+ * <p>The receiver exists only when {@code aries.webhooks.enabled} is true, and
+ * then {@code aries.webhooks.api-key} is required: startup fails without it. The
+ * agent must be started with {@code --webhook-url <url>#<api-key>} so that it
+ * sends the key in {@code X-API-Key}.
+ */
+@RestController
+@ConditionalOnProperty(prefix = "aries.webhooks", name = "enabled", havingValue = "true")
+@RequestMapping("/api/aries/webhooks")
+public class AriesWebhookController {
+
+    private static final Logger logger = LoggerFactory.getLogger(AriesWebhookController.class);
+
+    static final String CREDENTIAL_EXCHANGE_TOPIC = "issue_credential_v2_0";
+    static final String CONNECTIONS_TOPIC = "connections";
+
+    private final CredentialExchangeTracker exchangeTracker;
+    private final byte[] apiKey;
+
+    public AriesWebhookController(CredentialExchangeTracker exchangeTracker,
+                                  AriesConfiguration ariesConfiguration) {
+        String apiKey = ariesConfiguration.getWebhooks().getApiKey();
+        if (apiKey == null || apiKey.isBlank()) {
+            throw new IllegalStateException("aries.webhooks.api-key must be set when aries.webhooks.enabled is true");
+        }
+        this.exchangeTracker = exchangeTracker;
+        this.apiKey = apiKey.getBytes(StandardCharsets.UTF_8);
+    }
+
+    // ACA-Py posts to "<webhook-url>/topic/<topic>/", with the trailing slash
+    @PostMapping({"/topic/{topic}", "/topic/{topic}/"})
+    public ResponseEntity<Void> receive(
+            @PathVariable String topic,
+            @RequestHeader(value = "X-API-Key", required = false) String apiKey,
+            @RequestBody JsonNode payload
+    ) {
+        if (!authorized(apiKey)) {
+            logger.warn("Rejected webhook for topic {} with missing or wrong API key", topic);
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+
+        switch (topic) {
+            case CREDENTIAL_EXCHANGE_TOPIC -> {
+                String exchangeId = text(payload, "cred_ex_id");
+                String state = text(payload, "state");
+                if (exchangeId == null || state == null) {
+                    return ResponseEntity.badRequest().build();
+                }
+                exchangeTracker.onExchangeEvent(exchangeId, state, text(payload, "error_msg"));
+            }
+            case CONNECTIONS_TOPIC -> {
+                String connectionId = text(payload, "connection_id");
+                String state = text(payload, "state");
+                if (connectionId == null || state == null) {
+                    return ResponseEntity.badRequest().build();
+                }
+                exchangeTracker.onConnectionEvent(connectionId, state);
+            }
+            default -> logger.debug("Ignoring webhook for topic {}", topic);
+        }
+        return ResponseEntity.ok().build();
+    }
+
+    private boolean authorized(String presented) {
+        return presented != null && MessageDigest.isEqual(apiKey, presented.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String text(JsonNode payload, String field) {
+        JsonNode value = payload.get(field);
+        return value == null || value.isNull() ? null : value.asText();
+    }
+}
@@ -0,0 +1,165 @@
+package com.credguard.web;
+
+import com.credguard.application.BatchVerificationService;
+import com.credguard.application.BatchVerificationService.ItemResult;
+import com.credguard.application.VerificationPolicy;
+import com.credguard.web.dto.BatchVerificationItemResponse;
+import com.credguard.web.dto.VerificationRequest;
+import com.credguard.web.dto.VerificationResponse;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DatabindException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.format.DateTimeParseException;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * REST controller for bulk credential verification.
+ *
+ * <p>The request body is either a JSON array of verification requests or
+ * newline-delimited JSON (one request per line). It is read incrementally with
+ * the Jackson streaming parser and each item is verified as soon as it has been
+ * read, so a batch is never held in memory. One {@link VerificationResponse} is
+ * written per item as NDJSON in completion order, tagged with the item's
+ * zero-based {@code index} in the batch; items that cannot be bound to a request
+ * are reported as error lines and the rest of the batch is still verified.
+ */
+@RestController
+@RequestMapping("/api/credentials")
+@CrossOrigin(origins = "http://localhost:3000")
+public class BatchVerificationController {
+
+    private static final Logger logger = LoggerFactory.getLogger(BatchVerificationController.class);
+    static final String APPLICATION_NDJSON_VALUE = "application/x-ndjson";
+
+    private final BatchVerificationService batchVerificationService;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+
+    public BatchVerificationController(
+            BatchVerificationService batchVerificationService,
+            ObjectMapper objectMapper,
+            Validator validator
+    ) {
+        this.batchVerificationService = batchVerificationService;
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+    }
+
+    @PostMapping(
+            value = "/verify/batch",
+            consumes = {MediaType.APPLICATION_JSON_VALUE, APPLICATION_NDJSON_VALUE},
+            produces = APPLICATION_NDJSON_VALUE
+    )
+    public ResponseEntity<StreamingResponseBody> verifyBatch(
+            InputStream body,
+            @RequestParam(name = "policy", defaultValue = "FULL_REPORT") VerificationPolicy policy
+    ) {
+        logger.info("Received batch verification request ({})", policy);
+
+        StreamingResponseBody stream = output -> verifyAll(body, output, policy);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(APPLICATION_NDJSON_VALUE))
+                .body(stream);
+    }
+
+    private void verifyAll(InputStream input, OutputStream output, VerificationPolicy policy) throws IOException {
+        long startTime = System.currentTimeMillis();
+        BatchVerificationService.Batch batch = batchVerificationService.start(policy, item -> writeLine(output, item));
+        long index = 0;
+
+        try (JsonParser parser = objectMapper.getFactory().createParser(input)) {
+            JsonToken first = parser.nextToken();
+            boolean array = first == JsonToken.START_ARRAY;
+            JsonToken token = array ? parser.nextToken() : first;
+
+            while (token != null && !(array && token == JsonToken.END_ARRAY)) {
+                if (token != JsonToken.START_OBJECT) {
+                    batch.reject(index, "Item " + index + ": expected a JSON object");
+                    parser.skipChildren();
+                } else {
+                    // Read the item whole first, so a field of the wrong type rejects only this item
+                    JsonNode item = objectMapper.readTree(parser);
+                    VerificationRequest request;
+                    try {
+                        request = objectMapper.treeToValue(item, VerificationRequest.class);
+                    } catch (DatabindException e) {
+                        batch.reject(index, "Item " + index + ": " + e.getOriginalMessage());
+                        request = null;
+                    }
+                    if (request != null) {
+                        submit(batch, index, request);
+                    }
+                }
+                index++;
+                token = parser.nextToken();
+            }
+        } catch (JsonProcessingException e) {
+            // The parser cannot resynchronise after malformed input; report it and stop reading
+            logger.warn("Malformed batch input at item {}: {}", index, e.getOriginalMessage());
+            batch.reject(index, "Malformed batch input at item " + index + ": " + e.getOriginalMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Batch verification interrupted", e);
+        }
+
+        try {
+            long written = batch.awaitCompletion();
+            logger.info("Batch verification completed: {} items in {}ms",
+                    written, System.currentTimeMillis() - startTime);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Batch verification interrupted", e);
+        }
+    }
+
+    private void submit(BatchVerificationService.Batch batch, long index, VerificationRequest request)
+            throws InterruptedException {
+        Set<ConstraintViolation<VerificationRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            batch.reject(index, "Item " + index + ": " + violations.stream()
+                    .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining(", ")));
+            return;
+        }
+
+        try {
+            batch.submit(index, request.toCredential());
+        } catch (DateTimeParseException e) {
+            batch.reject(index, "Item " + index + ": invalid timestamp '" + e.getParsedString() + "'");
+        }
+    }
+
+    private void writeLine(OutputStream output, ItemResult item) {
+        BatchVerificationItemResponse response = new BatchVerificationItemResponse(item.index(), item.result() != null
+                ? VerificationResponse.from(item.result())
+                : VerificationResponse.error(item.error(), "Batch item could not be verified"));
+        try {
+            byte[] line = objectMapper.writeValueAsBytes(response);
+            synchronized (output) {
+                output.write(line);
+                output.write('\n');
+                output.flush();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
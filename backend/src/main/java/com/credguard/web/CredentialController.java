@@ -1,5 +1,6 @@
 package com.credguard.web;
 
+import com.credguard.application.VerificationPolicy;
 import com.credguard.application.VerificationService;
 import com.credguard.application.ai.CredentialExtractionService;
 import com.credguard.exception.CredentialExtractionException;
@@ -38,12 +39,13 @@ public class CredentialController {
 
     @PostMapping("/verify")
     public ResponseEntity<VerificationResponse> verify(
-            @Valid @RequestBody VerificationRequest request
+            @Valid @RequestBody VerificationRequest request,
+            @RequestParam(name = "policy", defaultValue = "FULL_REPORT") VerificationPolicy policy
     ) {
         logger.info("Received verification request for credential: {}", request.id());
         
         var credential = request.toCredential();
-        var result = verificationService.verify(credential);
+        var result = verificationService.verify(credential, policy);
         var response = VerificationResponse.from(result);
 
         HttpStatus status = result.valid() ? HttpStatus.OK : HttpStatus.BAD_REQUEST;
@@ -55,7 +57,8 @@ public class CredentialController {
     
     @PostMapping("/upload")
     public ResponseEntity<VerificationResponse> uploadAndVerify(
-            @RequestParam("file") MultipartFile file
+            @RequestParam("file") MultipartFile file,
+            @RequestParam(name = "policy", defaultValue = "FULL_REPORT") VerificationPolicy policy
     ) {
         logger.info("Received file upload: {}, size: {} bytes", 
             file.getOriginalFilename(), file.getSize());
@@ -68,7 +71,7 @@ public class CredentialController {
         try {
             byte[] fileBytes = file.getBytes();
             var credential = extractionService.extractCredential(fileBytes, file.getOriginalFilename());
-            var result = verificationService.verify(credential);
+            var result = verificationService.verify(credential, policy);
             var response = VerificationResponse.from(result);
             
             HttpStatus status = result.valid() ? HttpStatus.OK : HttpStatus.BAD_REQUEST;
@@ -1,23 +1,35 @@
 package com.credguard.web;
 
+import com.credguard.application.BulkRevocationService;
 import com.credguard.application.CredentialIssuanceService;
+import com.credguard.application.IssuanceJobService;
 import com.credguard.domain.CredentialIssuanceResult;
+import com.credguard.domain.IssuanceJob;
 import com.credguard.domain.PhysicalDocument;
 import com.credguard.domain.VerifiableCredential;
 import com.credguard.exception.CredentialIssuanceException;
 import com.credguard.exception.FileProcessingException;
+import com.credguard.exception.IssuanceQueueFullException;
+import com.credguard.web.dto.BulkRevocationRequest;
+import com.credguard.web.dto.BulkRevocationResponse;
 import com.credguard.web.dto.CredentialIssuanceRequest;
 import com.credguard.web.dto.CredentialIssuanceResponse;
 import com.credguard.web.dto.CredentialStatusResponse;
+import com.credguard.web.dto.IssuanceJobResponse;
 import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
-import java.util.concurrent.CompletableFuture;
+import java.net.URI;
+import java.util.List;
+import java.util.Locale;
 
 /**
  * REST controller for verifiable credential issuance operations.
@@ -29,9 +41,18 @@ public class CredentialIssuanceController {
 
     private static final Logger logger = LoggerFactory.getLogger(CredentialIssuanceController.class);
     private final CredentialIssuanceService credentialIssuanceService;
+    private final IssuanceJobService issuanceJobService;
+    private final IssuanceEventBroadcaster eventBroadcaster;
+    private final BulkRevocationService bulkRevocationService;
 
-    public CredentialIssuanceController(CredentialIssuanceService credentialIssuanceService) {
+    public CredentialIssuanceController(CredentialIssuanceService credentialIssuanceService,
+                                        IssuanceJobService issuanceJobService,
+                                        IssuanceEventBroadcaster eventBroadcaster,
+                                        BulkRevocationService bulkRevocationService) {
         this.credentialIssuanceService = credentialIssuanceService;
+        this.issuanceJobService = issuanceJobService;
+        this.eventBroadcaster = eventBroadcaster;
+        this.bulkRevocationService = bulkRevocationService;
     }
 
     /**
@@ -127,17 +148,19 @@ public class CredentialIssuanceController {
             byte[] fileBytes = file.getBytes();
             String fileName = file.getOriginalFilename();
             
-            CompletableFuture<CredentialIssuanceResult> future = 
-                credentialIssuanceService.issueCredentialFromDocumentAsync(
-                    fileBytes, fileName, request.documentType(), request.walletDid()
-                );
-            
-            // In a real implementation, you'd return a job ID and provide a separate endpoint to check status
-            String jobId = "job-" + System.currentTimeMillis();
+            IssuanceJob job = issuanceJobService.submit(
+                fileBytes, fileName, request.documentType(), request.walletDid()
+            );
             
-            logger.info("Async credential issuance started for file: {}, job ID: {}", fileName, jobId);
-            return ResponseEntity.accepted().body("Credential issuance started. Job ID: " + jobId);
+            logger.info("Async credential issuance started for file: {}, job ID: {}", fileName, job.id());
+            return ResponseEntity.accepted()
+                .location(URI.create("/api/credentials/issuance/jobs/" + job.id()))
+                .body("Credential issuance started. Job ID: " + job.id());
             
+        } catch (IssuanceQueueFullException e) {
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(e.getMessage());
         } catch (Exception e) {
             logger.error("Failed to start async credential issuance for file: {}", 
                 file.getOriginalFilename(), e);
@@ -147,6 +170,49 @@ public class CredentialIssuanceController {
         }
     }
 
+    /**
+     * Returns the progress of an asynchronous issuance job.
+     */
+    @GetMapping("/jobs/{jobId}")
+    public ResponseEntity<IssuanceJobResponse> getJob(@PathVariable String jobId) {
+        return issuanceJobService.find(jobId)
+            .map(job -> ResponseEntity.ok(IssuanceJobResponse.from(job)))
+            .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    /**
+     * Streams the progress of an issuance job or credential exchange as
+     * server-sent events, starting with its current state, until it finishes.
+     */
+    @GetMapping(value = "/events/{id}", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamEvents(@PathVariable String id) {
+        try {
+            if (issuanceJobService.find(id).isPresent()) {
+                return ResponseEntity.ok(eventBroadcaster.subscribe(id, IssuanceEventBroadcaster.JOB_EVENT, () -> {
+                    IssuanceJob job = issuanceJobService.find(id).orElseThrow();
+                    return new IssuanceEventBroadcaster.Snapshot(IssuanceJobResponse.from(job),
+                        job.stage().isTerminal());
+                }));
+            }
+
+            return ResponseEntity.ok(eventBroadcaster.subscribe(id, IssuanceEventBroadcaster.EXCHANGE_EVENT, () -> {
+                boolean inProgress = credentialIssuanceService.isExchangeInProgress(id);
+                String status = credentialIssuanceService.getCredentialStatus(id);
+                String credentialId = credentialIssuanceService.findIssuedCredentialByExchange(id)
+                    .map(result -> result.verifiableCredential().id())
+                    .orElse(null);
+                return new IssuanceEventBroadcaster.Snapshot(
+                    CredentialStatusResponse.of(credentialId, id, status, "Status retrieved successfully"),
+                    !inProgress);
+            }));
+
+        } catch (IssuanceQueueFullException e) {
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .build();
+        }
+    }
+
     /**
      * Checks the status of a credential exchange.
      */
@@ -158,9 +224,12 @@ public class CredentialIssuanceController {
         
         try {
             String status = credentialIssuanceService.getCredentialStatus(credentialExchangeId);
+            String credentialId = credentialIssuanceService.findIssuedCredentialByExchange(credentialExchangeId)
+                .map(result -> result.verifiableCredential().id())
+                .orElse(null);
             
             CredentialStatusResponse response = CredentialStatusResponse.of(
-                null, // credential ID not available from exchange ID
+                credentialId,
                 credentialExchangeId,
                 status,
                 "Status retrieved successfully"
@@ -182,6 +251,28 @@ public class CredentialIssuanceController {
         }
     }
 
+    /**
+     * Lists the credentials issued to a wallet.
+     */
+    @GetMapping("/wallet/{walletDid}/credentials")
+    public ResponseEntity<List<CredentialStatusResponse>> getWalletCredentials(
+            @PathVariable String walletDid
+    ) {
+        logger.debug("Listing credentials issued to wallet: {}", walletDid);
+        
+        List<CredentialStatusResponse> credentials = credentialIssuanceService.findCredentialsForWallet(walletDid)
+            .stream()
+            .map(result -> CredentialStatusResponse.of(
+                result.verifiableCredential().id(),
+                result.credentialExchangeId(),
+                result.verifiableCredential().issuanceStatus().name().toLowerCase(Locale.ROOT),
+                result.verifiableCredential().statusMessage()
+            ))
+            .toList();
+        
+        return ResponseEntity.ok(credentials);
+    }
+
     /**
      * Revokes a previously issued credential.
      */
@@ -210,6 +301,28 @@ public class CredentialIssuanceController {
         }
     }
 
+    /**
+     * Revokes many credentials at once and reports the outcome for each.
+     */
+    @PostMapping("/revoke")
+    public ResponseEntity<BulkRevocationResponse> revokeCredentials(
+            @Valid @RequestBody BulkRevocationRequest request
+    ) {
+        logger.info("Revoking {} credentials", request.credentialIds().size());
+        
+        try {
+            return ResponseEntity.ok(BulkRevocationResponse.from(
+                bulkRevocationService.revokeAll(request.credentialIds())
+            ));
+        } catch (IllegalArgumentException e) {
+            logger.warn("Rejected bulk revocation: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+    }
+
     /**
      * Gets the connection status with a wallet.
      */
@@ -14,6 +14,7 @@ import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 import org.springframework.web.multipart.MaxUploadSizeExceededException;
 
 import java.util.List;
@@ -55,6 +56,23 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
     }
 
+    @ExceptionHandler(MethodArgumentTypeMismatchException.class)
+    public ResponseEntity<VerificationResponse> handleTypeMismatchException(
+            MethodArgumentTypeMismatchException ex
+    ) {
+        logger.warn("Invalid value for parameter {}: {}", ex.getName(), ex.getValue());
+        
+        VerificationResponse response = new VerificationResponse(
+            false, false, false, false,
+            List.of(ex.getName() + ": invalid value '" + ex.getValue() + "'"),
+            List.of(),
+            "Validation failed",
+            null
+        );
+        
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
+    }
+
     @ExceptionHandler(CredentialExtractionException.class)
     public ResponseEntity<VerificationResponse> handleExtractionException(
             CredentialExtractionException ex
@@ -0,0 +1,243 @@
+package com.credguard.web;
+
+import com.credguard.config.IssuanceConfiguration;
+import com.credguard.domain.CredentialExchangeStateEvent;
+import com.credguard.domain.IssuanceJobUpdatedEvent;
+import com.credguard.exception.IssuanceQueueFullException;
+import com.credguard.web.dto.CredentialStatusResponse;
+import com.credguard.web.dto.IssuanceJobResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Pushes issuance job and credential exchange transitions to server-sent event
+ * subscribers, keyed by job or exchange ID.
+ *
+ * <p>Subscribers are asynchronous servlet responses, so an idle subscriber holds
+ * no thread. Events are written on the {@code issuanceEventExecutor}; each
+ * subscriber has its own queue that at most one task drains at a time, which
+ * keeps its events in order and stops a slow client from holding up the rest.
+ * A heartbeat comment every {@code issuance.events.heartbeat-interval} keeps
+ * proxies from closing idle streams and detects clients that have gone away.
+ * A stream ends with an {@code end} event after the terminal job stage or
+ * exchange state.
+ */
+@Component
+public class IssuanceEventBroadcaster {
+
+    private static final Logger logger = LoggerFactory.getLogger(IssuanceEventBroadcaster.class);
+
+    static final String JOB_EVENT = "job";
+    static final String EXCHANGE_EVENT = "exchange";
+    /** Sent before a stream is closed, so EventSource clients know not to reconnect. */
+    static final String END_EVENT = "end";
+
+    private final Executor executor;
+    private final IssuanceConfiguration.Events config;
+
+    private final Map<String, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private ScheduledExecutorService heartbeat;
+
+    public IssuanceEventBroadcaster(@Qualifier("issuanceEventExecutor") Executor executor,
+                                    IssuanceConfiguration issuanceConfiguration,
+                                    MeterRegistry meterRegistry) {
+        this.executor = executor;
+        this.config = issuanceConfiguration.getEvents();
+        meterRegistry.gauge("credguard.issuance.events.subscribers", subscriberCount);
+    }
+
+    @PostConstruct
+    public void initialize() {
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("issuance-events-heartbeat-");
+        threadFactory.setDaemon(true);
+        heartbeat = Executors.newSingleThreadScheduledExecutor(threadFactory);
+        long interval = config.getHeartbeatInterval().toMillis();
+        heartbeat.scheduleWithFixedDelay(this::sendHeartbeats, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (heartbeat != null) {
+            heartbeat.shutdownNow();
+        }
+        subscribers.values().forEach(set -> set.forEach(subscriber -> subscriber.emitter.complete()));
+    }
+
+    /**
+     * Opens a stream for the job or exchange and sends its current state as the
+     * first event. The state is read only once the stream is registered, so no
+     * transition after it is missed. The stream is completed straight away if
+     * that state is final.
+     *
+     * @throws IssuanceQueueFullException if {@code issuance.events.max-subscribers}
+     *                                    streams are already open
+     */
+    public SseEmitter subscribe(String id, String eventName, Supplier<Snapshot> current) {
+        if (subscriberCount.incrementAndGet() > config.getMaxSubscribers()) {
+            subscriberCount.decrementAndGet();
+            throw new IssuanceQueueFullException("Too many open event streams, retry later");
+        }
+
+        SseEmitter emitter = new SseEmitter(config.getTimeout().toMillis());
+        Subscriber subscriber = new Subscriber(id, emitter);
+        emitter.onCompletion(() -> remove(subscriber));
+        emitter.onTimeout(() -> remove(subscriber));
+        emitter.onError(error -> remove(subscriber));
+        subscribers.compute(id, (key, set) -> {
+            Set<Subscriber> listening = set != null ? set : ConcurrentHashMap.newKeySet();
+            listening.add(subscriber);
+            return listening;
+        });
+
+        Snapshot snapshot;
+        try {
+            snapshot = current.get();
+        } catch (RuntimeException e) {
+            remove(subscriber);
+            throw e;
+        }
+        subscriber.enqueue(SseEmitter.event().name(eventName).data(snapshot.data()), snapshot.terminal());
+        return emitter;
+    }
+
+    @EventListener
+    public void onJobUpdated(IssuanceJobUpdatedEvent event) {
+        publish(event.job().id(), JOB_EVENT, IssuanceJobResponse.from(event.job()), event.job().stage().isTerminal());
+    }
+
+    @EventListener
+    public void onExchangeStateChanged(CredentialExchangeStateEvent event) {
+        publish(event.credentialExchangeId(), EXCHANGE_EVENT,
+            CredentialStatusResponse.of(null, event.credentialExchangeId(), event.state(), "Exchange is " + event.state()),
+            event.terminal());
+    }
+
+    int subscriberCount() {
+        return subscriberCount.get();
+    }
+
+    private void publish(String id, String eventName, Object data, boolean terminal) {
+        Set<Subscriber> listening = subscribers.get(id);
+        if (listening == null) {
+            return;
+        }
+        for (Subscriber subscriber : listening) {
+            subscriber.enqueue(SseEmitter.event().name(eventName).data(data), terminal);
+        }
+    }
+
+    private void sendHeartbeats() {
+        for (Set<Subscriber> set : subscribers.values()) {
+            for (Subscriber subscriber : set) {
+                subscriber.enqueue(SseEmitter.event().comment("heartbeat"), false);
+            }
+        }
+    }
+
+    private void remove(Subscriber subscriber) {
+        if (subscriber.removed.compareAndSet(false, true)) {
+            subscriberCount.decrementAndGet();
+            subscribers.computeIfPresent(subscriber.id, (id, set) -> {
+                set.remove(subscriber);
+                return set.isEmpty() ? null : set;
+            });
+        }
+    }
+
+    /**
+     * One open stream and the events waiting to be written to it.
+     */
+    private final class Subscriber {
+        private final String id;
+        private final SseEmitter emitter;
+        private final Queue<Outgoing> pending = new ConcurrentLinkedQueue<>();
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final AtomicBoolean removed = new AtomicBoolean();
+        private volatile boolean finished;
+
+        private Subscriber(String id, SseEmitter emitter) {
+            this.id = id;
+            this.emitter = emitter;
+        }
+
+        void enqueue(SseEmitter.SseEventBuilder event, boolean last) {
+            if (finished) {
+                return;
+            }
+            pending.add(new Outgoing(event, last));
+            scheduleDrain();
+        }
+
+        private void scheduleDrain() {
+            if (!draining.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                executor.execute(this::drain);
+            } catch (RejectedExecutionException e) {
+                draining.set(false);
+                finished = true;
+                remove(this);
+                emitter.complete();
+            }
+        }
+
+        private void drain() {
+            try {
+                Outgoing next;
+                while (!finished && (next = pending.poll()) != null) {
+                    emitter.send(next.event());
+                    if (next.last()) {
+                        finished = true;
+                        remove(this);
+                        emitter.send(SseEmitter.event().name(END_EVENT).data(id));
+                        emitter.complete();
+                    }
+                }
+            } catch (IOException | IllegalStateException e) {
+                // Client went away or the stream already completed; the container cleans up
+                logger.debug("Dropping event stream for {}: {}", id, e.getMessage());
+                finished = true;
+                remove(this);
+            } finally {
+                draining.set(false);
+            }
+            if (!finished && !pending.isEmpty()) {
+                scheduleDrain();
+            }
+        }
+    }
+
+    /**
+     * Current state of a job or exchange, sent as the first event of a stream.
+     */
+    public record Snapshot(Object data, boolean terminal) {
+    }
+
+    private record Outgoing(SseEmitter.SseEventBuilder event, boolean last) {
+    }
+}
@@ -0,0 +1,56 @@
+package com.credguard.web;
+
+import com.credguard.application.StatusListPublisher;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serves the status list credentials referenced by the {@code credentialStatus} of
+ * credentials CredGuard issues. Responses carry a strong ETag so verifiers can
+ * revalidate with {@code If-None-Match} and receive 304 while the list is unchanged.
+ */
+@RestController
+@RequestMapping("/api/status-lists")
+public class StatusListController {
+
+    static final MediaType STATUS_LIST_MEDIA_TYPE = MediaType.parseMediaType("application/vc+ld+json");
+
+    private final StatusListPublisher statusListPublisher;
+
+    public StatusListController(StatusListPublisher statusListPublisher) {
+        this.statusListPublisher = statusListPublisher;
+    }
+
+    @GetMapping("/{listId}")
+    public ResponseEntity<byte[]> getStatusList(@PathVariable int listId, WebRequest request) {
+        StatusListPublisher.Published published = statusListPublisher.get(listId);
+        if (published == null) {
+            return ResponseEntity.notFound().build();
+        }
+
+        CacheControl cacheControl = CacheControl
+                .maxAge(statusListPublisher.cacheMaxAgeSeconds(), TimeUnit.SECONDS)
+                .cachePublic()
+                .mustRevalidate();
+        if (request.checkNotModified(published.etag())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(published.etag())
+                    .cacheControl(cacheControl)
+                    .build();
+        }
+        return ResponseEntity.ok()
+                .eTag(published.etag())
+                .cacheControl(cacheControl)
+                .contentType(STATUS_LIST_MEDIA_TYPE)
+                .body(published.body());
+    }
+}
@@ -0,0 +1,16 @@
+package com.credguard.web.dto;
+
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import com.fasterxml.jackson.annotation.JsonUnwrapped;
+
+/**
+ * One NDJSON line of a batch verification: the verification response for the
+ * item at the given zero-based position in the batch. Lines are written in
+ * completion order, so the index is how clients match them to their input.
+ */
+@JsonPropertyOrder({"index"})
+public record BatchVerificationItemResponse(
+        long index,
+        @JsonUnwrapped VerificationResponse result
+) {
+}
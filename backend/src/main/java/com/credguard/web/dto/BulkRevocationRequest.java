@@ -0,0 +1,15 @@
+package com.credguard.web.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+
+import java.util.List;
+
+/**
+ * Request DTO listing the credentials to revoke in one call.
+ */
+public record BulkRevocationRequest(
+        @NotEmpty(message = "credentialIds must not be empty")
+        List<@NotBlank(message = "credentialIds must not contain blank IDs") String> credentialIds
+) {
+}
@@ -0,0 +1,24 @@
+package com.credguard.web.dto;
+
+import com.credguard.domain.RevocationOutcome;
+
+import java.util.List;
+
+/**
+ * Response DTO reporting the outcome of a bulk revocation for each credential.
+ */
+public record BulkRevocationResponse(
+        int requested,
+        int revoked,
+        int failed,
+        List<RevocationOutcome> results
+) {
+
+    /**
+     * Creates a response from the per-credential outcomes.
+     */
+    public static BulkRevocationResponse from(List<RevocationOutcome> results) {
+        int revoked = (int) results.stream().filter(RevocationOutcome::revoked).count();
+        return new BulkRevocationResponse(results.size(), revoked, results.size() - revoked, results);
+    }
+}
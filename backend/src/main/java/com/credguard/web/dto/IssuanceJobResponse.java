@@ -0,0 +1,36 @@
+package com.credguard.web.dto;
+
+import com.credguard.domain.IssuanceJob;
+
+import java.time.Instant;
+
+/**
+ * Response DTO describing the progress of an asynchronous issuance job.
+ */
+public record IssuanceJobResponse(
+        String jobId,
+        String stage,
+        boolean done,
+        Instant submittedAt,
+        Instant updatedAt,
+        String credentialId,
+        String exchangeId,
+        String errorMessage
+) {
+
+    /**
+     * Creates a response from a job snapshot.
+     */
+    public static IssuanceJobResponse from(IssuanceJob job) {
+        return new IssuanceJobResponse(
+            job.id(),
+            job.stage().name(),
+            job.stage().isTerminal(),
+            job.submittedAt(),
+            job.updatedAt(),
+            job.credentialId(),
+            job.credentialExchangeId(),
+            job.errorMessage()
+        );
+    }
+}
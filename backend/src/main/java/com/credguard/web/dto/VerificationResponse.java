@@ -32,6 +32,16 @@ public record VerificationResponse(
             credentialDto
         );
     }
+
+    public static VerificationResponse error(String error, String explanation) {
+        return new VerificationResponse(
+            false, false, false, false,
+            List.of(error),
+            List.of(),
+            explanation,
+            null
+        );
+    }
     
     public record CredentialDto(
             String id,
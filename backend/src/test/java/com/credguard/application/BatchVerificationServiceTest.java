@@ -0,0 +1,103 @@
+package com.credguard.application;
+
+import com.credguard.application.validation.CredentialValidator;
+import com.credguard.application.validation.ValidationResult;
+import com.credguard.config.VerificationConfiguration;
+import com.credguard.domain.Credential;
+import com.credguard.domain.Issuer;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BatchVerificationServiceTest {
+
+    @Test
+    void shouldNeverExceedMaxConcurrency() throws Exception {
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        BatchVerificationService batchVerificationService = batchService(credential -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            running.decrementAndGet();
+            return ValidationResult.success(ValidationResult.ValidationType.SIGNATURE);
+        });
+        List<BatchVerificationService.ItemResult> results = new CopyOnWriteArrayList<>();
+
+        BatchVerificationService.Batch batch = batchVerificationService.start(VerificationPolicy.FULL_REPORT, results::add);
+        for (int i = 0; i < 8; i++) {
+            batch.submit(i, credential("cred-" + i));
+        }
+        long completed = batch.awaitCompletion();
+
+        assertThat(completed).isEqualTo(8);
+        assertThat(results).extracting(BatchVerificationService.ItemResult::index)
+            .containsExactlyInAnyOrder(0L, 1L, 2L, 3L, 4L, 5L, 6L, 7L);
+        assertThat(maxRunning.get()).isLessThanOrEqualTo(2);
+    }
+
+    @Test
+    void shouldReportFailingItemWithoutAbortingBatch() throws Exception {
+        BatchVerificationService batchVerificationService = batchService(credential -> {
+            if (credential.id().equals("cred-0")) {
+                throw new IllegalStateException("boom");
+            }
+            return ValidationResult.success(ValidationResult.ValidationType.SIGNATURE);
+        });
+        List<BatchVerificationService.ItemResult> results = new CopyOnWriteArrayList<>();
+
+        BatchVerificationService.Batch batch = batchVerificationService.start(VerificationPolicy.FULL_REPORT, results::add);
+        batch.submit(0, credential("cred-0"));
+        batch.submit(1, credential("cred-1"));
+        batch.reject(2, "Item 2: expected a JSON object");
+        batch.awaitCompletion();
+
+        assertThat(results).hasSize(3);
+        assertThat(results).filteredOn(result -> result.index() == 0)
+            .singleElement()
+            .satisfies(result -> assertThat(result.error()).contains("boom"));
+        assertThat(results).filteredOn(result -> result.index() == 1)
+            .singleElement()
+            .satisfies(result -> assertThat(result.result().valid()).isTrue());
+    }
+
+    private static BatchVerificationService batchService(Function<Credential, ValidationResult> check) {
+        CredentialValidator validator = new CredentialValidator() {
+            @Override
+            public ValidationResult validate(Credential credential) {
+                return check.apply(credential);
+            }
+
+            @Override
+            public String getValidatorName() {
+                return "StubValidator";
+            }
+
+            @Override
+            public ValidationResult.ValidationType getValidationType() {
+                return ValidationResult.ValidationType.SIGNATURE;
+            }
+        };
+        VerificationConfiguration configuration = new VerificationConfiguration();
+        configuration.getBatch().setMaxConcurrency(2);
+        return new BatchVerificationService(
+            new VerificationService(List.of(validator)), configuration, new SimpleAsyncTaskExecutor("batch-test-"));
+    }
+
+    private static Credential credential(String id) {
+        return new Credential(id, "VerifiableCredential",
+            new Issuer("did:example:issuer", "Trusted Issuer", true),
+            "did:example:subject", Instant.now(), null, Map.of());
+    }
+}
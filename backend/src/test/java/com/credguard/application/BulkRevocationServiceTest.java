@@ -0,0 +1,94 @@
+package com.credguard.application;
+
+import com.credguard.config.AriesConfiguration;
+import com.credguard.domain.CredentialIssuanceResult;
+import com.credguard.domain.Issuer;
+import com.credguard.domain.PhysicalDocument;
+import com.credguard.domain.RevocationOutcome;
+import com.credguard.domain.VerifiableCredential;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class BulkRevocationServiceTest {
+
+    @Mock
+    private CredentialIssuanceService issuanceService;
+
+    private AriesConfiguration configuration;
+    private BulkRevocationService service;
+
+    @BeforeEach
+    void setUp() {
+        configuration = new AriesConfiguration();
+        configuration.getRevocation().setBulkMaxIds(3);
+        configuration.getRevocation().setBulkConcurrency(2);
+        service = new BulkRevocationService(issuanceService, Runnable::run, configuration);
+    }
+
+    @Test
+    void shouldReportOutcomeForEachDistinctCredentialInOrder() throws Exception {
+        when(issuanceService.findIssuedCredential(anyString())).thenReturn(Optional.empty());
+        when(issuanceService.revokeCredential("cred-1")).thenReturn(true);
+        when(issuanceService.revokeCredential("cred-2")).thenReturn(false);
+
+        List<RevocationOutcome> outcomes = service.revokeAll(List.of("cred-1", "cred-2", "cred-1"));
+
+        assertThat(outcomes).extracting(RevocationOutcome::credentialId).containsExactly("cred-1", "cred-2");
+        assertThat(outcomes).extracting(RevocationOutcome::revoked).containsExactly(true, false);
+        verify(issuanceService, times(1)).revokeCredential("cred-1");
+    }
+
+    @Test
+    void shouldNotContactAgentForCredentialAlreadyRevoked() throws Exception {
+        when(issuanceService.findIssuedCredential("cred-1")).thenReturn(Optional.of(revoked("cred-1")));
+
+        List<RevocationOutcome> outcomes = service.revokeAll(List.of("cred-1"));
+
+        assertThat(outcomes).containsExactly(RevocationOutcome.revoked("cred-1", "Credential already revoked"));
+        verify(issuanceService, never()).revokeCredential(anyString());
+    }
+
+    @Test
+    void shouldRejectMoreCredentialsThanTheLimit() {
+        assertThatThrownBy(() -> service.revokeAll(List.of("cred-1", "cred-2", "cred-3", "cred-4")))
+            .isInstanceOf(IllegalArgumentException.class);
+
+        verifyNoInteractions(issuanceService);
+    }
+
+    private static CredentialIssuanceResult revoked(String documentId) {
+        PhysicalDocument document = new PhysicalDocument(
+            documentId,
+            PhysicalDocument.DocumentType.PASSPORT,
+            "passport.jpg",
+            Instant.now(),
+            "test document content".getBytes(),
+            Map.of("passportNumber", "A1234567"),
+            PhysicalDocument.ProcessingStatus.EXTRACTED,
+            null
+        );
+        VerifiableCredential credential = VerifiableCredential.fromPhysicalDocument(
+            document, new Issuer("did:web:credguard.com", "CredGuard", true), "did:example:wallet123", "conn-1");
+        return CredentialIssuanceResult.success(
+            credential.withStatus(VerifiableCredential.IssuanceStatus.REVOKED, "Credential revoked"),
+            "exchange-1", null, 10L);
+    }
+}
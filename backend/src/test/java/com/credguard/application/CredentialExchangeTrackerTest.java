@@ -0,0 +1,210 @@
+package com.credguard.application;
+
+import com.credguard.config.AriesConfiguration;
+import com.credguard.domain.CredentialIssuanceResult;
+import com.credguard.domain.Issuer;
+import com.credguard.domain.PhysicalDocument;
+import com.credguard.domain.VerifiableCredential;
+import com.credguard.exception.CredentialIssuanceException;
+import com.credguard.infra.aries.AriesCloudAgentClient;
+import com.credguard.infra.store.CredentialStore;
+import com.credguard.infra.store.MvStoreCredentialStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CredentialExchangeTrackerTest {
+
+    private static final String EXCHANGE = "exchange-1";
+
+    @Mock
+    private AriesCloudAgentClient ariesClient;
+
+    private CredentialStore store;
+    private AriesConfiguration configuration;
+    private MutableClock clock;
+    private CredentialExchangeTracker tracker;
+
+    @BeforeEach
+    void setUp() {
+        store = MvStoreCredentialStore.inMemory();
+        configuration = new AriesConfiguration();
+        configuration.getWebhooks().setTrackedTtl(Duration.ofHours(1));
+        clock = new MutableClock(Instant.parse("2025-01-01T00:00:00Z"));
+        tracker = new CredentialExchangeTracker(ariesClient, store, Runnable::run, event -> { }, configuration, clock);
+    }
+
+    @Test
+    void shouldSendCredentialOnceAndWriteStatesThrough() {
+        CredentialIssuanceResult offered = offer();
+
+        assertThat(tracker.onExchangeEvent(EXCHANGE, "request-received", null)).isTrue();
+        assertThat(tracker.onExchangeEvent(EXCHANGE, "request-received", null)).isFalse();
+
+        verify(ariesClient, times(1)).sendCredential(eq(EXCHANGE), any());
+        assertThat(status(offered)).isEqualTo(VerifiableCredential.IssuanceStatus.ACCEPTED);
+        assertThat(tracker.exchangeState(EXCHANGE)).contains("request-received");
+
+        tracker.onExchangeEvent(EXCHANGE, "credential-issued", null);
+        tracker.onExchangeEvent(EXCHANGE, "done", null);
+
+        assertThat(status(offered)).isEqualTo(VerifiableCredential.IssuanceStatus.ISSUED);
+        assertThat(tracker.exchangeState(EXCHANGE)).isEmpty();
+    }
+
+    @Test
+    void shouldIgnoreEventsThatMoveExchangeBackwards() {
+        offer();
+        tracker.onExchangeEvent(EXCHANGE, "credential-issued", null);
+
+        assertThat(tracker.onExchangeEvent(EXCHANGE, "offer-sent", null)).isFalse();
+        assertThat(tracker.onExchangeEvent(EXCHANGE, "request-received", null)).isFalse();
+
+        assertThat(tracker.exchangeState(EXCHANGE)).contains("credential-issued");
+        verify(ariesClient, never()).sendCredential(anyString(), any());
+    }
+
+    @Test
+    void shouldSendCredentialWhenRequestArrivesBeforeOfferReturns() {
+        tracker.onExchangeEvent(EXCHANGE, "request-received", null);
+        verify(ariesClient, never()).sendCredential(anyString(), any());
+
+        offer();
+
+        verify(ariesClient, times(1)).sendCredential(eq(EXCHANGE), any());
+    }
+
+    @Test
+    void shouldMarkCredentialFailedWhenSendingFails() {
+        CredentialIssuanceResult offered = offer();
+        when(ariesClient.sendCredential(eq(EXCHANGE), any()))
+            .thenThrow(new CredentialIssuanceException("Failed to send credential: agent down"));
+
+        tracker.onExchangeEvent(EXCHANGE, "request-received", null);
+
+        assertThat(status(offered)).isEqualTo(VerifiableCredential.IssuanceStatus.FAILED);
+        assertThat(store.findById(offered.verifiableCredential().id()).orElseThrow()
+            .verifiableCredential().statusMessage()).contains("agent down");
+        assertThat(tracker.exchangeState(EXCHANGE)).isEmpty();
+    }
+
+    @Test
+    void shouldTrackConnectionStatesUntilDeleted() {
+        tracker.onConnectionEvent("conn-1", "request");
+        tracker.onConnectionEvent("conn-1", "active");
+        assertThat(tracker.connectionState("conn-1")).contains("active");
+
+        tracker.onConnectionEvent("conn-1", "deleted");
+        assertThat(tracker.connectionState("conn-1")).isEmpty();
+    }
+
+    @Test
+    void shouldIgnoreEventsForExchangesCredGuardDidNotOffer() {
+        assertThat(tracker.onExchangeEvent("forged-1", "offer-sent", null)).isFalse();
+        assertThat(tracker.onExchangeEvent("forged-2", "done", null)).isFalse();
+
+        assertThat(tracker.exchangeState("forged-1")).isEmpty();
+        assertThat(tracker.exchangeState("forged-2")).isEmpty();
+    }
+
+    @Test
+    void shouldFollowStoredExchangeAfterItWasForgotten() {
+        CredentialIssuanceResult offered = offer();
+        clock.advance(Duration.ofHours(1));
+        assertThat(tracker.exchangeState(EXCHANGE)).isEmpty();
+
+        assertThat(tracker.onExchangeEvent(EXCHANGE, "done", null)).isTrue();
+        assertThat(status(offered)).isEqualTo(VerifiableCredential.IssuanceStatus.ISSUED);
+    }
+
+    @Test
+    void shouldCapTrackedConnections() {
+        configuration.getWebhooks().setMaxTracked(2);
+        tracker = new CredentialExchangeTracker(ariesClient, store, Runnable::run, event -> { }, configuration, clock);
+
+        tracker.onConnectionEvent("conn-1", "active");
+        clock.advance(Duration.ofSeconds(1));
+        tracker.onConnectionEvent("conn-2", "active");
+        clock.advance(Duration.ofSeconds(1));
+        tracker.onConnectionEvent("conn-3", "active");
+
+        assertThat(tracker.connectionState("conn-1")).isEmpty();
+        assertThat(tracker.connectionState("conn-2")).contains("active");
+        assertThat(tracker.connectionState("conn-3")).contains("active");
+
+        clock.advance(Duration.ofHours(1));
+        assertThat(tracker.connectionState("conn-3")).isEmpty();
+    }
+
+    private CredentialIssuanceResult offer() {
+        PhysicalDocument document = new PhysicalDocument(
+            "doc-1",
+            PhysicalDocument.DocumentType.PASSPORT,
+            "passport.jpg",
+            Instant.now(),
+            "test document content".getBytes(),
+            Map.of("passportNumber", "A1234567"),
+            PhysicalDocument.ProcessingStatus.EXTRACTED,
+            null
+        );
+        VerifiableCredential credential = VerifiableCredential.fromPhysicalDocument(
+            document, new Issuer("did:web:credguard.com", "CredGuard", true), "did:example:wallet123", "conn-1");
+        CredentialIssuanceResult result = CredentialIssuanceResult.success(
+            credential.withStatus(VerifiableCredential.IssuanceStatus.OFFER_SENT, "Credential offered"),
+            EXCHANGE, null, 10L);
+        store.save(result);
+        tracker.offered(result);
+        return result;
+    }
+
+    private VerifiableCredential.IssuanceStatus status(CredentialIssuanceResult result) {
+        return store.findById(result.verifiableCredential().id()).orElseThrow()
+            .verifiableCredential().issuanceStatus();
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant now;
+
+        private MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
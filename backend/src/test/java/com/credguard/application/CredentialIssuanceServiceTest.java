@@ -1,22 +1,42 @@
 package com.credguard.application;
 
 import com.credguard.application.ai.PhysicalDocumentParsingService;
+import com.credguard.config.AriesConfiguration;
+import com.credguard.config.IssuanceConfiguration;
+import com.credguard.config.RevocationConfiguration;
 import com.credguard.domain.CredentialIssuanceResult;
+import com.credguard.domain.CredentialRevokedEvent;
 import com.credguard.domain.Issuer;
 import com.credguard.domain.PhysicalDocument;
 import com.credguard.domain.VerifiableCredential;
+import com.credguard.exception.CredentialIssuanceException;
 import com.credguard.infra.aries.AriesCloudAgentClient;
+import com.credguard.infra.aries.ConnectionInvitationPool;
+import com.credguard.infra.aries.WalletConnectionCache;
+import com.credguard.infra.store.CredentialStore;
+import com.credguard.infra.store.MvStoreCredentialStore;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 
+import java.time.Duration;
 import java.time.Instant;
 import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -28,11 +48,14 @@ class CredentialIssuanceServiceTest {
     @Mock
     private AriesCloudAgentClient ariesClient;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     private CredentialIssuanceService credentialIssuanceService;
 
     @BeforeEach
     void setUp() {
-        credentialIssuanceService = new CredentialIssuanceService(documentParsingService, ariesClient);
+        credentialIssuanceService = service(null, MvStoreCredentialStore.inMemory(), new IssuanceConfiguration());
     }
 
     @Test
@@ -167,11 +190,48 @@ class CredentialIssuanceServiceTest {
         assertThat(status).isEqualTo("credential_acked");
     }
 
+    @Test
+    void shouldAttachStatusListEntryToIssuedCredential() {
+        // Given
+        byte[] documentBytes = "test document content".getBytes();
+        PhysicalDocument mockDocument = new PhysicalDocument(
+            "doc-789",
+            PhysicalDocument.DocumentType.PASSPORT,
+            "passport.jpg",
+            Instant.now(),
+            documentBytes,
+            Map.of("passportNumber", "A1234567"),
+            PhysicalDocument.ProcessingStatus.EXTRACTED,
+            null
+        );
+        MvStoreCredentialStore credentialStore = MvStoreCredentialStore.inMemory();
+        StatusListPublisher statusListPublisher = new StatusListPublisher(new RevocationConfiguration(), credentialStore);
+        CredentialIssuanceService service = service(statusListPublisher, credentialStore, new IssuanceConfiguration());
+
+        when(documentParsingService.parseDocument(documentBytes, "passport.jpg", PhysicalDocument.DocumentType.PASSPORT))
+            .thenReturn(mockDocument);
+        when(ariesClient.createConnectionInvitation("did:example:wallet123"))
+            .thenReturn("conn-123");
+        when(ariesClient.issueCredential(any(VerifiableCredential.class)))
+            .thenAnswer(invocation -> CredentialIssuanceResult.success(
+                invocation.getArgument(0), "exchange-789", "https://agent.example.com/offer/789", 10L));
+
+        // When
+        CredentialIssuanceResult result = service.issueCredentialFromDocument(
+            documentBytes, "passport.jpg", PhysicalDocument.DocumentType.PASSPORT, "did:example:wallet123"
+        );
+
+        // Then
+        assertThat(result.verifiableCredential().credentialStatus())
+            .containsEntry("type", "BitstringStatusListEntry")
+            .containsEntry("statusListCredential", "http://localhost:8080/api/status-lists/0");
+    }
+
     @Test
     void shouldRevokeCredential() {
         // Given
         String credentialId = "cred-123";
-        when(ariesClient.revokeCredential(credentialId))
+        when(ariesClient.revokeCredential(credentialId, false))
             .thenReturn(true);
 
         // When
@@ -179,6 +239,160 @@ class CredentialIssuanceServiceTest {
 
         // Then
         assertThat(result).isTrue();
+        ArgumentCaptor<Object> event = ArgumentCaptor.forClass(Object.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertThat(event.getValue()).isInstanceOfSatisfying(CredentialRevokedEvent.class,
+            revoked -> assertThat(revoked.credentialId()).isEqualTo(credentialId));
+    }
+
+    @Test
+    void shouldServeStatusOfStoredCredentialLocally() {
+        // Given
+        byte[] documentBytes = "test document content".getBytes();
+        PhysicalDocument mockDocument = new PhysicalDocument(
+            "doc-321",
+            PhysicalDocument.DocumentType.PASSPORT,
+            "passport.jpg",
+            Instant.now(),
+            documentBytes,
+            Map.of("passportNumber", "A1234567"),
+            PhysicalDocument.ProcessingStatus.EXTRACTED,
+            null
+        );
+        when(documentParsingService.parseDocument(documentBytes, "passport.jpg", PhysicalDocument.DocumentType.PASSPORT))
+            .thenReturn(mockDocument);
+        when(ariesClient.createConnectionInvitation("did:example:wallet123"))
+            .thenReturn("conn-123");
+        when(ariesClient.issueCredential(any(VerifiableCredential.class)))
+            .thenAnswer(invocation -> CredentialIssuanceResult.success(
+                invocation.<VerifiableCredential>getArgument(0)
+                    .withStatus(VerifiableCredential.IssuanceStatus.ISSUED, "Issued"),
+                "exchange-321", "https://agent.example.com/offer/321", 10L));
+        when(ariesClient.revokeCredential("urn:credential:doc-321", false))
+            .thenReturn(true);
+        credentialIssuanceService.issueCredentialFromDocument(
+            documentBytes, "passport.jpg", PhysicalDocument.DocumentType.PASSPORT, "did:example:wallet123"
+        );
+
+        // When
+        String issued = credentialIssuanceService.getCredentialStatus("exchange-321");
+        credentialIssuanceService.revokeCredential("urn:credential:doc-321");
+        String revoked = credentialIssuanceService.getCredentialStatus("exchange-321");
+
+        // Then
+        assertThat(issued).isEqualTo("issued");
+        assertThat(revoked).isEqualTo("revoked");
+        assertThat(credentialIssuanceService.findCredentialsForWallet("did:example:wallet123")).hasSize(1);
+        verify(ariesClient, never()).getCredentialExchangeStatus(any());
+    }
+
+    @Test
+    void shouldParseDocumentWhileConnectingToWallet() {
+        // Given
+        byte[] documentBytes = "test document content".getBytes();
+        CountDownLatch connectionStarted = new CountDownLatch(1);
+        when(documentParsingService.parseDocument(documentBytes, "passport.jpg", PhysicalDocument.DocumentType.PASSPORT))
+            .thenAnswer(invocation -> {
+                // Only completes if the connection is requested before parsing finishes
+                assertThat(connectionStarted.await(5, TimeUnit.SECONDS)).isTrue();
+                return parsedDocument("doc-456", documentBytes);
+            });
+        when(ariesClient.createConnectionInvitation("did:example:wallet123"))
+            .thenAnswer(invocation -> {
+                connectionStarted.countDown();
+                return "conn-456";
+            });
+        when(ariesClient.issueCredential(any(VerifiableCredential.class)))
+            .thenAnswer(invocation -> CredentialIssuanceResult.success(
+                invocation.getArgument(0), "exchange-456", "https://agent.example.com/offer/456", 10L));
+
+        // When
+        CredentialIssuanceResult result = credentialIssuanceService.issueCredentialFromDocument(
+            documentBytes, "passport.jpg", PhysicalDocument.DocumentType.PASSPORT, "did:example:wallet123"
+        );
+
+        // Then
+        assertThat(result.success()).isTrue();
+        assertThat(result.verifiableCredential().connectionId()).isEqualTo("conn-456");
+    }
+
+    @Test
+    void shouldReuseWalletConnectionForRepeatIssuance() {
+        // Given
+        byte[] documentBytes = "test document content".getBytes();
+        when(documentParsingService.parseDocument(documentBytes, "passport.jpg", PhysicalDocument.DocumentType.PASSPORT))
+            .thenReturn(parsedDocument("doc-1", documentBytes), parsedDocument("doc-2", documentBytes));
+        when(ariesClient.createConnectionInvitation("did:example:wallet123"))
+            .thenReturn("conn-1", "conn-2");
+        when(ariesClient.issueCredential(any(VerifiableCredential.class)))
+            .thenAnswer(invocation -> CredentialIssuanceResult.success(
+                invocation.getArgument(0), "exchange-1", "https://agent.example.com/offer/1", 10L));
+
+        // When
+        CredentialIssuanceResult first = credentialIssuanceService.issueCredentialFromDocument(
+            documentBytes, "passport.jpg", PhysicalDocument.DocumentType.PASSPORT, "did:example:wallet123");
+        CredentialIssuanceResult second = credentialIssuanceService.issueCredentialFromDocument(
+            documentBytes, "passport.jpg", PhysicalDocument.DocumentType.PASSPORT, "did:example:wallet123");
+
+        // Then
+        assertThat(first.verifiableCredential().connectionId()).isEqualTo("conn-1");
+        assertThat(second.verifiableCredential().connectionId()).isEqualTo("conn-1");
+        verify(ariesClient, times(1)).createConnectionInvitation("did:example:wallet123");
+    }
+
+    @Test
+    void shouldInterruptConnectionWhenParsingFails() {
+        // Given
+        byte[] documentBytes = "test document content".getBytes();
+        CountDownLatch connectionStarted = new CountDownLatch(1);
+        CountDownLatch connectionInterrupted = new CountDownLatch(1);
+        when(documentParsingService.parseDocument(documentBytes, "passport.jpg", PhysicalDocument.DocumentType.PASSPORT))
+            .thenAnswer(invocation -> {
+                connectionStarted.await(5, TimeUnit.SECONDS);
+                throw new IllegalStateException("AI service unavailable");
+            });
+        when(ariesClient.createConnectionInvitation("did:example:wallet123"))
+            .thenAnswer(invocation -> {
+                connectionStarted.countDown();
+                try {
+                    Thread.sleep(10_000);
+                } catch (InterruptedException e) {
+                    connectionInterrupted.countDown();
+                    throw e;
+                }
+                return "conn-789";
+            });
+
+        // When & Then
+        assertThatThrownBy(() -> credentialIssuanceService.issueCredentialFromDocument(
+            documentBytes, "passport.jpg", PhysicalDocument.DocumentType.PASSPORT, "did:example:wallet123"))
+            .isInstanceOf(CredentialIssuanceException.class)
+            .hasMessageContaining("AI service unavailable");
+        assertThat(awaitQuietly(connectionInterrupted)).isTrue();
+        verify(ariesClient, never()).issueCredential(any());
+    }
+
+    @Test
+    void shouldFailStageThatExceedsItsTimeout() {
+        // Given
+        IssuanceConfiguration configuration = new IssuanceConfiguration();
+        configuration.getStages().setParseTimeout(Duration.ofMillis(100));
+        CredentialStore store = MvStoreCredentialStore.inMemory();
+        CredentialIssuanceService service = service(null, store, configuration);
+        byte[] documentBytes = "test document content".getBytes();
+        when(documentParsingService.parseDocument(documentBytes, "passport.jpg", PhysicalDocument.DocumentType.PASSPORT))
+            .thenAnswer(invocation -> {
+                Thread.sleep(10_000);
+                return parsedDocument("doc-999", documentBytes);
+            });
+        when(ariesClient.createConnectionInvitation("did:example:wallet123"))
+            .thenReturn("conn-999");
+
+        // When & Then
+        assertThatThrownBy(() -> service.issueCredentialFromDocument(
+            documentBytes, "passport.jpg", PhysicalDocument.DocumentType.PASSPORT, "did:example:wallet123"))
+            .isInstanceOf(CredentialIssuanceException.class)
+            .hasMessageContaining("Document parsing timed out after 100ms");
     }
 
     @Test
@@ -194,4 +408,42 @@ class CredentialIssuanceServiceTest {
         // Then
         assertThat(status).isEqualTo("active");
     }
-}
\ No newline at end of file
+
+    /**
+     * Builds the service with a connection cache whose invitation pool is never
+     * started, so every connection is created on the calling thread.
+     */
+    private CredentialIssuanceService service(StatusListPublisher statusListPublisher, CredentialStore store,
+                                              IssuanceConfiguration configuration) {
+        AriesConfiguration ariesConfiguration = new AriesConfiguration();
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        WalletConnectionCache connections = new WalletConnectionCache(ariesClient,
+            new ConnectionInvitationPool(ariesClient, ariesConfiguration, meterRegistry), ariesConfiguration, meterRegistry);
+        CredentialExchangeTracker exchanges = new CredentialExchangeTracker(ariesClient, store, Runnable::run,
+            eventPublisher, ariesConfiguration);
+        return new CredentialIssuanceService(documentParsingService, ariesClient, eventPublisher, statusListPublisher,
+            store, connections, exchanges, configuration, new SimpleAsyncTaskExecutor("issuance-stage-test-"));
+    }
+
+    private static PhysicalDocument parsedDocument(String id, byte[] documentBytes) {
+        return new PhysicalDocument(
+            id,
+            PhysicalDocument.DocumentType.PASSPORT,
+            "passport.jpg",
+            Instant.now(),
+            documentBytes,
+            Map.of("passportNumber", "A1234567"),
+            PhysicalDocument.ProcessingStatus.EXTRACTED,
+            null
+        );
+    }
+
+    private static boolean awaitQuietly(CountDownLatch latch) {
+        try {
+            return latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,321 @@
+package com.credguard.application;
+
+import com.credguard.config.IssuanceConfiguration;
+import com.credguard.domain.CredentialIssuanceResult;
+import com.credguard.domain.IssuanceJob;
+import com.credguard.domain.Issuer;
+import com.credguard.domain.PhysicalDocument;
+import com.credguard.domain.VerifiableCredential;
+import com.credguard.exception.CredentialIssuanceException;
+import com.credguard.exception.IssuanceQueueFullException;
+import com.credguard.infra.outbox.IssuanceOutbox;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class IssuanceJobServiceTest {
+
+    private static final byte[] DOCUMENT = "test document content".getBytes();
+
+    @Mock
+    private CredentialIssuanceService issuanceService;
+
+    private ExecutorService executor;
+    private MutableClock clock;
+    private IssuanceJobService jobService;
+
+    @BeforeEach
+    void setUp() {
+        IssuanceConfiguration configuration = new IssuanceConfiguration();
+        configuration.getJobs().setMaxConcurrency(1);
+        configuration.getJobs().setQueueCapacity(1);
+        configuration.getJobs().setRetention(Duration.ofMinutes(10));
+        executor = Executors.newCachedThreadPool();
+        clock = new MutableClock(Instant.parse("2025-01-01T00:00:00Z"));
+        jobService = new IssuanceJobService(issuanceService, new IssuanceOutbox(configuration), executor,
+            event -> { }, configuration, new SimpleMeterRegistry(), clock);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void shouldTrackStagesUntilIssued() throws Exception {
+        List<IssuanceJob.Stage> observed = new CopyOnWriteArrayList<>();
+        when(issuanceService.issueCredentialFromDocument(eq(DOCUMENT), eq("passport.jpg"),
+            eq(PhysicalDocument.DocumentType.PASSPORT), eq("did:example:wallet123"), any()))
+            .thenAnswer(invocation -> {
+                Consumer<IssuanceJob.Stage> progress = invocation.getArgument(4);
+                for (IssuanceJob.Stage stage : List.of(IssuanceJob.Stage.PARSING,
+                        IssuanceJob.Stage.CONNECTING, IssuanceJob.Stage.OFFERING)) {
+                    progress.accept(stage);
+                    observed.add(stage);
+                }
+                return issued("doc-1", "exchange-1");
+            });
+
+        IssuanceJob submitted = submit();
+
+        assertThat(submitted.stage()).isEqualTo(IssuanceJob.Stage.QUEUED);
+        IssuanceJob done = awaitTerminal(submitted.id());
+        assertThat(done.stage()).isEqualTo(IssuanceJob.Stage.ISSUED);
+        assertThat(done.credentialId()).isEqualTo("urn:credential:doc-1");
+        assertThat(done.credentialExchangeId()).isEqualTo("exchange-1");
+        assertThat(observed).containsExactly(IssuanceJob.Stage.PARSING,
+            IssuanceJob.Stage.CONNECTING, IssuanceJob.Stage.OFFERING);
+    }
+
+    @Test
+    void shouldRejectSubmissionsBeyondQueueCapacity() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        when(issuanceService.issueCredentialFromDocument(any(), anyString(), any(), anyString(), any()))
+            .thenAnswer(invocation -> {
+                release.await(5, TimeUnit.SECONDS);
+                return issued("doc-1", "exchange-1");
+            });
+
+        IssuanceJob first = submit();
+        IssuanceJob second = submit();
+
+        assertThat(first.id()).isNotEqualTo(second.id());
+        assertThatThrownBy(this::submit).isInstanceOf(IssuanceQueueFullException.class);
+
+        release.countDown();
+        awaitTerminal(first.id());
+        awaitTerminal(second.id());
+        assertThat(submit()).isNotNull();
+    }
+
+    @Test
+    void shouldReportFailureMessage() throws Exception {
+        when(issuanceService.issueCredentialFromDocument(any(), anyString(), any(), anyString(), any()))
+            .thenThrow(new CredentialIssuanceException("Failed to issue credential from document: agent down"));
+
+        IssuanceJob done = awaitTerminal(submit().id());
+
+        assertThat(done.stage()).isEqualTo(IssuanceJob.Stage.FAILED);
+        assertThat(done.errorMessage()).contains("agent down");
+    }
+
+    @Test
+    void shouldForgetFinishedJobsAfterRetention() throws Exception {
+        when(issuanceService.issueCredentialFromDocument(any(), anyString(), any(), anyString(), any()))
+            .thenReturn(issued("doc-1", "exchange-1"));
+        String jobId = awaitTerminal(submit().id()).id();
+
+        clock.advance(Duration.ofMinutes(11));
+        submit();
+
+        assertThat(jobService.find(jobId)).isEmpty();
+    }
+
+    @Test
+    void shouldResumeJobsLeftInOutbox(@TempDir Path directory) throws Exception {
+        IssuanceConfiguration configuration = new IssuanceConfiguration();
+        configuration.getOutbox().setFile(directory.resolve("outbox.jsonl").toString());
+        IssuanceOutbox previous = new IssuanceOutbox(configuration);
+        previous.initialize();
+        previous.append(new IssuanceOutbox.PendingIssuance("job-before-restart", clock.instant(),
+            "passport.jpg", PhysicalDocument.DocumentType.PASSPORT, "did:example:wallet123", DOCUMENT));
+        previous.shutdown();
+
+        when(issuanceService.issueCredentialFromDocument(eq(DOCUMENT), eq("passport.jpg"),
+            eq(PhysicalDocument.DocumentType.PASSPORT), eq("did:example:wallet123"), any()))
+            .thenReturn(issued("doc-1", "exchange-1"));
+        IssuanceOutbox outbox = new IssuanceOutbox(configuration);
+        outbox.initialize();
+        IssuanceJobService restarted = new IssuanceJobService(issuanceService, outbox, executor,
+            event -> { }, configuration, new SimpleMeterRegistry(), clock);
+        restarted.recoverPendingJobs();
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!restarted.find("job-before-restart").orElseThrow().stage().isTerminal()
+                && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(restarted.find("job-before-restart").orElseThrow().stage()).isEqualTo(IssuanceJob.Stage.ISSUED);
+        outbox.shutdown();
+
+        IssuanceOutbox reopened = new IssuanceOutbox(configuration);
+        reopened.initialize();
+        assertThat(reopened.recover()).isEmpty();
+        reopened.shutdown();
+    }
+
+    @Test
+    void shouldLeaveJobInterruptedBeforeOfferInOutbox(@TempDir Path directory) throws Exception {
+        CountDownLatch parsing = new CountDownLatch(1);
+        when(issuanceService.issueCredentialFromDocument(any(), anyString(), any(), anyString(), any()))
+            .thenAnswer(invocation -> {
+                invocation.<Consumer<IssuanceJob.Stage>>getArgument(4).accept(IssuanceJob.Stage.PARSING);
+                parsing.countDown();
+                Thread.sleep(10_000);
+                return issued("doc-1", "exchange-1");
+            });
+        IssuanceConfiguration configuration = outboxConfiguration(directory);
+        IssuanceOutbox outbox = new IssuanceOutbox(configuration);
+        outbox.initialize();
+        IssuanceJobService service = new IssuanceJobService(issuanceService, outbox, executor,
+            event -> { }, configuration, new SimpleMeterRegistry(), clock);
+        String jobId = service.submit(DOCUMENT, "passport.jpg", PhysicalDocument.DocumentType.PASSPORT,
+            "did:example:wallet123").id();
+        assertThat(parsing.await(5, TimeUnit.SECONDS)).isTrue();
+
+        service.shutdown();
+        outbox.shutdown();
+
+        assertThat(service.find(jobId).orElseThrow().stage()).isEqualTo(IssuanceJob.Stage.FAILED);
+        assertThat(recoveredJobIds(configuration)).containsExactly(jobId);
+    }
+
+    @Test
+    void shouldNotReplayJobsThatReachedOfferOrFailedDuringShutdown(@TempDir Path directory) throws Exception {
+        CountDownLatch started = new CountDownLatch(2);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger calls = new AtomicInteger();
+        when(issuanceService.issueCredentialFromDocument(any(), anyString(), any(), anyString(), any()))
+            .thenAnswer(invocation -> {
+                Consumer<IssuanceJob.Stage> progress = invocation.getArgument(4);
+                progress.accept(IssuanceJob.Stage.PARSING);
+                // One job fails after its offer began, the other before
+                if (calls.getAndIncrement() == 0) {
+                    progress.accept(IssuanceJob.Stage.OFFERING);
+                }
+                started.countDown();
+                release.await(5, TimeUnit.SECONDS);
+                throw new CredentialIssuanceException("Failed to issue credential from document: offer rejected");
+            });
+        IssuanceConfiguration configuration = outboxConfiguration(directory);
+        configuration.getJobs().setMaxConcurrency(2);
+        configuration.getJobs().setShutdownTimeout(Duration.ofSeconds(5));
+        IssuanceOutbox outbox = new IssuanceOutbox(configuration);
+        outbox.initialize();
+        IssuanceJobService service = new IssuanceJobService(issuanceService, outbox, executor,
+            event -> { }, configuration, new SimpleMeterRegistry(), clock);
+        for (int i = 0; i < 2; i++) {
+            service.submit(DOCUMENT, "passport.jpg", PhysicalDocument.DocumentType.PASSPORT, "did:example:wallet123");
+        }
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        executor.execute(() -> {
+            try {
+                Thread.sleep(100);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            release.countDown();
+        });
+        service.shutdown();
+        outbox.shutdown();
+
+        assertThat(recoveredJobIds(configuration)).isEmpty();
+    }
+
+    private IssuanceConfiguration outboxConfiguration(Path directory) {
+        IssuanceConfiguration configuration = new IssuanceConfiguration();
+        configuration.getOutbox().setFile(directory.resolve("outbox.jsonl").toString());
+        configuration.getJobs().setShutdownTimeout(Duration.ofMillis(100));
+        return configuration;
+    }
+
+    private static List<String> recoveredJobIds(IssuanceConfiguration configuration) {
+        IssuanceOutbox reopened = new IssuanceOutbox(configuration);
+        reopened.initialize();
+        try {
+            return reopened.recover().stream().map(IssuanceOutbox.PendingIssuance::jobId).toList();
+        } finally {
+            reopened.shutdown();
+        }
+    }
+
+    private IssuanceJob submit() {
+        return jobService.submit(DOCUMENT, "passport.jpg", PhysicalDocument.DocumentType.PASSPORT,
+            "did:example:wallet123");
+    }
+
+    private IssuanceJob awaitTerminal(String jobId) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (System.nanoTime() < deadline) {
+            IssuanceJob job = jobService.find(jobId).orElseThrow();
+            if (job.stage().isTerminal()) {
+                return job;
+            }
+            Thread.sleep(10);
+        }
+        throw new AssertionError("Job " + jobId + " did not finish");
+    }
+
+    private static CredentialIssuanceResult issued(String documentId, String exchangeId) {
+        PhysicalDocument document = new PhysicalDocument(
+            documentId,
+            PhysicalDocument.DocumentType.PASSPORT,
+            "passport.jpg",
+            Instant.now(),
+            DOCUMENT,
+            Map.of("passportNumber", "A1234567"),
+            PhysicalDocument.ProcessingStatus.EXTRACTED,
+            null
+        );
+        VerifiableCredential credential = VerifiableCredential.fromPhysicalDocument(
+            document, new Issuer("did:web:credguard.com", "CredGuard", true), "did:example:wallet123", "conn-1");
+        return CredentialIssuanceResult.success(credential, exchangeId, "https://agent.example.com/offer/1", 10L);
+    }
+
+    private static final class MutableClock extends Clock {
+        private volatile Instant now;
+
+        private MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,208 @@
+package com.credguard.application;
+
+import com.credguard.config.RevocationConfiguration;
+import com.credguard.domain.CredentialIssuanceResult;
+import com.credguard.domain.CredentialRevokedEvent;
+import com.credguard.domain.Issuer;
+import com.credguard.domain.PhysicalDocument;
+import com.credguard.domain.VerifiableCredential;
+import com.credguard.infra.revocation.StatusList;
+import com.credguard.infra.store.MvStoreCredentialStore;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StatusListPublisherTest {
+
+    private static final String BASE_URL = "https://credguard.example/api/status-lists";
+
+    @TempDir
+    Path directory;
+
+    private RevocationConfiguration configuration;
+    private MvStoreCredentialStore credentialStore;
+    private StatusListPublisher publisher;
+    private int issued;
+
+    @BeforeEach
+    void setUp() {
+        configuration = new RevocationConfiguration();
+        configuration.getPublication().setBaseUrl(BASE_URL);
+        configuration.getPublication().setListSize(16);
+        configuration.getPublication().setStateFile(directory.resolve("status-lists.log").toString());
+        credentialStore = MvStoreCredentialStore.inMemory();
+        publisher = new StatusListPublisher(configuration, credentialStore);
+        publisher.initialize();
+    }
+
+    @AfterEach
+    void tearDown() {
+        publisher.shutdown();
+        credentialStore.close();
+    }
+
+    @Test
+    void shouldFillEachListBeforeOpeningTheNext() {
+        Set<String> offsets = new HashSet<>();
+        for (int i = 0; i < 16; i++) {
+            Map<String, Object> status = publisher.assign("cred-" + i);
+            assertThat(status)
+                .containsEntry("type", "BitstringStatusListEntry")
+                .containsEntry("statusPurpose", "revocation")
+                .containsEntry("statusListCredential", BASE_URL + "/0")
+                .containsEntry("id", BASE_URL + "/0#" + status.get("statusListIndex"));
+            offsets.add((String) status.get("statusListIndex"));
+        }
+        Map<String, Object> overflow = publisher.assign("cred-16");
+
+        assertThat(offsets).hasSize(16);
+        assertThat(overflow).containsEntry("statusListCredential", BASE_URL + "/1");
+    }
+
+    @Test
+    void shouldNotAssignIndexesInIssuanceOrder() {
+        configuration.getPublication().setListSize(131_072);
+        StatusListPublisher large = new StatusListPublisher(configuration, credentialStore);
+
+        List<String> offsets = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            offsets.add((String) large.assign("cred-" + i).get("statusListIndex"));
+        }
+
+        assertThat(offsets).doesNotHaveDuplicates()
+            .isNotEqualTo(IntStream.range(0, 8).mapToObj(String::valueOf).toList());
+    }
+
+    @Test
+    void shouldReuseIndexStoredWithIssuedCredential() {
+        String credentialId = issue();
+        Map<String, Object> stored = credentialStore.findById(credentialId).orElseThrow()
+            .verifiableCredential().credentialStatus();
+
+        assertThat(publisher.assign(credentialId)).isEqualTo(stored);
+    }
+
+    @Test
+    void shouldFlipBitOnRevocationAndReencodeOnce() throws Exception {
+        String kept = issue();
+        String revoked = issue();
+        StatusListPublisher.Published before = publisher.get(0);
+        assertThat(publisher.get(0)).isSameAs(before);
+
+        publisher.onCredentialRevoked(CredentialRevokedEvent.now(revoked));
+        StatusListPublisher.Published after = publisher.get(0);
+
+        assertThat(after).isNotSameAs(before);
+        assertThat(after.etag()).isNotEqualTo(before.etag());
+        assertThat(publisher.get(0)).isSameAs(after);
+        StatusList list = decode(after);
+        assertThat(list.isSet(offset(kept))).isFalse();
+        assertThat(list.isSet(offset(revoked))).isTrue();
+        assertThat(publisher.revoke(revoked)).isFalse();
+        assertThat(publisher.revoke("unknown")).isFalse();
+    }
+
+    @Test
+    void shouldReturnNullForUnassignedList() {
+        assertThat(publisher.get(0)).isNull();
+        publisher.assign("cred-0");
+        assertThat(publisher.get(1)).isNull();
+    }
+
+    @Test
+    void shouldRestoreAssignmentsAndRevocationsOnRestart() throws Exception {
+        String revoked = issue();
+        issue();
+        publisher.revoke(revoked);
+        String etag = publisher.get(0).etag();
+        publisher.shutdown();
+
+        StatusListPublisher restarted = new StatusListPublisher(configuration, credentialStore);
+        restarted.initialize();
+        try {
+            assertThat(restarted.get(0).etag()).isEqualTo(etag);
+            assertThat(decode(restarted.get(0)).isSet(offset(revoked))).isTrue();
+
+            // The 14 indexes still free in list 0 are handed out before list 1 opens
+            Set<String> offsets = new HashSet<>();
+            for (int i = 0; i < 14; i++) {
+                Map<String, Object> status = restarted.assign("cred-new-" + i);
+                assertThat(status).containsEntry("statusListCredential", BASE_URL + "/0");
+                offsets.add((String) status.get("statusListIndex"));
+            }
+            assertThat(offsets).hasSize(14).doesNotContain(String.valueOf(offset(revoked)));
+            assertThat(restarted.assign("cred-new-14")).containsEntry("statusListCredential", BASE_URL + "/1");
+        } finally {
+            restarted.shutdown();
+        }
+    }
+
+    @Test
+    void shouldRebuildListsFromCredentialStoreWithoutStateFile() throws Exception {
+        configuration.getPublication().setStateFile("");
+        publisher.shutdown();
+        publisher = new StatusListPublisher(configuration, credentialStore);
+        publisher.initialize();
+        String revoked = issue();
+        String kept = issue();
+        credentialStore.updateStatus(revoked, VerifiableCredential.IssuanceStatus.REVOKED, "Credential revoked");
+        publisher.revoke(revoked);
+        String etag = publisher.get(0).etag();
+
+        StatusListPublisher restarted = new StatusListPublisher(configuration, credentialStore);
+        restarted.initialize();
+
+        assertThat(restarted.get(0).etag()).isEqualTo(etag);
+        assertThat(decode(restarted.get(0)).isSet(offset(revoked))).isTrue();
+        assertThat(decode(restarted.get(0)).isSet(offset(kept))).isFalse();
+        Set<String> offsets = new HashSet<>();
+        for (int i = 0; i < 14; i++) {
+            offsets.add((String) restarted.assign("cred-new-" + i).get("statusListIndex"));
+        }
+        assertThat(offsets).hasSize(14)
+            .doesNotContain(String.valueOf(offset(revoked)), String.valueOf(offset(kept)));
+        assertThat(restarted.assign("cred-new-14")).containsEntry("statusListCredential", BASE_URL + "/1");
+    }
+
+    private String issue() {
+        PhysicalDocument document = new PhysicalDocument(
+            "doc-" + issued++,
+            PhysicalDocument.DocumentType.PASSPORT,
+            "passport.jpg",
+            Instant.now(),
+            new byte[0],
+            Map.of("passportNumber", "A1234567"),
+            PhysicalDocument.ProcessingStatus.EXTRACTED,
+            null
+        );
+        VerifiableCredential credential = VerifiableCredential.fromPhysicalDocument(
+            document, new Issuer("did:web:credguard.com", "CredGuard", true), "did:example:wallet", "conn-1");
+        credential = credential.withCredentialStatus(publisher.assign(credential.id()));
+        credentialStore.save(CredentialIssuanceResult.success(credential, null, null, 10L));
+        return credential.id();
+    }
+
+    private int offset(String credentialId) {
+        return Integer.parseInt((String) credentialStore.findById(credentialId).orElseThrow()
+            .verifiableCredential().credentialStatus().get("statusListIndex"));
+    }
+
+    private static StatusList decode(StatusListPublisher.Published published) throws Exception {
+        JsonNode subject = new ObjectMapper().readTree(published.body()).path("credentialSubject");
+        return StatusList.decode(subject.path("encodedList").asText(), subject.path("statusPurpose").asText(), 1024);
+    }
+}
@@ -0,0 +1,252 @@
+package com.credguard.application;
+
+import com.credguard.config.VerificationConfiguration;
+import com.credguard.domain.Credential;
+import com.credguard.domain.CredentialRevokedEvent;
+import com.credguard.domain.Issuer;
+import com.credguard.domain.VerificationResult;
+import com.credguard.infra.crypto.JwksCache;
+import com.credguard.infra.crypto.LocalIssuerKeyStore;
+import com.credguard.infra.revocation.StatusListCache;
+import com.credguard.infra.trust.TrustedIssuerRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class VerificationResultCacheTest {
+
+    private static final Instant NOW = Instant.parse("2025-01-01T00:00:00Z");
+    private static final String JWKS_URL = "https://issuer.example.com/.well-known/jwks.json";
+    private static final String STATUS_LIST_URL = "https://issuer.example.com/status/1";
+
+    @Mock
+    private JwksCache jwksCache;
+
+    @Mock
+    private StatusListCache statusLists;
+
+    @Mock
+    private LocalIssuerKeyStore localKeyStore;
+
+    @Mock
+    private TrustedIssuerRegistry trustRegistry;
+
+    private VerificationConfiguration configuration;
+    private MutableClock clock;
+    private VerificationResultCache cache;
+
+    @BeforeEach
+    void setUp() {
+        configuration = new VerificationConfiguration();
+        configuration.getResultCache().setTtl(Duration.ofMinutes(10));
+        clock = new MutableClock(NOW);
+        cache = new VerificationResultCache(configuration, jwksCache, statusLists, localKeyStore, trustRegistry,
+            new SimpleMeterRegistry(), clock);
+    }
+
+    @Test
+    void shouldHitForSameCredentialWithDifferentClaimOrder() {
+        Map<String, Object> claims = new LinkedHashMap<>();
+        claims.put("degree", "BSc");
+        claims.put("university", "Example University");
+        Map<String, Object> reordered = new LinkedHashMap<>();
+        reordered.put("university", "Example University");
+        reordered.put("degree", "BSc");
+        Credential credential = credential("cred-1", null, claims);
+
+        cache.put(cache.keyFor(credential), credential, valid(credential), cache.version());
+
+        assertThat(cache.keyFor(credential("cred-1", null, reordered))).isEqualTo(cache.keyFor(credential));
+        assertThat(cache.get(cache.keyFor(credential("cred-1", null, reordered)))).isNotNull();
+    }
+
+    @Test
+    void shouldMissForDifferentCredentialContent() {
+        Credential credential = credential("cred-1", null, Map.of("degree", "BSc"));
+        cache.put(cache.keyFor(credential), credential, valid(credential), cache.version());
+
+        assertThat(cache.get(cache.keyFor(credential("cred-1", null, Map.of("degree", "PhD"))))).isNull();
+    }
+
+    @Test
+    void shouldNotCacheFailedVerifications() {
+        Credential credential = credential("cred-1", null, Map.of());
+        VerificationResult failure = VerificationResult.failure(credential, List.of("expired"), List.of(), "failed");
+
+        cache.put(cache.keyFor(credential), credential, failure, cache.version());
+
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void shouldExpireEntryAtCredentialExpiry() {
+        Credential credential = credential("cred-1", NOW.plusSeconds(60), Map.of());
+        VerificationResultCache.Key key = cache.keyFor(credential);
+        cache.put(key, credential, valid(credential), cache.version());
+
+        clock.advance(Duration.ofSeconds(59));
+        assertThat(cache.get(key)).isNotNull();
+        clock.advance(Duration.ofSeconds(1));
+        assertThat(cache.get(key)).isNull();
+    }
+
+    @Test
+    void shouldExpireEntryWithIssuerKeySet() {
+        when(jwksCache.expiresAt(JWKS_URL)).thenReturn(NOW.plusSeconds(30));
+        Credential credential = credential("cred-1", null, Map.of("issuerPublicKeyUrl", JWKS_URL));
+        VerificationResultCache.Key key = cache.keyFor(credential);
+        cache.put(key, credential, valid(credential), cache.version());
+
+        clock.advance(Duration.ofSeconds(29));
+        assertThat(cache.get(key)).isNotNull();
+        clock.advance(Duration.ofSeconds(1));
+        assertThat(cache.get(key)).isNull();
+    }
+
+    @Test
+    void shouldExpireEntryWithStatusList() {
+        when(statusLists.expiresAt(STATUS_LIST_URL)).thenReturn(NOW.plusSeconds(45));
+        Credential credential = credential("cred-1", null, Map.of("credentialStatus",
+            Map.of("type", "StatusList2021Entry", "statusListIndex", "3", "statusListCredential", STATUS_LIST_URL)));
+        VerificationResultCache.Key key = cache.keyFor(credential);
+        cache.put(key, credential, valid(credential), cache.version());
+
+        clock.advance(Duration.ofSeconds(44));
+        assertThat(cache.get(key)).isNotNull();
+        clock.advance(Duration.ofSeconds(1));
+        assertThat(cache.get(key)).isNull();
+    }
+
+    @Test
+    void shouldNotCacheWhenStatusListIsNotCached() {
+        Credential credential = credential("cred-1", null, Map.of("credentialStatus",
+            Map.of("type", "StatusList2021Entry", "statusListIndex", "3", "statusListCredential", STATUS_LIST_URL)));
+        cache.put(cache.keyFor(credential), credential, valid(credential), cache.version());
+
+        assertThat(cache.get(cache.keyFor(credential))).isNull();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldEvictWhenIssuerKeysRotate() {
+        ArgumentCaptor<Consumer<String>> listener = ArgumentCaptor.forClass(Consumer.class);
+        verify(jwksCache).addKeySetListener(listener.capture());
+        Credential credential = credential("cred-1", null, Map.of("issuerPublicKeyUrl", JWKS_URL));
+        Credential other = credential("cred-2", null, Map.of());
+        cache.put(cache.keyFor(credential), credential, valid(credential), cache.version());
+        cache.put(cache.keyFor(other), other, valid(other), cache.version());
+
+        listener.getValue().accept(JWKS_URL);
+
+        assertThat(cache.get(cache.keyFor(credential))).isNull();
+        assertThat(cache.get(cache.keyFor(other))).isNotNull();
+    }
+
+    @Test
+    void shouldEvictEverythingWhenTrustRegistryReloads() {
+        ArgumentCaptor<Runnable> listener = ArgumentCaptor.forClass(Runnable.class);
+        verify(trustRegistry).addReloadListener(listener.capture());
+        Credential credential = credential("cred-1", null, Map.of());
+        cache.put(cache.keyFor(credential), credential, valid(credential), cache.version());
+
+        listener.getValue().run();
+
+        assertThat(cache.get(cache.keyFor(credential))).isNull();
+    }
+
+    @Test
+    void shouldNotCacheResultComputedBeforeRevocation() {
+        Credential credential = credential("cred-1", null, Map.of());
+        long readVersion = cache.version();
+
+        // Revoked while the verification was running: the valid result is stale
+        cache.onCredentialRevoked(CredentialRevokedEvent.now("cred-1"));
+        cache.put(cache.keyFor(credential), credential, valid(credential), readVersion);
+
+        assertThat(cache.get(cache.keyFor(credential))).isNull();
+    }
+
+    @Test
+    void shouldEvictRevokedCredential() {
+        Credential credential = credential("cred-1", null, Map.of());
+        cache.put(cache.keyFor(credential), credential, valid(credential), cache.version());
+
+        cache.onCredentialRevoked(CredentialRevokedEvent.now("cred-1"));
+
+        assertThat(cache.get(cache.keyFor(credential))).isNull();
+    }
+
+    @Test
+    void shouldStayWithinMaxEntries() {
+        configuration.getResultCache().setMaxEntries(2);
+        for (int i = 0; i < 5; i++) {
+            Credential credential = credential("cred-" + i, null, Map.of());
+            cache.put(cache.keyFor(credential), credential, valid(credential), cache.version());
+        }
+
+        assertThat(cache.size()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldReturnNullKeyWhenDisabled() {
+        configuration.getResultCache().setEnabled(false);
+
+        assertThat(cache.keyFor(credential("cred-1", null, Map.of()))).isNull();
+    }
+
+    private static Credential credential(String id, Instant expiresAt, Map<String, Object> claims) {
+        return new Credential(id, "VerifiableCredential",
+            new Issuer("did:example:issuer", "Trusted Issuer", true),
+            "did:example:subject", NOW.minusSeconds(3600), expiresAt, claims);
+    }
+
+    private static VerificationResult valid(Credential credential) {
+        return VerificationResult.success(credential, true, true, true, List.of(), "ok");
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant now;
+
+        private MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package com.credguard.application;
+
+import ch.qos.logback.classic.Level;
+import com.credguard.application.validation.CredentialValidator;
+import com.credguard.application.validation.ExpiryValidator;
+import com.credguard.application.validation.IssuerTrustValidator;
+import com.credguard.application.validation.RevocationValidator;
+import com.credguard.application.validation.SignatureValidator;
+import com.credguard.config.CryptoConfiguration;
+import com.credguard.config.ExecutorConfiguration;
+import com.credguard.config.RevocationConfiguration;
+import com.credguard.config.TrustConfiguration;
+import com.credguard.config.VerificationConfiguration;
+import com.credguard.domain.Credential;
+import com.credguard.domain.Issuer;
+import com.credguard.infra.crypto.JwksCache;
+import com.credguard.infra.crypto.JwksFetcher;
+import com.credguard.infra.crypto.LocalIssuerKeyStore;
+import com.credguard.infra.crypto.SignatureVerificationService;
+import com.credguard.infra.revocation.RevokedCredentialIndex;
+import com.credguard.infra.revocation.StatusListCache;
+import com.credguard.infra.revocation.StatusListFetcher;
+import com.credguard.infra.trust.TrustedIssuerRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.lang.management.ManagementFactory;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Allocation budgets for the successful verification path: the validators alone,
+ * run sequentially without the result cache, and the path as configured in
+ * application.properties, where a repeat verification is answered from the result
+ * cache. Tagged so that it runs in its own surefire execution: mocks created by
+ * other tests instrument classes on this path and would make the measurement
+ * meaningless.
+ */
+@Tag("allocation")
+class VerificationServiceAllocationTest {
+
+    private static final int WARMUP_ITERATIONS = 50_000;
+    private static final int MEASURED_ITERATIONS = 10_000;
+    // The VerificationResult itself is the only required allocation (~32 bytes); the
+    // budget leaves room for JIT differences but fails on any per-call list, string or
+    // log formatting. The path allocated ~5.7KB per call before it was optimised.
+    private static final long BYTES_PER_VERIFY_BUDGET = 128;
+    // A cache hit still computes the content key on every call, but the canonical
+    // credential is streamed into a pooled SHA-256 digest, leaving the key record
+    // and the lookup: ~170 bytes per call for this credential, down from ~5.4KB
+    // when the key went through a Jackson tree and a canonical string.
+    private static final long BYTES_PER_CACHED_VERIFY_BUDGET = 256;
+
+    private ch.qos.logback.classic.Logger appLogger;
+    private Level previousLevel;
+
+    @BeforeEach
+    void setUp() {
+        // Measure with production log levels regardless of the test logging setup
+        appLogger = (ch.qos.logback.classic.Logger) LoggerFactory.getLogger("com.credguard");
+        previousLevel = appLogger.getLevel();
+        appLogger.setLevel(Level.INFO);
+    }
+
+    @AfterEach
+    void tearDown() {
+        appLogger.setLevel(previousLevel);
+    }
+
+    @Test
+    void verify_SequentialUncachedSuccessPath_StaysWithinAllocationBudget() {
+        // Given
+        TrustedIssuerRegistry trustRegistry = trustRegistry();
+        VerificationService service = new VerificationService(validators(trustRegistry));
+
+        // When
+        long bytesPerVerify = bytesPerVerify(service, credential());
+
+        // Then
+        assertTrue(bytesPerVerify <= BYTES_PER_VERIFY_BUDGET,
+            "allocated " + bytesPerVerify + " bytes per verify, budget is " + BYTES_PER_VERIFY_BUDGET);
+    }
+
+    @Test
+    void verify_ConfiguredCachedSuccessPath_StaysWithinAllocationBudget() {
+        // Given: parallel validators and the result cache, as in application.properties
+        TrustedIssuerRegistry trustRegistry = trustRegistry();
+        VerificationConfiguration configuration = new VerificationConfiguration();
+        configuration.setExecutionMode(VerificationConfiguration.ExecutionMode.PARALLEL);
+        CryptoConfiguration cryptoConfiguration = new CryptoConfiguration();
+        JwksCache jwksCache = new JwksCache(new JwksFetcher(cryptoConfiguration), cryptoConfiguration,
+            new SimpleMeterRegistry());
+        RevocationConfiguration revocationConfiguration = new RevocationConfiguration();
+        StatusListCache statusLists = new StatusListCache(new StatusListFetcher(revocationConfiguration),
+            revocationConfiguration, new SimpleMeterRegistry());
+        VerificationResultCache resultCache = new VerificationResultCache(configuration, jwksCache, statusLists,
+            new LocalIssuerKeyStore(cryptoConfiguration), trustRegistry, new SimpleMeterRegistry());
+        VerificationService service = new VerificationService(validators(trustRegistry), configuration,
+            new ExecutorConfiguration().verificationExecutor(new MockEnvironment()), resultCache);
+
+        try {
+            // When
+            long bytesPerVerify = bytesPerVerify(service, credential());
+
+            // Then
+            assertTrue(bytesPerVerify <= BYTES_PER_CACHED_VERIFY_BUDGET,
+                "allocated " + bytesPerVerify + " bytes per cached verify, budget is "
+                    + BYTES_PER_CACHED_VERIFY_BUDGET);
+        } finally {
+            jwksCache.shutdown();
+        }
+    }
+
+    private static long bytesPerVerify(VerificationService service, Credential credential) {
+        com.sun.management.ThreadMXBean threads =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            assertTrue(service.verify(credential).valid());
+        }
+
+        long before = threads.getCurrentThreadAllocatedBytes();
+        for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+            service.verify(credential);
+        }
+        long bytesPerVerify = (threads.getCurrentThreadAllocatedBytes() - before) / MEASURED_ITERATIONS;
+        return bytesPerVerify;
+    }
+
+    private static TrustedIssuerRegistry trustRegistry() {
+        TrustConfiguration trustConfiguration = new TrustConfiguration();
+        trustConfiguration.setIssuers(List.of("did:example:issuer"));
+        TrustedIssuerRegistry trustRegistry = new TrustedIssuerRegistry(trustConfiguration);
+        trustRegistry.initialize();
+        return trustRegistry;
+    }
+
+    private static List<CredentialValidator> validators(TrustedIssuerRegistry trustRegistry) {
+        return List.of(
+            new IssuerTrustValidator(trustRegistry),
+            new RevocationValidator(new RevokedCredentialIndex(new RevocationConfiguration())),
+            new ExpiryValidator(),
+            new SignatureValidator(new SignatureVerificationService(null, null, null)));
+    }
+
+    private static Credential credential() {
+        return new Credential(
+            "cred-123",
+            "VerifiableCredential",
+            new Issuer("did:example:issuer", "Trusted Issuer", true),
+            "did:example:subject",
+            Instant.now(),
+            Instant.now().plusSeconds(86400 * 365),
+            Map.of("test", "value")
+        );
+    }
+}
@@ -1,25 +1,40 @@
 package com.credguard.application;
 
+import com.credguard.application.validation.CredentialValidator;
 import com.credguard.application.validation.ExpiryValidator;
 import com.credguard.application.validation.IssuerTrustValidator;
+import com.credguard.application.validation.RevocationValidator;
 import com.credguard.application.validation.SignatureValidator;
+import com.credguard.application.validation.ValidationResult;
+import com.credguard.config.RevocationConfiguration;
+import com.credguard.config.TrustConfiguration;
+import com.credguard.config.VerificationConfiguration;
 import com.credguard.domain.Credential;
 import com.credguard.domain.Issuer;
 import com.credguard.domain.VerificationResult;
 import com.credguard.infra.crypto.SignatureVerificationService;
+import com.credguard.infra.revocation.RevokedCredentialIndex;
+import com.credguard.infra.trust.TrustedIssuerRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 
+import java.time.Duration;
 import java.time.Instant;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
 class VerificationServiceTest {
@@ -28,6 +43,8 @@ class VerificationServiceTest {
     private SignatureVerificationService signatureVerificationService;
 
     private VerificationService verificationService;
+    private TrustedIssuerRegistry trustRegistry;
+    private RevokedCredentialIndex revokedCredentials;
 
     @BeforeEach
     void setUp() {
@@ -35,12 +52,20 @@ class VerificationServiceTest {
             .when(signatureVerificationService.verifyCredentialSignature(any(), any()))
             .thenReturn(true);
         
-        IssuerTrustValidator issuerTrustValidator = new IssuerTrustValidator();
+        TrustConfiguration trustConfiguration = new TrustConfiguration();
+        trustConfiguration.setIssuers(List.of("did:example:issuer"));
+        trustRegistry = new TrustedIssuerRegistry(trustConfiguration);
+        trustRegistry.initialize();
+
+        IssuerTrustValidator issuerTrustValidator = new IssuerTrustValidator(trustRegistry);
+        revokedCredentials = new RevokedCredentialIndex(new RevocationConfiguration());
+        RevocationValidator revocationValidator = new RevocationValidator(revokedCredentials);
         ExpiryValidator expiryValidator = new ExpiryValidator();
         SignatureValidator signatureValidator = new SignatureValidator(signatureVerificationService);
         
+        // Signature is listed first so fail-fast tests exercise the cost ordering
         verificationService = new VerificationService(
-            List.of(issuerTrustValidator, expiryValidator, signatureValidator)
+            List.of(signatureValidator, issuerTrustValidator, revocationValidator, expiryValidator)
         );
     }
 
@@ -87,6 +112,43 @@ class VerificationServiceTest {
             .anyMatch(error -> error.contains("Issuer is not trusted")));
     }
 
+    @Test
+    void verify_IssuerClaimsTrustButIsNotRegistered_ReturnsFailure() {
+        // Given
+        Issuer selfDeclaredIssuer = new Issuer("did:example:impostor", "Impostor", true);
+        Credential credential = new Credential(
+            "cred-1",
+            "VerifiableCredential",
+            selfDeclaredIssuer,
+            "did:example:subject",
+            Instant.now(),
+            Instant.now().plusSeconds(86400),
+            Map.of()
+        );
+
+        // When
+        VerificationResult result = verificationService.verify(credential);
+
+        // Then
+        assertFalse(result.valid());
+        assertFalse(result.issuerTrusted());
+        assertTrue(result.errors().contains("Issuer is not trusted: Impostor"));
+    }
+
+    @Test
+    void verify_RevokedCredential_ReturnsFailure() {
+        // Given
+        Credential credential = createValidCredential();
+        revokedCredentials.markRevoked(credential.id());
+
+        // When
+        VerificationResult result = verificationService.verify(credential);
+
+        // Then
+        assertFalse(result.valid());
+        assertEquals(List.of("Credential has been revoked"), result.errors());
+    }
+
     @Test
     void verify_ExpiredCredential_ReturnsFailure() {
         // Given
@@ -179,8 +241,164 @@ class VerificationServiceTest {
         assertEquals(credential, result.credential());
     }
 
+    @Test
+    void verify_FailFastExpiredCredential_SkipsSignatureCheck() {
+        // Given
+        Credential credential = new Credential(
+            "cred-1",
+            "VerifiableCredential",
+            createTrustedIssuer(),
+            "did:example:subject",
+            Instant.now().minusSeconds(86400 * 2),
+            Instant.now().minusSeconds(86400),
+            Map.of()
+        );
+
+        // When
+        VerificationResult result = verificationService.verify(credential, VerificationPolicy.FAIL_FAST);
+
+        // Then
+        assertFalse(result.valid());
+        assertEquals(List.of("Credential has expired"), result.errors());
+        assertTrue(result.warnings().stream().anyMatch(warning -> warning.contains("skipped 1")));
+        verify(signatureVerificationService, never()).verifyCredentialSignature(any(), any());
+    }
+
+    @Test
+    void verify_FailFastMultipleFailures_ReportsOnlyFirst() {
+        // Given - untrusted issuer and expired
+        Issuer untrustedIssuer = new Issuer("did:example:untrusted", "Untrusted", false);
+        Credential credential = new Credential(
+            "cred-1",
+            "VerifiableCredential",
+            untrustedIssuer,
+            "did:example:subject",
+            Instant.now().minusSeconds(86400 * 2),
+            Instant.now().minusSeconds(86400),
+            Map.of()
+        );
+
+        // When
+        VerificationResult result = verificationService.verify(credential, VerificationPolicy.FAIL_FAST);
+
+        // Then
+        assertFalse(result.valid());
+        assertEquals(1, result.errors().size());
+        assertTrue(result.errors().get(0).contains("Issuer is not trusted"));
+    }
+
+    @Test
+    void verify_FailFastValidCredential_RunsEveryCheck() {
+        // When
+        VerificationResult result = verificationService.verify(createValidCredential(), VerificationPolicy.FAIL_FAST);
+
+        // Then
+        assertTrue(result.valid());
+        assertTrue(result.warnings().isEmpty());
+        verify(signatureVerificationService).verifyCredentialSignature(any(), any());
+    }
+
+    @Test
+    void verify_ParallelMode_RunsValidatorsConcurrently() {
+        // Given - each validator only completes once all three are running at the same time
+        CountDownLatch allStarted = new CountDownLatch(3);
+        Function<ValidationResult.ValidationType, CredentialValidator> rendezvous = type -> validator(type, credential -> {
+            allStarted.countDown();
+            try {
+                return allStarted.await(2, TimeUnit.SECONDS)
+                    ? ValidationResult.success(type)
+                    : ValidationResult.failure("ran sequentially", type);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return ValidationResult.failure("interrupted", type);
+            }
+        });
+        VerificationService parallelService = parallelService(Duration.ofSeconds(5), List.of(
+            rendezvous.apply(ValidationResult.ValidationType.ISSUER_TRUST),
+            rendezvous.apply(ValidationResult.ValidationType.EXPIRY),
+            rendezvous.apply(ValidationResult.ValidationType.SIGNATURE)));
+
+        // When
+        VerificationResult result = parallelService.verify(createValidCredential());
+
+        // Then
+        assertTrue(result.valid(), () -> String.join(", ", result.errors()));
+    }
+
+    @Test
+    void verify_ParallelModeValidatorMissesDeadline_ReportsFailureAndCancelsIt() throws Exception {
+        // Given
+        CountDownLatch cancelled = new CountDownLatch(1);
+        CredentialValidator slowSignature = validator(ValidationResult.ValidationType.SIGNATURE, credential -> {
+            try {
+                Thread.sleep(10_000);
+            } catch (InterruptedException e) {
+                cancelled.countDown();
+            }
+            return ValidationResult.success(ValidationResult.ValidationType.SIGNATURE);
+        });
+        VerificationService parallelService = parallelService(Duration.ofMillis(200),
+            List.of(new IssuerTrustValidator(trustRegistry), new ExpiryValidator(), slowSignature));
+
+        // When
+        long start = System.nanoTime();
+        VerificationResult result = parallelService.verify(createValidCredential());
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        // Then
+        assertFalse(result.valid());
+        assertEquals(1, result.errors().size());
+        assertTrue(result.errors().get(0).contains("did not complete within 200ms"));
+        assertTrue(elapsedMillis < 2_000, "took " + elapsedMillis + "ms");
+        assertTrue(cancelled.await(2, TimeUnit.SECONDS), "slow validator was not cancelled");
+    }
+
+    @Test
+    void verify_ParallelModeValidatorThrows_ReportsFailure() {
+        // Given
+        CredentialValidator broken = validator(ValidationResult.ValidationType.SIGNATURE, credential -> {
+            throw new IllegalStateException("key resolution exploded");
+        });
+        VerificationService parallelService = parallelService(Duration.ofSeconds(5),
+            List.of(new IssuerTrustValidator(trustRegistry), new ExpiryValidator(), broken));
+
+        // When
+        VerificationResult result = parallelService.verify(createValidCredential());
+
+        // Then
+        assertFalse(result.valid());
+        assertTrue(result.errors().get(0).contains("key resolution exploded"));
+    }
+
     // Helper methods
 
+    private VerificationService parallelService(Duration deadline, List<CredentialValidator> validators) {
+        VerificationConfiguration configuration = new VerificationConfiguration();
+        configuration.setExecutionMode(VerificationConfiguration.ExecutionMode.PARALLEL);
+        configuration.setDeadline(deadline);
+        return new VerificationService(validators, configuration, new SimpleAsyncTaskExecutor("verify-test-"), null);
+    }
+
+    private CredentialValidator validator(ValidationResult.ValidationType type,
+                                          Function<Credential, ValidationResult> check) {
+        return new CredentialValidator() {
+            @Override
+            public ValidationResult validate(Credential credential) {
+                return check.apply(credential);
+            }
+
+            @Override
+            public String getValidatorName() {
+                return type + "Validator";
+            }
+
+            @Override
+            public ValidationResult.ValidationType getValidationType() {
+                return type;
+            }
+        };
+    }
+
     private Credential createValidCredential() {
         return new Credential(
             "cred-123",
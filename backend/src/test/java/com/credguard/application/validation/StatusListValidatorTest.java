@@ -0,0 +1,141 @@
+package com.credguard.application.validation;
+
+import com.credguard.domain.Credential;
+import com.credguard.domain.Issuer;
+import com.credguard.infra.revocation.StatusList;
+import com.credguard.infra.revocation.StatusListCache;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class StatusListValidatorTest {
+
+    private static final String LIST_URL = "https://issuer.example.com/status/1";
+    private static final String SUSPENSION_LIST_URL = "https://issuer.example.com/status/2";
+
+    @Mock
+    private StatusListCache statusLists;
+
+    @Test
+    void shouldPassCredentialWithoutStatus() throws Exception {
+        StatusListValidator validator = new StatusListValidator(statusLists);
+
+        assertThat(validator.validate(credential(Map.of())).valid()).isTrue();
+        verify(statusLists, never()).get(any());
+    }
+
+    @Test
+    void shouldFailWhenRevocationBitIsSet() throws Exception {
+        when(statusLists.get(LIST_URL)).thenReturn(statusList(42));
+        StatusListValidator validator = new StatusListValidator(statusLists);
+
+        ValidationResult revoked = validator.validate(credential(status("42", "revocation")));
+        ValidationResult active = validator.validate(credential(status("41", "revocation")));
+
+        assertThat(revoked.valid()).isFalse();
+        assertThat(revoked.errorMessage()).isEqualTo("Credential has been revoked by its issuer");
+        assertThat(active.valid()).isTrue();
+    }
+
+    @Test
+    void shouldCheckEveryEntryInAStatusArray() throws Exception {
+        when(statusLists.get(LIST_URL)).thenReturn(statusList(7));
+        when(statusLists.get(SUSPENSION_LIST_URL)).thenReturn(statusList("suspension", 7));
+        StatusListValidator validator = new StatusListValidator(statusLists);
+
+        ValidationResult result = validator.validate(credential(
+            List.of(status("1", "revocation"), status(SUSPENSION_LIST_URL, "7", "suspension"))));
+
+        assertThat(result.valid()).isFalse();
+        assertThat(result.errorMessage()).isEqualTo("Credential is suspended by its issuer");
+    }
+
+    @Test
+    void shouldRejectEntryWhosePurposeDiffersFromList() throws Exception {
+        when(statusLists.get(LIST_URL)).thenReturn(statusList("suspension"));
+        StatusListValidator validator = new StatusListValidator(statusLists);
+
+        ValidationResult result = validator.validate(credential(status("1", "revocation")));
+
+        assertThat(result.valid()).isFalse();
+        assertThat(result.errorMessage()).contains("does not match the status list purpose 'suspension'");
+    }
+
+    @Test
+    void shouldFailClosedWhenListCannotBeFetched() throws Exception {
+        when(statusLists.get(LIST_URL)).thenThrow(new IOException("connection refused"));
+        StatusListValidator validator = new StatusListValidator(statusLists);
+
+        ValidationResult result = validator.validate(credential(status("1", "revocation")));
+
+        assertThat(result.valid()).isFalse();
+        assertThat(result.errorMessage()).isEqualTo("Credential status could not be checked: connection refused");
+    }
+
+    @Test
+    void shouldRejectIndexOutsideList() throws Exception {
+        when(statusLists.get(LIST_URL)).thenReturn(statusList());
+        StatusListValidator validator = new StatusListValidator(statusLists);
+
+        ValidationResult result = validator.validate(credential(status("99999", "revocation")));
+
+        assertThat(result.valid()).isFalse();
+        assertThat(result.errorMessage()).contains("outside the status list");
+    }
+
+    private static Map<String, Object> status(String index, String purpose) {
+        return status(LIST_URL, index, purpose);
+    }
+
+    private static Map<String, Object> status(String url, String index, String purpose) {
+        return Map.of(
+            "type", "StatusList2021Entry",
+            "statusPurpose", purpose,
+            "statusListIndex", index,
+            "statusListCredential", url);
+    }
+
+    private static Credential credential(Object status) {
+        return new Credential(
+            "cred-1",
+            "VerifiableCredential",
+            new Issuer("did:example:issuer", "Issuer", true),
+            "did:example:subject",
+            Instant.now(),
+            null,
+            status instanceof Map<?, ?> map && map.isEmpty() ? Map.of() : Map.of("credentialStatus", status));
+    }
+
+    private static StatusList statusList(int... setBits) throws IOException {
+        return statusList("revocation", setBits);
+    }
+
+    private static StatusList statusList(String purpose, int... setBits) throws IOException {
+        byte[] bits = new byte[16];
+        for (int bit : setBits) {
+            bits[bit / 8] |= (byte) (0x80 >>> (bit % 8));
+        }
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+            gzip.write(bits);
+        }
+        return StatusList.decode(Base64.getUrlEncoder().withoutPadding().encodeToString(compressed.toByteArray()),
+            purpose, 1024);
+    }
+}
@@ -0,0 +1,109 @@
+package com.credguard.infra.aries;
+
+import com.credguard.config.AriesConfiguration;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AriesAgentRouterTest {
+
+    private StandInAgent first;
+    private StandInAgent second;
+    private StandInAgent third;
+    private AriesConfiguration configuration;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        first = new StandInAgent("first");
+        second = new StandInAgent("second");
+        third = new StandInAgent("third");
+        configuration = new AriesConfiguration();
+        configuration.setAgentUrl(first.url() + ", " + second.url() + "," + third.url());
+    }
+
+    @AfterEach
+    void tearDown() {
+        first.close();
+        second.close();
+        third.close();
+    }
+
+    @Test
+    void shouldKeepEachWalletOnOneAgentAndSpreadWallets() {
+        AriesAgentRouter router = router();
+        Map<String, Integer> walletsPerAgent = new HashMap<>();
+
+        for (int i = 0; i < 300; i++) {
+            String wallet = "did:example:wallet" + i;
+            AriesAgentRouter.Agent agent = router.forWallet(wallet);
+            assertThat(router.forWallet(wallet)).isSameAs(agent);
+            walletsPerAgent.merge(agent.url(), 1, Integer::sum);
+        }
+
+        assertThat(walletsPerAgent).hasSize(3);
+        assertThat(walletsPerAgent.values()).allSatisfy(count -> assertThat(count).isGreaterThan(50));
+    }
+
+    @Test
+    void shouldMoveWalletsOffAgentThatFailsHealthProbe() {
+        AriesAgentRouter router = router();
+        second.setLive(false);
+
+        router.probe();
+
+        assertThat(router.agents()).extracting(AriesAgentRouter.Agent::healthy).containsExactly(true, false, true);
+        for (int i = 0; i < 100; i++) {
+            assertThat(router.forWallet("did:example:wallet" + i).url()).isNotEqualTo(second.url());
+            assertThat(router.leastLoaded().url()).isNotEqualTo(second.url());
+        }
+        assertThat(second.hits("/status/live")).isEqualTo(1);
+
+        second.setLive(true);
+        router.probe();
+        assertThat(router.agents()).allMatch(AriesAgentRouter.Agent::healthy);
+    }
+
+    @Test
+    void shouldSendUnboundWorkToLeastLoadedAgent() {
+        AriesAgentRouter router = router();
+        AriesAgentRouter.Agent busy = router.agents().get(0);
+        AriesAgentRouter.Agent alsoBusy = router.agents().get(2);
+
+        AriesAgentRouter.Agent chosen = busy.call(() -> alsoBusy.call(() -> router.forWallet(null)));
+
+        assertThat(chosen.url()).isEqualTo(second.url());
+    }
+
+    @Test
+    void shouldRouteOffersByConnectionUnlessWalletIsShared() {
+        AriesAgentRouter router = router();
+        AriesAgentRouter.Agent holder = router.agents().get(2);
+        router.assign(AriesAgentRouter.CONNECTION, "conn-1", holder);
+
+        assertThat(holder.call(() -> router.forOffer("conn-1", "did:example:wallet1"))).containsExactly(holder);
+
+        configuration.getRouting().setSharedWallet(true);
+        assertThat(holder.call(() -> router.forOffer("conn-1", "did:example:wallet1")))
+            .hasSize(1).doesNotContain(holder);
+    }
+
+    @Test
+    void shouldTryEveryAgentForOfferOnForgottenConnection() {
+        AriesAgentRouter router = router();
+
+        assertThat(router.forOffer("conn-forgotten", "did:example:wallet1"))
+            .startsWith(router.forWallet("did:example:wallet1"))
+            .containsExactlyInAnyOrderElementsOf(router.agents());
+    }
+
+    private AriesAgentRouter router() {
+        return new AriesAgentRouter(configuration, new SimpleMeterRegistry());
+    }
+}
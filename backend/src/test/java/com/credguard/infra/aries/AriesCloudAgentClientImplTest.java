@@ -0,0 +1,124 @@
+package com.credguard.infra.aries;
+
+import com.credguard.config.AriesConfiguration;
+import com.credguard.domain.Issuer;
+import com.credguard.domain.PhysicalDocument;
+import com.credguard.domain.VerifiableCredential;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AriesCloudAgentClientImplTest {
+
+    private StandInAgent first;
+    private StandInAgent second;
+    private AriesHttpTransport transport;
+    private AriesConfiguration configuration;
+    private SimpleMeterRegistry meterRegistry;
+    private AriesCloudAgentClientImpl client;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        first = new StandInAgent("first");
+        second = new StandInAgent("second");
+        configuration = new AriesConfiguration();
+        configuration.setAgentUrl(first.url() + "," + second.url());
+        configuration.getConnection().setRetryBackoff(1);
+        meterRegistry = new SimpleMeterRegistry();
+        transport = new AriesHttpTransport(configuration, meterRegistry);
+        client = freshClient();
+    }
+
+    @AfterEach
+    void tearDown() {
+        transport.shutdown();
+        first.close();
+        second.close();
+    }
+
+    @Test
+    void shouldSendOffersToAgentHoldingTheConnection() {
+        for (int i = 0; i < 20; i++) {
+            String wallet = "did:example:wallet" + i;
+            String connectionId = client.createConnectionInvitation(wallet);
+            StandInAgent holder = connectionId.startsWith("first") ? first : second;
+            int offersBefore = holder.hits("/issue-credential-2.0/send-offer");
+
+            String exchangeId = client.sendCredentialOffer(credential(wallet, connectionId));
+
+            assertThat(exchangeId).startsWith(connectionId.startsWith("first") ? "first" : "second");
+            assertThat(holder.hits("/issue-credential-2.0/send-offer")).isEqualTo(offersBefore + 1);
+            assertThat(client.getConnectionStatus(connectionId)).isEqualTo("active");
+        }
+        assertThat(first.hits("/connections/create-invitation")).isPositive();
+        assertThat(second.hits("/connections/create-invitation")).isPositive();
+    }
+
+    @Test
+    void shouldFindAgentHoldingConnectionAndExchangeWhenOwnerWasForgotten() {
+        // A pooled invitation lands on the least-loaded agent, not the wallet's agent on the ring
+        String connectionId = client.createConnectionInvitation(null);
+        StandInAgent holder = connectionId.startsWith("first") ? first : second;
+        StandInAgent other = holder == first ? second : first;
+        AriesAgentRouter ring = new AriesAgentRouter(configuration, meterRegistry);
+        String wallet = IntStream.range(0, 100).mapToObj(i -> "did:example:wallet" + i)
+            .filter(candidate -> ring.forWallet(candidate).url().equals(other.url()))
+            .findFirst().orElseThrow();
+
+        String exchangeId = freshClient().sendCredentialOffer(credential(wallet, connectionId));
+        freshClient().sendCredential(exchangeId, credential(wallet, connectionId));
+
+        assertThat(exchangeId).startsWith(connectionId.substring(0, connectionId.indexOf('-')));
+        assertThat(other.hits("/issue-credential-2.0/send-offer")).isEqualTo(1);
+        assertThat(holder.hits("/issue-credential-2.0/send-offer")).isEqualTo(1);
+        assertThat(holder.hits("/issue-credential-2.0/records/" + exchangeId + "/send-credential")).isEqualTo(1);
+    }
+
+    @Test
+    void shouldRevokeUnknownCredentialOnAgentThatHoldsIt() {
+        first.setHoldsCredentials(false);
+
+        assertThat(client.revokeCredential("urn:credential:unknown", false)).isTrue();
+
+        assertThat(first.hits("/revocation/revoke")).isEqualTo(1);
+        assertThat(second.hits("/revocation/revoke")).isEqualTo(1);
+    }
+
+    @Test
+    void shouldPublishRevocationsOnEveryAgent() {
+        assertThat(client.publishRevocations()).isTrue();
+
+        assertThat(first.hits("/revocation/publish-revocations")).isEqualTo(1);
+        assertThat(second.hits("/revocation/publish-revocations")).isEqualTo(1);
+    }
+
+    /**
+     * Returns a client whose router remembers no owners, as after a restart or eviction.
+     */
+    private AriesCloudAgentClientImpl freshClient() {
+        return new AriesCloudAgentClientImpl(configuration, transport, new AriesAgentRouter(configuration, meterRegistry));
+    }
+
+    private static VerifiableCredential credential(String wallet, String connectionId) {
+        PhysicalDocument document = new PhysicalDocument(
+            "doc-1",
+            PhysicalDocument.DocumentType.PASSPORT,
+            "passport.jpg",
+            Instant.now(),
+            "test document content".getBytes(),
+            Map.of("passportNumber", "A1234567"),
+            PhysicalDocument.ProcessingStatus.EXTRACTED,
+            null
+        );
+        return VerifiableCredential.fromPhysicalDocument(
+            document, new Issuer("did:web:credguard.com", "CredGuard", true), wallet, connectionId);
+    }
+}
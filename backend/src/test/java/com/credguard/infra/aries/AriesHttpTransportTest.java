@@ -0,0 +1,148 @@
+package com.credguard.infra.aries;
+
+import com.credguard.config.AriesConfiguration;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.hc.client5.http.protocol.HttpClientContext;
+import org.apache.hc.core5.http.HttpHeaders;
+import org.apache.hc.core5.http.message.BasicHttpResponse;
+import org.apache.hc.core5.util.TimeValue;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AriesHttpTransportTest {
+
+    private final AtomicInteger hits = new AtomicInteger();
+    private HttpServer agent;
+    private SimpleMeterRegistry meterRegistry;
+    private AriesHttpTransport transport;
+    private String baseUrl;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        agent = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        agent.createContext("/flaky", exchange -> {
+            // Unavailable on the first attempt only
+            respond(exchange, hits.incrementAndGet() == 1 ? 503 : 200, "{\"state\":\"active\"}");
+        });
+        agent.createContext("/unavailable", exchange -> {
+            hits.incrementAndGet();
+            respond(exchange, 503, "{}");
+        });
+        agent.createContext("/slow", exchange -> {
+            hits.incrementAndGet();
+            try {
+                Thread.sleep(1_000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            respond(exchange, 200, "{}");
+        });
+        agent.start();
+        baseUrl = "http://127.0.0.1:" + agent.getAddress().getPort();
+
+        AriesConfiguration configuration = new AriesConfiguration();
+        configuration.getConnection().setTimeout(200);
+        configuration.getConnection().setRetries(2);
+        configuration.getConnection().setRetryBackoff(1);
+        configuration.getConnection().setMaxConnections(10);
+        configuration.getConnection().setMaxConnectionsPerRoute(5);
+        meterRegistry = new SimpleMeterRegistry();
+        transport = new AriesHttpTransport(configuration, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        transport.shutdown();
+        agent.stop(0);
+    }
+
+    @Test
+    void shouldRetryIdempotentRequestsWhenAgentIsUnavailable() {
+        String body = restTemplate().getForObject(baseUrl + "/flaky", String.class);
+
+        assertThat(body).contains("active");
+        assertThat(hits.get()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldNotRetryRequestsThatChangeAgentState() {
+        assertThatThrownBy(() -> restTemplate().postForObject(baseUrl + "/unavailable", "{}", String.class))
+            .isInstanceOf(HttpServerErrorException.class);
+
+        assertThat(hits.get()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldGiveUpOnSlowAgentAfterResponseTimeout() {
+        assertThatThrownBy(() -> restTemplate().postForObject(baseUrl + "/slow", "{}", String.class))
+            .isInstanceOf(ResourceAccessException.class);
+
+        assertThat(meterRegistry.get("credguard.aries.http.request")
+            .tag("method", "POST").tag("status", "IO_ERROR").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldRecordLatencyAndExposePoolGauges() {
+        restTemplate().getForObject(baseUrl + "/flaky", String.class);
+
+        assertThat(meterRegistry.get("credguard.aries.http.request")
+            .tag("method", "GET").tag("status", "200").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("credguard.aries.http.pool").tag("state", "max").gauge().value())
+            .isEqualTo(10);
+        assertThat(meterRegistry.get("credguard.aries.http.pool").tag("state", "leased").gauge().value())
+            .isZero();
+    }
+
+    @Test
+    void shouldJitterBackoffWithinGrowingBounds() {
+        AriesHttpTransport.JitteredRetryStrategy strategy = new AriesHttpTransport.JitteredRetryStrategy(3, 100, 1_000);
+
+        for (int i = 0; i < 50; i++) {
+            assertThat(strategy.backoff(1).toMilliseconds()).isBetween(50L, 100L);
+            assertThat(strategy.backoff(3).toMilliseconds()).isBetween(200L, 400L);
+        }
+        assertThat(strategy.backoff(1)).isNotEqualTo(TimeValue.ZERO_MILLISECONDS);
+    }
+
+    @Test
+    void shouldCapRetryAfterAtMaximumInterval() {
+        AriesHttpTransport.JitteredRetryStrategy strategy = new AriesHttpTransport.JitteredRetryStrategy(3, 100, 5_000);
+        BasicHttpResponse longWait = new BasicHttpResponse(503);
+        longWait.addHeader(HttpHeaders.RETRY_AFTER, "86400");
+        BasicHttpResponse shortWait = new BasicHttpResponse(503);
+        shortWait.addHeader(HttpHeaders.RETRY_AFTER, "2");
+
+        assertThat(strategy.getRetryInterval(longWait, 1, HttpClientContext.create()).toMilliseconds())
+            .isEqualTo(5_000);
+        assertThat(strategy.getRetryInterval(shortWait, 1, HttpClientContext.create()).toMilliseconds())
+            .isEqualTo(2_000);
+    }
+
+    private RestTemplate restTemplate() {
+        return transport.restTemplate();
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}
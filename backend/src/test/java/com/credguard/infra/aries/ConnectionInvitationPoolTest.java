@@ -0,0 +1,166 @@
+package com.credguard.infra.aries;
+
+import com.credguard.config.AriesConfiguration;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ConnectionInvitationPoolTest {
+
+    private static final String WALLET = "did:example:wallet123";
+
+    @Mock
+    private AriesCloudAgentClient ariesClient;
+
+    private AriesConfiguration configuration;
+    private SimpleMeterRegistry meterRegistry;
+    private MutableClock clock;
+    private ConnectionInvitationPool pool;
+
+    @BeforeEach
+    void setUp() {
+        configuration = new AriesConfiguration();
+        configuration.getInvitationPool().setMinSize(2);
+        configuration.getInvitationPool().setMaxSize(20);
+        configuration.getInvitationPool().setLeadTime(Duration.ofSeconds(10));
+        configuration.getInvitationPool().setSmoothing(0.5);
+        meterRegistry = new SimpleMeterRegistry();
+        clock = new MutableClock(Instant.parse("2025-01-01T00:00:00Z"));
+        pool = new ConnectionInvitationPool(ariesClient, configuration, meterRegistry, clock);
+    }
+
+    @Test
+    void shouldServeInvitationsFromPrefilledPool() {
+        when(ariesClient.createConnectionInvitation(isNull())).thenReturn("pooled-1", "pooled-2");
+        pool.tick();
+
+        assertThat(pool.take(WALLET)).isEqualTo("pooled-1");
+        assertThat(pool.take(WALLET)).isEqualTo("pooled-2");
+
+        verify(ariesClient, never()).createConnectionInvitation(WALLET);
+        assertThat(count("hit")).isEqualTo(2);
+    }
+
+    @Test
+    void shouldCreateInvitationSynchronouslyWhenPoolIsEmpty() {
+        when(ariesClient.createConnectionInvitation(WALLET)).thenReturn("conn-1");
+
+        assertThat(pool.take(WALLET)).isEqualTo("conn-1");
+
+        verify(ariesClient, times(1)).createConnectionInvitation(WALLET);
+        assertThat(count("miss")).isEqualTo(1);
+    }
+
+    @Test
+    void shouldDiscardInvitationsOlderThanMaxAge() {
+        configuration.getInvitationPool().setMaxAge(Duration.ofMinutes(30));
+        when(ariesClient.createConnectionInvitation(isNull())).thenReturn("stale-1", "stale-2");
+        pool.tick();
+        when(ariesClient.createConnectionInvitation(WALLET)).thenReturn("fresh-1");
+        when(ariesClient.deleteConnection("stale-1")).thenReturn(true);
+        when(ariesClient.deleteConnection("stale-2")).thenThrow(new IllegalStateException("agent down"));
+
+        clock.advance(Duration.ofMinutes(31));
+
+        assertThat(pool.take(WALLET)).isEqualTo("fresh-1");
+        assertThat(count("expired")).isEqualTo(2);
+        assertThat(count("error")).isEqualTo(1);
+        assertThat(pool.size()).isZero();
+    }
+
+    @Test
+    void shouldDeletePooledInvitationsOnShutdown() {
+        when(ariesClient.createConnectionInvitation(isNull())).thenReturn("pooled-1", "pooled-2");
+        when(ariesClient.deleteConnection(anyString())).thenReturn(true);
+        pool.tick();
+
+        pool.shutdown();
+
+        verify(ariesClient).deleteConnection("pooled-1");
+        verify(ariesClient).deleteConnection("pooled-2");
+        assertThat(pool.size()).isZero();
+    }
+
+    @Test
+    void shouldGrowTargetWithRecentDemand() {
+        when(ariesClient.createConnectionInvitation(isNull())).thenReturn("conn");
+        pool.tick();
+        assertThat(pool.target()).isEqualTo(2);
+
+        for (int i = 0; i < 10; i++) {
+            pool.take(WALLET);
+        }
+        clock.advance(Duration.ofSeconds(5));
+        pool.tick();
+
+        // 2 takes/s observed, smoothed by half to 1/s, covering 10s of lead time
+        assertThat(pool.target()).isEqualTo(10);
+        assertThat(pool.size()).isEqualTo(10);
+
+        clock.advance(Duration.ofSeconds(5));
+        pool.tick();
+        assertThat(pool.target()).isEqualTo(5);
+    }
+
+    @Test
+    void shouldKeepWhatWasCreatedWhenReplenishmentFails() {
+        when(ariesClient.createConnectionInvitation(isNull()))
+            .thenReturn("pooled-1")
+            .thenThrow(new IllegalStateException("agent down"));
+
+        pool.tick();
+
+        assertThat(pool.size()).isEqualTo(1);
+        assertThat(count("error")).isEqualTo(1);
+        assertThat(pool.take(WALLET)).isEqualTo("pooled-1");
+    }
+
+    private double count(String result) {
+        return meterRegistry.get("credguard.connection-invitation.pool").tag("result", result).counter().count();
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant now;
+
+        private MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
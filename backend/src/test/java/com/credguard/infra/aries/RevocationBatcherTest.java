@@ -0,0 +1,73 @@
+package com.credguard.infra.aries;
+
+import com.credguard.config.AriesConfiguration;
+import com.credguard.domain.CredentialRevokedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RevocationBatcherTest {
+
+    @Mock
+    private AriesCloudAgentClient ariesClient;
+
+    private SimpleMeterRegistry meterRegistry;
+    private RevocationBatcher batcher;
+
+    @BeforeEach
+    void setUp() {
+        AriesConfiguration configuration = new AriesConfiguration();
+        configuration.getRevocation().setPublishBatchSize(3);
+        meterRegistry = new SimpleMeterRegistry();
+        batcher = new RevocationBatcher(ariesClient, configuration, meterRegistry);
+    }
+
+    @Test
+    void shouldPublishPendingRevocationsInOneCall() {
+        when(ariesClient.publishRevocations()).thenReturn(true);
+        revoke("cred-1", "cred-2", "cred-3");
+        assertThat(batcher.pending()).isEqualTo(3);
+
+        assertThat(batcher.flush()).isTrue();
+
+        verify(ariesClient, times(1)).publishRevocations();
+        assertThat(batcher.pending()).isZero();
+        assertThat(count("revocation")).isEqualTo(3);
+        assertThat(count("publication")).isEqualTo(1);
+    }
+
+    @Test
+    void shouldKeepRevocationsPendingWhenPublishFails() {
+        when(ariesClient.publishRevocations())
+            .thenThrow(new IllegalStateException("agent down"))
+            .thenReturn(true);
+        revoke("cred-1", "cred-2");
+
+        assertThat(batcher.flush()).isFalse();
+        assertThat(batcher.pending()).isEqualTo(2);
+        assertThat(count("failure")).isEqualTo(1);
+
+        assertThat(batcher.flush()).isTrue();
+        assertThat(batcher.pending()).isZero();
+        assertThat(count("revocation")).isEqualTo(2);
+    }
+
+    private void revoke(String... credentialIds) {
+        for (String credentialId : credentialIds) {
+            batcher.onCredentialRevoked(CredentialRevokedEvent.now(credentialId));
+        }
+    }
+
+    private double count(String result) {
+        return meterRegistry.get("credguard.revocation.publish").tag("result", result).counter().count();
+    }
+}
@@ -0,0 +1,94 @@
+package com.credguard.infra.aries;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Minimal local stand-in for an ACA-Py admin API, answering the calls the client
+ * makes and counting them by path.
+ */
+final class StandInAgent implements AutoCloseable {
+
+    private final String name;
+    private final HttpServer server;
+    private final Map<String, AtomicInteger> hits = new ConcurrentHashMap<>();
+    private final AtomicInteger ids = new AtomicInteger();
+    private volatile boolean live = true;
+    private volatile boolean holdsCredentials = true;
+
+    StandInAgent(String name) throws IOException {
+        this.name = name;
+        this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/", this::handle);
+        server.start();
+    }
+
+    String url() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    void setLive(boolean live) {
+        this.live = live;
+    }
+
+    void setHoldsCredentials(boolean holdsCredentials) {
+        this.holdsCredentials = holdsCredentials;
+    }
+
+    int hits(String path) {
+        AtomicInteger count = hits.get(path);
+        return count == null ? 0 : count.get();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        String path = exchange.getRequestURI().getPath();
+        hits.computeIfAbsent(path, key -> new AtomicInteger()).incrementAndGet();
+        String body = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+
+        if (path.equals("/status/live")) {
+            respond(exchange, live ? 200 : 503, "{\"alive\":" + live + "}");
+        } else if (path.equals("/connections/create-invitation")) {
+            respond(exchange, 200, "{\"connection_id\":\"" + name + "-conn-" + ids.incrementAndGet() + "\"}");
+        } else if (path.equals("/issue-credential-2.0/send-offer")) {
+            // Offers only succeed on connections this agent created
+            if (body.contains("\"" + name + "-conn-")) {
+                respond(exchange, 200, "{\"credential_exchange_id\":\"" + name + "-exchange-" + ids.incrementAndGet() + "\"}");
+            } else {
+                respond(exchange, 404, "{}");
+            }
+        } else if (path.startsWith("/issue-credential-2.0/records/" + name + "-exchange-")
+                && path.endsWith("/send-credential")) {
+            respond(exchange, 200, "{}");
+        } else if (path.equals("/revocation/revoke")) {
+            respond(exchange, holdsCredentials ? 200 : 404, "{}");
+        } else if (path.equals("/revocation/publish-revocations")) {
+            respond(exchange, 200, "{}");
+        } else if (path.startsWith("/connections/")) {
+            respond(exchange, 200, "{\"state\":\"active\"}");
+        } else {
+            respond(exchange, 404, "{}");
+        }
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}
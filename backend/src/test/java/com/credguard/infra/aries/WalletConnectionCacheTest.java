@@ -0,0 +1,156 @@
+package com.credguard.infra.aries;
+
+import com.credguard.config.AriesConfiguration;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class WalletConnectionCacheTest {
+
+    private static final String WALLET = "did:example:wallet123";
+
+    @Mock
+    private AriesCloudAgentClient ariesClient;
+
+    private MutableClock clock;
+    private WalletConnectionCache cache;
+
+    @BeforeEach
+    void setUp() {
+        AriesConfiguration configuration = new AriesConfiguration();
+        configuration.getConnectionCache().setTtl(Duration.ofHours(1));
+        configuration.getConnectionCache().setRevalidateAfter(Duration.ofMinutes(5));
+        clock = new MutableClock(Instant.parse("2025-01-01T00:00:00Z"));
+        ConnectionInvitationPool invitationPool =
+            new ConnectionInvitationPool(ariesClient, configuration, new SimpleMeterRegistry(), clock);
+        cache = new WalletConnectionCache(ariesClient, invitationPool, configuration, new SimpleMeterRegistry(), clock);
+    }
+
+    @Test
+    void shouldReuseConnectionWithoutContactingAgent() {
+        when(ariesClient.createConnectionInvitation(WALLET)).thenReturn("conn-1");
+
+        assertThat(cache.connectionFor(WALLET)).isEqualTo("conn-1");
+        clock.advance(Duration.ofMinutes(4));
+        assertThat(cache.connectionFor(WALLET)).isEqualTo("conn-1");
+
+        verify(ariesClient, times(1)).createConnectionInvitation(WALLET);
+        verify(ariesClient, never()).getConnectionStatus(anyString());
+    }
+
+    @Test
+    void shouldRevalidateStaleConnectionAndKeepItWhileActive() {
+        when(ariesClient.createConnectionInvitation(WALLET)).thenReturn("conn-1");
+        when(ariesClient.getConnectionStatus("conn-1")).thenReturn("active");
+        cache.connectionFor(WALLET);
+
+        clock.advance(Duration.ofMinutes(6));
+        assertThat(cache.connectionFor(WALLET)).isEqualTo("conn-1");
+        clock.advance(Duration.ofMinutes(1));
+        assertThat(cache.connectionFor(WALLET)).isEqualTo("conn-1");
+
+        verify(ariesClient, times(1)).getConnectionStatus("conn-1");
+        verify(ariesClient, times(1)).createConnectionInvitation(WALLET);
+    }
+
+    @Test
+    void shouldReplaceConnectionThatBecameInactive() {
+        when(ariesClient.createConnectionInvitation(WALLET)).thenReturn("conn-1", "conn-2");
+        when(ariesClient.getConnectionStatus("conn-1")).thenReturn("abandoned");
+        cache.connectionFor(WALLET);
+
+        clock.advance(Duration.ofMinutes(6));
+
+        assertThat(cache.connectionFor(WALLET)).isEqualTo("conn-2");
+        assertThat(cache.size()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldCreateNewConnectionAfterTtlOrEviction() {
+        when(ariesClient.createConnectionInvitation(WALLET)).thenReturn("conn-1", "conn-2", "conn-3");
+        cache.connectionFor(WALLET);
+
+        clock.advance(Duration.ofHours(1));
+        assertThat(cache.connectionFor(WALLET)).isEqualTo("conn-2");
+
+        cache.evict(WALLET);
+        assertThat(cache.connectionFor(WALLET)).isEqualTo("conn-3");
+        verify(ariesClient, never()).getConnectionStatus(anyString());
+    }
+
+    @Test
+    void shouldShareOneInvitationBetweenConcurrentMisses() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        when(ariesClient.createConnectionInvitation(WALLET)).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return "conn-1";
+        });
+        ExecutorService callers = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                results.add(callers.submit(() -> cache.connectionFor(WALLET)));
+            }
+            Thread.sleep(200);
+            release.countDown();
+
+            for (Future<String> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("conn-1");
+            }
+            verify(ariesClient, times(1)).createConnectionInvitation(WALLET);
+        } finally {
+            callers.shutdownNow();
+        }
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant now;
+
+        private MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,278 @@
+package com.credguard.infra.crypto;
+
+import com.credguard.config.CryptoConfiguration;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class JwksCacheTest {
+
+    private static final String URL = "https://issuer.example.com/.well-known/jwks.json";
+    private static final JWKSet jwkSet = generateKeySet("key-1");
+
+    @Mock
+    private JwksFetcher fetcher;
+
+    private MutableClock clock;
+    private SimpleMeterRegistry meterRegistry;
+    private JwksCache cache;
+
+    @BeforeEach
+    void setUp() {
+        CryptoConfiguration configuration = new CryptoConfiguration();
+        configuration.getJwks().setTtl(Duration.ofMinutes(10));
+        configuration.getJwks().setRefreshAhead(Duration.ofMinutes(1));
+        configuration.getJwks().setMaxEntries(2);
+
+        clock = new MutableClock(Instant.parse("2025-01-01T00:00:00Z"));
+        meterRegistry = new SimpleMeterRegistry();
+        // Direct executor keeps background refreshes deterministic
+        cache = new JwksCache(fetcher, configuration, meterRegistry, clock, Runnable::run);
+    }
+
+    @Test
+    void shouldServeRepeatLookupsFromCache() throws Exception {
+        when(fetcher.fetch(URL, null, null))
+            .thenReturn(new JwksFetcher.FetchResult(false, jwkSet, "\"v1\"", null));
+
+        assertThat(cache.get(URL)).isSameAs(jwkSet);
+        assertThat(cache.get(URL)).isSameAs(jwkSet);
+
+        verify(fetcher, times(1)).fetch(any(), any(), any());
+        assertThat(counter("hit")).isEqualTo(1.0);
+        assertThat(counter("miss")).isEqualTo(1.0);
+    }
+
+    @Test
+    void shouldRefreshAheadOfExpiryWithConditionalRequest() throws Exception {
+        when(fetcher.fetch(URL, null, null))
+            .thenReturn(new JwksFetcher.FetchResult(false, jwkSet, "\"v1\"", null));
+        when(fetcher.fetch(URL, "\"v1\"", null))
+            .thenReturn(JwksFetcher.FetchResult.unchanged());
+
+        cache.get(URL);
+        clock.advance(Duration.ofMinutes(9).plusSeconds(30));
+
+        assertThat(cache.get(URL)).isSameAs(jwkSet);
+
+        verify(fetcher).fetch(URL, "\"v1\"", null);
+        assertThat(counter("refresh")).isEqualTo(1.0);
+        assertThat(counter("not_modified")).isEqualTo(1.0);
+
+        // The revalidated entry starts a new TTL window
+        clock.advance(Duration.ofMinutes(5));
+        assertThat(cache.get(URL)).isSameAs(jwkSet);
+        verify(fetcher, times(2)).fetch(any(), any(), any());
+    }
+
+    @Test
+    void shouldReplaceKeysWhenIssuerPublishesNewSet() throws Exception {
+        JWKSet rotated = generateKeySet("key-2");
+        when(fetcher.fetch(URL, null, null))
+            .thenReturn(new JwksFetcher.FetchResult(false, jwkSet, "\"v1\"", null));
+        when(fetcher.fetch(URL, "\"v1\"", null))
+            .thenReturn(new JwksFetcher.FetchResult(false, rotated, "\"v2\"", null));
+
+        cache.get(URL);
+        clock.advance(Duration.ofMinutes(11));
+
+        assertThat(cache.get(URL)).isSameAs(rotated);
+    }
+
+    @Test
+    void shouldNotifyListenersOnlyWhenKeysChange() throws Exception {
+        List<String> changed = new ArrayList<>();
+        cache.addKeySetListener(changed::add);
+        JWKSet rotated = generateKeySet("key-2");
+        when(fetcher.fetch(URL, null, null))
+            .thenReturn(new JwksFetcher.FetchResult(false, jwkSet, "\"v1\"", null));
+        when(fetcher.fetch(URL, "\"v1\"", null))
+            .thenReturn(JwksFetcher.FetchResult.unchanged())
+            .thenReturn(new JwksFetcher.FetchResult(false, rotated, "\"v2\"", null));
+
+        cache.get(URL);
+        clock.advance(Duration.ofMinutes(11));
+        cache.get(URL);
+        assertThat(changed).isEmpty();
+
+        clock.advance(Duration.ofMinutes(11));
+        cache.get(URL);
+        assertThat(changed).containsExactly(URL);
+    }
+
+    @Test
+    void shouldEvictLeastRecentlyUsedEntryWhenFull() throws Exception {
+        when(fetcher.fetch(any(), isNull(), isNull()))
+            .thenReturn(new JwksFetcher.FetchResult(false, jwkSet, null, null));
+
+        cache.get("https://a.example.com/jwks");
+        clock.advance(Duration.ofSeconds(1));
+        cache.get("https://b.example.com/jwks");
+        clock.advance(Duration.ofSeconds(1));
+        cache.get("https://a.example.com/jwks");
+        clock.advance(Duration.ofSeconds(1));
+        cache.get("https://c.example.com/jwks");
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(counter("eviction")).isEqualTo(1.0);
+
+        cache.get("https://a.example.com/jwks");
+        verify(fetcher, times(1)).fetch("https://a.example.com/jwks", null, null);
+    }
+
+    @Test
+    void shouldPropagateFetchFailureOnColdCache() throws Exception {
+        when(fetcher.fetch(URL, null, null)).thenThrow(new IOException("connection refused"));
+
+        assertThatThrownBy(() -> cache.get(URL)).isInstanceOf(IOException.class);
+        assertThat(counter("error")).isEqualTo(1.0);
+    }
+
+    @Test
+    void shouldShareOneInFlightFetchAcrossConcurrentCallers() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        when(fetcher.fetch(URL, null, null)).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return new JwksFetcher.FetchResult(false, jwkSet, null, null);
+        });
+
+        int callers = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(callers);
+        try {
+            List<Future<JWKSet>> results = new ArrayList<>();
+            for (int i = 0; i < callers; i++) {
+                results.add(executor.submit(() -> cache.get(URL)));
+            }
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (counter("coalesced") < callers - 1 && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+            release.countDown();
+
+            for (Future<JWKSet> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS)).isSameAs(jwkSet);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        verify(fetcher, times(1)).fetch(any(), any(), any());
+        assertThat(counter("coalesced")).isEqualTo(callers - 1.0);
+    }
+
+    @Test
+    void shouldFailFastWhileFetchFailureIsNegativelyCached() throws Exception {
+        when(fetcher.fetch(URL, null, null))
+            .thenThrow(new IOException("connection refused"))
+            .thenReturn(new JwksFetcher.FetchResult(false, jwkSet, null, null));
+
+        assertThatThrownBy(() -> cache.get(URL)).isInstanceOf(IOException.class);
+        assertThatThrownBy(() -> cache.get(URL)).hasMessageContaining("failed recently");
+        verify(fetcher, times(1)).fetch(any(), any(), any());
+
+        clock.advance(Duration.ofSeconds(31));
+        assertThat(cache.get(URL)).isSameAs(jwkSet);
+    }
+
+    @Test
+    void shouldCapRememberedUnknownKeysWithinNegativeTtl() throws Exception {
+        JWKSet twoKeys = new JWKSet(List.of(jwkSet.getKeys().get(0), generateKeySet("key-2").getKeys().get(0)));
+        when(fetcher.fetch(URL, null, null))
+            .thenReturn(new JwksFetcher.FetchResult(false, twoKeys, "\"v1\"", null));
+        cache.get(URL);
+
+        for (int i = 0; i < 10; i++) {
+            assertThat(cache.refreshForUnknownKey(URL, "random-" + i)).isNull();
+        }
+
+        assertThat(cache.unknownKeyCount()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldRefetchOnceForUnknownKeyIdThenRememberIt() throws Exception {
+        JWKSet twoKeys = new JWKSet(List.of(jwkSet.getKeys().get(0), generateKeySet("key-2").getKeys().get(0)));
+        when(fetcher.fetch(URL, null, null))
+            .thenReturn(new JwksFetcher.FetchResult(false, twoKeys, "\"v1\"", null));
+        when(fetcher.fetch(URL, "\"v1\"", null))
+            .thenReturn(JwksFetcher.FetchResult.unchanged());
+
+        cache.get(URL);
+        // Fetched moments ago: no refetch, the unknown key is remembered
+        assertThat(cache.refreshForUnknownKey(URL, "key-3")).isNull();
+        verify(fetcher, times(1)).fetch(any(), any(), any());
+
+        clock.advance(Duration.ofSeconds(31));
+        assertThat(cache.refreshForUnknownKey(URL, "key-2")).isSameAs(twoKeys);
+        assertThat(cache.refreshForUnknownKey(URL, "key-3")).isNull();
+        assertThat(cache.refreshForUnknownKey(URL, "key-3")).isNull();
+        verify(fetcher, times(2)).fetch(any(), any(), any());
+        assertThat(counter("negative_hit")).isEqualTo(1.0);
+    }
+
+    private double counter(String result) {
+        return meterRegistry.get("credguard.jwks.cache").tag("result", result).counter().count();
+    }
+
+    private static JWKSet generateKeySet(String keyId) {
+        try {
+            return new JWKSet(new RSAKeyGenerator(2048).keyID(keyId).generate().toPublicJWK());
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant now;
+
+        private MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
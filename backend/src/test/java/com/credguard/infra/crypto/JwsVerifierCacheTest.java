@@ -0,0 +1,125 @@
+package com.credguard.infra.crypto;
+
+import com.credguard.config.CryptoConfiguration;
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSVerifier;
+import com.nimbusds.jose.jwk.Curve;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.gen.ECKeyGenerator;
+import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class JwsVerifierCacheTest {
+
+    private static final String URL = "https://issuer.example.com/.well-known/jwks.json";
+    private static final RSAKey KEY_1 = generateRsaKey("key-1");
+    private static final RSAKey KEY_2 = generateRsaKey("key-2");
+
+    @Mock
+    private JwksCache jwksCache;
+
+    private JwsVerifierCache verifierCache;
+
+    @BeforeEach
+    void setUp() {
+        CryptoConfiguration configuration = new CryptoConfiguration();
+        configuration.getJwks().setMaxVerifiers(2);
+        verifierCache = new JwsVerifierCache(jwksCache, JwsVerifierRegistryTest.defaultRegistry(), configuration,
+            new SimpleMeterRegistry());
+    }
+
+    @Test
+    void shouldReuseVerifierForSameKeySet() throws Exception {
+        JWKSet jwkSet = new JWKSet(List.of(KEY_1, KEY_2));
+
+        JWSVerifier first = verifierCache.get(URL, jwkSet, "key-2", JWSAlgorithm.RS256);
+        JWSVerifier second = verifierCache.get(URL, jwkSet, "key-2", JWSAlgorithm.RS256);
+
+        assertThat(first).isNotNull().isSameAs(second);
+        assertThat(verifierCache.get(URL, jwkSet, "key-1", JWSAlgorithm.RS256)).isNotSameAs(first);
+    }
+
+    @Test
+    void shouldRebuildVerifierWhenKeySetInstanceChanges() throws Exception {
+        JWSVerifier before = verifierCache.get(URL, new JWKSet(KEY_1), "key-1", JWSAlgorithm.RS256);
+        JWSVerifier after = verifierCache.get(URL, new JWKSet(KEY_1), "key-1", JWSAlgorithm.RS256);
+
+        assertThat(after).isNotSameAs(before);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldDropVerifiersWhenKeySetRotates() throws Exception {
+        ArgumentCaptor<Consumer<String>> listener = ArgumentCaptor.forClass(Consumer.class);
+        verify(jwksCache).addKeySetListener(listener.capture());
+        JWKSet jwkSet = new JWKSet(List.of(KEY_1, KEY_2));
+        verifierCache.get(URL, jwkSet, "key-1", JWSAlgorithm.RS256);
+        verifierCache.get("https://other.example.com/jwks", jwkSet, "key-1", JWSAlgorithm.RS256);
+
+        listener.getValue().accept(URL);
+
+        assertThat(verifierCache.size()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldFallBackToSingleKeyAndReturnNullForUnknownKid() throws Exception {
+        assertThat(verifierCache.get(URL, new JWKSet(KEY_1), null, JWSAlgorithm.RS256)).isNotNull();
+        assertThat(verifierCache.get(URL, new JWKSet(List.of(KEY_1, KEY_2)), "missing", JWSAlgorithm.RS256))
+            .isNull();
+    }
+
+    @Test
+    void shouldNotAddEntriesForMadeUpKeyIdsResolvedToSingleKey() throws Exception {
+        JWKSet jwkSet = new JWKSet(KEY_1);
+        JWSVerifier first = verifierCache.get(URL, jwkSet, "kid-0", JWSAlgorithm.RS256);
+
+        for (int i = 1; i < 100; i++) {
+            assertThat(verifierCache.get(URL, jwkSet, "kid-" + i, JWSAlgorithm.RS256)).isSameAs(first);
+        }
+        assertThat(verifierCache.size()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldEvictOldestVerifierAtMaxVerifiers() throws Exception {
+        JWKSet jwkSet = new JWKSet(List.of(KEY_1, KEY_2));
+        JWSVerifier oldest = verifierCache.get(URL, jwkSet, "key-1", JWSAlgorithm.RS256);
+        verifierCache.get(URL, jwkSet, "key-2", JWSAlgorithm.RS256);
+        verifierCache.get("https://other.example.com/jwks", jwkSet, "key-2", JWSAlgorithm.RS256);
+
+        assertThat(verifierCache.size()).isEqualTo(2);
+        assertThat(verifierCache.get(URL, jwkSet, "key-1", JWSAlgorithm.RS256)).isNotSameAs(oldest);
+    }
+
+    @Test
+    void shouldRejectKeyThatDoesNotFitHeaderAlgorithm() throws Exception {
+        JWKSet ecSet = new JWKSet(new ECKeyGenerator(Curve.P_256).keyID("ec-1").generate().toPublicJWK());
+
+        assertThat(verifierCache.get(URL, ecSet, "ec-1", JWSAlgorithm.ES256)).isNotNull();
+        assertThatThrownBy(() -> verifierCache.get(URL, ecSet, "ec-1", JWSAlgorithm.RS256))
+            .isInstanceOf(JOSEException.class);
+    }
+
+    private static RSAKey generateRsaKey(String keyId) {
+        try {
+            return new RSAKeyGenerator(2048).keyID(keyId).generate().toPublicJWK();
+        } catch (JOSEException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
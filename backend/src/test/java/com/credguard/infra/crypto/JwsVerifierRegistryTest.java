@@ -0,0 +1,91 @@
+package com.credguard.infra.crypto;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.JWSObject;
+import com.nimbusds.jose.JWSSigner;
+import com.nimbusds.jose.Payload;
+import com.nimbusds.jose.crypto.ECDSASigner;
+import com.nimbusds.jose.crypto.Ed25519Signer;
+import com.nimbusds.jose.crypto.RSASSASigner;
+import com.nimbusds.jose.jwk.Curve;
+import com.nimbusds.jose.jwk.ECKey;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.OctetKeyPair;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.gen.ECKeyGenerator;
+import com.nimbusds.jose.jwk.gen.OctetKeyPairGenerator;
+import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JwsVerifierRegistryTest {
+
+    private static RSAKey rsaKey;
+    private static ECKey ecKey;
+    private static OctetKeyPair edKey;
+
+    private final JwsVerifierRegistry registry = defaultRegistry();
+
+    @BeforeAll
+    static void generateKeys() throws JOSEException {
+        rsaKey = new RSAKeyGenerator(2048).keyID("rsa").generate();
+        ecKey = new ECKeyGenerator(Curve.P_256).keyID("ec").generate();
+        edKey = new OctetKeyPairGenerator(Curve.Ed25519).keyID("ed").generate();
+    }
+
+    static JwsVerifierRegistry defaultRegistry() {
+        return new JwsVerifierRegistry(List.of(
+            new RsaVerifierProvider(),
+            new EcVerifierProvider(),
+            new EdDsaVerifierProvider()));
+    }
+
+    @Test
+    void shouldVerifyEachSupportedAlgorithmFamily() throws Exception {
+        assertVerifies(JWSAlgorithm.RS256, new RSASSASigner(rsaKey), rsaKey);
+        assertVerifies(JWSAlgorithm.PS256, new RSASSASigner(rsaKey), rsaKey);
+        assertVerifies(JWSAlgorithm.ES256, new ECDSASigner(ecKey), ecKey);
+        assertVerifies(JWSAlgorithm.EdDSA, new Ed25519Signer(edKey), edKey);
+    }
+
+    @Test
+    void shouldRejectAlgorithmsWithoutProvider() {
+        assertThatThrownBy(() -> registry.createVerifier(JWSAlgorithm.HS256, rsaKey.toPublicJWK()))
+            .isInstanceOf(JOSEException.class)
+            .hasMessageContaining("Unsupported JWS algorithm");
+    }
+
+    @Test
+    void shouldRejectKeyTypeFromAnotherFamily() {
+        assertThatThrownBy(() -> registry.createVerifier(JWSAlgorithm.EdDSA, ecKey.toPublicJWK()))
+            .isInstanceOf(JOSEException.class);
+        assertThatThrownBy(() -> registry.createVerifier(JWSAlgorithm.ES256, rsaKey.toPublicJWK()))
+            .isInstanceOf(JOSEException.class);
+    }
+
+    @Test
+    void shouldHonourAlgorithmRestrictionOnKey() throws Exception {
+        RSAKey restricted = new RSAKey.Builder(rsaKey.toPublicJWK()).algorithm(JWSAlgorithm.PS256).build();
+
+        assertThat(registry.createVerifier(JWSAlgorithm.PS256, restricted)).isNotNull();
+        assertThatThrownBy(() -> registry.createVerifier(JWSAlgorithm.RS256, restricted))
+            .isInstanceOf(JOSEException.class)
+            .hasMessageContaining("restricted");
+    }
+
+    private void assertVerifies(JWSAlgorithm algorithm, JWSSigner signer, JWK key) throws JOSEException {
+        JWSObject jws = new JWSObject(new JWSHeader(algorithm), new Payload("credential"));
+        jws.sign(signer);
+
+        assertThat(jws.verify(registry.createVerifier(algorithm, key.toPublicJWK())))
+            .as("%s signature", algorithm)
+            .isTrue();
+    }
+}
@@ -0,0 +1,104 @@
+package com.credguard.infra.crypto;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.JWSObject;
+import com.nimbusds.jose.JWSSigner;
+import com.nimbusds.jose.JWSVerifier;
+import com.nimbusds.jose.Payload;
+import com.nimbusds.jose.crypto.ECDSASigner;
+import com.nimbusds.jose.crypto.Ed25519Signer;
+import com.nimbusds.jose.crypto.RSASSASigner;
+import com.nimbusds.jose.jwk.Curve;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.gen.ECKeyGenerator;
+import com.nimbusds.jose.jwk.gen.OctetKeyPairGenerator;
+import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the cost of verifying one JWS per algorithm, both with a cached verifier
+ * (the production path) and with a verifier rebuilt from the JWK on every call.
+ *
+ * <p>Run with:
+ * <pre>
+ * mvn test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=com.credguard.infra.crypto.JwsVerifyBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwsVerifyBenchmark {
+
+    @Param({"RS256", "PS256", "ES256", "EdDSA"})
+    public String algorithm;
+
+    private final JwsVerifierRegistry registry = JwsVerifierRegistryTest.defaultRegistry();
+    private JWSObject jws;
+    private JWK publicKey;
+    private JWSVerifier cachedVerifier;
+
+    @Setup
+    public void setUp() throws JOSEException {
+        JWSAlgorithm alg = JWSAlgorithm.parse(algorithm);
+        JWK key;
+        JWSSigner signer;
+        switch (algorithm) {
+            case "RS256", "PS256" -> {
+                key = new RSAKeyGenerator(2048).generate();
+                signer = new RSASSASigner(key.toRSAKey());
+            }
+            case "ES256" -> {
+                key = new ECKeyGenerator(Curve.P_256).generate();
+                signer = new ECDSASigner(key.toECKey());
+            }
+            case "EdDSA" -> {
+                key = new OctetKeyPairGenerator(Curve.Ed25519).generate();
+                signer = new Ed25519Signer(key.toOctetKeyPair());
+            }
+            default -> throw new IllegalArgumentException(algorithm);
+        }
+
+        jws = new JWSObject(new JWSHeader(alg), new Payload("{\"sub\":\"did:example:subject\"}"));
+        jws.sign(signer);
+        publicKey = key.toPublicJWK();
+        cachedVerifier = registry.createVerifier(alg, publicKey);
+    }
+
+    @Benchmark
+    public boolean verifyWithCachedVerifier() throws JOSEException {
+        return jws.verify(cachedVerifier);
+    }
+
+    @Benchmark
+    public boolean verifyWithFreshVerifier() throws JOSEException {
+        return jws.verify(registry.createVerifier(jws.getHeader().getAlgorithm(), publicKey));
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(JwsVerifyBenchmark.class.getSimpleName())
+                .build())
+                .run();
+    }
+}
@@ -0,0 +1,143 @@
+package com.credguard.infra.crypto;
+
+import com.credguard.config.CryptoConfiguration;
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.jwk.Curve;
+import com.nimbusds.jose.jwk.ECKey;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.OctetKeyPair;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.gen.ECKeyGenerator;
+import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LocalIssuerKeyStoreTest {
+
+    private static final RSAKey RSA_KEY = generateRsaKey();
+
+    @TempDir
+    Path directory;
+
+    private LocalIssuerKeyStore keyStore;
+
+    @BeforeEach
+    void setUp() {
+        CryptoConfiguration configuration = new CryptoConfiguration();
+        configuration.getTrustStore().setDirectory(directory.toString());
+        configuration.getTrustStore().setWatch(false);
+        keyStore = new LocalIssuerKeyStore(configuration);
+    }
+
+    @AfterEach
+    void tearDown() {
+        keyStore.shutdown();
+    }
+
+    @Test
+    void shouldIndexJwksFilesByDeclaredIssuerAndStripPrivateParts() throws Exception {
+        String json = new JWKSet(RSA_KEY).toString(false).replaceFirst("\\{",
+            "{\"issuer\":\"did:web:university.example\",");
+        Files.writeString(directory.resolve("university.json"), json);
+
+        keyStore.initialize();
+
+        LocalIssuerKeyStore.LocalKeys keys = keyStore.find("did:web:university.example", "rsa-1");
+        assertThat(keys).isNotNull();
+        assertThat(keys.keys().getKeyByKeyId("rsa-1").isPrivate()).isFalse();
+        assertThat(keyStore.find("did:web:other.example", "rsa-1")).isNull();
+    }
+
+    @Test
+    void shouldDeriveIssuerFromEncodedFileName() throws Exception {
+        Files.writeString(directory.resolve("did%3Aweb%3Agov.example.json"),
+            new JWKSet(RSA_KEY.toPublicJWK()).toString());
+
+        keyStore.initialize();
+
+        assertThat(keyStore.find("did:web:gov.example", null)).isNotNull();
+    }
+
+    @Test
+    void shouldLoadPemKeysWithAndWithoutIssuer() throws Exception {
+        ECKey ecKey = new ECKeyGenerator(Curve.P_256).generate();
+        Files.writeString(directory.resolve("ec-1.pem"),
+            "Issuer: did:web:dmv.example\n" + pem(ecKey.toECPublicKey().getEncoded()));
+        Files.writeString(directory.resolve("shared-rsa.pem"), pem(RSA_KEY.toRSAPublicKey().getEncoded()));
+
+        keyStore.initialize();
+
+        LocalIssuerKeyStore.LocalKeys dmv = keyStore.find("did:web:dmv.example", "anything");
+        assertThat(dmv.keys().getKeyByKeyId("ec-1")).isInstanceOf(ECKey.class);
+        assertThat(keyStore.find("did:web:unknown.example", "shared-rsa")).isNotNull();
+        assertThat(keyStore.find("did:web:unknown.example", "other")).isNull();
+    }
+
+    @Test
+    void shouldLoadEd25519PemAsOctetKeyPair() throws Exception {
+        KeyPair keyPair = KeyPairGenerator.getInstance("Ed25519").generateKeyPair();
+        Files.writeString(directory.resolve("ed-1.pem"),
+            "Issuer: did:web:wallet.example\n" + pem(keyPair.getPublic().getEncoded()));
+
+        keyStore.initialize();
+
+        assertThat(keyStore.find("did:web:wallet.example", "ed-1").keys().getKeyByKeyId("ed-1"))
+            .isInstanceOfSatisfying(OctetKeyPair.class,
+                okp -> assertThat(okp.getCurve()).isEqualTo(Curve.Ed25519));
+    }
+
+    @Test
+    void shouldSkipInvalidFilesAndSwapSnapshotOnReload() throws Exception {
+        Files.writeString(directory.resolve("broken.json"), "{not json");
+        keyStore.initialize();
+        assertThat(keyStore.find("broken", null)).isNull();
+
+        Files.writeString(directory.resolve("issuer-a.json"), new JWKSet(RSA_KEY.toPublicJWK()).toString());
+        keyStore.reload();
+        assertThat(keyStore.find("issuer-a", null)).isNotNull();
+
+        Files.delete(directory.resolve("issuer-a.json"));
+        keyStore.reload();
+        assertThat(keyStore.find("issuer-a", null)).isNull();
+    }
+
+    @Test
+    void shouldReloadWhenWatchedDirectoryChanges() throws Exception {
+        CryptoConfiguration configuration = new CryptoConfiguration();
+        configuration.getTrustStore().setDirectory(directory.toString());
+        keyStore = new LocalIssuerKeyStore(configuration);
+        keyStore.initialize();
+
+        Files.writeString(directory.resolve("issuer-b.json"), new JWKSet(RSA_KEY.toPublicJWK()).toString());
+
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (keyStore.find("issuer-b", null) == null && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+        }
+        assertThat(keyStore.find("issuer-b", null)).isNotNull();
+    }
+
+    private static String pem(byte[] der) {
+        return "-----BEGIN PUBLIC KEY-----\n"
+            + Base64.getMimeEncoder(64, "\n".getBytes()).encodeToString(der)
+            + "\n-----END PUBLIC KEY-----\n";
+    }
+
+    private static RSAKey generateRsaKey() {
+        try {
+            return new RSAKeyGenerator(2048).keyID("rsa-1").generate();
+        } catch (JOSEException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
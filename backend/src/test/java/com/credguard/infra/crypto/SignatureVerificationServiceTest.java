@@ -0,0 +1,97 @@
+package com.credguard.infra.crypto;
+
+import com.credguard.config.CryptoConfiguration;
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.crypto.RSASSASigner;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class SignatureVerificationServiceTest {
+
+    private static final String ISSUER = "did:web:issuer.example";
+    private static final String JWKS_URL = "https://issuer.example/.well-known/jwks.json";
+    private static final RSAKey SIGNING_KEY = generateRsaKey("key-1");
+
+    @Mock
+    private LocalIssuerKeyStore localKeyStore;
+
+    @Mock
+    private JwksCache jwksCache;
+
+    private SignatureVerificationService service;
+
+    @BeforeEach
+    void setUp() {
+        JwsVerifierCache verifierCache = new JwsVerifierCache(jwksCache, JwsVerifierRegistryTest.defaultRegistry(),
+            new CryptoConfiguration(), new SimpleMeterRegistry());
+        service = new SignatureVerificationService(localKeyStore, jwksCache, verifierCache);
+    }
+
+    @Test
+    void shouldVerifyWithTrustStoreKeysWithoutTouchingRemoteJwks() throws Exception {
+        when(localKeyStore.find(ISSUER, "key-1")).thenReturn(
+            new LocalIssuerKeyStore.LocalKeys("trust-store:" + ISSUER, new JWKSet(SIGNING_KEY.toPublicJWK())));
+
+        assertThat(service.verifySignature(sign(SIGNING_KEY), JWKS_URL)).isTrue();
+        verify(jwksCache, never()).get(any());
+    }
+
+    @Test
+    void shouldRejectTokenSignedByKeyOutsideTrustStore() throws Exception {
+        when(localKeyStore.find(ISSUER, "key-1")).thenReturn(
+            new LocalIssuerKeyStore.LocalKeys("trust-store:" + ISSUER,
+                new JWKSet(generateRsaKey("key-1").toPublicJWK())));
+
+        assertThat(service.verifySignature(sign(SIGNING_KEY), JWKS_URL)).isFalse();
+    }
+
+    @Test
+    void shouldFallBackToRemoteJwksWhenIssuerIsNotPinned() throws Exception {
+        when(jwksCache.get(JWKS_URL)).thenReturn(new JWKSet(SIGNING_KEY.toPublicJWK()));
+
+        assertThat(service.verifySignature(sign(SIGNING_KEY), JWKS_URL)).isTrue();
+    }
+
+    @Test
+    void shouldFailWhenRemoteJwksIsUnavailable() throws Exception {
+        when(jwksCache.get(JWKS_URL)).thenThrow(new IOException("connection refused"));
+
+        assertThat(service.verifySignature(sign(SIGNING_KEY), JWKS_URL)).isFalse();
+    }
+
+    private static String sign(RSAKey key) throws JOSEException {
+        SignedJWT jwt = new SignedJWT(
+            new JWSHeader.Builder(JWSAlgorithm.RS256).keyID(key.getKeyID()).build(),
+            new JWTClaimsSet.Builder().issuer(ISSUER).subject("did:example:subject").build());
+        jwt.sign(new RSASSASigner(key));
+        return jwt.serialize();
+    }
+
+    private static RSAKey generateRsaKey(String keyId) {
+        try {
+            return new RSAKeyGenerator(2048).keyID(keyId).generate();
+        } catch (JOSEException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.credguard.infra.json;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CanonicalJsonDigestTest {
+
+    private static final String DOCUMENT = "{\"z\":[1,-42,4.5,1e30,true,null],\"\\u20ac\":\"Euro\","
+        + "\"\\r\":\"tab\\t nul\\u0000 quote\\\"\",\"1\":{\"b\":\"\\ud83d\\ude00\",\"a\":\"\\u00f6\"},"
+        + "\"big\":12345678901234567890,\"\\ufb33\":{}}";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final CanonicalJsonDigest digest = new CanonicalJsonDigest(objectMapper);
+
+    @Test
+    void shouldMatchSha256OfCanonicalTree() throws Exception {
+        JsonNode tree = objectMapper.readTree(DOCUMENT);
+
+        digest.value(tree);
+        digest.finish();
+
+        assertThat(words()).isEqualTo(sha256(JsonCanonicalizer.canonicalize(tree)));
+    }
+
+    @Test
+    void shouldMatchSha256OfCanonicalTreeForPlainValues() throws Exception {
+        Map<String, Object> values = objectMapper.readValue(DOCUMENT, new TypeReference<>() { });
+
+        digest.value(values);
+        digest.finish();
+
+        assertThat(words()).isEqualTo(sha256(JsonCanonicalizer.canonicalize(objectMapper.readTree(DOCUMENT))));
+    }
+
+    @Test
+    void shouldWriteCallerDrivenObjectsInCanonicalForm() throws Exception {
+        digest.beginObject();
+        digest.member("a");
+        digest.beginArray();
+        digest.element();
+        digest.number(1);
+        digest.element();
+        digest.number(2);
+        digest.endArray();
+        digest.member("b");
+        digest.value(Map.of("d", 4, "c", 3));
+        digest.endObject();
+        digest.finish();
+
+        assertThat(words()).isEqualTo(sha256("{\"a\":[1,2],\"b\":{\"c\":3,\"d\":4}}"));
+    }
+
+    @Test
+    void shouldStartOverAfterReset() throws Exception {
+        digest.value("partial");
+        digest.reset();
+        digest.value("whole");
+        digest.finish();
+
+        assertThat(words()).isEqualTo(sha256("\"whole\""));
+    }
+
+    @Test
+    void shouldRejectNonFiniteNumbers() {
+        assertThatThrownBy(() -> digest.value(Double.NaN)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private long[] words() {
+        return new long[] {digest.word(0), digest.word(1), digest.word(2), digest.word(3)};
+    }
+
+    private static long[] sha256(String canonical) throws Exception {
+        ByteBuffer hash = ByteBuffer.wrap(MessageDigest.getInstance("SHA-256")
+            .digest(canonical.getBytes(StandardCharsets.UTF_8)));
+        return new long[] {hash.getLong(), hash.getLong(), hash.getLong(), hash.getLong()};
+    }
+}
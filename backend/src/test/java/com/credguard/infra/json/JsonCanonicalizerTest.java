@@ -0,0 +1,61 @@
+package com.credguard.infra.json;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JsonCanonicalizerTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void shouldSortMembersAndStripWhitespace() throws Exception {
+        String json = "[56, {\"d\": true, \"10\": null, \"1\": [ ]}]";
+
+        assertThat(JsonCanonicalizer.canonicalize(objectMapper.readTree(json)))
+            .isEqualTo("[56,{\"1\":[],\"10\":null,\"d\":true}]");
+    }
+
+    @Test
+    void shouldProduceSameOutputRegardlessOfMemberOrder() throws Exception {
+        String first = "{\"id\":\"cred-1\",\"claims\":{\"b\":2,\"a\":1}}";
+        String second = "{ \"claims\" : { \"a\" : 1, \"b\" : 2 }, \"id\" : \"cred-1\" }";
+
+        assertThat(JsonCanonicalizer.canonicalize(objectMapper.readTree(first)))
+            .isEqualTo(JsonCanonicalizer.canonicalize(objectMapper.readTree(second)));
+    }
+
+    @Test
+    void shouldSortByUtf16CodeUnits() throws Exception {
+        // RFC 8785 section 3.2.3 sorting example
+        String json = "{\"\\u20ac\":\"Euro Sign\",\"\\r\":\"Carriage Return\",\"\\ufb33\":\"Hebrew Letter Dalet With Dagesh\","
+            + "\"1\":\"One\",\"\\ud83d\\ude00\":\"Emoji: Grinning Face\",\"\\u0080\":\"Control\",\"\\u00f6\":\"Latin Small Letter O With Diaeresis\"}";
+
+        String canonical = JsonCanonicalizer.canonicalize(objectMapper.readTree(json));
+
+        assertThat(canonical).startsWith("{\"\\r\":\"Carriage Return\",\"1\":\"One\",\"\u0080\":\"Control\"");
+        assertThat(canonical.indexOf("\ud83d\ude00")).isLessThan(canonical.indexOf("\ufb33"));
+    }
+
+    @Test
+    void shouldEscapeOnlyWhatJsonRequires() throws Exception {
+        String json = "\"quote\\\" backslash\\\\ tab\\t nul\\u0000 euro\\u20ac slash/\"";
+
+        assertThat(JsonCanonicalizer.canonicalize(objectMapper.readTree(json)))
+            .isEqualTo("\"quote\\\" backslash\\\\ tab\\t nul\\u0000 euro\u20ac slash/\"");
+    }
+
+    @Test
+    void shouldFormatNumbersLikeEcmaScript() {
+        assertThat(JsonCanonicalizer.formatDouble(4.50)).isEqualTo("4.5");
+        assertThat(JsonCanonicalizer.formatDouble(2e-3)).isEqualTo("0.002");
+        assertThat(JsonCanonicalizer.formatDouble(1e30)).isEqualTo("1e+30");
+        assertThat(JsonCanonicalizer.formatDouble(1e-27)).isEqualTo("1e-27");
+        assertThat(JsonCanonicalizer.formatDouble(1e21)).isEqualTo("1e+21");
+        assertThat(JsonCanonicalizer.formatDouble(1e20)).isEqualTo("100000000000000000000");
+        assertThat(JsonCanonicalizer.formatDouble(-0.0000033)).isEqualTo("-0.0000033");
+        assertThat(JsonCanonicalizer.formatDouble(333333333.33333329)).isEqualTo("333333333.3333333");
+        assertThat(JsonCanonicalizer.formatDouble(-1.5e-7)).isEqualTo("-1.5e-7");
+    }
+}
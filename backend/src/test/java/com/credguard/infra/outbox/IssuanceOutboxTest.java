@@ -0,0 +1,190 @@
+package com.credguard.infra.outbox;
+
+import com.credguard.config.IssuanceConfiguration;
+import com.credguard.domain.PhysicalDocument;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class IssuanceOutboxTest {
+
+    @TempDir
+    Path directory;
+
+    private IssuanceConfiguration configuration;
+    private Path file;
+
+    @BeforeEach
+    void setUp() {
+        file = directory.resolve("outbox.jsonl");
+        configuration = new IssuanceConfiguration();
+        configuration.getOutbox().setFile(file.toString());
+    }
+
+    @Test
+    void shouldRecoverAcceptedJobsThatNeverCompleted() throws Exception {
+        IssuanceOutbox outbox = open();
+        outbox.append(pending("job-1"));
+        outbox.append(pending("job-2"));
+        outbox.complete("job-1");
+        outbox.shutdown();
+
+        IssuanceOutbox reopened = open();
+        try {
+            assertThat(reopened.recover()).singleElement().satisfies(issuance -> {
+                assertThat(issuance.jobId()).isEqualTo("job-2");
+                assertThat(issuance.documentType()).isEqualTo(PhysicalDocument.DocumentType.PASSPORT);
+                assertThat(issuance.walletDid()).isEqualTo("did:example:wallet123");
+                assertThat(new String(issuance.document(), StandardCharsets.UTF_8)).isEqualTo("document job-2");
+            });
+            // Recovered documents are handed over once and not kept
+            assertThat(reopened.recover()).isEmpty();
+        } finally {
+            reopened.shutdown();
+        }
+    }
+
+    @Test
+    void shouldMakeConcurrentAppendsDurable() throws Exception {
+        IssuanceOutbox outbox = open();
+        ExecutorService callers = Executors.newFixedThreadPool(16);
+        try {
+            List<Future<?>> appends = new ArrayList<>();
+            for (int i = 0; i < 64; i++) {
+                String jobId = "job-" + i;
+                appends.add(callers.submit(() -> {
+                    outbox.append(pending(jobId));
+                    return null;
+                }));
+            }
+            for (Future<?> append : appends) {
+                append.get(5, TimeUnit.SECONDS);
+            }
+        } finally {
+            callers.shutdownNow();
+        }
+
+        // Every acknowledged append is already on disk, before any orderly shutdown
+        assertThat(Files.readAllLines(file)).hasSize(64);
+        outbox.shutdown();
+    }
+
+    @Test
+    void shouldCompactCompletedJobsAway() throws Exception {
+        configuration.getOutbox().setCompactInterval(Duration.ofMillis(50));
+        IssuanceOutbox outbox = open();
+        try {
+            for (int i = 0; i < 10; i++) {
+                outbox.append(pending("job-" + i));
+            }
+            for (int i = 0; i < 9; i++) {
+                outbox.complete("job-" + i);
+            }
+
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (Files.readAllLines(file).size() != 1 && System.nanoTime() < deadline) {
+                Thread.sleep(20);
+            }
+            assertThat(Files.readAllLines(file)).singleElement().asString().contains("\"job-9\"");
+
+            outbox.append(pending("job-10"));
+            assertThat(Files.readAllLines(file)).hasSize(2);
+        } finally {
+            outbox.shutdown();
+        }
+    }
+
+    @Test
+    void shouldSkipTornFinalLine() throws Exception {
+        IssuanceOutbox outbox = open();
+        outbox.append(pending("job-1"));
+        outbox.shutdown();
+        Files.writeString(file, "{\"type\":\"ACCEPTED\",\"jobId\":\"job-2\",\"issu", StandardOpenOption.APPEND);
+
+        IssuanceOutbox reopened = open();
+        try {
+            assertThat(reopened.recover()).extracting(IssuanceOutbox.PendingIssuance::jobId).containsExactly("job-1");
+        } finally {
+            reopened.shutdown();
+        }
+    }
+
+    @Test
+    void shouldNotReplayJobWhoseAppendFailedToSync() throws Exception {
+        AtomicBoolean failSync = new AtomicBoolean();
+        IssuanceOutbox outbox = new IssuanceOutbox(configuration) {
+            @Override
+            void force(FileChannel target) throws IOException {
+                if (failSync.compareAndSet(true, false)) {
+                    throw new IOException("disk full");
+                }
+                super.force(target);
+            }
+        };
+        outbox.initialize();
+        outbox.append(pending("job-1"));
+        failSync.set(true);
+
+        assertThatThrownBy(() -> outbox.append(pending("job-2"))).isInstanceOf(IOException.class);
+        outbox.append(pending("job-3"));
+        outbox.shutdown();
+
+        assertThat(Files.readAllLines(file)).noneMatch(line -> line.contains("\"job-2\""));
+        IssuanceOutbox reopened = open();
+        try {
+            assertThat(reopened.recover()).extracting(IssuanceOutbox.PendingIssuance::jobId)
+                .containsExactly("job-1", "job-3");
+        } finally {
+            reopened.shutdown();
+        }
+    }
+
+    @Test
+    void shouldRefuseToStartWithCorruptLineBeforeTheEnd() throws Exception {
+        IssuanceOutbox outbox = open();
+        outbox.append(pending("job-1"));
+        outbox.append(pending("job-2"));
+        outbox.shutdown();
+        List<String> lines = new ArrayList<>(Files.readAllLines(file));
+        lines.add(1, "{\"type\":\"DONE\",\"job");
+        Files.write(file, lines);
+
+        assertThatThrownBy(this::open)
+            .isInstanceOf(UncheckedIOException.class)
+            .hasRootCauseInstanceOf(JsonProcessingException.class)
+            .cause().hasMessageContaining("corrupt at line 2");
+    }
+
+    private IssuanceOutbox open() {
+        IssuanceOutbox outbox = new IssuanceOutbox(configuration);
+        outbox.initialize();
+        return outbox;
+    }
+
+    private static IssuanceOutbox.PendingIssuance pending(String jobId) {
+        return new IssuanceOutbox.PendingIssuance(jobId, Instant.parse("2025-01-01T00:00:00Z"), "passport.jpg",
+            PhysicalDocument.DocumentType.PASSPORT, "did:example:wallet123",
+            ("document " + jobId).getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,106 @@
+package com.credguard.infra.revocation;
+
+import com.credguard.config.RevocationConfiguration;
+import com.credguard.domain.CredentialRevokedEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RevokedCredentialIndexTest {
+
+    @TempDir
+    Path directory;
+
+    private RevocationConfiguration configuration;
+    private RevokedCredentialIndex index;
+
+    @BeforeEach
+    void setUp() {
+        configuration = new RevocationConfiguration();
+        configuration.setSnapshotFile(directory.resolve("revoked.txt").toString());
+        index = new RevokedCredentialIndex(configuration);
+        index.initialize();
+    }
+
+    @AfterEach
+    void tearDown() {
+        index.shutdown();
+    }
+
+    @Test
+    void shouldReportRevokedCredentialsOnly() {
+        assertThat(index.markRevoked("cred-1")).isTrue();
+        assertThat(index.markRevoked("cred-1")).isFalse();
+
+        assertThat(index.isRevoked("cred-1")).isTrue();
+        assertThat(index.isRevoked("cred-2")).isFalse();
+        assertThat(index.isRevoked(null)).isFalse();
+    }
+
+    @Test
+    void shouldMarkCredentialRevokedOnEvent() {
+        index.onCredentialRevoked(CredentialRevokedEvent.now("cred-1"));
+
+        assertThat(index.isRevoked("cred-1")).isTrue();
+    }
+
+    @Test
+    void shouldReplaySnapshotOnRestart() throws Exception {
+        index.markRevoked("cred-1");
+        index.markRevoked("cred-2");
+        index.shutdown();
+
+        assertThat(Files.readAllLines(directory.resolve("revoked.txt"))).containsExactly("cred-1", "cred-2");
+
+        RevokedCredentialIndex restarted = new RevokedCredentialIndex(configuration);
+        restarted.initialize();
+        try {
+            assertThat(restarted.isRevoked("cred-1")).isTrue();
+            assertThat(restarted.isRevoked("cred-2")).isTrue();
+            assertThat(restarted.isRevoked("cred-3")).isFalse();
+            assertThat(restarted.size()).isEqualTo(2);
+        } finally {
+            restarted.shutdown();
+        }
+    }
+
+    @Test
+    void shouldGrowBeyondExpectedRevocations() {
+        configuration.setSnapshotFile(null);
+        configuration.setExpectedRevocations(100);
+        RevokedCredentialIndex small = new RevokedCredentialIndex(configuration);
+
+        for (int i = 0; i < 1_000; i++) {
+            small.markRevoked("cred-" + i);
+        }
+
+        for (int i = 0; i < 1_000; i++) {
+            assertThat(small.isRevoked("cred-" + i)).isTrue();
+        }
+        assertThat(small.isRevoked("cred-1000")).isFalse();
+    }
+
+    @Test
+    void bloomFilterShouldStayNearTargetFalsePositiveRate() {
+        RevokedCredentialIndex.BloomFilter filter = new RevokedCredentialIndex.BloomFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put("revoked-" + i);
+        }
+
+        int falsePositives = 0;
+        for (int i = 0; i < 100_000; i++) {
+            assertThat(filter.mightContain("revoked-" + (i % 10_000))).isTrue();
+            if (filter.mightContain("active-" + i)) {
+                falsePositives++;
+            }
+        }
+
+        assertThat(falsePositives).isLessThan(2_000);
+    }
+}
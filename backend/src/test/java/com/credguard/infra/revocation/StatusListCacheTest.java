@@ -0,0 +1,280 @@
+package com.credguard.infra.revocation;
+
+import com.credguard.config.RevocationConfiguration;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class StatusListCacheTest {
+
+    private HttpServer server;
+    private ExecutorService serverExecutor;
+    private String baseUrl;
+    private final AtomicInteger requests = new AtomicInteger();
+    private volatile String body;
+    private volatile int status = 200;
+    private volatile CountDownLatch release;
+
+    private MutableClock clock;
+    private StatusListCache cache;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/moved", exchange -> {
+            requests.incrementAndGet();
+            exchange.getResponseHeaders().add("Location", "/status/1");
+            exchange.sendResponseHeaders(302, -1);
+            exchange.close();
+        });
+        server.createContext("/status/1", exchange -> {
+            requests.incrementAndGet();
+            try {
+                if (release != null) {
+                    release.await(5, TimeUnit.SECONDS);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            byte[] response = body.getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(status, response.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(response);
+            }
+        });
+        serverExecutor = Executors.newCachedThreadPool();
+        server.setExecutor(serverExecutor);
+        server.start();
+        baseUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+
+        RevocationConfiguration configuration = new RevocationConfiguration();
+        configuration.getStatusList().setTtl(Duration.ofMinutes(5));
+        configuration.getStatusList().setNegativeTtl(Duration.ofSeconds(30));
+        configuration.getStatusList().setAllowPrivateAddresses(true);
+        configuration.getStatusList().setMaxResponseBytes(64 * 1024);
+        clock = new MutableClock(Instant.parse("2025-01-01T00:00:00Z"));
+        cache = new StatusListCache(new StatusListFetcher(configuration), configuration,
+            new SimpleMeterRegistry(), clock);
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+        serverExecutor.shutdownNow();
+    }
+
+    @Test
+    void shouldDecodeBitsMostSignificantFirst() throws Exception {
+        body = jsonCredential(encode(bitstring(16_384, 0, 9, 131_071)), "revocation");
+
+        StatusList list = cache.get(baseUrl + "/status/1");
+
+        assertThat(list.size()).isEqualTo(131_072);
+        assertThat(list.purpose()).isEqualTo("revocation");
+        assertThat(list.isSet(0)).isTrue();
+        assertThat(list.isSet(1)).isFalse();
+        assertThat(list.isSet(9)).isTrue();
+        assertThat(list.isSet(131_071)).isTrue();
+        assertThat(list.isSet(131_070)).isFalse();
+    }
+
+    @Test
+    void shouldFetchOncePerTtl() throws Exception {
+        body = jsonCredential(encode(bitstring(16, 3)), "revocation");
+        String url = baseUrl + "/status/1";
+
+        for (int i = 0; i < 10; i++) {
+            assertThat(cache.get(url).isSet(3)).isTrue();
+        }
+        assertThat(requests).hasValue(1);
+
+        body = jsonCredential(encode(bitstring(16)), "revocation");
+        clock.advance(Duration.ofMinutes(5));
+
+        assertThat(cache.get(url).isSet(3)).isFalse();
+        assertThat(requests).hasValue(2);
+    }
+
+    @Test
+    void shouldShareOneFetchBetweenConcurrentMisses() throws Exception {
+        body = jsonCredential(encode(bitstring(16, 1)), "revocation");
+        release = new CountDownLatch(1);
+        String url = baseUrl + "/status/1";
+        ExecutorService callers = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<StatusList>> results = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                results.add(callers.submit(() -> cache.get(url)));
+            }
+            Thread.sleep(200);
+            release.countDown();
+
+            StatusList first = results.get(0).get(5, TimeUnit.SECONDS);
+            for (Future<StatusList> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS)).isSameAs(first);
+            }
+            assertThat(requests).hasValue(1);
+        } finally {
+            callers.shutdownNow();
+        }
+    }
+
+    @Test
+    void shouldReadJwtCredentialWithMultibaseEncodedList() throws Exception {
+        String payload = "{\"vc\":" + jsonCredential("u" + encode(bitstring(16, 15)), "suspension") + "}";
+        body = "eyJhbGciOiJFUzI1NiJ9."
+            + Base64.getUrlEncoder().withoutPadding().encodeToString(payload.getBytes(StandardCharsets.UTF_8))
+            + ".c2lnbmF0dXJl";
+
+        StatusList list = cache.get(baseUrl + "/status/1");
+
+        assertThat(list.purpose()).isEqualTo("suspension");
+        assertThat(list.isSet(15)).isTrue();
+        assertThat(list.isSet(14)).isFalse();
+    }
+
+    @Test
+    void shouldRememberFailedFetchesForNegativeTtl() throws Exception {
+        status = 503;
+        body = "unavailable";
+        String url = baseUrl + "/status/1";
+
+        assertThatThrownBy(() -> cache.get(url)).hasMessageContaining("503");
+        assertThatThrownBy(() -> cache.get(url)).hasMessageContaining("failed recently");
+        assertThat(requests).hasValue(1);
+
+        clock.advance(Duration.ofSeconds(31));
+        status = 200;
+        body = jsonCredential(encode(bitstring(16)), "revocation");
+
+        assertThat(cache.get(url)).isNotNull();
+        assertThat(requests).hasValue(2);
+    }
+
+    @Test
+    void shouldNotFollowRedirects() {
+        body = jsonCredential(encode(bitstring(16)), "revocation");
+
+        assertThatThrownBy(() -> cache.get(baseUrl + "/moved")).hasMessageContaining("302");
+        assertThat(requests).hasValue(1);
+    }
+
+    @Test
+    void shouldRejectResponseLargerThanLimit() {
+        body = " ".repeat(64 * 1024 + 1) + jsonCredential(encode(bitstring(16)), "revocation");
+
+        assertThatThrownBy(() -> cache.get(baseUrl + "/status/1")).hasMessageContaining("larger than");
+    }
+
+    @Test
+    void shouldRefusePrivateAndNonHttpUrlsByDefault() {
+        StatusListFetcher fetcher = new StatusListFetcher(new RevocationConfiguration());
+
+        assertThatThrownBy(() -> fetcher.fetch(baseUrl + "/status/1")).hasMessageContaining("non-public address");
+        assertThatThrownBy(() -> fetcher.fetch("http://169.254.169.254/latest/meta-data"))
+            .hasMessageContaining("non-public address");
+        assertThatThrownBy(() -> fetcher.fetch("http://10.0.0.5/status/1")).hasMessageContaining("non-public address");
+        assertThatThrownBy(() -> fetcher.fetch("file:///etc/passwd")).hasMessageContaining("http or https");
+        assertThat(requests).hasValue(0);
+    }
+
+    @Test
+    void shouldFetchOwnPublishedListsFromPrivateAddress() throws Exception {
+        body = jsonCredential(encode(bitstring(16, 2)), "revocation");
+        RevocationConfiguration configuration = new RevocationConfiguration();
+        configuration.getPublication().setBaseUrl(baseUrl + "/status");
+        StatusListFetcher fetcher = new StatusListFetcher(configuration);
+
+        assertThat(fetcher.fetch(baseUrl + "/status/1").isSet(2)).isTrue();
+    }
+
+    @Test
+    void shouldRefuseHostsOutsideAllowList() {
+        RevocationConfiguration configuration = new RevocationConfiguration();
+        configuration.getStatusList().setAllowedHosts(List.of("status.issuer.example"));
+        StatusListFetcher fetcher = new StatusListFetcher(configuration);
+
+        assertThatThrownBy(() -> fetcher.fetch("https://other.example/status/1"))
+            .hasMessageContaining("not in revocation.status-list.allowed-hosts");
+    }
+
+    private static byte[] bitstring(int bytes, int... setBits) {
+        byte[] bits = new byte[bytes];
+        for (int bit : setBits) {
+            bits[bit / 8] |= (byte) (0x80 >>> (bit % 8));
+        }
+        return bits;
+    }
+
+    private static String encode(byte[] bits) {
+        try {
+            ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+            try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+                gzip.write(bits);
+            }
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(compressed.toByteArray());
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String jsonCredential(String encodedList, String purpose) {
+        return """
+            {"type":["VerifiableCredential","StatusList2021Credential"],
+             "credentialSubject":{"type":"StatusList2021","statusPurpose":"%s","encodedList":"%s"}}
+            """.formatted(purpose, encodedList);
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant now;
+
+        private MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.credguard.infra.store;
+
+import com.credguard.config.CredentialStoreConfiguration;
+import com.credguard.domain.CredentialIssuanceResult;
+import com.credguard.domain.Issuer;
+import com.credguard.domain.PhysicalDocument;
+import com.credguard.domain.VerifiableCredential;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MvStoreCredentialStoreTest {
+
+    @TempDir
+    Path directory;
+
+    private CredentialStoreConfiguration configuration;
+    private MvStoreCredentialStore store;
+
+    @BeforeEach
+    void setUp() {
+        configuration = new CredentialStoreConfiguration();
+        configuration.setFile(directory.resolve("credentials.mv.db").toString());
+        store = new MvStoreCredentialStore(configuration);
+    }
+
+    @AfterEach
+    void tearDown() {
+        store.close();
+    }
+
+    @Test
+    void shouldFindByIdAndSecondaryIndexes() {
+        store.save(issued("doc-1", "did:example:alice", "exchange-1"));
+        store.save(issued("doc-2", "did:example:alice", "exchange-2"));
+        store.save(issued("doc-3", "did:example:bob", "exchange-3"));
+
+        assertThat(store.findById("urn:credential:doc-1"))
+            .hasValueSatisfying(result -> assertThat(result.credentialExchangeId()).isEqualTo("exchange-1"));
+        assertThat(store.findByCredentialExchangeId("exchange-3"))
+            .hasValueSatisfying(result -> assertThat(result.verifiableCredential().walletDid())
+                .isEqualTo("did:example:bob"));
+        assertThat(store.findByWalletDid("did:example:alice"))
+            .extracting(result -> result.verifiableCredential().id())
+            .containsExactlyInAnyOrder("urn:credential:doc-1", "urn:credential:doc-2");
+        assertThat(store.findBySourceDocumentId("doc-2")).hasSize(1);
+        assertThat(store.findByIssuanceStatus(VerifiableCredential.IssuanceStatus.ISSUED)).hasSize(3);
+        assertThat(store.findByWalletDid("did:example:alic")).isEmpty();
+        assertThat(store.findByCredentialExchangeId("unknown")).isEmpty();
+    }
+
+    @Test
+    void shouldMoveIndexEntriesWhenStatusChanges() {
+        store.save(issued("doc-1", "did:example:alice", "exchange-1"));
+
+        assertThat(store.updateStatus("urn:credential:doc-1", VerifiableCredential.IssuanceStatus.REVOKED,
+            "Credential revoked")).isPresent();
+
+        assertThat(store.findByIssuanceStatus(VerifiableCredential.IssuanceStatus.ISSUED)).isEmpty();
+        assertThat(store.findByIssuanceStatus(VerifiableCredential.IssuanceStatus.REVOKED))
+            .singleElement()
+            .satisfies(result -> assertThat(result.verifiableCredential().statusMessage())
+                .isEqualTo("Credential revoked"));
+        assertThat(store.updateStatus("unknown", VerifiableCredential.IssuanceStatus.REVOKED, "")).isEmpty();
+        assertThat(store.count()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldPersistAcrossRestarts() {
+        store.save(issued("doc-1", "did:example:alice", "exchange-1"));
+        store.close();
+
+        MvStoreCredentialStore reopened = new MvStoreCredentialStore(configuration);
+        try {
+            CredentialIssuanceResult result = reopened.findByCredentialExchangeId("exchange-1").orElseThrow();
+            assertThat(result.verifiableCredential().type()).containsExactly("VerifiableCredential", "PassportCredential");
+            assertThat(result.verifiableCredential().credentialSubject()).containsEntry("id", "did:example:alice");
+            assertThat(result.verifiableCredential().issuanceDate()).isNotNull();
+            assertThat(reopened.findByWalletDid("did:example:alice")).hasSize(1);
+        } finally {
+            reopened.close();
+        }
+    }
+
+    private static CredentialIssuanceResult issued(String documentId, String walletDid, String exchangeId) {
+        PhysicalDocument document = new PhysicalDocument(
+            documentId,
+            PhysicalDocument.DocumentType.PASSPORT,
+            "passport.jpg",
+            Instant.now(),
+            new byte[0],
+            Map.of("passportNumber", "A1234567"),
+            PhysicalDocument.ProcessingStatus.EXTRACTED,
+            null
+        );
+        VerifiableCredential credential = VerifiableCredential.fromPhysicalDocument(
+            document, new Issuer("did:web:credguard.com", "CredGuard", true), walletDid, "conn-1");
+        return CredentialIssuanceResult.success(
+            credential.withStatus(VerifiableCredential.IssuanceStatus.ISSUED, "Issued"),
+            exchangeId,
+            "https://agent.example.com/offer/" + exchangeId,
+            10L);
+    }
+}
@@ -0,0 +1,112 @@
+package com.credguard.infra.trust;
+
+import com.credguard.config.TrustConfiguration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TrustedIssuerRegistryTest {
+
+    @TempDir
+    Path directory;
+
+    private TrustConfiguration configuration;
+    private TrustedIssuerRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        configuration = new TrustConfiguration();
+        configuration.setWatch(false);
+        registry = new TrustedIssuerRegistry(configuration);
+    }
+
+    @AfterEach
+    void tearDown() {
+        registry.shutdown();
+    }
+
+    @Test
+    void shouldTrustExactlyConfiguredIssuers() {
+        configuration.setIssuers(List.of("did:web:university.example", "did:key:z6Mkabc"));
+
+        registry.initialize();
+
+        assertThat(registry.isTrusted("did:web:university.example")).isTrue();
+        assertThat(registry.isTrusted("did:key:z6Mkabc")).isTrue();
+        assertThat(registry.isTrusted("did:web:university.example:extra")).isFalse();
+        assertThat(registry.isTrusted("did:web:other.example")).isFalse();
+        assertThat(registry.isTrusted(null)).isFalse();
+    }
+
+    @Test
+    void shouldMatchWildcardWithinOneSegment() {
+        configuration.setIssuers(List.of("did:web:*.gov.example"));
+
+        registry.initialize();
+
+        assertThat(registry.isTrusted("did:web:tax.gov.example")).isTrue();
+        assertThat(registry.isTrusted("did:web:a.b.gov.example")).isTrue();
+        assertThat(registry.isTrusted("did:web:.gov.example")).isFalse();
+        assertThat(registry.isTrusted("did:web:evil:tax.gov.example")).isFalse();
+        assertThat(registry.isTrusted("did:web:tax.gov.example.attacker")).isFalse();
+    }
+
+    @Test
+    void shouldMatchPatternsSharingAPrefix() {
+        configuration.setIssuers(List.of("did:web:*", "did:web:edu:*:registrar", "did:key:*"));
+
+        registry.initialize();
+
+        assertThat(registry.isTrusted("did:web:anything.example")).isTrue();
+        assertThat(registry.isTrusted("did:web:edu:mit:registrar")).isTrue();
+        assertThat(registry.isTrusted("did:web:edu:mit:bursar")).isFalse();
+        assertThat(registry.isTrusted("did:key:z6Mkabc")).isTrue();
+        assertThat(registry.isTrusted("did:ion:abc")).isFalse();
+    }
+
+    @Test
+    void shouldReloadRegistryFileAndNotifyListeners() throws Exception {
+        Path file = directory.resolve("issuers.txt");
+        Files.writeString(file, """
+            # Universities
+            did:web:university.example
+            did:web:*.gov.example   # government issuers
+            """);
+        configuration.setRegistryFile(file.toString());
+        AtomicInteger reloads = new AtomicInteger();
+        registry.addReloadListener(reloads::incrementAndGet);
+        registry.initialize();
+
+        assertThat(registry.isTrusted("did:web:university.example")).isTrue();
+        assertThat(registry.isTrusted("did:web:tax.gov.example")).isTrue();
+
+        Files.writeString(file, "did:web:college.example\n");
+        registry.reload();
+
+        assertThat(registry.isTrusted("did:web:university.example")).isFalse();
+        assertThat(registry.isTrusted("did:web:tax.gov.example")).isFalse();
+        assertThat(registry.isTrusted("did:web:college.example")).isTrue();
+        assertThat(reloads).hasValue(2);
+    }
+
+    @Test
+    void shouldKeepPreviousEntriesWhenRegistryFileIsUnreadable() throws Exception {
+        Path file = directory.resolve("issuers.txt");
+        Files.writeString(file, "did:web:university.example\n");
+        configuration.setRegistryFile(file.toString());
+        registry.initialize();
+
+        Files.delete(file);
+        registry.reload();
+
+        assertThat(registry.isTrusted("did:web:university.example")).isTrue();
+    }
+}
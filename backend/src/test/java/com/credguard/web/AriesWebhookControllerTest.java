@@ -0,0 +1,101 @@
+package com.credguard.web;
+
+import com.credguard.application.CredentialExchangeTracker;
+import com.credguard.config.AriesConfiguration;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.context.runner.WebApplicationContextRunner;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(AriesWebhookController.class)
+@Import(AriesConfiguration.class)
+@TestPropertySource(properties = {
+    "aries.webhooks.enabled=true",
+    "aries.webhooks.api-key=webhook-secret"
+})
+class AriesWebhookControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private CredentialExchangeTracker exchangeTracker;
+
+    @Test
+    void shouldApplyCredentialExchangeEvent() throws Exception {
+        mockMvc.perform(post("/api/aries/webhooks/topic/issue_credential_v2_0/")
+                .header("X-API-Key", "webhook-secret")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"cred_ex_id\":\"exchange-1\",\"state\":\"request-received\",\"connection_id\":\"conn-1\"}"))
+            .andExpect(status().isOk());
+
+        verify(exchangeTracker).onExchangeEvent("exchange-1", "request-received", null);
+    }
+
+    @Test
+    void shouldApplyConnectionEvent() throws Exception {
+        mockMvc.perform(post("/api/aries/webhooks/topic/connections")
+                .header("X-API-Key", "webhook-secret")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"connection_id\":\"conn-1\",\"state\":\"active\"}"))
+            .andExpect(status().isOk());
+
+        verify(exchangeTracker).onConnectionEvent("conn-1", "active");
+    }
+
+    @Test
+    void shouldRejectEventsWithoutApiKey() throws Exception {
+        mockMvc.perform(post("/api/aries/webhooks/topic/issue_credential_v2_0")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"cred_ex_id\":\"exchange-1\",\"state\":\"done\"}"))
+            .andExpect(status().isUnauthorized());
+
+        verify(exchangeTracker, never()).onExchangeEvent(anyString(), anyString(), any());
+    }
+
+    @Test
+    void shouldAcknowledgeOtherTopics() throws Exception {
+        mockMvc.perform(post("/api/aries/webhooks/topic/basicmessages")
+                .header("X-API-Key", "webhook-secret")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"content\":\"hello\"}"))
+            .andExpect(status().isOk());
+
+        verifyNoInteractions(exchangeTracker);
+    }
+
+    @Test
+    void shouldRefuseToStartWithoutApiKey() {
+        AriesConfiguration configuration = new AriesConfiguration();
+        configuration.getWebhooks().setEnabled(true);
+
+        assertThatThrownBy(() -> new AriesWebhookController(exchangeTracker, configuration))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("aries.webhooks.api-key");
+    }
+
+    @Test
+    void shouldNotRegisterReceiverWhenWebhooksAreDisabled() {
+        new WebApplicationContextRunner()
+            .withBean(CredentialExchangeTracker.class, () -> exchangeTracker)
+            .withBean(AriesConfiguration.class)
+            .withUserConfiguration(AriesWebhookController.class)
+            .withPropertyValues("aries.webhooks.api-key=webhook-secret")
+            .run(context -> assertThat(context).doesNotHaveBean(AriesWebhookController.class));
+    }
+}
@@ -0,0 +1,144 @@
+package com.credguard.web;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Integration test for streaming batch verification.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@TestPropertySource(properties = {
+    "ai.mock-mode=true",
+    "trust.issuers=did:example:issuer",
+    "verification.batch.max-concurrency=4"
+})
+class BatchVerificationControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void verifyBatch_JsonArray_StreamsOneLinePerItem() throws Exception {
+        // Given
+        String body = "[" + credentialJson("cred-1", "2099-01-01T00:00:00Z") + ","
+            + credentialJson("cred-2", "2000-01-01T00:00:00Z") + ","
+            + credentialJson("cred-3", null) + "]";
+
+        // When
+        List<JsonNode> lines = postBatch(body, MediaType.APPLICATION_JSON);
+
+        // Then
+        assertThat(lines).hasSize(3);
+        assertThat(lines).filteredOn(line -> line.path("credential").path("id").asText().equals("cred-2"))
+            .singleElement()
+            .satisfies(line -> {
+                assertThat(line.get("index").asLong()).isEqualTo(1);
+                assertThat(line.get("notExpired").asBoolean()).isFalse();
+            });
+        assertThat(lines).filteredOn(line -> line.get("valid").asBoolean()).hasSize(2);
+    }
+
+    @Test
+    void verifyBatch_Ndjson_ReportsInvalidItemsInline() throws Exception {
+        // Given
+        String body = credentialJson("cred-1", null) + "\n"
+            + "{\"id\":\"cred-2\",\"type\":\"VerifiableCredential\"}\n"
+            + "42\n"
+            + credentialJson("cred-4", null) + "\n";
+
+        // When
+        List<JsonNode> lines = postBatch(body, MediaType.parseMediaType("application/x-ndjson"));
+
+        // Then
+        assertThat(lines).hasSize(4);
+        assertThat(lines).filteredOn(line -> line.get("valid").asBoolean()).hasSize(2);
+        assertThat(lines).extracting(line -> line.get("errors").toString())
+            .anyMatch(errors -> errors.contains("Item 1: ") && errors.contains("issuer: issuer must not be null"))
+            .anyMatch(errors -> errors.contains("Item 2: expected a JSON object"));
+    }
+
+    @Test
+    void verifyBatch_WrongTypedField_RejectsItemAndContinues() throws Exception {
+        // Given
+        String body = "[" + credentialJson("cred-1", null) + ","
+            + "{\"id\":\"cred-2\",\"type\":\"VerifiableCredential\",\"issuer\":\"x\"},"
+            + credentialJson("cred-3", null) + "]";
+
+        // When
+        List<JsonNode> lines = postBatch(body, MediaType.APPLICATION_JSON);
+
+        // Then
+        assertThat(lines).hasSize(3);
+        assertThat(lines).filteredOn(line -> line.get("valid").asBoolean())
+            .extracting(line -> line.get("index").asLong())
+            .containsExactlyInAnyOrder(0L, 2L);
+        assertThat(lines).filteredOn(line -> line.get("index").asLong() == 1)
+            .singleElement()
+            .satisfies(line -> assertThat(line.get("errors").toString()).contains("Item 1: "));
+    }
+
+    @Test
+    void verifyBatch_MalformedInput_ReportsErrorAndKeepsEarlierResults() throws Exception {
+        // Given
+        String body = "[" + credentialJson("cred-1", null) + ", {\"id\": ";
+
+        // When
+        List<JsonNode> lines = postBatch(body, MediaType.APPLICATION_JSON);
+
+        // Then
+        assertThat(lines).hasSize(2);
+        assertThat(lines).extracting(line -> line.get("errors").toString())
+            .anyMatch(errors -> errors.contains("Malformed batch input at item 1"));
+    }
+
+    private List<JsonNode> postBatch(String body, MediaType contentType) throws Exception {
+        MvcResult started = mockMvc.perform(post("/api/credentials/verify/batch")
+                .contentType(contentType)
+                .content(body))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        String response = mockMvc.perform(asyncDispatch(started))
+            .andExpect(status().isOk())
+            .andExpect(content().contentTypeCompatibleWith("application/x-ndjson"))
+            .andReturn()
+            .getResponse()
+            .getContentAsString();
+
+        List<JsonNode> lines = new ArrayList<>();
+        for (String line : response.split("\n")) {
+            if (!line.isBlank()) {
+                lines.add(objectMapper.readTree(line));
+            }
+        }
+        return lines;
+    }
+
+    private static String credentialJson(String id, String expiresAt) {
+        return """
+            {"id":"%s","type":"VerifiableCredential",\
+            "issuer":{"id":"did:example:issuer","displayName":"Trusted Issuer","trusted":true},\
+            "subject":"did:example:subject","issuedAt":"2024-01-01T00:00:00Z",\
+            "expiresAt":%s,"claims":{"degree":"BSc"}}""".formatted(id, expiresAt == null ? "null" : "\"" + expiresAt + "\"");
+    }
+}
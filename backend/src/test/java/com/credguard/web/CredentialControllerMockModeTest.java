@@ -19,7 +19,8 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 @SpringBootTest
 @AutoConfigureMockMvc
 @TestPropertySource(properties = {
-    "ai.mock-mode=true"
+    "ai.mock-mode=true",
+    "trust.issuers=did:example:issuer"
 })
 class CredentialControllerMockModeTest {
 
@@ -74,6 +75,39 @@ class CredentialControllerMockModeTest {
             .andExpect(jsonPath("$.credential.id").value("mock-credential-123"));
     }
 
+    @Test
+    void uploadCredential_FailFastPolicy_ReturnsValidMockCredential() throws Exception {
+        // Given
+        MockMultipartFile file = new MockMultipartFile(
+            "file",
+            "test-credential.pdf",
+            "application/pdf",
+            "test file content".getBytes()
+        );
+
+        // When & Then
+        mockMvc.perform(multipart("/api/credentials/upload").file(file).param("policy", "FAIL_FAST"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.valid").value(true))
+            .andExpect(jsonPath("$.warnings").isEmpty());
+    }
+
+    @Test
+    void uploadCredential_UnknownPolicy_ReturnsBadRequest() throws Exception {
+        // Given
+        MockMultipartFile file = new MockMultipartFile(
+            "file",
+            "test-credential.pdf",
+            "application/pdf",
+            "test file content".getBytes()
+        );
+
+        // When & Then
+        mockMvc.perform(multipart("/api/credentials/upload").file(file).param("policy", "SOMETIMES"))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.errors[0]").value(Matchers.containsString("policy")));
+    }
+
     @Test
     void uploadCredential_MockModeEnabledEmptyFile_ReturnsBadRequest() throws Exception {
         // Given
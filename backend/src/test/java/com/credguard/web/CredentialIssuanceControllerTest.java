@@ -1,10 +1,15 @@
 package com.credguard.web;
 
+import com.credguard.application.BulkRevocationService;
 import com.credguard.application.CredentialIssuanceService;
+import com.credguard.application.IssuanceJobService;
 import com.credguard.domain.CredentialIssuanceResult;
+import com.credguard.domain.IssuanceJob;
 import com.credguard.domain.PhysicalDocument;
+import com.credguard.domain.RevocationOutcome;
 import com.credguard.domain.VerifiableCredential;
 import com.credguard.domain.Issuer;
+import com.credguard.exception.IssuanceQueueFullException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -15,9 +20,12 @@ import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.time.Instant;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
@@ -37,6 +45,15 @@ class CredentialIssuanceControllerTest {
     @MockBean
     private CredentialIssuanceService credentialIssuanceService;
 
+    @MockBean
+    private IssuanceJobService issuanceJobService;
+
+    @MockBean
+    private IssuanceEventBroadcaster eventBroadcaster;
+
+    @MockBean
+    private BulkRevocationService bulkRevocationService;
+
     @Test
     void shouldIssueCredentialFromDocument() throws Exception {
         // Given
@@ -168,6 +185,62 @@ class CredentialIssuanceControllerTest {
             .andExpect(jsonPath("$.message").value("File is required and cannot be empty"));
     }
 
+    @Test
+    void shouldStartAsyncIssuanceJob() throws Exception {
+        // Given
+        MockMultipartFile file = new MockMultipartFile(
+            "file", "passport.jpg", MediaType.IMAGE_JPEG_VALUE, "test passport content".getBytes()
+        );
+        when(issuanceJobService.submit(any(byte[].class), eq("passport.jpg"),
+            eq(PhysicalDocument.DocumentType.PASSPORT), eq("did:example:wallet123")))
+            .thenReturn(job("7d3c1f4e-0000-4000-8000-000000000001", IssuanceJob.Stage.QUEUED));
+
+        // When & Then
+        mockMvc.perform(multipart("/api/credentials/issuance/issue-from-document/async")
+                .file(file)
+                .param("documentType", "PASSPORT")
+                .param("walletDid", "did:example:wallet123"))
+            .andExpect(status().isAccepted())
+            .andExpect(header().string("Location",
+                "/api/credentials/issuance/jobs/7d3c1f4e-0000-4000-8000-000000000001"))
+            .andExpect(content().string(
+                "Credential issuance started. Job ID: 7d3c1f4e-0000-4000-8000-000000000001"));
+    }
+
+    @Test
+    void shouldRejectAsyncIssuanceWhenQueueIsFull() throws Exception {
+        // Given
+        MockMultipartFile file = new MockMultipartFile(
+            "file", "passport.jpg", MediaType.IMAGE_JPEG_VALUE, "test passport content".getBytes()
+        );
+        when(issuanceJobService.submit(any(byte[].class), any(), any(), any()))
+            .thenThrow(new IssuanceQueueFullException("Credential issuance queue is full, retry later"));
+
+        // When & Then
+        mockMvc.perform(multipart("/api/credentials/issuance/issue-from-document/async")
+                .file(file)
+                .param("documentType", "PASSPORT")
+                .param("walletDid", "did:example:wallet123"))
+            .andExpect(status().isTooManyRequests())
+            .andExpect(header().exists("Retry-After"));
+    }
+
+    @Test
+    void shouldGetIssuanceJob() throws Exception {
+        // Given
+        when(issuanceJobService.find("job-1"))
+            .thenReturn(Optional.of(job("job-1", IssuanceJob.Stage.CONNECTING)));
+
+        // When & Then
+        mockMvc.perform(get("/api/credentials/issuance/jobs/{jobId}", "job-1"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.jobId").value("job-1"))
+            .andExpect(jsonPath("$.stage").value("CONNECTING"))
+            .andExpect(jsonPath("$.done").value(false));
+        mockMvc.perform(get("/api/credentials/issuance/jobs/{jobId}", "unknown"))
+            .andExpect(status().isNotFound());
+    }
+
     @Test
     void shouldGetCredentialStatus() throws Exception {
         // Given
@@ -183,6 +256,34 @@ class CredentialIssuanceControllerTest {
             .andExpect(jsonPath("$.active").value(true));
     }
 
+    @Test
+    void shouldListCredentialsIssuedToWallet() throws Exception {
+        // Given
+        PhysicalDocument document = new PhysicalDocument(
+            "doc-123",
+            PhysicalDocument.DocumentType.PASSPORT,
+            "passport.jpg",
+            Instant.now(),
+            new byte[0],
+            Map.of("passportNumber", "A1234567"),
+            PhysicalDocument.ProcessingStatus.EXTRACTED,
+            null
+        );
+        VerifiableCredential credential = VerifiableCredential.fromPhysicalDocument(
+            document, new Issuer("did:web:credguard.com", "CredGuard", true), "did:example:wallet123", "conn-123");
+        when(credentialIssuanceService.findCredentialsForWallet("did:example:wallet123"))
+            .thenReturn(List.of(CredentialIssuanceResult.success(
+                credential.withStatus(VerifiableCredential.IssuanceStatus.REVOKED, "Credential revoked"),
+                "exchange-123", "https://agent.example.com/offer/123", 10L)));
+
+        // When & Then
+        mockMvc.perform(get("/api/credentials/issuance/wallet/{walletDid}/credentials", "did:example:wallet123"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$[0].credentialId").value("urn:credential:doc-123"))
+            .andExpect(jsonPath("$[0].exchangeId").value("exchange-123"))
+            .andExpect(jsonPath("$[0].status").value("revoked"));
+    }
+
     @Test
     void shouldRevokeCredential() throws Exception {
         // Given
@@ -196,6 +297,40 @@ class CredentialIssuanceControllerTest {
             .andExpect(content().string("Credential revoked successfully"));
     }
 
+    @Test
+    void shouldRevokeCredentialsInBulk() throws Exception {
+        // Given
+        when(bulkRevocationService.revokeAll(List.of("cred-1", "cred-2")))
+            .thenReturn(List.of(
+                RevocationOutcome.revoked("cred-1", "Credential revoked"),
+                RevocationOutcome.failed("cred-2", "Agent did not revoke the credential")
+            ));
+
+        // When & Then
+        mockMvc.perform(post("/api/credentials/issuance/revoke")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"credentialIds\":[\"cred-1\",\"cred-2\"]}"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.requested").value(2))
+            .andExpect(jsonPath("$.revoked").value(1))
+            .andExpect(jsonPath("$.failed").value(1))
+            .andExpect(jsonPath("$.results[1].credentialId").value("cred-2"))
+            .andExpect(jsonPath("$.results[1].revoked").value(false));
+    }
+
+    @Test
+    void shouldRejectBulkRevocationOverLimit() throws Exception {
+        // Given
+        when(bulkRevocationService.revokeAll(anyCollection()))
+            .thenThrow(new IllegalArgumentException("At most 1 credentials can be revoked in one request, got 2"));
+
+        // When & Then
+        mockMvc.perform(post("/api/credentials/issuance/revoke")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"credentialIds\":[\"cred-1\",\"cred-2\"]}"))
+            .andExpect(status().isBadRequest());
+    }
+
     @Test
     void shouldGetConnectionStatus() throws Exception {
         // Given
@@ -208,4 +343,9 @@ class CredentialIssuanceControllerTest {
             .andExpect(status().isOk())
             .andExpect(content().string("Connection status: active"));
     }
-}
\ No newline at end of file
+
+    private static IssuanceJob job(String id, IssuanceJob.Stage stage) {
+        Instant now = Instant.now();
+        return new IssuanceJob(id, stage, now, now, "passport.jpg", "did:example:wallet123", null, null, null);
+    }
+}
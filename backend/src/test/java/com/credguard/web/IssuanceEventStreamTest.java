@@ -0,0 +1,101 @@
+package com.credguard.web;
+
+import com.credguard.application.CredentialExchangeTracker;
+import com.credguard.domain.CredentialIssuanceResult;
+import com.credguard.domain.Issuer;
+import com.credguard.domain.PhysicalDocument;
+import com.credguard.domain.VerifiableCredential;
+import com.credguard.infra.store.CredentialStore;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@TestPropertySource(properties = {
+    "ai.mock-mode=true",
+    "aries.mock-mode=true"
+})
+class IssuanceEventStreamTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private CredentialExchangeTracker exchangeTracker;
+
+    @Autowired
+    private IssuanceEventBroadcaster eventBroadcaster;
+
+    @Autowired
+    private CredentialStore credentialStore;
+
+    @Test
+    void shouldPushExchangeTransitionsUntilDone() throws Exception {
+        // Given: an exchange CredGuard offered
+        PhysicalDocument document = new PhysicalDocument("doc-sse", PhysicalDocument.DocumentType.PASSPORT,
+            "passport.jpg", Instant.now(), new byte[0], Map.of(), PhysicalDocument.ProcessingStatus.EXTRACTED, null);
+        VerifiableCredential credential = VerifiableCredential.fromPhysicalDocument(
+            document, new Issuer("did:web:credguard.com", "CredGuard", true), "did:example:wallet", "conn-1");
+        credentialStore.save(CredentialIssuanceResult.success(
+            credential.withStatus(VerifiableCredential.IssuanceStatus.OFFER_SENT, "Credential offered"),
+            "exchange-sse", null, 1L));
+        exchangeTracker.onExchangeEvent("exchange-sse", "offer-sent", null);
+        MvcResult result = mockMvc.perform(get("/api/credentials/issuance/events/exchange-sse"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        // When
+        exchangeTracker.onExchangeEvent("exchange-sse", "request-received", null);
+        exchangeTracker.onExchangeEvent("exchange-sse", "done", null);
+
+        // Then
+        String body = awaitBody(result, "event:end");
+        assertThat(body)
+            .contains("event:exchange")
+            .containsSubsequence("\"status\":\"offer-sent\"", "\"status\":\"request-received\"",
+                "\"status\":\"done\"", "event:end");
+        awaitNoSubscribers();
+    }
+
+    @Test
+    void shouldCloseStreamAfterSnapshotOfFinishedExchange() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/credentials/issuance/events/exchange-finished"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        assertThat(awaitBody(result, "event:end"))
+            .containsSubsequence("\"exchangeId\":\"exchange-finished\"", "credential_acked", "event:end");
+        awaitNoSubscribers();
+    }
+
+    private static String awaitBody(MvcResult result, String expected) throws Exception {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        String body = result.getResponse().getContentAsString();
+        while (!body.contains(expected) && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+            body = result.getResponse().getContentAsString();
+        }
+        return body;
+    }
+
+    private void awaitNoSubscribers() throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (eventBroadcaster.subscriberCount() > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(eventBroadcaster.subscriberCount()).isZero();
+    }
+}
@@ -0,0 +1,73 @@
+package com.credguard.web;
+
+import com.credguard.application.StatusListPublisher;
+import com.credguard.domain.CredentialIssuanceResult;
+import com.credguard.domain.Issuer;
+import com.credguard.domain.PhysicalDocument;
+import com.credguard.domain.VerifiableCredential;
+import com.credguard.infra.store.CredentialStore;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.Instant;
+import java.util.Map;
+
+import static org.hamcrest.Matchers.not;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@TestPropertySource(properties = {
+    "ai.mock-mode=true",
+    "revocation.publication.base-url=http://localhost/api/status-lists"
+})
+class StatusListControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private StatusListPublisher statusListPublisher;
+
+    @Autowired
+    private CredentialStore credentialStore;
+
+    @Test
+    void getStatusList_RevalidatesWithStrongEtag() throws Exception {
+        // Given
+        PhysicalDocument document = new PhysicalDocument("status-list-test", PhysicalDocument.DocumentType.PASSPORT,
+            "passport.jpg", Instant.now(), new byte[0], Map.of(), PhysicalDocument.ProcessingStatus.EXTRACTED, null);
+        VerifiableCredential credential = VerifiableCredential.fromPhysicalDocument(
+            document, new Issuer("did:web:credguard.com", "CredGuard", true), "did:example:wallet", "conn-1");
+        credentialStore.save(CredentialIssuanceResult.success(
+            credential.withCredentialStatus(statusListPublisher.assign(credential.id())), null, null, 1L));
+        String etag = mockMvc.perform(get("/api/status-lists/0"))
+            .andExpect(status().isOk())
+            .andExpect(header().exists("ETag"))
+            .andExpect(header().string("Cache-Control", "max-age=60, must-revalidate, public"))
+            .andExpect(jsonPath("$.type[1]").value("BitstringStatusListCredential"))
+            .andExpect(jsonPath("$.credentialSubject.encodedList").exists())
+            .andReturn().getResponse().getHeader("ETag");
+
+        // When & Then
+        mockMvc.perform(get("/api/status-lists/0").header("If-None-Match", etag))
+            .andExpect(status().isNotModified());
+
+        statusListPublisher.revoke("urn:credential:status-list-test");
+
+        mockMvc.perform(get("/api/status-lists/0").header("If-None-Match", etag))
+            .andExpect(status().isOk())
+            .andExpect(header().string("ETag", not(etag)));
+    }
+
+    @Test
+    void getStatusList_UnknownList_ReturnsNotFound() throws Exception {
+        mockMvc.perform(get("/api/status-lists/9999"))
+            .andExpect(status().isNotFound());
+    }
+}
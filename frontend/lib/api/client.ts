@@ -8,7 +8,8 @@ import {
   CredentialIssuanceRequest,
   CredentialIssuanceResponse,
   CredentialStatusResponse,
-  DocumentType
+  DocumentType,
+  IssuanceJobResponse
 } from './types';
 
 const API_BASE_URL = process.env.NEXT_PUBLIC_API_URL || 'http://localhost:8080';
@@ -208,6 +209,36 @@ export async function getCredentialStatus(
   throw new Error(errorMessage);
 }
 
+/**
+ * Subscribes to progress of an issuance job or credential exchange. The current
+ * state is delivered first, then every change until it finishes. Returns a
+ * function that closes the stream.
+ */
+export function subscribeToIssuanceEvents(
+  id: string,
+  handlers: {
+    onJob?: (job: IssuanceJobResponse) => void;
+    onExchange?: (status: CredentialStatusResponse) => void;
+    onError?: (event: Event) => void;
+  }
+): () => void {
+  const source = new EventSource(`${API_BASE_URL}/api/credentials/issuance/events/${encodeURIComponent(id)}`, {
+    withCredentials: true,
+  });
+
+  source.addEventListener('job', (event) => {
+    handlers.onJob?.(JSON.parse((event as MessageEvent).data));
+  });
+  source.addEventListener('exchange', (event) => {
+    handlers.onExchange?.(JSON.parse((event as MessageEvent).data));
+  });
+  // Sent once the job or exchange has finished; close instead of reconnecting
+  source.addEventListener('end', () => source.close());
+  source.onerror = (event) => handlers.onError?.(event);
+
+  return () => source.close();
+}
+
 /**
  * Revokes a previously issued credential
  */
@@ -104,3 +104,14 @@ export interface CredentialStatusResponse {
   active: boolean;
 }
 
+
+export interface IssuanceJobResponse {
+  jobId: string;
+  stage: 'QUEUED' | 'PARSING' | 'CONNECTING' | 'OFFERING' | 'ISSUED' | 'FAILED';
+  done: boolean;
+  submittedAt: string;
+  updatedAt: string;
+  credentialId: string | null;
+  exchangeId: string | null;
+  errorMessage: string | null;
+}